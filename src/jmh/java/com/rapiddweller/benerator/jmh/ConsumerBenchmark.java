@@ -0,0 +1,133 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.jmh;
+
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.DefaultDescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.csv.CSVEntityExporter;
+import com.rapiddweller.platform.db.DefaultDBSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of consumers which write entities to a CSV file
+ * and to an in-memory H2 database.<br/><br/>
+ * Created: 19.10.2026 19:44:27
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ConsumerBenchmark {
+
+  /** Provides a new entity with a unique id for each invocation. */
+  @State(Scope.Thread)
+  public static class EntityState {
+
+    private final ProductWrapper<Entity> wrapper = new ProductWrapper<>();
+    private long id;
+
+    ProductWrapper<Entity> next(ComplexTypeDescriptor descriptor) {
+      id++;
+      return wrapper.wrap(new Entity(descriptor,
+          "ID", id, "NAME", "Alice Smith", "AGE", 23, "CITY", "Springfield"));
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class CSVState {
+
+    final ComplexTypeDescriptor descriptor =
+        new ComplexTypeDescriptor("PERSON", new DefaultDescriptorProvider("jmh", new DataModel()));
+    File file;
+    CSVEntityExporter exporter;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+      file = File.createTempFile("ConsumerBenchmark", ".csv");
+      exporter = new CSVEntityExporter(file.getAbsolutePath(), "ID,NAME,AGE,CITY");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+      exporter.close();
+      file.delete();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class DBState {
+
+    @Param({"false", "true"})
+    public boolean batch;
+
+    @Param({"1", "100"})
+    public int pageSize;
+
+    DefaultDBSystem db;
+    ComplexTypeDescriptor descriptor;
+    int pendingCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      db = new DefaultDBSystem("db", "jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1", "org.h2.Driver", "sa", "", new DataModel());
+      db.setSchema("PUBLIC");
+      db.setBatch(batch);
+      db.execute("create table PERSON (ID bigint not null, NAME varchar(30), AGE int, CITY varchar(30), " +
+          "constraint PERSON_PK primary key (ID))");
+      db.invalidate();
+      descriptor = (ComplexTypeDescriptor) db.getTypeDescriptor("PERSON");
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+      db.flush();
+      db.execute("delete from PERSON");
+      pendingCount = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      db.execute("drop table PERSON");
+      db.close();
+    }
+  }
+
+  @Benchmark
+  public void csvExporter(CSVState state, EntityState entities) {
+    ProductWrapper<Entity> wrapper = entities.next(state.descriptor);
+    state.exporter.startConsuming(wrapper);
+    state.exporter.finishConsuming(wrapper);
+  }
+
+  @Benchmark
+  public void dbInsert(DBState state, EntityState entities) {
+    state.db.store(entities.next(state.descriptor).unwrap());
+    if (++state.pendingCount >= state.pageSize) {
+      state.db.flush();
+      state.pendingCount = 0;
+    }
+  }
+
+}
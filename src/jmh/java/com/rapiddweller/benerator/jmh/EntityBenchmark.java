@@ -0,0 +1,142 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.jmh;
+
+import com.rapiddweller.benerator.composite.ComponentBuilder;
+import com.rapiddweller.benerator.composite.ConditionEvaluator;
+import com.rapiddweller.benerator.composite.ConditionalComponentBuilder;
+import com.rapiddweller.benerator.composite.GenerationStep;
+import com.rapiddweller.benerator.composite.GenerationStepSupport;
+import com.rapiddweller.benerator.composite.PlainEntityComponentBuilder;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
+import com.rapiddweller.benerator.primitive.IncrementGenerator;
+import com.rapiddweller.benerator.sample.ConstantGenerator;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DefaultDescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.model.data.PartDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of populating entities, directly by {@link Entity#setComponent(String, Object)}
+ * and by the {@link GenerationStep}s of a {@link GenerationStepSupport}.<br/><br/>
+ * Created: 19.10.2026 19:31:48
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EntityBenchmark {
+
+  @State(Scope.Thread)
+  public static class EntityState {
+
+    @Param({"5", "20", "200"})
+    public int componentCount;
+
+    /** tells if the descriptor is frozen, see {@link ComplexTypeDescriptor#freeze()} */
+    @Param({"false", "true"})
+    public boolean frozen;
+
+    ComplexTypeDescriptor descriptor;
+    String[] componentNames;
+
+    @Setup
+    public void setUp() {
+      descriptor = createDescriptor(new DefaultBeneratorContext());
+      componentNames = new String[componentCount];
+      for (int i = 0; i < componentCount; i++) {
+        componentNames[i] = "c" + i;
+        descriptor.addComponent(new PartDescriptor(componentNames[i], descriptor.getProvider(), "int"));
+      }
+      if (frozen) {
+        descriptor.freeze();
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class GenerationStepState {
+
+    @Param({"5", "20"})
+    public int componentCount;
+
+    /** 'none' for unconditional components, 'setup' or 'entity' for components
+     *  with a condition of the related {@link ConditionEvaluator.Scope} */
+    @Param({"none", "setup", "entity"})
+    public String condition;
+
+    BeneratorContext context;
+    ComplexTypeDescriptor descriptor;
+    GenerationStepSupport<Entity> support;
+
+    @Setup
+    public void setUp() {
+      context = new DefaultBeneratorContext();
+      context.set("limit", 10);
+      descriptor = createDescriptor(context);
+      List<GenerationStep<Entity>> steps = new ArrayList<>(componentCount);
+      steps.add(new PlainEntityComponentBuilder("c0", new IncrementGenerator(1), null));
+      for (int i = 1; i < componentCount; i++) {
+        steps.add(wrap(new PlainEntityComponentBuilder("c" + i, new ConstantGenerator<>("value" + i), null)));
+      }
+      support = new GenerationStepSupport<>("person", steps);
+      support.init(context);
+    }
+
+    @TearDown
+    public void tearDown() {
+      support.close();
+    }
+
+    private ComponentBuilder<Entity> wrap(ComponentBuilder<Entity> builder) {
+      switch (condition) {
+        case "none": return builder;
+        case "setup": return new ConditionalComponentBuilder<>(builder, "limit > 3");
+        case "entity": return new ConditionalComponentBuilder<>(builder, "this.c0 > 0");
+        default: throw new IllegalArgumentException("Unknown condition type: " + condition);
+      }
+    }
+  }
+
+  @Benchmark
+  public Entity setComponent(EntityState state) {
+    Entity entity = new Entity(state.descriptor);
+    String[] componentNames = state.componentNames;
+    for (int i = 0; i < componentNames.length; i++) {
+      entity.setComponent(componentNames[i], i);
+    }
+    return entity;
+  }
+
+  @Benchmark
+  public Entity generationSteps(GenerationStepState state) {
+    Entity entity = new Entity(state.descriptor);
+    state.support.apply(entity, state.context);
+    return entity;
+  }
+
+  static ComplexTypeDescriptor createDescriptor(BeneratorContext context) {
+    return new ComplexTypeDescriptor("person", new DefaultDescriptorProvider("jmh", context.getDataModel()));
+  }
+
+}
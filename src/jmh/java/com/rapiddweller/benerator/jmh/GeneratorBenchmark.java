@@ -0,0 +1,99 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.jmh;
+
+import com.rapiddweller.benerator.distribution.WeightFunction;
+import com.rapiddweller.benerator.distribution.WeightedLongGenerator;
+import com.rapiddweller.benerator.distribution.function.ConstantFunction;
+import com.rapiddweller.benerator.distribution.function.ExponentialFunction;
+import com.rapiddweller.benerator.distribution.function.GaussianFunction;
+import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
+import com.rapiddweller.benerator.primitive.RegexStringGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation throughput of frequently used primitive generators.<br/><br/>
+ * Created: 19.10.2026 19:20:05
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class GeneratorBenchmark {
+
+  @State(Scope.Thread)
+  public static class WeightedLongState {
+
+    @Param({"constant", "gaussian", "exponential"})
+    public String function;
+
+    WeightedLongGenerator generator;
+
+    @Setup
+    public void setUp() {
+      generator = new WeightedLongGenerator(1, 1000, createFunction(function));
+      generator.init(new DefaultBeneratorContext());
+    }
+
+    @TearDown
+    public void tearDown() {
+      generator.close();
+    }
+
+    private static WeightFunction createFunction(String name) {
+      switch (name) {
+        case "constant": return new ConstantFunction(1.);
+        case "gaussian": return new GaussianFunction(500, 100);
+        case "exponential": return new ExponentialFunction(0.01);
+        default: throw new IllegalArgumentException("Unknown weight function: " + name);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class RegexState {
+
+    @Param({"[0-9]{16}", "[A-Z]{2}[0-9]{10}", "[A-Z][a-z]{4,10}", "[a-z]{4,10}@[a-z]{4,10}\\.(com|org|net)"})
+    public String pattern;
+
+    RegexStringGenerator generator;
+
+    @Setup
+    public void setUp() {
+      generator = new RegexStringGenerator(pattern);
+      generator.init(new DefaultBeneratorContext());
+    }
+
+    @TearDown
+    public void tearDown() {
+      generator.close();
+    }
+  }
+
+  @Benchmark
+  public Long weightedLong(WeightedLongState state) {
+    return state.generator.generate();
+  }
+
+  @Benchmark
+  public String regexString(RegexState state) {
+    return state.generator.generate();
+  }
+
+}
@@ -0,0 +1,147 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.jmh;
+
+import com.rapiddweller.benerator.benchmark.BenchmarkBaseline;
+import com.rapiddweller.common.Encodings;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.csv.CSVLineIterator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares a JMH result file in CSV format (as created with <code>-rf csv</code>) with a baseline file
+ * of the same format and reports regressions. A benchmark is reported as regression if its score
+ * is worse than the baseline by more than the given percentage and the 99.9% confidence intervals
+ * of both measurements do not overlap. For throughput benchmarks a higher score is better,
+ * for all other modes and for the allocation metric <code>gc.alloc.rate.norm</code>
+ * a lower score is better. Other secondary metrics are ignored.
+ * The comparison is the one of the {@link BenchmarkBaseline} of the BenchmarkTool.<br/>
+ * Usage: <code>JmhRegressionCheck resultFile baselineFile [maxRegressionPercent]</code>.
+ * The process exits with status 1 if a regression has been found.<br/><br/>
+ * Created: 19.10.2026 20:02:51
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class JmhRegressionCheck {
+
+  private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: JmhRegressionCheck resultFile baselineFile [maxRegressionPercent]");
+      System.exit(2);
+    }
+    Path resultFile = Paths.get(args[0]);
+    Path baselineFile = Paths.get(args[1]);
+    double maxRegression = (args.length > 2 ? Double.parseDouble(args[2]) : 10.);
+    if (!Files.exists(baselineFile)) {
+      System.out.println("No JMH baseline file found at " + baselineFile + ", skipping regression check. " +
+          "To create a baseline, copy " + resultFile + " to " + baselineFile);
+      return;
+    }
+    int regressions = compare(read(resultFile), read(baselineFile), maxRegression);
+    if (regressions > 0) {
+      System.out.println(regressions + " benchmark(s) regressed by more than " + maxRegression + "%");
+      System.exit(1);
+    }
+    System.out.println("No benchmark regressed by more than " + maxRegression + "%");
+  }
+
+  static int compare(Map<String, Score> results, Map<String, Score> baseline, double maxRegressionPercent) {
+    int regressions = 0;
+    for (Score result : results.values()) {
+      Score reference = baseline.get(result.key);
+      if (reference == null) {
+        System.out.println(BenchmarkBaseline.formatNew(result));
+        continue;
+      }
+      boolean regression = BenchmarkBaseline.isRegression(result.score, result.error,
+          reference.score, reference.error, result.higherIsBetter, maxRegressionPercent);
+      if (regression) {
+        regressions++;
+      }
+      System.out.println(BenchmarkBaseline.formatComparison(result, regression, result.score,
+          reference.score, reference.error, result.higherIsBetter));
+    }
+    return regressions;
+  }
+
+  static Map<String, Score> read(Path file) throws IOException {
+    Map<String, Score> scores = new LinkedHashMap<>();
+    try (CSVLineIterator iterator = new CSVLineIterator(file.toString(), ',', true, Encodings.UTF_8)) {
+      DataContainer<String[]> container = iterator.next(new DataContainer<>());
+      if (container == null) {
+        return scores;
+      }
+      List<String> header = Arrays.asList(container.getData());
+      int benchmarkCol = header.indexOf("Benchmark");
+      int modeCol = header.indexOf("Mode");
+      int threadsCol = header.indexOf("Threads");
+      int scoreCol = header.indexOf("Score");
+      int unitCol = header.indexOf("Unit");
+      int errorCol = -1;
+      for (int i = 0; i < header.size(); i++) {
+        if (header.get(i).startsWith("Score Error")) {
+          errorCol = i;
+        }
+      }
+      while ((container = iterator.next(container)) != null) {
+        String[] cells = container.getData();
+        String benchmark = cells[benchmarkCol];
+        boolean allocation = benchmark.endsWith(ALLOC_METRIC);
+        if (benchmark.indexOf(':') >= 0 && !allocation) {
+          continue; // secondary metric which is not checked
+        }
+        StringBuilder key = new StringBuilder(benchmark).append(" ").append(cells[modeCol])
+            .append(" threads=").append(cells[threadsCol]);
+        for (int i = 0; i < header.size() && i < cells.length; i++) {
+          if (header.get(i).startsWith("Param: ") && cells[i] != null && !cells[i].isEmpty()) {
+            key.append(' ').append(header.get(i).substring(7)).append('=').append(cells[i]);
+          }
+        }
+        boolean higherIsBetter = (!allocation && "thrpt".equals(cells[modeCol]));
+        Score score = new Score(key.toString(), parseDouble(cells[scoreCol]),
+            (errorCol >= 0 ? parseDouble(cells[errorCol]) : 0.), cells[unitCol], higherIsBetter);
+        scores.put(score.key, score);
+      }
+    }
+    return scores;
+  }
+
+  private static double parseDouble(String text) {
+    double value = Double.parseDouble(text.replace(',', '.'));
+    return (Double.isNaN(value) ? 0. : value);
+  }
+
+  static class Score {
+
+    final String key;
+    final double score;
+    final double error;
+    final String unit;
+    final boolean higherIsBetter;
+
+    Score(String key, double score, double error, String unit, boolean higherIsBetter) {
+      this.key = key;
+      this.score = score;
+      this.error = error;
+      this.unit = unit;
+      this.higherIsBetter = higherIsBetter;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.US, "%s: %.3f +- %.3f %s", key, score, error, unit);
+    }
+  }
+
+}
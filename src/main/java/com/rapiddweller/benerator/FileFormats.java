@@ -27,6 +27,8 @@
 package com.rapiddweller.benerator;
 
 import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.platform.binary.BinaryFileFormat;
+import com.rapiddweller.platform.columnar.ColumnarFileFormat;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -42,6 +44,11 @@ public class FileFormats {
 
   private static final Map<String, FileFormat> INSTANCES = new HashMap<>();
 
+  static {
+    register(new ColumnarFileFormat());
+    register(new BinaryFileFormat());
+  }
+
   private FileFormats() {
     // private constructor to prevent instantiation
   }
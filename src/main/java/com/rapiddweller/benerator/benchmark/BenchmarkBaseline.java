@@ -0,0 +1,137 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.Encodings;
+import com.rapiddweller.common.ui.InfoPrinter;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.csv.CSVLineIterator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Holds the results of a previous benchmark run as written by {@link BenchmarkReportWriter#writeCsv}
+ * and compares new results with them. A result is reported as regression if its throughput is lower
+ * than the baseline by more than a tolerated percentage and the 95% confidence intervals of both
+ * measurements do not overlap. Confidence intervals are only available for measurements with
+ * several runs (see <code>--runs</code>), so single-run measurements are judged by the percentage only.
+ * The score comparison is also applied to the results of the JMH micro benchmarks.<br/><br/>
+ * Created: 19.10.2026 21:47:23
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BenchmarkBaseline {
+
+  private final Map<String, BenchmarkRecord> records;
+
+  public BenchmarkBaseline(Collection<BenchmarkRecord> records) {
+    this.records = new LinkedHashMap<>();
+    for (BenchmarkRecord record : records) {
+      this.records.put(record.getKey(), record);
+    }
+  }
+
+  public static BenchmarkBaseline read(String uri) throws IOException {
+    List<BenchmarkRecord> records = new ArrayList<>();
+    try (CSVLineIterator iterator = new CSVLineIterator(uri, ',', true, Encodings.UTF_8)) {
+      DataContainer<String[]> container = iterator.next(new DataContainer<>());
+      if (container == null) {
+        throw new ConfigurationError("Benchmark baseline file is empty: " + uri);
+      }
+      String[] header = container.getData();
+      while ((container = iterator.next(container)) != null) {
+        records.add(BenchmarkRecord.parse(header, container.getData()));
+      }
+    }
+    return new BenchmarkBaseline(records);
+  }
+
+  public BenchmarkRecord get(String key) {
+    return records.get(key);
+  }
+
+  /**
+   * Compares the records of a benchmark run with the baseline and prints one line per record.
+   * @param results the records of the current run
+   * @param maxRegressionPercent the tolerated throughput loss in percent
+   * @param printer the printer to write the comparison to
+   * @return the number of regressions found
+   */
+  public int compare(List<BenchmarkRecord> results, double maxRegressionPercent, InfoPrinter printer) {
+    int regressions = 0;
+    for (BenchmarkRecord result : results) {
+      BenchmarkRecord reference = records.get(result.getKey());
+      if (reference == null) {
+        printer.printLines(formatNew(result));
+      } else {
+        boolean regression = isRegression(result, reference, maxRegressionPercent);
+        if (regression) {
+          regressions++;
+        }
+        printer.printLines(formatComparison(result, regression, result.getEntitiesPerSecond(),
+            reference.getEntitiesPerSecond(), reference.getError(), true));
+      }
+    }
+    return regressions;
+  }
+
+  public static boolean isRegression(BenchmarkRecord result, BenchmarkRecord reference, double maxRegressionPercent) {
+    return isRegression(result.getEntitiesPerSecond(), result.getError(),
+        reference.getEntitiesPerSecond(), reference.getError(), true, maxRegressionPercent);
+  }
+
+  // generic score comparison, also used for JMH results -------------------------------------------------------------
+
+  /**
+   * Tells if a score is worse than its reference score by more than the tolerated percentage
+   * and the confidence intervals of both do not overlap.
+   * @param score the score of the current run
+   * @param error the half width of the score's confidence interval
+   * @param referenceScore the baseline score
+   * @param referenceError the half width of the baseline score's confidence interval
+   * @param higherIsBetter true for throughput-like scores, false for durations or allocations
+   * @param maxRegressionPercent the tolerated loss in percent
+   * @return true if the score has regressed
+   */
+  public static boolean isRegression(double score, double error, double referenceScore, double referenceError,
+                                     boolean higherIsBetter, double maxRegressionPercent) {
+    return (relativeImprovement(score, referenceScore, higherIsBetter) * 100 < -maxRegressionPercent
+        && !overlap(score, error, referenceScore, referenceError));
+  }
+
+  /** Returns the relative improvement of a score compared to its reference score, negative for a loss. */
+  public static double relativeImprovement(double score, double referenceScore, boolean higherIsBetter) {
+    if (referenceScore == 0) {
+      return 0;
+    }
+    double change = (score - referenceScore) / referenceScore;
+    return (higherIsBetter ? change : -change);
+  }
+
+  /** Formats the report line of a result for which no baseline exists. */
+  public static String formatNew(Object result) {
+    return "NEW        " + result;
+  }
+
+  /** Formats the report line of a result compared to its baseline. */
+  public static String formatComparison(Object result, boolean regression, double score,
+                                        double referenceScore, double referenceError, boolean higherIsBetter) {
+    double change = relativeImprovement(score, referenceScore, higherIsBetter) * 100;
+    return String.format(Locale.US, "%-10s %s (baseline %.3f +- %.3f, %+.1f%%)",
+        (regression ? "REGRESSION" : "OK"), result, referenceScore, referenceError, change);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static boolean overlap(double score, double error, double referenceScore, double referenceError) {
+    return (score + error >= referenceScore - referenceError && referenceScore + referenceError >= score - error);
+  }
+
+}
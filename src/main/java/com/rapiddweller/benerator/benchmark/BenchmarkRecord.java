@@ -0,0 +1,179 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.benerator.environment.SystemRef;
+import com.rapiddweller.common.ConfigurationError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Flat representation of the measurement of one sensor in one benchmark, environment and {@link ExecutionMode},
+ * used for machine-readable output and for the comparison with a baseline.<br/><br/>
+ * Created: 19.10.2026 21:18:52
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BenchmarkRecord {
+
+  public static final String[] CSV_HEADER = {
+      "benchmark", "system", "sensor", "edition", "threads", "runs", "count",
+      "entitiesPerSecond", "error", "stdDev", "bytesPerSecond", "gcMillis", "peakHeap"
+  };
+
+  private final String benchmark;
+  private final String system;
+  private final String sensor;
+  private final String edition;
+  private final int threads;
+  private final int runs;
+  private final long count;
+  private final double entitiesPerSecond;
+  private final double error;
+  private final double stdDev;
+  private final double bytesPerSecond;
+  private final long gcMillis;
+  private final long peakHeap;
+
+  public BenchmarkRecord(String benchmark, String system, String sensor, String edition, int threads, int runs,
+                         long count, double entitiesPerSecond, double error, double stdDev,
+                         double bytesPerSecond, long gcMillis, long peakHeap) {
+    this.benchmark = benchmark;
+    this.system = (system != null ? system : "");
+    this.sensor = sensor;
+    this.edition = edition;
+    this.threads = threads;
+    this.runs = runs;
+    this.count = count;
+    this.entitiesPerSecond = entitiesPerSecond;
+    this.error = error;
+    this.stdDev = stdDev;
+    this.bytesPerSecond = bytesPerSecond;
+    this.gcMillis = gcMillis;
+    this.peakHeap = peakHeap;
+  }
+
+  /** Creates one record for each sensor and execution mode of each benchmark result in a report. */
+  public static List<BenchmarkRecord> of(BenchmarkToolReport report) {
+    List<BenchmarkRecord> result = new ArrayList<>();
+    for (BenchmarkResult benchmarkResult : report.getResults()) {
+      SystemRef system = benchmarkResult.getSystem();
+      for (String sensor : benchmarkResult.getSensors()) {
+        SensorSummary summary = benchmarkResult.getSensorSummary(sensor);
+        for (ExecutionMode mode : report.getExecutionModes()) {
+          SensorStatistics stats = summary.getStatistics(mode);
+          if (stats != null) {
+            result.add(new BenchmarkRecord(benchmarkResult.getBenchmark().getName(),
+                (system != null ? system.toString() : null), sensor, (mode.isEe() ? "EE" : "CE"),
+                mode.getThreadCount(), stats.getRuns(), stats.getCount(), stats.getEntitiesPerSecond(),
+                stats.getError(), stats.getStdDev(), stats.getBytesPerSecond(), stats.getGcMillis(),
+                stats.getPeakHeap()));
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Parses the cells of a CSV row that has been written with the columns of {@link #CSV_HEADER}. */
+  public static BenchmarkRecord parse(String[] header, String[] cells) {
+    List<String> columns = Arrays.asList(header);
+    return new BenchmarkRecord(
+        cell("benchmark", columns, cells), cell("system", columns, cells), cell("sensor", columns, cells),
+        cell("edition", columns, cells), Integer.parseInt(cell("threads", columns, cells)),
+        Integer.parseInt(cell("runs", columns, cells)), Long.parseLong(cell("count", columns, cells)),
+        Double.parseDouble(cell("entitiesPerSecond", columns, cells)), Double.parseDouble(cell("error", columns, cells)),
+        Double.parseDouble(cell("stdDev", columns, cells)), Double.parseDouble(cell("bytesPerSecond", columns, cells)),
+        Long.parseLong(cell("gcMillis", columns, cells)), Long.parseLong(cell("peakHeap", columns, cells)));
+  }
+
+  /** @return a string which identifies the benchmark, environment, sensor and execution mode of the record */
+  public String getKey() {
+    String key = benchmark + " " + sensor + " " + edition + " " + threads + (threads > 1 ? " threads" : " thread");
+    return (system.isEmpty() ? key : key + " @ " + system);
+  }
+
+  public String getBenchmark() {
+    return benchmark;
+  }
+
+  public String getSystem() {
+    return system;
+  }
+
+  public String getSensor() {
+    return sensor;
+  }
+
+  public String getEdition() {
+    return edition;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public int getRuns() {
+    return runs;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public double getEntitiesPerSecond() {
+    return entitiesPerSecond;
+  }
+
+  /** @return the half width of the 95% confidence interval of {@link #getEntitiesPerSecond()} */
+  public double getError() {
+    return error;
+  }
+
+  public double getStdDev() {
+    return stdDev;
+  }
+
+  public double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  public long getGcMillis() {
+    return gcMillis;
+  }
+
+  public long getPeakHeap() {
+    return peakHeap;
+  }
+
+  /** @return the cells of this record in the order of {@link #CSV_HEADER} */
+  public Object[] getCells() {
+    return new Object[] { benchmark, system, sensor, edition, threads, runs, count,
+        format(entitiesPerSecond), format(error), format(stdDev), format(bytesPerSecond), gcMillis, peakHeap };
+  }
+
+  static String format(double value) {
+    return String.format(Locale.US, "%.3f", value);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static String cell(String column, List<String> columns, String[] cells) {
+    int index = columns.indexOf(column);
+    if (index < 0) {
+      throw new ConfigurationError("Benchmark baseline lacks the column '" + column + "'");
+    }
+    return (index < cells.length && cells[index] != null ? cells[index].trim() : "");
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getKey() + ": " + format(entitiesPerSecond) + " +- " + format(error) + " E/s";
+  }
+
+}
@@ -0,0 +1,107 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes the results of a {@link BenchmarkToolReport} in CSV or JSON format.
+ * Each result row or object represents one {@link BenchmarkRecord}.
+ * CSV files written by this class can be used as baseline for later runs (see {@link BenchmarkBaseline}).<br/><br/>
+ * Created: 19.10.2026 21:34:10
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BenchmarkReportWriter {
+
+  private BenchmarkReportWriter() {
+    // private constructor to prevent instantiation of this utility class
+  }
+
+  public static void writeCsv(BenchmarkToolReport report, Writer out) throws IOException {
+    writeCsvRow(BenchmarkRecord.CSV_HEADER, out);
+    for (BenchmarkRecord record : BenchmarkRecord.of(report)) {
+      writeCsvRow(record.getCells(), out);
+    }
+    out.flush();
+  }
+
+  public static void writeJson(BenchmarkToolReport report, Writer out) throws IOException {
+    out.write("{\n");
+    writeJsonProperty("version", report.getVersionInfo().getVersion(), "  ", out).write(",\n");
+    writeJsonProperty("mode", report.getMode().getCode(), "  ", out).write(",\n");
+    writeJsonProperty("os", report.getOsInfo(), "  ", out).write(",\n");
+    writeJsonProperty("cpuAndMemory", report.getCpuAndMemInfo(), "  ", out).write(",\n");
+    writeJsonProperty("javaVersion", report.getJavaVersion(), "  ", out).write(",\n");
+    writeJsonProperty("jvm", report.getJVMInfo(), "  ", out).write(",\n");
+    writeJsonProperty("started", report.getStartDateTime().toString(), "  ", out).write(",\n");
+    writeJsonProperty("durationSecs", report.getDurationSecs(), "  ", out).write(",\n");
+    out.write("  \"results\": [");
+    List<BenchmarkRecord> records = BenchmarkRecord.of(report);
+    for (int i = 0; i < records.size(); i++) {
+      out.write(i == 0 ? "\n    {" : ",\n    {");
+      Object[] cells = records.get(i).getCells();
+      for (int j = 0; j < cells.length; j++) {
+        out.write(j == 0 ? "\n" : ",\n");
+        writeJsonProperty(BenchmarkRecord.CSV_HEADER[j], cells[j], "      ", out);
+      }
+      out.write("\n    }");
+    }
+    out.write("\n  ]\n}\n");
+    out.flush();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void writeCsvRow(Object[] cells, Writer out) throws IOException {
+    for (int i = 0; i < cells.length; i++) {
+      if (i > 0) {
+        out.write(',');
+      }
+      String text = String.valueOf(cells[i]);
+      if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) {
+        text = '"' + text.replace("\"", "\"\"") + '"';
+      }
+      out.write(text);
+    }
+    out.write('\n');
+  }
+
+  private static Writer writeJsonProperty(String name, Object value, String indent, Writer out) throws IOException {
+    out.write(indent);
+    out.write('"');
+    out.write(name);
+    out.write("\": ");
+    if (value instanceof Number) {
+      out.write(value.toString());
+    } else if (value instanceof String && isNumber((String) value)) {
+      out.write((String) value);
+    } else {
+      writeJsonString(value != null ? value.toString() : "", out);
+    }
+    return out;
+  }
+
+  private static boolean isNumber(String text) {
+    return text.matches("-?\\d+(\\.\\d+)?");
+  }
+
+  private static void writeJsonString(String text, Writer out) throws IOException {
+    out.write('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"' || c == '\\') {
+        out.write('\\');
+        out.write(c);
+      } else if (c < 0x20) {
+        out.write(String.format("\\u%04x", (int) c));
+      } else {
+        out.write(c);
+      }
+    }
+    out.write('"');
+  }
+
+}
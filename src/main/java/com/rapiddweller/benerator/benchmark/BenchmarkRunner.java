@@ -25,11 +25,16 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 import static com.rapiddweller.benerator.BeneratorUtil.EE_BENERATOR_FACTORY;
 
@@ -45,6 +50,12 @@ public class BenchmarkRunner {
 
   public static final long ONE_GIGABYTE = 1000000000L;
   public static final String TMP_FILENAME = "__benchmark.ben.xml";
+  public static final String BUILTIN_ENVIRONMENT = "builtin";
+
+  /** prefix of the files of the file-based databases of the builtin environment */
+  private static final String DB_FILE_PREFIX = "__benchmark.db";
+  private static final Pattern KAFKA_CLIENT = Pattern.compile(
+      "<kafka-(exporter|importer)\\s[^>]*?id=\"([^\"]+)\"[^>]*?system=\"([^\"]+)\"[^>]*/>");
 
   private BenchmarkRunner() {
     // private constructor to prevent instantiation of this utility class
@@ -75,7 +86,7 @@ private static void runBenchmark(Benchmark benchmark, BenchmarkToolReport report
       } else {
         logger.info("Skipping Kafka test since no Kafka cluster was specified");
       }
-    } else if (report.getSystems().length == 0) {
+    } else if (report.getSystems().length == 0 || report.isEmbedded()) {
       runBenchmarkOnEnvironment(benchmark, null, report);
     }
   }
@@ -106,27 +117,35 @@ public static void runBenchmarkOnEnvironment(Benchmark benchmark, SystemRef envi
     long initialCount = benchmark.getInitialCount();
     ExecutionMode[] executionModes = summary.getExecutionModes();
     for (ExecutionMode executionMode : executionModes) {
-      if (executionMode.isEe() || !benchmark.isReqEE()) {
+      if (executionMode.isEe() || !benchmark.isReqEE() || isInProcessKafka(environment)) {
         String filePath = summary.getProjectFolder() + SystemInfo.getFileSeparator() + benchmark.getFileName();
-        List<SensorResult> results = runUntilMinDuration(filePath, environment, summary.getMinSecs(), initialCount, executionMode);
-        for (SensorResult result : results) {
-          benchmarkResult.addResult(result);
+        AtomicLong count = new AtomicLong(initialCount);
+        List<SensorResult> results = runUntilMinDuration(filePath, environment, summary.getMinSecs(), count, executionMode);
+        addResults(results, benchmarkResult);
+        // repeat the measurement with the calibrated count for statistics
+        for (int run = 1; run < summary.getRuns(); run++) {
+          logger.info("Repeating {} with count {}, run {} of {}", filePath, count.get(), run + 1, summary.getRuns());
+          addResults(runFile(filePath, environment, count.get(), executionMode, new AtomicLong()), benchmarkResult);
         }
         initialCount = results.get(0).getCount();
       }
     }
   }
 
+  /** Runs a benchmark file with increasing counts until it takes at least the given duration.
+   *  On return, the count parameter holds the count that was used in the returned measurement. */
   private static List<SensorResult> runUntilMinDuration(
-      String filePath, SystemRef system, long minDurationSecs, long countBase, ExecutionMode executionMode) throws IOException {
+      String filePath, SystemRef system, long minDurationSecs, AtomicLong countHolder, ExecutionMode executionMode) throws IOException {
     if (minDurationSecs == 0) {
       // this indicates a unit test, so call it that each thread creates only one product
-      return runFile(filePath, system, executionMode.getThreadCount(), executionMode, new AtomicLong());
+      countHolder.set(executionMode.getThreadCount());
+      return runFile(filePath, system, countHolder.get(), executionMode, new AtomicLong());
     }
     // normal test execution
-    long count = countBase;
+    long count = countHolder.get();
     long minDurationMillis = minDurationSecs * 1000;
     do {
+      countHolder.set(count);
       AtomicLong maxFileSize = new AtomicLong(0);
       List<SensorResult> measurements = runFile(filePath, system, count, executionMode, maxFileSize);
       int actualMinDuration = minDurationOf(measurements);
@@ -162,22 +181,64 @@ private static List<SensorResult> runFile(String filePath, SystemRef system,
     BeneratorUtil.checkSystem(new LoggingInfoPrinter(BenchmarkRunner.class));
     BeneratorRootContext context = BeneratorFactory.getInstance().createRootContext(IOUtil.getParentUri(tmpFileName));
     File[] generatedFiles;
+    long totalFileSize = 0;
+    resetPeakHeapUsage();
+    long gcMillisBefore = gcMillis();
+    long gcMillisUsed;
     try (DescriptorRunner runner = new DescriptorRunner(tmpFileName, context)) {
       runner.run();
+      gcMillisUsed = gcMillis() - gcMillisBefore;
       generatedFiles = getGeneratedFiles();
       for (File generatedFile : generatedFiles) {
         logger.info("Generated file {} has length {}", generatedFile, generatedFile.length());
+        totalFileSize += generatedFile.length();
         if (generatedFile.length() > maxFileSize.get()) {
           maxFileSize.set(generatedFile.length());
         }
       }
     }
+    long peakHeap = peakHeapUsage();
     deleteArtifacts(tmpFileName, envFile, generatedFiles);
-    return evaluateSensors(executionMode);
+    return evaluateSensors(executionMode, totalFileSize, gcMillisUsed, peakHeap);
   }
 
   // helper methods --------------------------------------------------------------------------------------------------
 
+  private static void addResults(List<SensorResult> results, BenchmarkResult benchmarkResult) {
+    for (SensorResult result : results) {
+      benchmarkResult.addResult(result);
+    }
+  }
+
+  private static long gcMillis() {
+    long result = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      long time = gc.getCollectionTime();
+      if (time > 0) {
+        result += time;
+      }
+    }
+    return result;
+  }
+
+  private static void resetPeakHeapUsage() {
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        pool.resetPeakUsage();
+      }
+    }
+  }
+
+  private static long peakHeapUsage() {
+    long result = 0;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+        result += pool.getPeakUsage().getUsed();
+      }
+    }
+    return result;
+  }
+
   private static int minDurationOf(List<SensorResult> sensorResults) {
     if (CollectionUtil.isEmpty(sensorResults)) {
       throw new ConfigurationError("No sensors found");
@@ -214,8 +275,13 @@ private static long scaleToMinDuration(
     return result;
   }
 
+  /** Tells if a system is the in-process stand-in for Kafka that is defined in the builtin environment. */
+  static boolean isInProcessKafka(SystemRef system) {
+    return (system != null && system.isKafka() && Boolean.parseBoolean(system.getProperty("inProcess")));
+  }
+
   private static File prepareEnvFile(SystemRef system) throws IOException {
-    if (system != null && system.isDb() && "builtin".equals(system.getEnvironment().getName())) {
+    if (system != null && system.isDb() && BUILTIN_ENVIRONMENT.equals(system.getEnvironment().getName())) {
       String envFileName = EnvironmentUtil.fileName(system.getEnvironment().getName());
       IOUtil.copyFile("com/rapiddweller/benerator/benchmark/" + envFileName, envFileName);
       return new File(envFileName);
@@ -232,6 +298,8 @@ private static String prepareXml(String filePath, SystemRef system, long count,
       if (system.isDb()) {
         xml = xml.replace("{writeCount}", String.valueOf(count));
         xml = xml.replace("{readCount}", String.valueOf(2 * count));
+      } else if (isInProcessKafka(system)) {
+        xml = replaceKafkaClients(xml);
       }
     }
     String filename = TMP_FILENAME;
@@ -257,6 +325,13 @@ private static String applyEnvironment(SystemRef system, String xml) {
     return xml;
   }
 
+  /** Replaces the Kafka exporter and importer declarations with {@link InProcessMessageQueue}s
+   *  that use the Kafka system name as topic. */
+  static String replaceKafkaClients(String xml) {
+    return KAFKA_CLIENT.matcher(xml).replaceAll(
+        "<bean id=\"$2\" spec=\"new " + InProcessMessageQueue.class.getName() + "('$3')\"/>");
+  }
+
   private static File[] getGeneratedFiles() {
     return new File(".").listFiles((dir, name) -> name.startsWith("__benchmark.out"));
   }
@@ -269,9 +344,27 @@ private static void deleteArtifacts(String benFile, File envFile, File[] generat
     for (File generatedFile : generatedFiles) {
       FileUtil.deleteIfExists(generatedFile);
     }
+    File[] dbFiles = new File(".").listFiles((dir, name) -> name.startsWith(DB_FILE_PREFIX));
+    if (dbFiles != null) {
+      for (File dbFile : dbFiles) {
+        deleteRecursively(dbFile);
+      }
+    }
+    InProcessMessageQueue.clearAll();
+  }
+
+  private static void deleteRecursively(File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        deleteRecursively(child);
+      }
+    }
+    FileUtil.deleteIfExists(file);
   }
 
-  private static List<SensorResult> evaluateSensors(ExecutionMode executionMode) {
+  private static List<SensorResult> evaluateSensors(
+      ExecutionMode executionMode, long bytes, long gcMillis, long peakHeap) {
     List<SensorResult> result = new ArrayList<>();
     Set<Map.Entry<String, LatencyCounter>> counters = CounterRepository.getInstance().getCounters();
     for (Map.Entry<String, LatencyCounter> entry : counters) {
@@ -288,7 +381,8 @@ private static List<SensorResult> evaluateSensors(ExecutionMode executionMode) {
               latencyCount.totalLatency(), eps, PerformanceFormatter.format(eps * 3600. / 1000000.),
               threads, (threads > 1 ? "s" : ""));
         }
-        result.add(new SensorResult(sensor, countUsed, executionMode, (int) latencyCount.totalLatency()));
+        result.add(new SensorResult(sensor, countUsed, executionMode, (int) latencyCount.totalLatency(),
+            bytes, gcMillis, peakHeap));
       }
     }
     return result;
@@ -26,9 +26,15 @@ public class BenchmarkToolConfig extends CommandLineConfig {
   private boolean ce;
   private boolean ee;
   private boolean list;
+  private boolean embedded;
   private BeneratorMode mode;
   private int minSecs;
   private int maxThreads;
+  private int runs;
+  private String csvFile;
+  private String jsonFile;
+  private String baseline;
+  private int maxRegression;
   private SystemRef[] systems;
   private String name;
   private Benchmark[] benchmarks;
@@ -46,6 +52,8 @@ public BenchmarkToolConfig(String projectFolder) {
     this.mode = BeneratorMode.STRICT;
     this.minSecs = 10;
     this.maxThreads = 0;
+    this.runs = 1;
+    this.maxRegression = 10;
     this.systems = new SystemRef[0];
     this.benchmarks = Benchmark.getInstances();
   }
@@ -78,9 +86,29 @@ public void setEe(boolean ee) {
     this.ee = ee;
   }
 
+  /** @return true if database and Kafka benchmarks shall run on the embedded systems
+   *  of the builtin environment in addition to the plain benchmarks */
+  public boolean isEmbedded() {
+    return embedded;
+  }
+
+  public void setEmbedded(boolean embedded) {
+    this.embedded = embedded;
+  }
+
   public void setSystemsSpec(String systemsSpec) {
-    String[] tokens = systemsSpec.split(",");
+    this.systems = parseSystems(systemsSpec, new ArrayBuilder<>(SystemRef.class));
+  }
+
+  /** Adds the systems of the given specification to the ones already configured. */
+  public void addSystemsSpec(String systemsSpec) {
     ArrayBuilder<SystemRef> sysBuilder = new ArrayBuilder<>(SystemRef.class);
+    sysBuilder.addAll(this.systems);
+    this.systems = parseSystems(systemsSpec, sysBuilder);
+  }
+
+  private SystemRef[] parseSystems(String systemsSpec, ArrayBuilder<SystemRef> sysBuilder) {
+    String[] tokens = systemsSpec.split(",");
     for (int i = 0; i < tokens.length; i++) {
       String[] parts = StringUtil.splitOnFirstSeparator(tokens[i], '#');
       String envName = parts[0];
@@ -94,7 +122,7 @@ public void setSystemsSpec(String systemsSpec) {
         }
       }
     }
-    this.systems = sysBuilder.toArray();
+    return sysBuilder.toArray();
   }
 
   public SystemRef[] getSystems() {
@@ -125,6 +153,49 @@ public void setMaxThreads(int maxThreads) {
     this.maxThreads = maxThreads;
   }
 
+  /** @return the number of measurement runs per benchmark and execution mode */
+  public int getRuns() {
+    return runs;
+  }
+
+  public void setRuns(int runs) {
+    this.runs = runs;
+  }
+
+  public String getCsvFile() {
+    return csvFile;
+  }
+
+  public void setCsvFile(String csvFile) {
+    this.csvFile = csvFile;
+  }
+
+  public String getJsonFile() {
+    return jsonFile;
+  }
+
+  public void setJsonFile(String jsonFile) {
+    this.jsonFile = jsonFile;
+  }
+
+  /** @return the name of a CSV result file of a previous run to compare the results with */
+  public String getBaseline() {
+    return baseline;
+  }
+
+  public void setBaseline(String baseline) {
+    this.baseline = baseline;
+  }
+
+  /** @return the throughput loss in percent that is tolerated before a result is reported as regression */
+  public int getMaxRegression() {
+    return maxRegression;
+  }
+
+  public void setMaxRegression(int maxRegression) {
+    this.maxRegression = maxRegression;
+  }
+
   public String getName() {
     return name;
   }
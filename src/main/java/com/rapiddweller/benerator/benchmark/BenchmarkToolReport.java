@@ -125,4 +125,12 @@ public long getMinSecs() {
     return config.getMinSecs();
   }
 
+  public boolean isEmbedded() {
+    return config.isEmbedded();
+  }
+
+  public int getRuns() {
+    return config.getRuns();
+  }
+
 }
@@ -0,0 +1,164 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.AbstractEntitySource;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.DefaultDescriptorProvider;
+import com.rapiddweller.model.data.DescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * In-process stand-in for a Kafka topic, used by the Kafka benchmarks in the embedded benchmark profile.
+ * As {@link Consumer} it encodes each entity to a binary message and appends it to the topic,
+ * as entity source it decodes the messages of the topic in the order in which they were sent.
+ * Messages are consumed on reading. Instances with the same topic name share their messages,
+ * so exporter and importer can be configured separately like in a Kafka setup.
+ * Component values are transported as strings, like in a text-based message format.<br/><br/>
+ * Created: 19.10.2026 22:31:08
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class InProcessMessageQueue extends AbstractEntitySource implements Consumer {
+
+  private static final Map<String, Queue<byte[]>> TOPICS = new ConcurrentHashMap<>();
+
+  private final String topic;
+  private final Queue<byte[]> messages;
+  private final Map<String, ComplexTypeDescriptor> descriptors;
+
+  public InProcessMessageQueue(String topic) {
+    this.topic = topic;
+    this.messages = TOPICS.computeIfAbsent(topic, k -> new ConcurrentLinkedQueue<>());
+    this.descriptors = new ConcurrentHashMap<>();
+  }
+
+  public String getTopic() {
+    return topic;
+  }
+
+  public int size() {
+    return messages.size();
+  }
+
+  /** Discards the messages of all topics. */
+  public static void clearAll() {
+    TOPICS.clear();
+  }
+
+  // Consumer interface implementation -------------------------------------------------------------------------------
+
+  @Override
+  public void startConsuming(ProductWrapper<?> wrapper) {
+    messages.add(encode((Entity) wrapper.unwrap()));
+  }
+
+  @Override
+  public void finishConsuming(ProductWrapper<?> wrapper) {
+    // nothing to do
+  }
+
+  @Override
+  public void flush() {
+    // messages are available immediately
+  }
+
+  @Override
+  public void close() {
+    // the messages are kept for readers of the same topic
+  }
+
+  // DataSource interface implementation -----------------------------------------------------------------------------
+
+  @Override
+  public DataIterator<Entity> iterator() {
+    return new DataIterator<>() {
+
+      @Override
+      public Class<Entity> getType() {
+        return Entity.class;
+      }
+
+      @Override
+      public DataContainer<Entity> next(DataContainer<Entity> container) {
+        byte[] message = messages.poll();
+        return (message != null ? container.setData(decode(message)) : null);
+      }
+
+      @Override
+      public void close() {
+        // nothing to do
+      }
+    };
+  }
+
+  // message format --------------------------------------------------------------------------------------------------
+
+  static byte[] encode(Entity entity) {
+    try {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+      DataOutputStream out = new DataOutputStream(buffer);
+      out.writeUTF(entity.type());
+      Map<String, Object> components = entity.getComponents();
+      out.writeShort(components.size());
+      for (Map.Entry<String, Object> component : components.entrySet()) {
+        out.writeUTF(component.getKey());
+        Object value = component.getValue();
+        out.writeBoolean(value != null);
+        if (value != null) {
+          out.writeUTF(value.toString());
+        }
+      }
+      out.flush();
+      return buffer.toByteArray();
+    } catch (IOException e) {
+      throw new RuntimeException("Error encoding " + entity, e);
+    }
+  }
+
+  Entity decode(byte[] message) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message))) {
+      String type = in.readUTF();
+      Entity entity = new Entity(descriptors.computeIfAbsent(type, this::createDescriptor));
+      int count = in.readShort();
+      for (int i = 0; i < count; i++) {
+        String name = in.readUTF();
+        entity.setComponent(name, (in.readBoolean() ? in.readUTF() : null));
+      }
+      return entity;
+    } catch (IOException e) {
+      throw new RuntimeException("Error decoding message of topic " + topic, e);
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private ComplexTypeDescriptor createDescriptor(String type) {
+    DescriptorProvider provider = (context != null ? context.getLocalDescriptorProvider() :
+        new DefaultDescriptorProvider(topic, new DataModel()));
+    return new ComplexTypeDescriptor(type, provider);
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + topic + "]";
+  }
+
+}
@@ -14,12 +14,23 @@ public class SensorResult {
   private final long count;
   private final ExecutionMode executionMode;
   private final int duration;
+  private final long bytes;
+  private final long gcMillis;
+  private final long peakHeap;
 
   public SensorResult(String sensor, long count, ExecutionMode executionMode, int duration) {
+    this(sensor, count, executionMode, duration, 0, 0, 0);
+  }
+
+  public SensorResult(String sensor, long count, ExecutionMode executionMode, int duration,
+                      long bytes, long gcMillis, long peakHeap) {
     this.sensor = sensor;
     this.count = count;
     this.executionMode = executionMode;
     this.duration = duration;
+    this.bytes = bytes;
+    this.gcMillis = gcMillis;
+    this.peakHeap = peakHeap;
   }
 
   public String getSensor() {
@@ -38,6 +49,21 @@ public int getDuration() {
     return duration;
   }
 
+  /** @return the number of bytes written to generated files in the run */
+  public long getBytes() {
+    return bytes;
+  }
+
+  /** @return the time in milliseconds the JVM spent in garbage collection during the run */
+  public long getGcMillis() {
+    return gcMillis;
+  }
+
+  /** @return the peak heap usage in bytes during the run */
+  public long getPeakHeap() {
+    return peakHeap;
+  }
+
   public double entitiesPerSecond() {
     return (double) count / duration * 1000.;
   }
@@ -45,4 +71,9 @@ public double entitiesPerSecond() {
   public double entitiesPerHour() {
     return 3600. * entitiesPerSecond() / 1000000.;
   }
+
+  public double bytesPerSecond() {
+    return (double) bytes / duration * 1000.;
+  }
+
 }
@@ -0,0 +1,114 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import java.util.List;
+
+/**
+ * Aggregates the {@link SensorResult}s of repeated runs of one sensor in one {@link ExecutionMode}
+ * to mean values and a 95% confidence interval of the throughput.<br/><br/>
+ * Created: 19.10.2026 21:05:37
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class SensorStatistics {
+
+  /** 97.5% quantiles of Student's t distribution for 1 to 30 degrees of freedom. */
+  private static final double[] T_975 = {
+      12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+      2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+      2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+  };
+  private static final double Z_975 = 1.960;
+
+  private final int runs;
+  private final long count;
+  private final double entitiesPerSecond;
+  private final double stdDev;
+  private final double error;
+  private final double bytesPerSecond;
+  private final long gcMillis;
+  private final long peakHeap;
+
+  public SensorStatistics(List<SensorResult> results) {
+    if (results.isEmpty()) {
+      throw new IllegalArgumentException("No results to aggregate");
+    }
+    this.runs = results.size();
+    this.count = results.get(runs - 1).getCount();
+    double epsSum = 0;
+    double bpsSum = 0;
+    long gcSum = 0;
+    long heapMax = 0;
+    for (SensorResult result : results) {
+      epsSum += result.entitiesPerSecond();
+      bpsSum += result.bytesPerSecond();
+      gcSum += result.getGcMillis();
+      heapMax = Math.max(heapMax, result.getPeakHeap());
+    }
+    this.entitiesPerSecond = epsSum / runs;
+    this.bytesPerSecond = bpsSum / runs;
+    this.gcMillis = gcSum / runs;
+    this.peakHeap = heapMax;
+    if (runs > 1) {
+      double squareSum = 0;
+      for (SensorResult result : results) {
+        double deviation = result.entitiesPerSecond() - entitiesPerSecond;
+        squareSum += deviation * deviation;
+      }
+      this.stdDev = Math.sqrt(squareSum / (runs - 1));
+      this.error = tQuantile(runs - 1) * stdDev / Math.sqrt(runs);
+    } else {
+      this.stdDev = 0;
+      this.error = 0;
+    }
+  }
+
+  public int getRuns() {
+    return runs;
+  }
+
+  /** @return the entity count of the last run */
+  public long getCount() {
+    return count;
+  }
+
+  /** @return the mean throughput in entities per second */
+  public double getEntitiesPerSecond() {
+    return entitiesPerSecond;
+  }
+
+  /** @return the mean throughput in million entities per hour */
+  public double getEntitiesPerHour() {
+    return 3600. * entitiesPerSecond / 1000000.;
+  }
+
+  public double getStdDev() {
+    return stdDev;
+  }
+
+  /** @return the half width of the 95% confidence interval of {@link #getEntitiesPerSecond()},
+   *  0 if there was only one run */
+  public double getError() {
+    return error;
+  }
+
+  public double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  /** @return the mean garbage collection time of a run in milliseconds */
+  public long getGcMillis() {
+    return gcMillis;
+  }
+
+  /** @return the maximum peak heap usage of all runs in bytes */
+  public long getPeakHeap() {
+    return peakHeap;
+  }
+
+  static double tQuantile(int degreesOfFreedom) {
+    return (degreesOfFreedom <= T_975.length ? T_975[degreesOfFreedom - 1] : Z_975);
+  }
+
+}
@@ -2,6 +2,8 @@
 
 package com.rapiddweller.benerator.benchmark;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.TreeMap;
 
 /**
@@ -12,18 +14,30 @@
  */
 public class SensorSummary {
 
-  private TreeMap<ExecutionMode, SensorResult> sensorResults;
+  private final TreeMap<ExecutionMode, List<SensorResult>> sensorResults;
 
   public SensorSummary() {
     this.sensorResults = new TreeMap<>();
   }
 
   public void addResult(SensorResult result) {
-    sensorResults.put(result.getExecutionMode(), result);
+    sensorResults.computeIfAbsent(result.getExecutionMode(), k -> new ArrayList<>()).add(result);
   }
 
+  /** @return the result of the last run in the given execution mode or null if there was none */
   public SensorResult getResult(ExecutionMode executionMode) {
+    List<SensorResult> results = sensorResults.get(executionMode);
+    return (results != null ? results.get(results.size() - 1) : null);
+  }
+
+  public List<SensorResult> getResults(ExecutionMode executionMode) {
     return sensorResults.get(executionMode);
   }
 
+  /** @return the statistics of all runs in the given execution mode or null if there was none */
+  public SensorStatistics getStatistics(ExecutionMode executionMode) {
+    List<SensorResult> results = sensorResults.get(executionMode);
+    return (results != null ? new SensorStatistics(results) : null);
+  }
+
 }
@@ -47,6 +47,10 @@ public ComponentBuilderProxy(ComponentBuilder<E> source) {
     this.source = source;
   }
 
+  public ComponentBuilder<E> getSource() {
+    return source;
+  }
+
   @Override
   public boolean isParallelizable() {
     return source.isParallelizable();
@@ -0,0 +1,157 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.composite;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.expression.ScriptExpression;
+import com.rapiddweller.benerator.script.BeneratorScript;
+import com.rapiddweller.benerator.script.CompiledScript;
+import com.rapiddweller.common.Assert;
+import com.rapiddweller.format.script.Script;
+import com.rapiddweller.script.Expression;
+
+/**
+ * Evaluates the condition of a {@link ConditionalComponentBuilder} and avoids re-evaluation
+ * where possible: If the condition is a BeneratorScript that can be analyzed by {@link CompiledScript},
+ * it is classified by the inputs it reads (see {@link Scope}). A constant condition is evaluated
+ * only once. For all other analyzable conditions, the last result is reused as long as all
+ * inputs are the same objects as in the previous evaluation. So a condition which only depends
+ * on setup-level variables is effectively hoisted out of the generation loop, and an evaluator
+ * which is shared by several builders of the same entity evaluates a per-entity condition once
+ * per entity. Conditions that cannot be analyzed are evaluated on each invocation.<br/><br/>
+ * Created: 19.10.2026 18:52:14
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ConditionEvaluator {
+
+  /** Classification of a condition by the inputs it reads. */
+  public enum Scope {
+    /** The condition does not read any variable. */
+    CONSTANT,
+    /** The condition only reads variables which are not the current product. */
+    SETUP,
+    /** The condition reads features of the current product ('this'). */
+    ENTITY,
+    /** The condition cannot be analyzed and is evaluated on each invocation. */
+    DYNAMIC
+  }
+
+  private final Expression<?> condition;
+  private final String text;
+  private final CompiledScript analysis;
+  private final Scope scope;
+  private volatile Memo memo;
+
+  public ConditionEvaluator(Expression<?> condition, String text) {
+    Assert.notNull(condition, "condition");
+    this.condition = condition;
+    this.text = text;
+    this.analysis = CompiledScript.compile(parsedExpression(condition));
+    this.scope = classify(analysis);
+    this.memo = null;
+  }
+
+  public String getText() {
+    return text;
+  }
+
+  public Scope getScope() {
+    return scope;
+  }
+
+  /**
+   * Evaluates the condition or provides the result of a previous evaluation with the same inputs.
+   * @param context the context to evaluate the condition in
+   * @return the result of the condition
+   */
+  public boolean evaluate(BeneratorContext context) {
+    if (scope == Scope.DYNAMIC) {
+      return evaluateCondition(context);
+    }
+    Object[] inputs;
+    try {
+      inputs = analysis.readInputs(context);
+    } catch (CompiledScript.Deoptimization e) {
+      return evaluateCondition(context);
+    }
+    Memo memo = this.memo;
+    if (memo != null && memo.matches(inputs)) {
+      return memo.result;
+    }
+    boolean result = evaluateCondition(context);
+    this.memo = new Memo(inputs, result);
+    return result;
+  }
+
+  /** Discards a cached result, so that the next call to {@link #evaluate(BeneratorContext)} evaluates the condition. */
+  public void reset() {
+    this.memo = null;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return condition.toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private boolean evaluateCondition(BeneratorContext context) {
+    Object conditionResult = condition.evaluate(context);
+    if (conditionResult == null) {
+      throw new IllegalArgumentException("Condition resolves to null: " + condition);
+    }
+    if (!(conditionResult instanceof Boolean)) {
+      throw new IllegalArgumentException("Condition does not resolve to a boolean value: " + condition);
+    }
+    return (Boolean) conditionResult;
+  }
+
+  private static Expression<?> parsedExpression(Expression<?> condition) {
+    if (condition instanceof ScriptExpression) {
+      Script script = ((ScriptExpression<?>) condition).getScript();
+      if (script instanceof BeneratorScript) {
+        return ((BeneratorScript) script).getExpression();
+      }
+    }
+    return null;
+  }
+
+  private static Scope classify(CompiledScript analysis) {
+    if (analysis == null) {
+      return Scope.DYNAMIC;
+    }
+    if (analysis.getInputPaths().isEmpty()) {
+      return Scope.CONSTANT;
+    }
+    for (String path : analysis.getInputPaths()) {
+      if ("this".equalsIgnoreCase(path) || path.regionMatches(true, 0, "this.", 0, 5)) {
+        return Scope.ENTITY;
+      }
+    }
+    return Scope.SETUP;
+  }
+
+  private static final class Memo {
+
+    final Object[] inputs;
+    final boolean result;
+
+    Memo(Object[] inputs, boolean result) {
+      this.inputs = inputs;
+      this.result = result;
+    }
+
+    boolean matches(Object[] currentInputs) {
+      for (int i = 0; i < inputs.length; i++) {
+        if (inputs[i] != currentInputs[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+}
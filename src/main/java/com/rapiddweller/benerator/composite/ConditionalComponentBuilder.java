@@ -27,11 +27,18 @@
 package com.rapiddweller.benerator.composite;
 
 import com.rapiddweller.benerator.engine.BeneratorContext;
-import com.rapiddweller.common.Assert;
+import com.rapiddweller.benerator.engine.expression.ScriptExpression;
 import com.rapiddweller.script.Expression;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
- * {@link ComponentBuilder} which executes only if a condition expression evaluates to 'true'.<br/><br/>
+ * {@link ComponentBuilder} which executes only if a condition expression evaluates to 'true'.
+ * The condition is evaluated by a {@link ConditionEvaluator}, which avoids re-evaluation of
+ * constant and setup-scoped conditions. Builders of the same entity which have the same condition
+ * text can share one evaluator, see {@link #shareEvaluators(List)}.<br/><br/>
  * Created: 11.10.2010 11:15:14
  * @param <E> the type parameter
  * @author Volker Bergmann
@@ -39,28 +46,62 @@
  */
 public class ConditionalComponentBuilder<E> extends ComponentBuilderProxy<E> {
 
-  private final Expression<?> condition;
+  private ConditionEvaluator evaluator;
 
   public ConditionalComponentBuilder(ComponentBuilder<E> source, Expression<?> condition) {
+    this(source, new ConditionEvaluator(condition, null));
+  }
+
+  public ConditionalComponentBuilder(ComponentBuilder<E> source, String conditionText) {
+    this(source, new ConditionEvaluator(new ScriptExpression<>(conditionText), conditionText));
+  }
+
+  private ConditionalComponentBuilder(ComponentBuilder<E> source, ConditionEvaluator evaluator) {
     super(source);
-    Assert.notNull(condition, "condition");
-    this.condition = condition;
+    this.evaluator = evaluator;
+  }
+
+  public ConditionEvaluator getEvaluator() {
+    return evaluator;
+  }
+
+  /**
+   * Makes all {@link ConditionalComponentBuilder}s in a list of generation steps, which have
+   * the same condition text, use the same {@link ConditionEvaluator}, so that a condition
+   * is evaluated only once per entity.
+   * @param steps the generation steps of an entity
+   */
+  public static void shareEvaluators(List<? extends GenerationStep<?>> steps) {
+    Map<String, ConditionEvaluator> evaluators = new HashMap<>();
+    for (GenerationStep<?> step : steps) {
+      if (step instanceof ConditionalComponentBuilder) {
+        ConditionalComponentBuilder<?> builder = (ConditionalComponentBuilder<?>) step;
+        ConditionEvaluator evaluator = builder.evaluator;
+        if (evaluator.getText() != null && evaluator.getScope() != ConditionEvaluator.Scope.DYNAMIC) {
+          builder.evaluator = evaluators.computeIfAbsent(evaluator.getText(), k -> evaluator);
+        }
+      }
+    }
   }
 
   @Override
   public boolean execute(BeneratorContext context) {
-    Object conditionResult = condition.evaluate(context);
-    if (conditionResult == null) {
-      throw new IllegalArgumentException("Condition resolves to null: " + condition);
-    }
-    if (!(conditionResult instanceof Boolean)) {
-      throw new IllegalArgumentException("Condition does not resolve to a boolean value: " + condition);
-    }
-    if ((boolean) conditionResult) {
+    if (evaluator.evaluate(context)) {
       return source.execute(context);
     } else {
       return true;
     }
   }
 
+  @Override
+  public void reset() {
+    super.reset();
+    evaluator.reset();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + evaluator + ": " + source + "]";
+  }
+
 }
@@ -28,6 +28,7 @@
 
 import com.rapiddweller.benerator.BeneratorConstants;
 import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.profile.SamplingProfiler;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.MessageHolder;
 import com.rapiddweller.common.Resettable;
@@ -54,11 +55,17 @@
 
   private final String instanceName;
   private final List<GenerationStep<E>> steps;
+  private final String[] profileLabels;
   private String message;
 
   public GenerationStepSupport(String instanceName, List<GenerationStep<E>> steps) {
     this.instanceName = instanceName;
     this.steps = (steps != null ? steps : new ArrayList<>());
+    ConditionalComponentBuilder.shareEvaluators(this.steps);
+    this.profileLabels = new String[this.steps.size()];
+    for (int i = 0; i < profileLabels.length; i++) {
+      profileLabels[i] = instanceName + '.' + profileLabel(this.steps.get(i));
+    }
   }
 
   public void init(BeneratorContext context) {
@@ -70,9 +77,13 @@ public void init(BeneratorContext context) {
   public boolean apply(E target, BeneratorContext context) {
     BeneratorContext subContext = context.createSubContext(instanceName);
     subContext.setCurrentProduct(new ProductWrapper<>(target));
+    int stepIndex = 0;
     for (GenerationStep<E> step : steps) {
       try {
-        if (!step.execute(subContext)) {
+        int profileMark = SamplingProfiler.enter(profileLabels[stepIndex++]);
+        boolean available = step.execute(subContext);
+        SamplingProfiler.exit(profileMark);
+        if (!available) {
           message = "generation step for '" + instanceName + "' is not available any longer: " + step;
           STATE_LOGGER.debug(message);
           return false;
@@ -127,4 +138,21 @@ public String toString() {
     return getClass().getSimpleName() + steps;
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** Determines the name of the component or variable which is set by a step for the {@link SamplingProfiler}. */
+  private static String profileLabel(GenerationStep<?> step) {
+    if (step instanceof ComponentBuilderProxy) {
+      return profileLabel(((ComponentBuilderProxy<?>) step).getSource());
+    } else if (step instanceof PlainEntityComponentBuilder) {
+      return ((PlainEntityComponentBuilder) step).getName();
+    } else if (step instanceof Variable) {
+      return ((Variable<?>) step).getName();
+    } else if (step instanceof AttributeProcessor) {
+      return ((AttributeProcessor) step).getAttributeName();
+    } else {
+      return step.getClass().getSimpleName();
+    }
+  }
+
 }
@@ -46,6 +46,10 @@ public Variable(String name, Generator<?> source, String scope) {
     this.name = name;
   }
 
+  public String getName() {
+    return name;
+  }
+
   @Override
   @SuppressWarnings({"rawtypes", "unchecked"})
   public boolean execute(BeneratorContext context) {
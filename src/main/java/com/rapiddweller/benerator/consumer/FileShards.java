@@ -0,0 +1,135 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.consumer;
+
+import com.rapiddweller.platform.file.FileJoiner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manages the part files of a sharded file export: Each thread gets its own exporter which writes a part file.
+ * On {@link #close(Closer, String, boolean, boolean)}, the part exporters are closed, telling the last one that
+ * it writes the end of the file. Then the part files are joined to the export file by {@link FileJoiner},
+ * or they are kept and listed in a manifest file.<br/><br/>
+ * Created: 19.10.2026 10:12:37
+ * @param <E> the type of the part exporters
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FileShards<E extends FileExporter> {
+
+  private final Factory<E> factory;
+  private final List<E> shards;
+  private ThreadLocal<E> threadShards;
+
+  public FileShards(Factory<E> factory) {
+    this.factory = factory;
+    this.shards = new ArrayList<>();
+    this.threadShards = new ThreadLocal<>();
+  }
+
+  /** @return the exporter of the current thread, which is created on the first call */
+  public E ofCurrentThread() {
+    E shard = threadShards.get();
+    if (shard == null) {
+      shard = newShard();
+      threadShards.set(shard);
+    }
+    return shard;
+  }
+
+  /** @return a copy of the list of the part exporters created so far */
+  public synchronized List<E> list() {
+    return new ArrayList<>(shards);
+  }
+
+  public synchronized boolean isEmpty() {
+    return shards.isEmpty();
+  }
+
+  /**
+   * Closes the part exporters in the order of their creation and joins their files to the export file.
+   *
+   * @param closer the callback for closing a part exporter
+   * @param uri    the uri of the export file
+   * @param append if true, the parts are appended to an existing export file
+   * @param join   if true, the parts are joined to the export file, otherwise they are kept and listed
+   *               in a file named like the uri with the suffix '.manifest'
+   */
+  public synchronized void close(Closer<E> closer, String uri, boolean append, boolean join) {
+    List<File> files = new ArrayList<>(shards.size());
+    for (int i = 0; i < shards.size(); i++) {
+      E shard = shards.get(i);
+      closer.close(shard, i == shards.size() - 1);
+      files.add(new File(shard.getUri()));
+    }
+    shards.clear();
+    threadShards = new ThreadLocal<>();
+    try {
+      if (join) {
+        FileJoiner.join(files, new File(uri), append);
+        for (File file : files) {
+          Files.delete(file.toPath());
+        }
+      } else {
+        List<String> names = new ArrayList<>(files.size());
+        for (File file : files) {
+          names.add(file.getName());
+        }
+        Files.write(new File(uri + ".manifest").toPath(), names, StandardCharsets.UTF_8);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error finishing sharded export to " + uri, e);
+    }
+  }
+
+  /**
+   * Calculates the uri of a part file by inserting '.partN' before the file extension.
+   *
+   * @param uri   the uri of the export file
+   * @param index the index of the part, starting with 0
+   * @return the uri of the part file
+   */
+  public static String shardUri(String uri, int index) {
+    int extensionStart = uri.lastIndexOf('.');
+    if (extensionStart <= Math.max(uri.lastIndexOf('/'), uri.lastIndexOf('\\')) + 1) {
+      return uri + ".part" + index;
+    }
+    return uri.substring(0, extensionStart) + ".part" + index + uri.substring(extensionStart);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private synchronized E newShard() {
+    E shard = factory.createShard(shards.size());
+    shards.add(shard);
+    return shard;
+  }
+
+  // callback interfaces ---------------------------------------------------------------------------------------------
+
+  /** Creates the exporter for a part file. */
+  public interface Factory<E> {
+    /**
+     * @param index the index of the part, starting with 0. All parts except the first one continue
+     *              the file of the previous part and thus must not write a header.
+     * @return the exporter of the part
+     */
+    E createShard(int index);
+  }
+
+  /** Closes the exporter of a part file. */
+  public interface Closer<E> {
+    /**
+     * @param shard    the exporter to close
+     * @param lastPart true if the exporter writes the last part of the file and thus needs to write a footer
+     */
+    void close(E shard, boolean lastPart);
+  }
+
+}
@@ -37,7 +37,9 @@
  */
 public abstract class FormattingConsumer extends AbstractConsumer {
 
-  protected final ToStringConverter plainConverter = new ToStringConverter();
+  protected ToStringConverter plainConverter = new ToStringConverter();
+  private boolean decimalFormatSet = false;
+  private boolean integralFormatSet = false;
 
   public String getNullString() {
     return plainConverter.getNullString();
@@ -93,6 +95,7 @@ public String getDecimalPattern() {
 
   public void setDecimalPattern(String decimalPattern) {
     plainConverter.setDecimalPattern(decimalPattern);
+    decimalFormatSet = true;
   }
 
   public char getDecimalSeparator() {
@@ -101,6 +104,7 @@ public char getDecimalSeparator() {
 
   public void setDecimalSeparator(char decimalSeparator) {
     plainConverter.setDecimalSeparator(decimalSeparator);
+    decimalFormatSet = true;
   }
 
   public String getTimePattern() {
@@ -117,10 +121,52 @@ public String getIntegralPattern() {
 
   public void setIntegralPattern(String integralPattern) {
     plainConverter.setIntegralPattern(integralPattern);
+    integralFormatSet = true;
   }
 
   protected String format(Object o) {
     return plainConverter.convert(o);
   }
 
+  /**
+   * Creates a converter with the same settings as the one of this consumer,
+   * e.g. for a copy of this consumer which is used by another thread.
+   *
+   * @return the converter copy
+   */
+  protected ToStringConverter copyOfConverter() {
+    ToStringConverter copy = new ToStringConverter();
+    copy.setNullString(getNullString());
+    // patterns and capitalizations are only copied if set, since the converter derives formats from them.
+    // The number settings can only be read if one of them was set before
+    if (decimalFormatSet) {
+      if (getDecimalPattern() != null) {
+        copy.setDecimalPattern(getDecimalPattern());
+      }
+      copy.setDecimalSeparator(getDecimalSeparator());
+    }
+    if (getDatePattern() != null) {
+      copy.setDatePattern(getDatePattern());
+    }
+    if (getDateCapitalization() != null) {
+      copy.setDateCapitalization(getDateCapitalization());
+    }
+    if (getDateTimePattern() != null) {
+      copy.setDateTimePattern(getDateTimePattern());
+    }
+    if (getTimestampPattern() != null) {
+      copy.setTimestampPattern(getTimestampPattern());
+    }
+    if (getTimestampCapitalization() != null) {
+      copy.setTimestampCapitalization(getTimestampCapitalization());
+    }
+    if (getTimePattern() != null) {
+      copy.setTimePattern(getTimePattern());
+    }
+    if (integralFormatSet && getIntegralPattern() != null) {
+      copy.setIntegralPattern(getIntegralPattern());
+    }
+    return copy;
+  }
+
 }
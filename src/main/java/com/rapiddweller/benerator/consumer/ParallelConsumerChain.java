@@ -0,0 +1,301 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.consumer;
+
+import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.common.IOUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * {@link ConsumerChain} which forwards each product to its component consumers asynchronously.
+ * Each component has its own bounded queue and worker thread, so the generating thread publishes a
+ * product once and the components consume it in parallel. A full queue blocks the publisher
+ * (back-pressure), and each component receives its invocations in publication order.
+ * {@link #flush()} and {@link #close()} act as barriers: they return only after every component
+ * has processed all products published before.<br/>
+ * Products must not be modified after they have been published to this chain.<br/><br/>
+ * Created: 19.10.2026 09:12:41
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ParallelConsumerChain extends ConsumerChain {
+
+  private static final Logger logger = LoggerFactory.getLogger(ParallelConsumerChain.class);
+
+  public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+  private final int queueSize;
+  private List<ConsumerLane> lanes;
+  private boolean closed;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public ParallelConsumerChain(Consumer... components) {
+    this(DEFAULT_QUEUE_SIZE, components);
+  }
+
+  public ParallelConsumerChain(int queueSize, Consumer... components) {
+    super(components);
+    if (queueSize <= 0) {
+      throw new IllegalArgumentException("Queue size must be positive, but was " + queueSize);
+    }
+    this.queueSize = queueSize;
+    this.lanes = null;
+    this.closed = false;
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  // Consumer interface ----------------------------------------------------------------------------------------------
+
+  @Override
+  public synchronized void startConsuming(ProductWrapper<?> wrapper) {
+    publish(Message.Kind.START, wrapper);
+  }
+
+  @Override
+  public synchronized void finishConsuming(ProductWrapper<?> wrapper) {
+    publish(Message.Kind.FINISH, wrapper);
+  }
+
+  @Override
+  public synchronized void flush() {
+    if (lanes != null && !closed) {
+      barrier();
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (lanes != null) {
+        try {
+          barrier();
+        } finally {
+          for (ConsumerLane lane : lanes) {
+            lane.stop();
+          }
+          logger.debug("{}", getStatistics());
+        }
+      }
+    } finally {
+      super.close();
+    }
+  }
+
+  // statistics ------------------------------------------------------------------------------------------------------
+
+  /**
+   * Determines the component which spent the most time in consumption and thus limits the chain's throughput.
+   * @return the slowest component consumer, or null if no product has been consumed yet
+   */
+  public synchronized Consumer getBottleneck() {
+    ConsumerLane result = null;
+    if (lanes != null) {
+      for (ConsumerLane lane : lanes) {
+        if (result == null || lane.busyNanos > result.busyNanos) {
+          result = lane;
+        }
+      }
+    }
+    return (result != null && result.busyNanos > 0 ? result.consumer : null);
+  }
+
+  /**
+   * Creates a report of the time each component consumer spent in consumption,
+   * of the time the publisher was blocked on its queue and of the bottleneck.
+   * @return a human-readable report
+   */
+  public synchronized String getStatistics() {
+    StringBuilder builder = new StringBuilder(getClass().getSimpleName()).append(" statistics:");
+    if (lanes != null) {
+      for (ConsumerLane lane : lanes) {
+        builder.append("\n  ").append(lane.consumer)
+            .append(": ").append(lane.messageCount).append(" invocations, ")
+            .append(lane.busyNanos / 1000000).append(" ms busy, ")
+            .append(lane.blockedNanos / 1000000).append(" ms publisher blocked");
+      }
+    }
+    Consumer bottleneck = getBottleneck();
+    if (bottleneck != null) {
+      builder.append("\n  bottleneck: ").append(bottleneck);
+    }
+    return builder.toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void publish(Message.Kind kind, ProductWrapper<?> wrapper) {
+    if (closed) {
+      throw new IllegalStateException(getClass().getSimpleName() + " has already been closed");
+    }
+    startLanes();
+    checkFailures();
+    // the caller may reuse its wrapper, so the lanes get a copy which keeps the product's tags
+    Message message = new Message(kind, wrapper.copy(), null);
+    for (ConsumerLane lane : lanes) {
+      lane.put(message);
+    }
+  }
+
+  private void barrier() {
+    CountDownLatch latch = new CountDownLatch(lanes.size());
+    Message message = new Message(Message.Kind.FLUSH, null, latch);
+    for (ConsumerLane lane : lanes) {
+      lane.put(message);
+    }
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for consumers", e);
+    }
+    checkFailures();
+  }
+
+  private void startLanes() {
+    if (lanes == null) {
+      List<Consumer> components = getComponents();
+      lanes = new ArrayList<>(components.size());
+      for (Consumer component : components) {
+        ConsumerLane lane = new ConsumerLane(component, queueSize);
+        lanes.add(lane);
+        lane.thread.start();
+      }
+    }
+  }
+
+  private void checkFailures() {
+    for (ConsumerLane lane : lanes) {
+      Throwable failure = lane.failure;
+      if (failure != null) {
+        lane.failure = null;
+        if (failure instanceof RuntimeException) {
+          throw (RuntimeException) failure;
+        } else {
+          throw new RuntimeException("Error in consumer " + lane.consumer, failure);
+        }
+      }
+    }
+  }
+
+  // helper classes --------------------------------------------------------------------------------------------------
+
+  private static final class Message {
+
+    enum Kind {START, FINISH, FLUSH, STOP}
+
+    final Kind kind;
+    final ProductWrapper<?> wrapper;
+    final CountDownLatch latch;
+
+    Message(Kind kind, ProductWrapper<?> wrapper, CountDownLatch latch) {
+      this.kind = kind;
+      this.wrapper = wrapper;
+      this.latch = latch;
+    }
+  }
+
+  /** Feeds one component consumer from its own queue on its own thread. */
+  private static final class ConsumerLane implements Runnable {
+
+    final Consumer consumer;
+    final BlockingQueue<Message> queue;
+    final Thread thread;
+
+    volatile long busyNanos;
+    volatile long messageCount;
+    volatile Throwable failure;
+    long blockedNanos; // only accessed by the publishing thread
+
+    ConsumerLane(Consumer consumer, int queueSize) {
+      this.consumer = consumer;
+      this.queue = new ArrayBlockingQueue<>(queueSize);
+      this.busyNanos = 0;
+      this.messageCount = 0;
+      this.failure = null;
+      this.blockedNanos = 0;
+      this.thread = new Thread(this, "consumer-" + consumer);
+      this.thread.setDaemon(true);
+    }
+
+    void put(Message message) {
+      if (!queue.offer(message)) {
+        long start = System.nanoTime();
+        try {
+          queue.put(message);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted while publishing to " + consumer, e);
+        }
+        blockedNanos += System.nanoTime() - start;
+      }
+    }
+
+    void stop() {
+      put(new Message(Message.Kind.STOP, null, null));
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        Message message;
+        try {
+          message = queue.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        if (message.kind == Message.Kind.STOP) {
+          return;
+        }
+        long start = System.nanoTime();
+        try {
+          switch (message.kind) {
+            case START:
+              consumer.startConsuming(message.wrapper);
+              break;
+            case FINISH:
+              consumer.finishConsuming(message.wrapper);
+              break;
+            default:
+              IOUtil.flush(consumer);
+              break;
+          }
+        } catch (Throwable t) {
+          if (failure == null) {
+            failure = t;
+          }
+        } finally {
+          busyNanos += System.nanoTime() - start;
+          messageCount++;
+          if (message.latch != null) {
+            message.latch.countDown();
+          }
+        }
+      }
+    }
+  }
+
+}
@@ -29,22 +29,33 @@
 import com.rapiddweller.common.ConfigurationError;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.SystemInfo;
+import com.rapiddweller.platform.file.FileCompression;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 
 /**
  * Parent class for Exporters that export data to a text file.<br/>
+ * In sharded mode, each thread writes to its own part file by a copy of this exporter, so formatting and
+ * writing are not serialized by a common lock. Only the first part file gets a header (child classes
+ * treat it like a file to append to) and only the last one is marked as {@link #lastPart} for writing a footer.
+ * On {@link #close()}, the part files are joined to the export file by {@link FileShards}, or they are kept
+ * and listed in a manifest file. Child classes whose state is not suited for shallow copies need to
+ * override {@link #createShard(String, boolean)}.<br/>
+ * Output is compressed as configured by the property 'compression' or by the suffix of the uri,
+ * see {@link FileCompression}.<br/>
  * <br/>
  * Created: 11.07.2008 09:50:46
  *
  * @author Volker Bergmann
  * @since 0.5.4
  */
-public class TextFileExporter extends FormattingConsumer implements FileExporter {
+public class TextFileExporter extends FormattingConsumer implements FileExporter, Cloneable {
 
   private static final Logger LOG = LoggerFactory.getLogger(TextFileExporter.class);
 
@@ -71,11 +82,33 @@ public class TextFileExporter extends FormattingConsumer implements FileExporter
    */
   protected boolean wasAppended;
 
+  /**
+   * The compression to apply, or null for deriving it from the uri.
+   */
+  protected String compression;
+
+  /**
+   * Tells if each thread writes to its own part file.
+   */
+  protected boolean sharded;
+  /**
+   * Tells if the part files of a sharded export are joined to the export file on close.
+   */
+  protected boolean joinShards;
+  /**
+   * Tells if this exporter writes the last part of the file. Child classes which write a footer
+   * in {@link #preClosePrinter()} must only do so if this is true.
+   */
+  protected boolean lastPart;
+
   /**
    * The Printer.
    */
   protected PrintWriter printer;
 
+  private boolean continuation;
+  private FileShards<TextFileExporter> shards;
+
   // constructors ----------------------------------------------------------------------------------------------------
 
   /**
@@ -106,6 +139,12 @@ public TextFileExporter(String uri, String encoding, String lineSeparator) {
     this.encoding = (encoding != null ? encoding : SystemInfo.getFileEncoding());
     this.lineSeparator = (lineSeparator != null ? lineSeparator : SystemInfo.getLineSeparator());
     this.append = false;
+    this.compression = null;
+    this.sharded = false;
+    this.joinShards = true;
+    this.lastPart = true;
+    this.continuation = false;
+    this.shards = newFileShards();
   }
 
   // callback interface for child classes ----------------------------------------------------------------------------
@@ -210,22 +249,82 @@ public void setAppend(boolean append) {
     this.append = append;
   }
 
+  /**
+   * Gets compression.
+   *
+   * @return the compression
+   */
+  public String getCompression() {
+    return compression;
+  }
+
+  /**
+   * Sets the compression of the output file: 'none' or 'gzip'. If it is not set,
+   * gzip compression is applied to files with the suffix '.gz'.
+   *
+   * @param compression the compression
+   */
+  public void setCompression(String compression) {
+    this.compression = compression;
+  }
+
+  /**
+   * Is sharded boolean.
+   *
+   * @return the boolean
+   */
+  public boolean isSharded() {
+    return sharded;
+  }
+
+  /**
+   * Makes each thread write to its own part file named like the uri with a '.partN' infix.
+   *
+   * @param sharded the sharded
+   */
+  public void setSharded(boolean sharded) {
+    this.sharded = sharded;
+  }
+
+  /**
+   * Is join shards boolean.
+   *
+   * @return the boolean
+   */
+  public boolean isJoinShards() {
+    return joinShards;
+  }
+
+  /**
+   * Decides if the part files of a sharded export are joined to the export file on close.
+   * If not, the part files are kept and listed in a file named like the uri with a '.manifest' suffix.
+   *
+   * @param joinShards the join shards
+   */
+  public void setJoinShards(boolean joinShards) {
+    this.joinShards = joinShards;
+  }
+
   // Consumer interface ----------------------------------------------------------------------------------------------
 
   @Override
-  public final synchronized void startProductConsumption(Object data) {
-    try {
-      if (printer == null) {
-        initPrinter(data);
+  public final void startProductConsumption(Object data) {
+    if (sharded) {
+      shards.ofCurrentThread().consume(data);
+    } else {
+      synchronized (this) {
+        consume(data);
       }
-      startConsumingImpl(data);
-    } catch (IOException e) {
-      throw new RuntimeException(e);
     }
   }
 
   @Override
   public void flush() {
+    if (sharded) {
+      for (TextFileExporter shard : shards.list()) {
+        shard.flush();
+      }
+    }
     if (printer != null) {
       printer.flush();
     }
@@ -233,6 +332,13 @@ public void flush() {
 
   @Override
   public void close() {
+    if (!shards.isEmpty()) {
+      shards.close((shard, last) -> {
+        shard.lastPart = last;
+        shard.close();
+      }, uri, append, joinShards);
+      return;
+    }
     try {
       if (printer == null) {
         try {
@@ -248,8 +354,62 @@ public void close() {
     }
   }
 
+  // sharding support ------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates the exporter for a part file of a sharded export. The default implementation creates
+   * a shallow copy of this exporter with its own formatting settings. Child classes which keep
+   * mutable objects in their configuration need to override this and copy them.
+   *
+   * @param shardUri     the uri of the part file
+   * @param continuation true if the part continues a file, so no header must be written
+   * @return the exporter for the part file
+   */
+  protected TextFileExporter createShard(String shardUri, boolean continuation) {
+    try {
+      TextFileExporter shard = (TextFileExporter) clone();
+      shard.plainConverter = copyOfConverter();
+      shard.uri = shardUri;
+      shard.append = false;
+      shard.sharded = false;
+      shard.continuation = continuation;
+      shard.printer = null;
+      shard.shards = shard.newFileShards();
+      return shard;
+    } catch (CloneNotSupportedException e) {
+      throw new ConfigurationError("Sharding not supported by " + getClass().getName(), e);
+    }
+  }
+
+  /**
+   * Calculates the uri of a part file by inserting '.partN' before the file extension.
+   *
+   * @param uri   the uri of the export file
+   * @param index the index of the part, starting with 0
+   * @return the uri of the part file
+   */
+  public static String shardUri(String uri, int index) {
+    return FileShards.shardUri(uri, index);
+  }
+
   // private helpers -------------------------------------------------------------------------------------------------
 
+  private void consume(Object data) {
+    try {
+      if (printer == null) {
+        initPrinter(data);
+      }
+      startConsumingImpl(data);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private FileShards<TextFileExporter> newFileShards() {
+    return new FileShards<>(index -> createShard(shardUri(uri, index),
+        (index > 0 || (append && IOUtil.isURIAvailable(uri)))));
+  }
+
   /**
    * Init printer.
    *
@@ -260,24 +420,55 @@ protected void initPrinter(Object data) throws IOException {
     if (uri == null) {
       throw new ConfigurationError("Property 'uri' not set on bean " + getClass().getName());
     }
-    wasAppended = (append && IOUtil.isURIAvailable(uri));
+    boolean appendsToFile = (append && IOUtil.isURIAvailable(uri));
+    wasAppended = (continuation || appendsToFile);
 
     // check if path exists, if not make sure it exists
     File directory = new File(uri);
-    if (!wasAppended
+    if (!appendsToFile
         && directory.getParent() != null
         && !directory.isDirectory()
         && !directory.getParentFile().exists()) {
       boolean result = directory.getParentFile().mkdirs();
-      if (!result) {
+      if (!result && !directory.getParentFile().isDirectory()) { // another shard may have created it
         throw new ConfigurationError("filepath does not exists and can not be created ...");
       }
     }
 
-    printer = IOUtil.getPrinterForURI(uri, encoding, append, lineSeparator, true);
+    printer = createPrinter();
     postInitPrinter(data);
   }
 
+  /**
+   * Creates the printer for the output file.
+   * Overwrite this in child classes which need access to the underlying stream.
+   *
+   * @return the printer
+   * @throws IOException the io exception
+   */
+  protected PrintWriter createPrinter() throws IOException {
+    if (FileCompression.NONE.equals(FileCompression.resolve(uri, compression))) {
+      return IOUtil.getPrinterForURI(uri, encoding, append, lineSeparator, true);
+    }
+    return createPrinter(FileCompression.createOutputStream(uri, compression, append));
+  }
+
+  /**
+   * Creates a printer for a stream which uses the configured encoding and line separator.
+   *
+   * @param out the stream to print to
+   * @return the printer
+   * @throws IOException the io exception
+   */
+  protected PrintWriter createPrinter(OutputStream out) throws IOException {
+    return new PrintWriter(new OutputStreamWriter(out, encoding)) {
+      @Override
+      public void println() {
+        write(lineSeparator);
+      }
+    };
+  }
+
   /**
    * Println.
    */
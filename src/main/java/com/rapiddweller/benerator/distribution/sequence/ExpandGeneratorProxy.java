@@ -52,7 +52,10 @@
  * to reduce the used bucket size without shifting elements. If a bucket is empty, it is removed.<br/>
  * The buckets were introduced for quickly freeing RAM after usage and for allowing a more erratic
  * behavior in the phase when no more source data is available and elements are taken from bucket end
- * to beginning.<br/><br/>
+ * to beginning.<br/>
+ * When the source provides {@link Long} values (as is typical for the ids of the default one-to-one
+ * reference distribution), they are cached unboxed in {@link LongValueBucket}s. If the source
+ * later provides a value of a different type, the cache falls back to boxed {@link ValueBucket}s.<br/><br/>
  * Created: 10.12.2009 11:32:35
  * @param <E> the type parameter
  * @author Volker Bergmann
@@ -67,6 +70,7 @@
   private int cacheSize;
   private int bucketSize;
   private List<ValueBucket<E>> buckets;
+  private List<LongValueBucket> longBuckets; // replaces 'buckets' as long as the source provides Long values
   private RandomProvider random;
 
   // construction ----------------------------------------------------------------------------------------------------
@@ -76,7 +80,7 @@ public ExpandGeneratorProxy(Generator<E> source, float duplicationQuota) {
   }
 
   public ExpandGeneratorProxy(Generator<E> source, float duplicationQuota, int cacheSize) {
-    this(source, duplicationQuota, BeneratorOpts.getCacheSize(), defaultBucketSize(cacheSize));
+    this(source, duplicationQuota, cacheSize, defaultBucketSize(cacheSize));
   }
 
   public ExpandGeneratorProxy(Generator<E> source, float duplicationQuota, int cacheSize, int bucketSize) {
@@ -132,6 +136,9 @@ public void init(GeneratorContext context) {
   @Override
   public ProductWrapper<E> generate(ProductWrapper<E> wrapper) {
     assertInitialized();
+    if (longBuckets != null) {
+      return generateFromLongBuckets(wrapper);
+    }
     if (buckets.isEmpty()) {
       return null;
     }
@@ -154,6 +161,11 @@ public ProductWrapper<E> generate(ProductWrapper<E> wrapper) {
     }
   }
 
+  @Override
+  public boolean isThreadSafe() {
+    return false; // the buckets are not guarded against concurrent access
+  }
+
   @Override
   public synchronized void reset() {
     super.reset();
@@ -163,34 +175,115 @@ public synchronized void reset() {
   // helpers ---------------------------------------------------------------------------------------------------------
 
   public void printState() {
-    for (ValueBucket<E> bucket : buckets) {
+    for (Object bucket : (longBuckets != null ? longBuckets : buckets)) {
       System.out.println(bucket);
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private ProductWrapper<E> generateFromLongBuckets(ProductWrapper<E> wrapper) {
+    if (longBuckets.isEmpty()) {
+      return null;
+    }
+    int bucketIndex = random.randomIndex(longBuckets);
+    LongValueBucket bucket = longBuckets.get(bucketIndex);
+    if (duplicationQuota > 0 && random.randomProbability() < duplicationQuota) {
+      return wrapper.wrap((E) Long.valueOf(bucket.getRandomElement(random)));
+    } else {
+      ProductWrapper<E> feed = super.generate(wrapper);
+      long result;
+      if (feed == null) {
+        result = bucket.getAndRemoveRandomElement(random);
+        if (bucket.isEmpty()) {
+          longBuckets.remove(bucketIndex);
+        }
+      } else if (feed.unwrap() instanceof Long) {
+        result = bucket.getAndReplaceRandomElement((Long) feed.unwrap(), random);
+      } else {
+        E value = feed.unwrap();
+        switchToBoxedBuckets(new ArrayList<>());
+        return wrapper.wrap(buckets.get(bucketIndex).getAndReplaceRandomElement(value));
+      }
+      return wrapper.wrap((E) Long.valueOf(result));
+    }
+  }
+
   private void createBuckets() {
     int bucketCount = (cacheSize + bucketSize - 1) / bucketSize;
-    ArrayList<ValueBucket<E>> infantry = new ArrayList<>(bucketCount);
     buckets = new ArrayList<>(bucketCount);
-    for (int i = 0; i < bucketCount; i++) {
-      infantry.add(new ValueBucket<>(bucketSize));
+    longBuckets = null;
+    List<ValueBucket<E>> infantry = new ArrayList<>(bucketCount);
+    List<LongValueBucket> longInfantry = null;
+    ProductWrapper<E> wrapper = (cacheSize > 0 ? generateFromSource() : null);
+    if (wrapper != null && wrapper.unwrap() instanceof Long) {
+      longBuckets = new ArrayList<>(bucketCount);
+      longInfantry = new ArrayList<>(bucketCount);
+      for (int i = 0; i < bucketCount; i++) {
+        longInfantry.add(new LongValueBucket(bucketSize));
+      }
+    } else {
+      for (int i = 0; i < bucketCount; i++) {
+        infantry.add(new ValueBucket<>(bucketSize, random));
+      }
     }
-    ProductWrapper<E> wrapper;
-    for (int i = 0; i < cacheSize && (wrapper = generateFromSource()) != null; i++) {
-      int bucketIndex = random.randomIndex(infantry);
-      ValueBucket<E> bucket = infantry.get(bucketIndex);
+    for (int i = 0; wrapper != null; i++) {
       E feed = wrapper.unwrap();
-      bucket.add(feed);
-      if (bucket.size() == bucketSize) {
-        infantry.remove(bucketIndex);
-        buckets.add(bucket);
+      if (longInfantry != null && !(feed instanceof Long)) {
+        infantry = switchToBoxedBuckets(longInfantry);
+        longInfantry = null;
+      }
+      if (longInfantry != null) {
+        int bucketIndex = random.randomIndex(longInfantry);
+        LongValueBucket bucket = longInfantry.get(bucketIndex);
+        bucket.add((Long) feed);
+        if (bucket.isFull()) {
+          longInfantry.remove(bucketIndex);
+          longBuckets.add(bucket);
+        }
+      } else {
+        int bucketIndex = random.randomIndex(infantry);
+        ValueBucket<E> bucket = infantry.get(bucketIndex);
+        bucket.add(feed);
+        if (bucket.size() == bucketSize) {
+          infantry.remove(bucketIndex);
+          buckets.add(bucket);
+        }
+      }
+      wrapper = (i + 1 < cacheSize ? generateFromSource() : null);
+    }
+    if (longInfantry != null) {
+      for (LongValueBucket bucket : longInfantry) {
+        if (!bucket.isEmpty()) {
+          longBuckets.add(bucket);
+        }
+      }
+    } else {
+      for (ValueBucket<E> bucket : infantry) {
+        if (bucket.size() > 0) {
+          buckets.add(bucket);
+        }
       }
     }
-    for (ValueBucket<E> bucket : infantry) {
-      if (bucket.size() > 0) {
-        buckets.add(bucket);
+  }
+
+  /** Moves the cached values from the long buckets to boxed buckets and returns the boxed 'infantry'. */
+  private List<ValueBucket<E>> switchToBoxedBuckets(List<LongValueBucket> longInfantry) {
+    buckets = box(longBuckets);
+    longBuckets = null;
+    return box(longInfantry);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ValueBucket<E>> box(List<LongValueBucket> longBuckets) {
+    List<ValueBucket<E>> result = new ArrayList<>(longBuckets.size());
+    for (LongValueBucket longBucket : longBuckets) {
+      ValueBucket<E> bucket = new ValueBucket<>(bucketSize, random);
+      for (int i = 0; i < longBucket.size(); i++) {
+        bucket.add((E) Long.valueOf(longBucket.get(i)));
       }
+      result.add(bucket);
     }
+    return result;
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,231 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.distribution.sequence;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long Generator that implements the 'expand' Sequence for the numbers min, min + granularity, ... max
+ * with the algorithm of the {@link ExpandGeneratorProxy}, but without boxing the cached values
+ * and without a shared lock: The numbers of the range are handed out in chunks by an atomic counter and
+ * each thread distributes the numbers it obtained over its own set of {@link LongValueBucket}s,
+ * each presized to the bucket size. Since each number is handed out only once, uniqueness is assured
+ * across threads (with a duplication quota of 0). A bucket set is locked by its owner thread,
+ * which is uncontended until the range is exhausted: Then a thread which has drained its own buckets
+ * takes the remaining numbers of the other threads' bucket sets, so the generator only becomes
+ * unavailable when all numbers have been provided.<br/><br/>
+ * Created: 19.10.2026 13:26:05
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ExpandLongGenerator extends ThreadSafeNonNullGenerator<Long> {
+
+  private static final int CHUNK_SIZE = 64;
+
+  private final long min;
+  private final long granularity;
+  private final long count;
+  private final float duplicationQuota;
+  private final int cacheSize;
+  private final int bucketSize;
+  private final RandomProvider random;
+  private final AtomicLong cursor;
+  private final ThreadLocal<BucketSet> bucketSets;
+  private final Queue<BucketSet> allBucketSets;
+  private volatile int epoch;
+
+  // constructor -----------------------------------------------------------------------------------------------------
+
+  public ExpandLongGenerator(long min, long max, long granularity, float duplicationQuota, int cacheSize,
+                             int bucketSize) {
+    if (granularity <= 0) {
+      throw new IllegalArgumentException("Granularity must be positive, but was " + granularity);
+    }
+    this.min = min;
+    this.granularity = granularity;
+    this.count = count(min, max, granularity);
+    this.duplicationQuota = duplicationQuota;
+    this.cacheSize = Math.max(1, cacheSize);
+    this.bucketSize = Math.max(1, Math.min(bucketSize, this.cacheSize));
+    this.random = BeneratorFactory.getInstance().getRandomProvider();
+    this.cursor = new AtomicLong();
+    this.bucketSets = new ThreadLocal<>();
+    this.allBucketSets = new ConcurrentLinkedQueue<>();
+    this.epoch = 0;
+  }
+
+  /** Calculates the number of values in a range, saturating at Long.MAX_VALUE. */
+  public static long count(long min, long max, long granularity) {
+    if (max < min) {
+      return 0;
+    }
+    long span = max - min;
+    if (span < 0) {
+      return Long.MAX_VALUE; // overflow
+    }
+    long steps = span / granularity;
+    return (steps < Long.MAX_VALUE ? steps + 1 : Long.MAX_VALUE);
+  }
+
+  // Generator interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public Class<Long> getGeneratedType() {
+    return Long.class;
+  }
+
+  @Override
+  public void init(GeneratorContext context) {
+    restart();
+    super.init(context);
+  }
+
+  @Override
+  public Long generate() {
+    BucketSet bucketSet = bucketSets.get();
+    if (bucketSet == null || bucketSet.epoch != epoch) {
+      bucketSet = new BucketSet(epoch);
+      bucketSets.set(bucketSet);
+      allBucketSets.add(bucketSet);
+    }
+    Long result = bucketSet.next();
+    return (result != null ? result : takeFromOtherThreads(bucketSet));
+  }
+
+  @Override
+  public void reset() {
+    restart();
+    super.reset();
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[min=" + min + ", granularity=" + granularity + ", count=" + count + "]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void restart() {
+    cursor.set(0);
+    allBucketSets.clear();
+    epoch++; // makes each thread create a new bucket set on its next invocation
+  }
+
+  private Long takeFromOtherThreads(BucketSet drained) {
+    for (BucketSet bucketSet : allBucketSets) {
+      if (bucketSet != drained && bucketSet.epoch == drained.epoch) {
+        Long result = bucketSet.take();
+        if (result != null) {
+          return result;
+        }
+      }
+    }
+    return null;
+  }
+
+  /** The buckets of a thread together with the chunk of numbers it has reserved. */
+  private final class BucketSet {
+
+    private final int epoch;
+    private final LongValueBucket[] buckets;
+    private int activeBuckets;
+    private long chunkCursor;
+    private long chunkEnd;
+
+    BucketSet(int epoch) {
+      this.epoch = epoch;
+      int bucketCount = (int) Math.min((cacheSize + bucketSize - 1) / bucketSize, Math.max(1, count));
+      this.buckets = new LongValueBucket[bucketCount];
+      for (int i = 0; i < bucketCount; i++) {
+        buckets[i] = new LongValueBucket(bucketSize);
+      }
+      this.chunkCursor = 0;
+      this.chunkEnd = 0;
+      fill();
+    }
+
+    synchronized Long next() {
+      if (activeBuckets == 0) {
+        return null;
+      }
+      int bucketIndex = random.randomInt(activeBuckets);
+      LongValueBucket bucket = buckets[bucketIndex];
+      if (duplicationQuota > 0 && random.randomProbability() < duplicationQuota) {
+        return bucket.getRandomElement(random);
+      }
+      if (hasFeed()) {
+        return bucket.getAndReplaceRandomElement(nextFeed(), random);
+      }
+      return remove(bucketIndex);
+    }
+
+    /** Hands out a number to a thread which has run out of numbers. */
+    synchronized Long take() {
+      if (chunkCursor < chunkEnd) {
+        return nextFeed();
+      }
+      return (activeBuckets > 0 ? remove(random.randomInt(activeBuckets)) : null);
+    }
+
+    private long remove(int bucketIndex) {
+      LongValueBucket bucket = buckets[bucketIndex];
+      long result = bucket.getAndRemoveRandomElement(random);
+      if (bucket.isEmpty()) {
+        buckets[bucketIndex] = buckets[--activeBuckets];
+        buckets[activeBuckets] = bucket;
+      }
+      return result;
+    }
+
+    private void fill() {
+      // 'buckets' is kept partitioned: [0, filling) are buckets which still take values, then the full ones
+      int filling = buckets.length;
+      for (int i = 0; i < cacheSize && filling > 0 && hasFeed(); i++) {
+        int bucketIndex = random.randomInt(filling);
+        LongValueBucket bucket = buckets[bucketIndex];
+        bucket.add(nextFeed());
+        if (bucket.isFull()) {
+          buckets[bucketIndex] = buckets[--filling];
+          buckets[filling] = bucket;
+        }
+      }
+      // move empty buckets to the end and exclude them from usage
+      activeBuckets = buckets.length;
+      for (int i = activeBuckets - 1; i >= 0; i--) {
+        if (buckets[i].isEmpty()) {
+          LongValueBucket empty = buckets[i];
+          buckets[i] = buckets[--activeBuckets];
+          buckets[activeBuckets] = empty;
+        }
+      }
+    }
+
+    private boolean hasFeed() {
+      if (chunkCursor < chunkEnd) {
+        return true;
+      }
+      long start = cursor.getAndAdd(CHUNK_SIZE);
+      if (start >= count || start < 0) {
+        cursor.set(count); // prevents overflow on further calls
+        return false;
+      }
+      chunkCursor = start;
+      chunkEnd = (count - start > CHUNK_SIZE ? start + CHUNK_SIZE : count);
+      return true;
+    }
+
+    private long nextFeed() {
+      return min + (chunkCursor++) * granularity;
+    }
+  }
+
+}
@@ -32,6 +32,10 @@
 import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.engine.BeneratorOpts;
 import com.rapiddweller.benerator.wrapper.WrapperFactory;
+import com.rapiddweller.common.BeanUtil;
+import com.rapiddweller.common.NumberUtil;
+
+import java.math.BigInteger;
 
 import static com.rapiddweller.common.NumberUtil.toLong;
 
@@ -99,6 +103,15 @@ public ExpandSequence(Integer cacheSize, Float duplicationQuota, Integer bucketS
   @Override
   public <T extends Number> NonNullGenerator<T> createNumberGenerator(
       Class<T> numberType, T min, T max, T granularity, boolean unique) {
+    if (BeanUtil.isIntegralNumberType(numberType) && !BigInteger.class.equals(numberType)) {
+      // integral numbers are cached as primitive longs
+      long lMax = toLong(max != null ? max : NumberUtil.maxValue(numberType));
+      long count = ExpandLongGenerator.count(toLong(min), lMax, toLong(granularity));
+      int size = (cacheSize != null ? cacheSize : (int) Math.max(1, Math.min(BeneratorOpts.getCacheSize(), count)));
+      NonNullGenerator<Long> base = new ExpandLongGenerator(toLong(min), lMax, toLong(granularity),
+          duplicationQuota(unique), size, bucketSize(size));
+      return WrapperFactory.asNonNullNumberGeneratorOfType(numberType, base, min, granularity);
+    }
     NonNullGenerator<T> source = SequenceManager.STEP_SEQUENCE.createNumberGenerator(numberType, min, max, granularity, unique);
     int cacheSize = cacheSize(min, max, granularity);
     return WrapperFactory.asNonNullGenerator(
@@ -0,0 +1,76 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.distribution.sequence;
+
+import com.rapiddweller.benerator.RandomProvider;
+
+import java.util.Arrays;
+
+/**
+ * Primitive long counterpart of the {@link ValueBucket},
+ * used by the {@link ExpandLongGenerator} and the {@link ExpandGeneratorProxy}.
+ * The values are held in an array of fixed capacity, so no boxing or resizing takes place.
+ * Instances are not thread-safe, each one is expected to be owned by a single thread.<br/><br/>
+ * Created: 19.10.2026 13:12:44
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+class LongValueBucket {
+
+  private final long[] values;
+  private int size;
+
+  LongValueBucket(int capacity) {
+    this.values = new long[capacity];
+    this.size = 0;
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  public boolean isEmpty() {
+    return (size == 0);
+  }
+
+  public boolean isFull() {
+    return (size == values.length);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long get(int index) {
+    return values[index];
+  }
+
+  public void add(long value) {
+    values[size++] = value;
+  }
+
+  public long getRandomElement(RandomProvider random) {
+    return values[random.randomInt(size)];
+  }
+
+  public long getAndReplaceRandomElement(long feed, RandomProvider random) {
+    int index = random.randomInt(size);
+    long result = values[index];
+    values[index] = feed;
+    return result;
+  }
+
+  /** Removes a random element by moving the last element to its position. */
+  public long getAndRemoveRandomElement(RandomProvider random) {
+    int index = random.randomInt(size);
+    long result = values[index];
+    values[index] = values[--size];
+    return result;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + Arrays.toString(Arrays.copyOf(values, size));
+  }
+
+}
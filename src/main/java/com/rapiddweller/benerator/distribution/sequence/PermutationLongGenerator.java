@@ -0,0 +1,140 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.distribution.sequence;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.util.FeistelPermutation;
+import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long Generator that implements the 'permutation' Sequence for the numbers min, min + granularity, ... max:
+ * An atomic counter provides the indices 0, 1, 2, ... which are mapped to the numbers of the range by a keyed
+ * {@link FeistelPermutation}. So each number of the range is generated exactly once in a random-looking order,
+ * without any stride pattern and without storing the range or the generated values. Ranges of more than
+ * {@link Long#MAX_VALUE} numbers are restricted to their first {@link Long#MAX_VALUE} numbers.<br/>
+ * Generators with the same seed produce the same order and by {@link #setPartition(int, int)} each of them
+ * can be restricted to a disjoint part of the indices, e.g. for generating unique numbers in several processes.
+ * <br/><br/>
+ * Created: 19.10.2026 14:05:18
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class PermutationLongGenerator extends ThreadSafeNonNullGenerator<Long> {
+
+  private final long min;
+  private final long granularity;
+  private final long count;
+  private final AtomicLong cursor;
+  private Long seed;
+  private int partitionIndex;
+  private int partitionCount;
+  private long startIndex;
+  private long endIndex;
+  private FeistelPermutation permutation;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public PermutationLongGenerator(long min, long max) {
+    this(min, max, 1);
+  }
+
+  public PermutationLongGenerator(long min, long max, long granularity) {
+    if (granularity <= 0) {
+      throw new IllegalArgumentException("Granularity must be positive, but was " + granularity);
+    }
+    this.min = min;
+    this.granularity = granularity;
+    this.count = ExpandLongGenerator.count(min, max, granularity);
+    this.cursor = new AtomicLong();
+    this.seed = null;
+    this.partitionIndex = 0;
+    this.partitionCount = 1;
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  /** @return the number of values in the range, restricted to {@link Long#MAX_VALUE} */
+  public long getCount() {
+    return count;
+  }
+
+  /** Sets the key of the permutation. Generators with the same seed and range create the numbers
+   *  in the same order. If no seed is set, a random one is used. */
+  public void setSeed(long seed) {
+    assertNotInitialized();
+    this.seed = seed;
+  }
+
+  /** Restricts the generator to one of several disjoint partitions of the range.
+   *  @param partitionIndex the index of the partition, from 0 to partitionCount-1
+   *  @param partitionCount the number of partitions */
+  public void setPartition(int partitionIndex, int partitionCount) {
+    assertNotInitialized();
+    if (partitionCount < 1 || partitionIndex < 0 || partitionIndex >= partitionCount) {
+      throw new IllegalArgumentException("Illegal partition " + partitionIndex + " of " + partitionCount);
+    }
+    this.partitionIndex = partitionIndex;
+    this.partitionCount = partitionCount;
+  }
+
+  // Generator interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public Class<Long> getGeneratedType() {
+    return Long.class;
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return false; // clones would repeat the same numbers
+  }
+
+  @Override
+  public void init(GeneratorContext context) {
+    assertNotInitialized();
+    this.startIndex = partitionBorder(partitionIndex);
+    this.endIndex = partitionBorder(partitionIndex + 1);
+    if (seed == null) {
+      seed = BeneratorFactory.getInstance().getRandomProvider().randomLong(Long.MAX_VALUE);
+    }
+    this.permutation = (count > 0 ? new FeistelPermutation(count, seed) : null);
+    this.cursor.set(startIndex);
+    super.init(context);
+  }
+
+  @Override
+  public Long generate() {
+    long index = cursor.getAndIncrement();
+    if (index >= endIndex || index < startIndex) {
+      cursor.set(endIndex); // prevents overflow on further calls
+      return null;
+    }
+    return min + permutation.permute(index) * granularity;
+  }
+
+  @Override
+  public void reset() {
+    cursor.set(startIndex);
+    super.reset();
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[min=" + min + ", granularity=" + granularity + ", count=" + count
+        + ", partition=" + partitionIndex + "/" + partitionCount + "]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private long partitionBorder(int partition) {
+    return BigInteger.valueOf(count).multiply(BigInteger.valueOf(partition))
+        .divide(BigInteger.valueOf(partitionCount)).longValue();
+  }
+
+}
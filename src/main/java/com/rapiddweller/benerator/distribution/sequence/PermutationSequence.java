@@ -0,0 +1,54 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.distribution.sequence;
+
+import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.distribution.Sequence;
+import com.rapiddweller.benerator.wrapper.WrapperFactory;
+import com.rapiddweller.common.NumberUtil;
+
+import static com.rapiddweller.common.NumberUtil.toLong;
+
+/**
+ * {@link Sequence} implementation which provides each number of a range exactly once in a pseudo-random order
+ * by applying a keyed format-preserving permutation to the indices of the range, see
+ * {@link PermutationLongGenerator}. In contrast to 'shuffle' and 'bitreverse', it shows no stride pattern,
+ * and in contrast to unique random sampling it needs no memory for the range or the generated values.
+ * Like 'bitreverse', it operates on integral numbers.<br/><br/>
+ * Created: 19.10.2026 14:31:50
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class PermutationSequence extends DetachedSequence {
+
+  private Long seed;
+
+  public PermutationSequence() {
+    this(null);
+  }
+
+  public PermutationSequence(Long seed) {
+    this.seed = seed;
+  }
+
+  public Long getSeed() {
+    return seed;
+  }
+
+  /** Sets the key of the permutation. If no seed is set, each generator uses a random one. */
+  public void setSeed(Long seed) {
+    this.seed = seed;
+  }
+
+  @Override
+  public <T extends Number> NonNullGenerator<T> createNumberGenerator(
+      Class<T> numberType, T min, T max, T granularity, boolean unique) {
+    long lMax = toLong(max != null ? max : NumberUtil.maxValue(numberType));
+    PermutationLongGenerator base = new PermutationLongGenerator(toLong(min), lMax, toLong(granularity));
+    if (seed != null) {
+      base.setSeed(seed);
+    }
+    return WrapperFactory.asNonNullNumberGeneratorOfType(numberType, base, min, granularity);
+  }
+
+}
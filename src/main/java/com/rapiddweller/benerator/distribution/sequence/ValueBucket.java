@@ -40,7 +40,9 @@
  * it and replace the internal value with the new feed value. When the source is no longer
  * available, a call to randomElement() will return the last value from the buffer and remove
  * it (avoiding expensive shift operations that would result from choosing value from a random
- * position).<br/><br/>
+ * position).<br/>
+ * A bucket is owned by a single {@link ExpandGeneratorProxy} which is not thread-safe itself,
+ * so the bucket does not apply any locking.<br/><br/>
  * Created: 10.12.2009 15:10:33
  * @param <E> the type parameter
  * @author Volker Bergmann
@@ -52,8 +54,12 @@
   private final RandomProvider random;
 
   public ValueBucket(int capacity) {
-    buffer = new ArrayList<>();
-    this.random = BeneratorFactory.getInstance().getRandomProvider();
+    this(capacity, BeneratorFactory.getInstance().getRandomProvider());
+  }
+
+  public ValueBucket(int capacity, RandomProvider random) {
+    this.buffer = new ArrayList<>(capacity);
+    this.random = random;
   }
 
   // interface -------------------------------------------------------------------------------------------------------
@@ -66,22 +72,20 @@ public void add(E feed) {
     buffer.add(feed);
   }
 
-  public synchronized E getRandomElement() {
+  public E getRandomElement() {
     return buffer.get(random.randomIndex(buffer));
   }
 
-  public synchronized E getAndReplaceRandomElement(E feed) {
+  public E getAndReplaceRandomElement(E feed) {
     int index = random.randomIndex(buffer);
     E result = buffer.get(index);
     buffer.set(index, feed);
     return result;
   }
 
-  public synchronized E getAndRemoveRandomElement() {
+  public E getAndRemoveRandomElement() {
     int lastIndex = buffer.size() - 1;
-    E result = buffer.get(lastIndex);
-    buffer.remove(lastIndex);
-    return result;
+    return buffer.remove(lastIndex);
   }
 
   public int size() {
@@ -26,6 +26,7 @@
 
 package com.rapiddweller.benerator.engine;
 
+import com.rapiddweller.benerator.engine.metrics.BeneratorMetrics;
 import com.rapiddweller.jdbacl.DBUtil;
 
 import javax.management.MBeanServer;
@@ -147,6 +148,10 @@ public void update() {
       currentThroughput = (int) ((currentGenerationCount - latestGenerationCount) * 1000000000 / (currentTime - latestTimeStamp));
       latestTimeStamp = currentTime;
       latestGenerationCount = currentGenerationCount;
+      BeneratorMetrics metrics = BeneratorMetrics.current();
+      if (metrics != null) {
+        metrics.update();
+      }
     }
   }
 
@@ -26,6 +26,8 @@
 
 package com.rapiddweller.benerator.engine;
 
+import com.rapiddweller.benerator.engine.profile.SamplingProfiler;
+import com.rapiddweller.benerator.util.LineShuffler;
 import com.rapiddweller.common.StringUtil;
 
 /**
@@ -38,6 +40,16 @@ public class BeneratorOpts {
 
   public static final String OPTS_VALIDATE = "benerator.validate";
   public static final String OPTS_CACHE_SIZE = "benerator.cacheSize";
+  public static final String OPTS_CSV_PARSE_THREADS = "benerator.csvParseThreads";
+  public static final String OPTS_SCRIPT_COMPILE_THRESHOLD = "benerator.scriptCompileThreshold";
+  public static final String OPTS_SAMPLING_PROFILER = "benerator.samplingProfiler";
+  public static final String OPTS_SAMPLING_INTERVAL = "benerator.samplingInterval";
+  public static final String OPTS_SHUFFLE_BUFFER_SIZE = "benerator.shuffleBufferSize";
+  public static final String OPTS_METRICS = "benerator.metrics";
+  public static final String OPTS_METRICS_PORT = "benerator.metricsPort";
+  public static final String OPTS_METRICS_HOST = "benerator.metricsHost";
+
+  private static final String DEFAULT_SAMPLING_PROFILER_PREFIX = "benerator-profile";
 
   private static final int DEFAULT_CACHE_SIZE = 100000;
 
@@ -57,6 +69,61 @@ public static int getCacheSize() {
     return parseIntProperty(OPTS_CACHE_SIZE, DEFAULT_CACHE_SIZE);
   }
 
+  public static int getCsvParseThreads() {
+    return parseIntProperty(OPTS_CSV_PARSE_THREADS, 1);
+  }
+
+  /**
+   * Returns the number of interpreted evaluations after which a BeneratorScript is compiled.
+   * @return the threshold or -1 if scripts shall not be compiled
+   */
+  public static int getScriptCompileThreshold() {
+    return parseIntProperty(OPTS_SCRIPT_COMPILE_THRESHOLD, -1);
+  }
+
+  /** Returns the maximum number of lines to hold in memory when shuffling a source file. */
+  public static int getShuffleBufferSize() {
+    return parseIntProperty(OPTS_SHUFFLE_BUFFER_SIZE, LineShuffler.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Returns the prefix of the files to which the sampling profiler writes its results.
+   * @return the prefix, or null if the sampling profiler shall not be used
+   */
+  public static String getSamplingProfilerPrefix() {
+    String value = System.getProperty(OPTS_SAMPLING_PROFILER);
+    if (StringUtil.isEmpty(value) || "false".equals(value)) {
+      return null;
+    }
+    return ("true".equals(value) ? DEFAULT_SAMPLING_PROFILER_PREFIX : value);
+  }
+
+  public static int getSamplingInterval() {
+    return parseIntProperty(OPTS_SAMPLING_INTERVAL, SamplingProfiler.DEFAULT_INTERVAL_MILLIS);
+  }
+
+  /** Tells if live metrics shall be collected, which is the case if enabled explicitly or if a metrics port is set. */
+  public static boolean isMetricsEnabled() {
+    return "true".equals(System.getProperty(OPTS_METRICS)) || getMetricsPort() >= 0;
+  }
+
+  /**
+   * Returns the port on which metrics shall be served in Prometheus format.
+   * @return the port number or -1 if metrics shall not be served via HTTP
+   */
+  public static int getMetricsPort() {
+    return parseIntProperty(OPTS_METRICS_PORT, -1);
+  }
+
+  /**
+   * Returns the host name or address of the network interface on which metrics are served.
+   * @return the host, or null for serving on the loopback interface only
+   */
+  public static String getMetricsHost() {
+    String value = System.getProperty(OPTS_METRICS_HOST);
+    return (StringUtil.isEmpty(value) ? null : value);
+  }
+
   private static int parseIntProperty(String propertyKey, int defaultValue) {
     String propertyValue = System.getProperty(propertyKey);
     return (StringUtil.isEmpty(propertyValue) ? defaultValue : Integer.parseInt(propertyValue));
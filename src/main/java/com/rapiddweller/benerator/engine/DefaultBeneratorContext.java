@@ -490,6 +490,8 @@ public void importDefaults() {
     importPackage("com.rapiddweller.platform.dbunit");
     importPackage("com.rapiddweller.platform.xls");
     importPackage("com.rapiddweller.platform.template");
+    importPackage("com.rapiddweller.platform.columnar");
+    importPackage("com.rapiddweller.platform.binary");
   }
 
 
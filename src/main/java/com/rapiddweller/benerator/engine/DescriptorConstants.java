@@ -108,6 +108,7 @@ public class DescriptorConstants {
   public static final String ATT_NAME = "name";
   public static final String ATT_ON_ERROR = "onError";
   public static final String ATT_CONSUMER = "consumer";
+  public static final String ATT_CONSUMER_QUEUE = "consumerQueue";
   public static final String ATT_THREADS = "threads";
   public static final String ATT_PAGESIZE = "pageSize";
   public static final String ATT_PAGER = "pager";
@@ -130,6 +131,9 @@ public class DescriptorConstants {
   public static final String ATT_ACC_UNK_COL_TYPES = "acceptUnknownColumnTypes";
   public static final String ATT_FETCH_SIZE = "fetchSize";
   public static final String ATT_BATCH = "batch";
+  public static final String ATT_BULK_LOAD = "bulkLoad";
+  public static final String ATT_BULK_CHUNK_SIZE = "bulkChunkSize";
+  public static final String ATT_BULK_COMMIT = "bulkCommit";
   public static final String ATT_META_CACHE = "metaCache";
   public static final String ATT_CATALOG = "catalog";
   public static final String ATT_SCHEMA = "schema";
@@ -173,9 +177,10 @@ public class DescriptorConstants {
   public static final String ATT_NAMESPACE_AWARE = "namespaceAware";
   public static final String ATT_INPUT_URI = "inputUri";
   public static final String ATT_OUTPUT_URI = "outputUri";
+  public static final String ATT_STREAMING = "streaming";
 
   public static final Collection<String> CREATE_ENTITIES_EXT_SETUP = Collections.unmodifiableSet(
-      CollectionUtil.toSet(ATT_PAGESIZE, ATT_THREADS, ATT_SENSOR, ATT_CONSUMER, ATT_ON_ERROR));
+      CollectionUtil.toSet(ATT_PAGESIZE, ATT_THREADS, ATT_SENSOR, ATT_CONSUMER, ATT_CONSUMER_QUEUE, ATT_ON_ERROR));
 
   public static final Collection<String> COMPONENT_TYPES = Collections.unmodifiableSet(
       CollectionUtil.toSet(EL_ATTRIBUTE, EL_ID, EL_REFERENCE, EL_PART));
@@ -29,6 +29,8 @@
 import com.rapiddweller.benerator.BeneratorFactory;
 import com.rapiddweller.benerator.consumer.FileExporter;
 import com.rapiddweller.benerator.engine.parser.xml.BeneratorParseContext;
+import com.rapiddweller.benerator.engine.metrics.BeneratorMetrics;
+import com.rapiddweller.benerator.engine.profile.SamplingProfiler;
 import com.rapiddweller.common.ExceptionUtil;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.RoundedNumberFormat;
@@ -43,7 +45,9 @@
 import org.w3c.dom.Element;
 
 import java.io.Closeable;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -57,6 +61,10 @@ public class DescriptorRunner implements ResourceManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DescriptorRunner.class);
 
+  private static final int HOT_SPOT_REPORT_SIZE = 30;
+  private static final String CPU_PROFILE_SUFFIX = ".cpu.collapsed";
+  private static final String ALLOC_PROFILE_SUFFIX = ".alloc.collapsed";
+
   // attributes ------------------------------------------------------------------------------------------------------
 
   private final String uri;
@@ -117,7 +125,16 @@ public BeneratorRootStatement parseDescriptorFile() throws IOException {
   }
 
   public void execute(BeneratorRootStatement rootStatement) {
+    String samplingProfilerPrefix = BeneratorOpts.getSamplingProfilerPrefix();
+    SamplingProfiler samplingProfiler = null;
+    BeneratorMetrics metrics = null;
     try {
+      if (BeneratorOpts.isMetricsEnabled()) {
+        metrics = BeneratorMetrics.start(BeneratorOpts.getMetricsHost(), BeneratorOpts.getMetricsPort());
+      }
+      if (samplingProfilerPrefix != null) {
+        samplingProfiler = SamplingProfiler.start(BeneratorOpts.getSamplingInterval());
+      }
       startTime = System.currentTimeMillis();
       // run AST
       rootStatement.execute(context);
@@ -127,6 +144,10 @@ public void execute(BeneratorRootStatement rootStatement) {
       if (Profiling.isEnabled()) {
         Profiler.defaultInstance().printSummary();
       }
+      if (samplingProfiler != null) {
+        samplingProfiler.stop();
+        writeSamplingProfile(samplingProfiler, samplingProfilerPrefix);
+      }
       List<String> generations = getGeneratedFiles();
       if (!generations.isEmpty()) {
         LOGGER.info("Generated file(s): {}", generations);
@@ -139,10 +160,35 @@ public void execute(BeneratorRootStatement rootStatement) {
         throw t;
       }
     } finally {
+      if (samplingProfiler != null && samplingProfiler.isRunning()) {
+        samplingProfiler.stop();
+      }
+      if (metrics != null) {
+        metrics.stop();
+      }
       context.close();
     }
   }
 
+  private static void writeSamplingProfile(SamplingProfiler profiler, String prefix) {
+    for (String line : profiler.createHotSpotReport(HOT_SPOT_REPORT_SIZE)) {
+      LOGGER.info(line);
+    }
+    writeCollapsedStacks(profiler, false, prefix + CPU_PROFILE_SUFFIX);
+    if (profiler.isAllocSupported()) {
+      writeCollapsedStacks(profiler, true, prefix + ALLOC_PROFILE_SUFFIX);
+    }
+  }
+
+  private static void writeCollapsedStacks(SamplingProfiler profiler, boolean allocation, String fileName) {
+    try (Writer out = new FileWriter(fileName)) {
+      profiler.writeCollapsedStacks(allocation, out);
+      LOGGER.info("Wrote {} profile in flame graph format to {}", (allocation ? "allocation" : "CPU"), fileName);
+    } catch (IOException e) {
+      LOGGER.error("Error writing profile to {}", fileName, e);
+    }
+  }
+
   public List<String> getGeneratedFiles() {
     return generatedFiles;
   }
@@ -67,6 +67,10 @@ public static <T> Expression<T> createWithDefaultExpression(
     return new ScriptExpression<>(script, defaultValueExpression);
   }
 
+  public Script getScript() {
+    return script;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public E evaluate(Context context) {
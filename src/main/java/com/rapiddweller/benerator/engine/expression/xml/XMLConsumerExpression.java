@@ -31,6 +31,7 @@
 import com.rapiddweller.benerator.StorageSystem;
 import com.rapiddweller.benerator.consumer.ConsumerChain;
 import com.rapiddweller.benerator.consumer.NonClosingConsumerProxy;
+import com.rapiddweller.benerator.consumer.ParallelConsumerChain;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.engine.ResourceManager;
 import com.rapiddweller.benerator.engine.parser.xml.BeanParser;
@@ -47,10 +48,12 @@
 
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CLASS;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CONSUMER;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CONSUMER_QUEUE;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_NAME;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_REF;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_SPEC;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.EL_CONSUMER;
+import static com.rapiddweller.benerator.parser.xml.XmlDescriptorParser.parseIntAttribute;
 import static com.rapiddweller.benerator.parser.xml.XmlDescriptorParser.parseStringAttribute;
 
 /**
@@ -85,7 +88,8 @@ public XMLConsumerExpression(Element entityElement, boolean consumersExpected, R
   @Override
   public Consumer evaluate(Context context) {
     BeneratorContext beneratorContext = (BeneratorContext) context;
-    ConsumerChain consumerChain = new ConsumerChain();
+    int queueSize = parseIntAttribute(entityElement, ATT_CONSUMER_QUEUE, context, 0);
+    ConsumerChain consumerChain = (queueSize > 0 ? new ParallelConsumerChain(queueSize) : new ConsumerChain());
 
     // parse consumer attribute
     if (entityElement.hasAttribute(ATT_CONSUMER)) {
@@ -119,6 +123,9 @@ public Consumer evaluate(Context context) {
     for (Consumer consumer : consumerChain.getComponents()) {
       resourceManager.addResource(consumer);
     }
+    if (consumerChain instanceof ParallelConsumerChain) {
+      return consumerChain;
+    }
     return (consumerChain.componentCount() == 1 ? consumerChain.getComponent(0) : consumerChain);
   }
 
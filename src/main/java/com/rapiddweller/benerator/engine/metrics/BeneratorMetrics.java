@@ -0,0 +1,227 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.common.ConfigurationError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of the live metrics of a Benerator run: per-task generation counts, throughput and page durations,
+ * per-consumer latencies and per-database batch sizes and commit durations.
+ * Each metrics object is registered as MBean in the platform MBean server under the domain 'benerator'
+ * and, if an HTTP port is configured, all metrics plus heap and GC statistics are served
+ * in Prometheus text format.<br/>
+ * Instrumented code obtains its metrics objects with the static methods {@link #generation(String)},
+ * {@link #consumer(Consumer)} and {@link #database(String)}, which return null if metrics are not active,
+ * so that no measurements are taken in that case. Consumers are identified by object identity,
+ * different consumers with the same textual representation get names with a numerical suffix.<br/><br/>
+ * Created: 19.10.2026 09:25:19
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BeneratorMetrics {
+
+  private static final Logger logger = LoggerFactory.getLogger(BeneratorMetrics.class);
+
+  public static final String JMX_DOMAIN = "benerator";
+
+  private static final Pattern PLAIN_NAME = Pattern.compile("[\\w.\\-]+");
+
+  private static volatile BeneratorMetrics current;
+
+  // static interface ------------------------------------------------------------------------------------------------
+
+  public static BeneratorMetrics current() {
+    return current;
+  }
+
+  public static boolean isActive() {
+    return (current != null);
+  }
+
+  public static GenerationMetrics generation(String taskName) {
+    BeneratorMetrics metrics = current;
+    if (metrics == null) {
+      return null;
+    }
+    return metrics.getOrCreate(metrics.generations, "generation", taskName, GenerationMetrics::new);
+  }
+
+  public static ConsumerMetrics consumer(Consumer consumer) {
+    BeneratorMetrics metrics = current;
+    if (metrics == null) {
+      return null;
+    }
+    return metrics.getOrCreateConsumerMetrics(consumer);
+  }
+
+  public static DatabaseMetrics database(String databaseId) {
+    BeneratorMetrics metrics = current;
+    if (metrics == null) {
+      return null;
+    }
+    return metrics.getOrCreate(metrics.databases, "database", databaseId, DatabaseMetrics::new);
+  }
+
+  /**
+   * Activates metrics collection.
+   * @param httpHost the host name or address of the interface on which to serve the metrics,
+   *     null for the loopback interface
+   * @param httpPort the port on which to serve the metrics in Prometheus format,
+   *     0 for an arbitrary free port or a negative number for no HTTP endpoint
+   */
+  public static synchronized BeneratorMetrics start(String httpHost, int httpPort) {
+    if (current != null) {
+      throw new IllegalStateException("Metrics collection is already active");
+    }
+    BeneratorMetrics metrics = new BeneratorMetrics();
+    if (httpPort >= 0) {
+      try {
+        metrics.httpServer = new MetricsHttpServer(httpHost, httpPort, metrics);
+      } catch (IOException e) {
+        throw new ConfigurationError("Unable to serve metrics on " + (httpHost != null ? httpHost : "localhost")
+            + ":" + httpPort, e);
+      }
+      logger.info("Serving metrics on http://{}:{}{}",
+          metrics.httpServer.getHost(), metrics.httpServer.getPort(), MetricsHttpServer.PATH);
+    }
+    current = metrics;
+    return metrics;
+  }
+
+  // instance members ------------------------------------------------------------------------------------------------
+
+  private final Map<String, GenerationMetrics> generations;
+  private final Map<String, ConsumerMetrics> consumers;
+  private final Map<Consumer, ConsumerMetrics> consumerIdentities; // guarded by mBeanNames
+  private final Map<String, DatabaseMetrics> databases;
+  private final MBeanServer mBeanServer;
+  private final List<ObjectName> mBeanNames;
+  private MetricsHttpServer httpServer;
+
+  private BeneratorMetrics() {
+    this.generations = new ConcurrentSkipListMap<>();
+    this.consumers = new ConcurrentSkipListMap<>();
+    this.consumerIdentities = new IdentityHashMap<>();
+    this.databases = new ConcurrentSkipListMap<>();
+    this.mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    this.mBeanNames = new ArrayList<>();
+  }
+
+  public Collection<GenerationMetrics> getGenerations() {
+    return generations.values();
+  }
+
+  public Collection<ConsumerMetrics> getConsumers() {
+    return consumers.values();
+  }
+
+  public Collection<DatabaseMetrics> getDatabases() {
+    return databases.values();
+  }
+
+  public String getHttpHost() {
+    return (httpServer != null ? httpServer.getHost() : null);
+  }
+
+  public int getHttpPort() {
+    return (httpServer != null ? httpServer.getPort() : -1);
+  }
+
+  /** Refreshes the current throughput values. */
+  public void update() {
+    long now = System.nanoTime();
+    for (GenerationMetrics generation : generations.values()) {
+      generation.update(now);
+    }
+  }
+
+  /** Stops the HTTP endpoint, unregisters all MBeans and deactivates metrics collection. */
+  public void stop() {
+    synchronized (BeneratorMetrics.class) {
+      if (current == this) {
+        current = null;
+      }
+    }
+    if (httpServer != null) {
+      httpServer.stop();
+      httpServer = null;
+    }
+    synchronized (mBeanNames) {
+      for (ObjectName name : mBeanNames) {
+        try {
+          mBeanServer.unregisterMBean(name);
+        } catch (JMException e) {
+          logger.warn("Error unregistering MBean {}", name, e);
+        }
+      }
+      mBeanNames.clear();
+      consumerIdentities.clear();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private <T> T getOrCreate(Map<String, T> map, String type, String name, Function<String, T> constructor) {
+    T metrics = map.get(name);
+    if (metrics == null) {
+      synchronized (mBeanNames) {
+        metrics = map.get(name);
+        if (metrics == null) {
+          metrics = constructor.apply(name);
+          map.put(name, metrics);
+          register(type, name, metrics);
+        }
+      }
+    }
+    return metrics;
+  }
+
+  private ConsumerMetrics getOrCreateConsumerMetrics(Consumer consumer) {
+    synchronized (mBeanNames) {
+      ConsumerMetrics metrics = consumerIdentities.get(consumer);
+      if (metrics == null) {
+        String baseName = String.valueOf(consumer);
+        String name = baseName;
+        for (int i = 2; consumers.containsKey(name); i++) {
+          name = baseName + "#" + i;
+        }
+        metrics = new ConsumerMetrics(name);
+        consumers.put(name, metrics);
+        consumerIdentities.put(consumer, metrics);
+        register("consumer", name, metrics);
+      }
+      return metrics;
+    }
+  }
+
+  private void register(String type, String name, Object mBean) {
+    try {
+      String quotedName = (PLAIN_NAME.matcher(name).matches() ? name : ObjectName.quote(name));
+      ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + type + ",name=" + quotedName);
+      if (!mBeanServer.isRegistered(objectName)) {
+        mBeanServer.registerMBean(mBean, objectName);
+        mBeanNames.add(objectName);
+      }
+    } catch (JMException e) {
+      logger.warn("Error registering MBean for {} {}", type, name, e);
+    }
+  }
+
+}
@@ -0,0 +1,94 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+/**
+ * Tracks the latencies of a consumer's startConsuming() and finishConsuming() calls.
+ * The plain latency properties refer to startConsuming(), in which most consumers do their work.<br/><br/>
+ * Created: 19.10.2026 09:06:48
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ConsumerMetrics implements ConsumerMetricsMBean {
+
+  private final String consumer;
+  private final Histogram startNanos;
+  private final Histogram finishNanos;
+
+  public ConsumerMetrics(String consumer) {
+    this.consumer = consumer;
+    this.startNanos = new Histogram();
+    this.finishNanos = new Histogram();
+  }
+
+  public void startConsumingFinished(long durationNanos) {
+    startNanos.record(durationNanos);
+  }
+
+  public void finishConsumingFinished(long durationNanos) {
+    finishNanos.record(durationNanos);
+  }
+
+  public Histogram getStartNanos() {
+    return startNanos;
+  }
+
+  public Histogram getFinishNanos() {
+    return finishNanos;
+  }
+
+  // ConsumerMetricsMBean interface implementation -------------------------------------------------------------------
+
+  @Override
+  public String getConsumer() {
+    return consumer;
+  }
+
+  @Override
+  public long getConsumptionCount() {
+    return startNanos.getCount();
+  }
+
+  @Override
+  public double getAverageLatencyMicros() {
+    return startNanos.getMean() / 1e3;
+  }
+
+  @Override
+  public double getLatencyMicros50() {
+    return startNanos.getPercentile(0.5) / 1e3;
+  }
+
+  @Override
+  public double getLatencyMicros95() {
+    return startNanos.getPercentile(0.95) / 1e3;
+  }
+
+  @Override
+  public double getLatencyMicros99() {
+    return startNanos.getPercentile(0.99) / 1e3;
+  }
+
+  @Override
+  public double getMaxLatencyMicros() {
+    return startNanos.getMax() / 1e3;
+  }
+
+  @Override
+  public double getAverageFinishLatencyMicros() {
+    return finishNanos.getMean() / 1e3;
+  }
+
+  @Override
+  public double getFinishLatencyMicros99() {
+    return finishNanos.getPercentile(0.99) / 1e3;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + consumer + "]";
+  }
+
+}
@@ -0,0 +1,21 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+/**
+ * MBean interface for the latency metrics of a consumer.<br/><br/>
+ * Created: 19.10.2026 09:04:12
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public interface ConsumerMetricsMBean {
+  String getConsumer();
+  long getConsumptionCount();
+  double getAverageLatencyMicros();
+  double getLatencyMicros50();
+  double getLatencyMicros95();
+  double getLatencyMicros99();
+  double getMaxLatencyMicros();
+  double getAverageFinishLatencyMicros();
+  double getFinishLatencyMicros99();
+}
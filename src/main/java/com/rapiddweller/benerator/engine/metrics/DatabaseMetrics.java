@@ -0,0 +1,89 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+/**
+ * Tracks the sizes of the JDBC batches executed on a database and the durations of its commits.
+ * The commit duration includes the execution of the pending batches.<br/><br/>
+ * Created: 19.10.2026 09:16:55
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class DatabaseMetrics implements DatabaseMetricsMBean {
+
+  private final String database;
+  private final Histogram batchSizes;
+  private final Histogram commitNanos;
+
+  public DatabaseMetrics(String database) {
+    this.database = database;
+    this.batchSizes = new Histogram();
+    this.commitNanos = new Histogram();
+  }
+
+  public void batchExecuted(int size) {
+    batchSizes.record(size);
+  }
+
+  public void commitFinished(long durationNanos) {
+    commitNanos.record(durationNanos);
+  }
+
+  public Histogram getBatchSizes() {
+    return batchSizes;
+  }
+
+  public Histogram getCommitNanos() {
+    return commitNanos;
+  }
+
+  // DatabaseMetricsMBean interface implementation -------------------------------------------------------------------
+
+  @Override
+  public String getDatabase() {
+    return database;
+  }
+
+  @Override
+  public long getBatchCount() {
+    return batchSizes.getCount();
+  }
+
+  @Override
+  public double getAverageBatchSize() {
+    return batchSizes.getMean();
+  }
+
+  @Override
+  public long getMaxBatchSize() {
+    return batchSizes.getMax();
+  }
+
+  @Override
+  public long getCommitCount() {
+    return commitNanos.getCount();
+  }
+
+  @Override
+  public double getAverageCommitMillis() {
+    return commitNanos.getMean() / 1e6;
+  }
+
+  @Override
+  public double getCommitMillis95() {
+    return commitNanos.getPercentile(0.95) / 1e6;
+  }
+
+  @Override
+  public double getMaxCommitMillis() {
+    return commitNanos.getMax() / 1e6;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + database + "]";
+  }
+
+}
@@ -0,0 +1,20 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+/**
+ * MBean interface for the batch and commit metrics of a database.<br/><br/>
+ * Created: 19.10.2026 09:14:30
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public interface DatabaseMetricsMBean {
+  String getDatabase();
+  long getBatchCount();
+  double getAverageBatchSize();
+  long getMaxBatchSize();
+  long getCommitCount();
+  double getAverageCommitMillis();
+  double getCommitMillis95();
+  double getMaxCommitMillis();
+}
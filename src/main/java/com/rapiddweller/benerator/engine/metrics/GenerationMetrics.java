@@ -0,0 +1,106 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the number of generated entities and the page durations of a &lt;generate&gt; or &lt;iterate&gt; task.
+ * Throughput values are in entities per second, the current throughput is refreshed by {@link #update(long)}.<br/><br/>
+ * Created: 19.10.2026 08:55:36
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class GenerationMetrics implements GenerationMetricsMBean {
+
+  private final String taskName;
+  private final LongAdder generationCount;
+  private final Histogram pageNanos;
+  private final long startNanos;
+  private long latestCount;
+  private long latestNanos;
+  private volatile double currentThroughput;
+
+  public GenerationMetrics(String taskName) {
+    this.taskName = taskName;
+    this.generationCount = new LongAdder();
+    this.pageNanos = new Histogram();
+    this.startNanos = System.nanoTime();
+    this.latestCount = 0;
+    this.latestNanos = startNanos;
+    this.currentThroughput = 0;
+  }
+
+  public void countGeneration() {
+    generationCount.increment();
+  }
+
+  public void pageFinished(long durationNanos) {
+    pageNanos.record(durationNanos);
+  }
+
+  public Histogram getPageNanos() {
+    return pageNanos;
+  }
+
+  /** Calculates the current throughput from the generations since the previous call. */
+  public synchronized void update(long nanoTime) {
+    long count = generationCount.sum();
+    if (nanoTime > latestNanos) {
+      currentThroughput = (count - latestCount) * 1e9 / (nanoTime - latestNanos);
+    }
+    latestCount = count;
+    latestNanos = nanoTime;
+  }
+
+  // GenerationMetricsMBean interface implementation -----------------------------------------------------------------
+
+  @Override
+  public String getTaskName() {
+    return taskName;
+  }
+
+  @Override
+  public long getGenerationCount() {
+    return generationCount.sum();
+  }
+
+  @Override
+  public double getCurrentThroughput() {
+    return currentThroughput;
+  }
+
+  @Override
+  public double getAverageThroughput() {
+    long elapsed = System.nanoTime() - startNanos;
+    return (elapsed > 0 ? generationCount.sum() * 1e9 / elapsed : 0.);
+  }
+
+  @Override
+  public long getPageCount() {
+    return pageNanos.getCount();
+  }
+
+  @Override
+  public double getAveragePageMillis() {
+    return pageNanos.getMean() / 1e6;
+  }
+
+  @Override
+  public double getPageMillis95() {
+    return pageNanos.getPercentile(0.95) / 1e6;
+  }
+
+  @Override
+  public double getMaxPageMillis() {
+    return pageNanos.getMax() / 1e6;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + taskName + "]";
+  }
+
+}
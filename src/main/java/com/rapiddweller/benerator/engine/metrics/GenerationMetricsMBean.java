@@ -0,0 +1,20 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+/**
+ * MBean interface for the metrics of a &lt;generate&gt; or &lt;iterate&gt; task.<br/><br/>
+ * Created: 19.10.2026 08:52:03
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public interface GenerationMetricsMBean {
+  String getTaskName();
+  long getGenerationCount();
+  double getCurrentThroughput();
+  double getAverageThroughput();
+  long getPageCount();
+  double getAveragePageMillis();
+  double getPageMillis95();
+  double getMaxPageMillis();
+}
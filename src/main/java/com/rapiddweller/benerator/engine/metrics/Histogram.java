@@ -0,0 +1,114 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe, fixed-size histogram of non-negative long values like latencies in nanoseconds or batch sizes.
+ * Values below 16 are counted exactly, larger values in 8 logarithmic sub-buckets per power of two,
+ * so percentiles are reported with a relative error of at most 12.5% while recording stays allocation-free
+ * and needs no locking.<br/><br/>
+ * Created: 19.10.2026 08:41:17
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class Histogram {
+
+  private static final int LINEAR_LIMIT = 16;
+  private static final int LINEAR_BITS = 4;
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - LINEAR_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets;
+  private final LongAdder count;
+  private final LongAdder sum;
+  private final AtomicLong max;
+
+  public Histogram() {
+    this.buckets = new AtomicLongArray(BUCKET_COUNT);
+    this.count = new LongAdder();
+    this.sum = new LongAdder();
+    this.max = new AtomicLong();
+  }
+
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    buckets.incrementAndGet(bucketIndex(value));
+    count.increment();
+    sum.add(value);
+    if (value > max.get()) {
+      max.accumulateAndGet(value, Math::max);
+    }
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getSum() {
+    return sum.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public double getMean() {
+    long n = count.sum();
+    return (n > 0 ? (double) sum.sum() / n : 0.);
+  }
+
+  /**
+   * Calculates an upper bound of the value below which the given fraction of recorded values lies.
+   * @param quantile a number between 0 and 1, e.g. 0.95 for the 95th percentile
+   * @return the upper bound of the bucket which contains the percentile, or 0 if nothing has been recorded
+   */
+  public long getPercentile(double quantile) {
+    long[] snapshot = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshot[i] = buckets.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long threshold = Math.max(1, (long) Math.ceil(quantile * total));
+    long cumulated = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      cumulated += snapshot[i];
+      if (cumulated >= threshold) {
+        return Math.min(upperBound(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  // bucket arithmetic -----------------------------------------------------------------------------------------------
+
+  static int bucketIndex(long value) {
+    if (value < LINEAR_LIMIT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+  }
+
+  static long upperBound(int index) {
+    if (index < LINEAR_LIMIT) {
+      return index;
+    }
+    int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_BITS;
+    int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+    long bound = ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    return (bound < 0 ? Long.MAX_VALUE : bound);
+  }
+
+}
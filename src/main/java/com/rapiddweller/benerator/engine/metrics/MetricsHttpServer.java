@@ -0,0 +1,70 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal HTTP endpoint based on the JDK's built-in HTTP server which serves the {@link BeneratorMetrics}
+ * in Prometheus text format on the path {@value #PATH}.
+ * Unless a host is specified, it only accepts connections on the loopback interface.<br/><br/>
+ * Created: 19.10.2026 10:07:33
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class MetricsHttpServer {
+
+  public static final String PATH = "/metrics";
+
+  private final HttpServer server;
+
+  public MetricsHttpServer(String host, int port, BeneratorMetrics metrics) throws IOException {
+    InetSocketAddress address = (host != null ?
+        new InetSocketAddress(host, port) : new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    if (address.isUnresolved()) {
+      throw new IOException("Unknown host: " + host);
+    }
+    this.server = HttpServer.create(address, 0);
+    this.server.createContext(PATH, exchange -> serve(exchange, metrics));
+    this.server.start();
+  }
+
+  public String getHost() {
+    return server.getAddress().getHostString();
+  }
+
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  public void stop() {
+    server.stop(0);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void serve(HttpExchange exchange, BeneratorMetrics metrics) throws IOException {
+    try {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      byte[] body = PrometheusFormatter.format(metrics).getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", PrometheusFormatter.CONTENT_TYPE);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+}
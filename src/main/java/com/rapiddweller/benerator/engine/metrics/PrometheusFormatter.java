@@ -0,0 +1,155 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+import com.rapiddweller.benerator.engine.BeneratorMonitor;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Locale;
+
+/**
+ * Renders {@link BeneratorMetrics} and the JVM's heap and GC statistics in the Prometheus text exposition format.
+ * Histograms are rendered as summaries with the quantiles 0.5, 0.95 and 0.99, durations are in seconds.<br/><br/>
+ * Created: 19.10.2026 09:48:02
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class PrometheusFormatter {
+
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+
+  private final StringBuilder out;
+
+  private PrometheusFormatter() {
+    this.out = new StringBuilder(4096);
+  }
+
+  public static String format(BeneratorMetrics metrics) {
+    PrometheusFormatter formatter = new PrometheusFormatter();
+    formatter.formatTotals();
+    formatter.formatGenerations(metrics);
+    formatter.formatConsumers(metrics);
+    formatter.formatDatabases(metrics);
+    formatter.formatJvm();
+    return formatter.out.toString();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void formatTotals() {
+    header("benerator_generated_entities_total", "counter", "Total number of generated entities");
+    sample("benerator_generated_entities_total", null, BeneratorMonitor.INSTANCE.getTotalGenerationCount());
+  }
+
+  private void formatGenerations(BeneratorMetrics metrics) {
+    if (metrics.getGenerations().isEmpty()) {
+      return;
+    }
+    header("benerator_task_entities_total", "counter", "Number of entities generated by a task");
+    for (GenerationMetrics generation : metrics.getGenerations()) {
+      sample("benerator_task_entities_total", label("task", generation.getTaskName()), generation.getGenerationCount());
+    }
+    header("benerator_task_throughput", "gauge", "Current throughput of a task in entities per second");
+    for (GenerationMetrics generation : metrics.getGenerations()) {
+      sample("benerator_task_throughput", label("task", generation.getTaskName()), generation.getCurrentThroughput());
+    }
+    header("benerator_page_duration_seconds", "summary", "Duration of a task's pages");
+    for (GenerationMetrics generation : metrics.getGenerations()) {
+      summary("benerator_page_duration_seconds", label("task", generation.getTaskName()),
+          generation.getPageNanos(), 1e-9);
+    }
+  }
+
+  private void formatConsumers(BeneratorMetrics metrics) {
+    if (metrics.getConsumers().isEmpty()) {
+      return;
+    }
+    header("benerator_consumer_latency_seconds", "summary", "Latency of consumer invocations");
+    for (ConsumerMetrics consumer : metrics.getConsumers()) {
+      String name = label("consumer", consumer.getConsumer());
+      summary("benerator_consumer_latency_seconds", name + ",phase=\"start\"", consumer.getStartNanos(), 1e-9);
+      summary("benerator_consumer_latency_seconds", name + ",phase=\"finish\"", consumer.getFinishNanos(), 1e-9);
+    }
+  }
+
+  private void formatDatabases(BeneratorMetrics metrics) {
+    if (metrics.getDatabases().isEmpty()) {
+      return;
+    }
+    header("benerator_db_batch_size", "summary", "Number of statements in the executed JDBC batches");
+    for (DatabaseMetrics database : metrics.getDatabases()) {
+      summary("benerator_db_batch_size", label("database", database.getDatabase()), database.getBatchSizes(), 1);
+    }
+    header("benerator_db_commit_duration_seconds", "summary", "Duration of commits including batch execution");
+    for (DatabaseMetrics database : metrics.getDatabases()) {
+      summary("benerator_db_commit_duration_seconds", label("database", database.getDatabase()),
+          database.getCommitNanos(), 1e-9);
+    }
+  }
+
+  private void formatJvm() {
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    header("jvm_memory_heap_used_bytes", "gauge", "Used heap memory");
+    sample("jvm_memory_heap_used_bytes", null, heap.getUsed());
+    header("jvm_memory_heap_committed_bytes", "gauge", "Committed heap memory");
+    sample("jvm_memory_heap_committed_bytes", null, heap.getCommitted());
+    header("jvm_memory_heap_max_bytes", "gauge", "Maximum heap memory");
+    sample("jvm_memory_heap_max_bytes", null, heap.getMax());
+    header("jvm_gc_collections_total", "counter", "Number of garbage collections");
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      sample("jvm_gc_collections_total", label("gc", gc.getName()), Math.max(0, gc.getCollectionCount()));
+    }
+    header("jvm_gc_collection_seconds_total", "counter", "Time spent in garbage collection");
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      sample("jvm_gc_collection_seconds_total", label("gc", gc.getName()), Math.max(0, gc.getCollectionTime()) / 1000.);
+    }
+  }
+
+  private void header(String name, String type, String help) {
+    out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  private void summary(String name, String labels, Histogram histogram, double scale) {
+    for (double quantile : QUANTILES) {
+      String quantileLabel = "quantile=\"" + quantile + "\"";
+      sample(name, labels + ',' + quantileLabel, histogram.getPercentile(quantile) * scale);
+    }
+    sample(name + "_sum", labels, histogram.getSum() * scale);
+    sample(name + "_count", labels, histogram.getCount());
+  }
+
+  private void sample(String name, String labels, double value) {
+    out.append(name);
+    if (labels != null) {
+      out.append('{').append(labels).append('}');
+    }
+    out.append(' ');
+    if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+      out.append((long) value);
+    } else {
+      out.append(String.format(Locale.US, "%.6g", value));
+    }
+    out.append('\n');
+  }
+
+  private static String label(String name, String value) {
+    StringBuilder builder = new StringBuilder(name).append("=\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\' || c == '"') {
+        builder.append('\\').append(c);
+      } else if (c == '\n') {
+        builder.append("\\n");
+      } else {
+        builder.append(c);
+      }
+    }
+    return builder.append('"').toString();
+  }
+
+}
@@ -42,6 +42,7 @@
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_INPUT_URI;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_NAMESPACE_AWARE;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_OUTPUT_URI;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_STREAMING;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.EL_DOMTREE;
 import static com.rapiddweller.benerator.engine.parser.xml.DescriptorParserUtil.parseAttribute;
 import static com.rapiddweller.benerator.engine.parser.xml.DescriptorParserUtil.parseBooleanExpressionAttribute;
@@ -58,7 +59,7 @@ public class DOMTreeParser extends AbstractBeneratorDescriptorParser {
 
   private static final Set<String> REQUIRED_ATTRIBUTES = CollectionUtil.toSet(ATT_ID, ATT_INPUT_URI);
 
-  private static final Set<String> OPTIONAL_ATTRIBUTES = CollectionUtil.toSet(ATT_OUTPUT_URI, ATT_NAMESPACE_AWARE);
+  private static final Set<String> OPTIONAL_ATTRIBUTES = CollectionUtil.toSet(ATT_OUTPUT_URI, ATT_NAMESPACE_AWARE, ATT_STREAMING);
 
 
   /**
@@ -75,7 +76,8 @@ public DefineDOMTreeStatement doParse(Element element, Statement[] parentPath, B
       Expression<String> inputUri = parseScriptableStringAttribute(ATT_INPUT_URI, element);
       Expression<String> outputUri = parseScriptableStringAttribute(ATT_OUTPUT_URI, element);
       Expression<Boolean> namespaceAware = parseBooleanExpressionAttribute(ATT_NAMESPACE_AWARE, element);
-      return new DefineDOMTreeStatement(id, inputUri, outputUri, namespaceAware, context.getResourceManager());
+      Expression<Boolean> streaming = parseBooleanExpressionAttribute(ATT_STREAMING, element);
+      return new DefineDOMTreeStatement(id, inputUri, outputUri, namespaceAware, streaming, context.getResourceManager());
     } catch (ConversionException e) {
       throw new ConfigurationError(e);
     }
@@ -35,6 +35,7 @@
 import com.rapiddweller.common.ConfigurationError;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.ConversionException;
+import com.rapiddweller.platform.db.DBSystem;
 import com.rapiddweller.script.Expression;
 import com.rapiddweller.script.expression.DynamicExpression;
 import com.rapiddweller.script.expression.FallbackExpression;
@@ -44,6 +45,9 @@
 
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_ACC_UNK_COL_TYPES;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BATCH;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BULK_CHUNK_SIZE;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BULK_COMMIT;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_BULK_LOAD;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CATALOG;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_DRIVER;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_ENVIRONMENT;
@@ -80,7 +84,7 @@ public class DatabaseParser extends AbstractBeneratorDescriptorParser {
   private static final Set<String> OPTIONAL_ATTRIBUTES = CollectionUtil.toSet(
       ATT_ENVIRONMENT, ATT_SYSTEM, ATT_URL, ATT_DRIVER, ATT_USER, ATT_PASSWORD, ATT_CATALOG, ATT_SCHEMA,
       ATT_TABLE_FILTER, ATT_INCL_TABLES, ATT_EXCL_TABLES, ATT_META_CACHE, ATT_BATCH, ATT_FETCH_SIZE,
-      ATT_READ_ONLY, ATT_LAZY, ATT_ACC_UNK_COL_TYPES);
+      ATT_READ_ONLY, ATT_LAZY, ATT_ACC_UNK_COL_TYPES, ATT_BULK_LOAD, ATT_BULK_CHUNK_SIZE, ATT_BULK_COMMIT);
 
 
   // TODO define parser extension mechanism and move DatabaseParser and DefineDatabaseStatement to DB package?
@@ -112,6 +116,10 @@ public DefineDatabaseStatement doParse(Element element, Statement[] parentPath,
       Expression<String> excludeTables = parseScriptableStringAttribute(ATT_EXCL_TABLES, element);
       Expression<Boolean> metaCache = parseBooleanExpressionAttribute(ATT_META_CACHE, element, false);
       Expression<Boolean> batch = parseBooleanExpressionAttribute(ATT_BATCH, element, false);
+      Expression<Boolean> bulkLoad = parseBooleanExpressionAttribute(ATT_BULK_LOAD, element, false);
+      Expression<Integer> bulkChunkSize = parseIntAttribute(
+          ATT_BULK_CHUNK_SIZE, element, DBSystem.DEFAULT_BULK_CHUNK_SIZE);
+      Expression<Boolean> bulkCommit = parseBooleanExpressionAttribute(ATT_BULK_COMMIT, element, false);
       Expression<Integer> fetchSize = parseIntAttribute(ATT_FETCH_SIZE, element, 100);
       Expression<Boolean> readOnly = parseBooleanExpressionAttribute(ATT_READ_ONLY, element, false);
       Expression<Boolean> lazy = parseBooleanExpressionAttribute(ATT_LAZY, element, true);
@@ -121,7 +129,7 @@ public DefineDatabaseStatement doParse(Element element, Statement[] parentPath,
       return createDatabaseStatement(id, environment, system, url, driver, user,
           password, catalog, schema, tableFilter, includeTables,
           excludeTables, metaCache, batch, fetchSize, readOnly, lazy,
-          acceptUnknownColumnTypes, context);
+          acceptUnknownColumnTypes, bulkLoad, bulkChunkSize, bulkCommit, context);
     } catch (ConversionException e) {
       throw new ConfigurationError(e);
     }
@@ -137,10 +145,12 @@ protected DefineDatabaseStatement createDatabaseStatement(
       Expression<Boolean> batch, Expression<Integer> fetchSize,
       Expression<Boolean> readOnly, Expression<Boolean> lazy,
       Expression<Boolean> acceptUnknownColumnTypes,
+      Expression<Boolean> bulkLoad, Expression<Integer> bulkChunkSize, Expression<Boolean> bulkCommit,
       BeneratorParseContext context) {
     return new DefineDatabaseStatement(id, environment, system, url, driver, user, password, catalog, schema,
         metaCache, tableFilter, includeTables, excludeTables,
-        batch, fetchSize, readOnly, lazy, acceptUnknownColumnTypes, context.getResourceManager());
+        batch, fetchSize, readOnly, lazy, acceptUnknownColumnTypes, bulkLoad, bulkChunkSize, bulkCommit,
+        context.getResourceManager());
   }
 
   static class GlobalAcceptUnknownSimpleTypeExpression extends DynamicExpression<Boolean> {
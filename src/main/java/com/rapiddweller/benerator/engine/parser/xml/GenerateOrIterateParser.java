@@ -75,6 +75,7 @@
 import java.util.Set;
 
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CONSUMER;
+import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CONSUMER_QUEUE;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CONTAINER;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_CONVERTER;
 import static com.rapiddweller.benerator.engine.DescriptorConstants.ATT_COUNT;
@@ -130,7 +131,7 @@ public class GenerateOrIterateParser extends AbstractBeneratorDescriptorParser {
       ATT_COUNT, ATT_MIN_COUNT, ATT_MAX_COUNT, ATT_COUNT_DISTRIBUTION,
       ATT_THREADS,
       ATT_PAGESIZE, ATT_STATS, ATT_ON_ERROR,
-      ATT_TEMPLATE, ATT_CONSUMER,
+      ATT_TEMPLATE, ATT_CONSUMER, ATT_CONSUMER_QUEUE,
       ATT_NAME, ATT_TYPE, ATT_CONTAINER, ATT_GENERATOR, ATT_VALIDATOR,
       ATT_CONVERTER, ATT_NULL_QUOTA, ATT_UNIQUE, ATT_DISTRIBUTION, ATT_CYCLIC,
       ATT_SOURCE, ATT_SEGMENT, ATT_FORMAT, ATT_OFFSET, ATT_SEPARATOR, ATT_ENCODING, ATT_SELECTOR, ATT_SUB_SELECTOR,
@@ -377,6 +378,11 @@ private GenerateAndConsumeTask parseTask(
       }
     }
 
+    // the type is complete now, so prepare it for fast lookups
+    if (type instanceof ComplexTypeDescriptor) {
+      ((ComplexTypeDescriptor) type).freeze();
+    }
+
     // create task
     GenerateAndConsumeTask task = createTask(taskName, productName);
     task.setStatements(statements);
@@ -0,0 +1,56 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.profile;
+
+/**
+ * Accumulates the samples of a frame or frame stack in a {@link SamplingProfiler}.<br/><br/>
+ * Created: 19.10.2026 23:14:02
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FrameStats {
+
+  private final String label;
+  private long samples;
+  private long cpuNanos;
+  private long allocatedBytes;
+
+  public FrameStats(String label) {
+    this.label = label;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  /** @return the number of samples in which the frame was found */
+  public long getSamples() {
+    return samples;
+  }
+
+  /** @return the CPU time which was attributed to the frame in nanoseconds */
+  public long getCpuNanos() {
+    return cpuNanos;
+  }
+
+  /** @return the number of bytes whose allocation was attributed to the frame */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  void add(long samples, long cpuNanos, long allocatedBytes) {
+    this.samples += samples;
+    this.cpuNanos += cpuNanos;
+    this.allocatedBytes += allocatedBytes;
+  }
+
+  void add(FrameStats other) {
+    add(other.samples, other.cpuNanos, other.allocatedBytes);
+  }
+
+  @Override
+  public String toString() {
+    return label + "[samples=" + samples + ", cpuNanos=" + cpuNanos + ", allocatedBytes=" + allocatedBytes + "]";
+  }
+
+}
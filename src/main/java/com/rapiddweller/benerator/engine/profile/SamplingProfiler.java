@@ -0,0 +1,365 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.profile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Low-overhead sampling profiler which attributes CPU time and allocated bytes to the
+ * tasks, component builders, converters and consumers of a descriptor run.<br/>
+ * Instrumented code marks the unit of work it is executing with {@link #enter(String)} and
+ * {@link #exit(int)}, which only maintain a per-thread stack of frame labels and take no time
+ * measurements. A daemon thread periodically samples the frame stacks of all instrumented threads
+ * together with their CPU time and allocation counters (as provided by the JVM's {@link ThreadMXBean})
+ * and attributes the differences since the previous sample to the current stack. So the results are
+ * statistical: the more samples a frame gets, the more accurate are its numbers.<br/>
+ * The results can be printed as a hot spot report and written in the 'collapsed stacks' format
+ * that is understood by flame graph tools.<br/><br/>
+ * Created: 19.10.2026 23:12:40
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class SamplingProfiler {
+
+  private static final Logger logger = LoggerFactory.getLogger(SamplingProfiler.class);
+
+  public static final int DEFAULT_INTERVAL_MILLIS = 10;
+
+  private static final String FRAME_SEPARATOR = ";";
+
+  private static volatile SamplingProfiler current;
+
+  // static interface for instrumented code --------------------------------------------------------------------------
+
+  public static boolean isActive() {
+    return (current != null);
+  }
+
+  /**
+   * Pushes a frame onto the calling thread's frame stack if profiling is active.
+   * @param label the label of the frame
+   * @return a mark to provide to {@link #exit(int)} or -1 if profiling is not active
+   */
+  public static int enter(String label) {
+    SamplingProfiler profiler = current;
+    return (profiler != null ? profiler.threadStack().push(label) : -1);
+  }
+
+  /**
+   * Removes the frame created by the {@link #enter(String)} call which returned the mark and all frames above it.
+   * Since the stack is cut back to the mark, frames which were left open due to an exception are closed too.
+   * @param mark the value returned by {@link #enter(String)}
+   */
+  public static void exit(int mark) {
+    if (mark >= 0) {
+      SamplingProfiler profiler = current;
+      if (profiler != null) {
+        profiler.threadStack().cut(mark);
+      }
+    }
+  }
+
+  /** Creates and starts a profiler which becomes the one used by {@link #enter(String)} and {@link #exit(int)}. */
+  public static synchronized SamplingProfiler start(int intervalMillis) {
+    if (current != null) {
+      throw new IllegalStateException("Sampling profiler is already running");
+    }
+    SamplingProfiler profiler = new SamplingProfiler(intervalMillis);
+    profiler.sampler.start();
+    current = profiler;
+    logger.info("Started sampling profiler with an interval of {} ms", intervalMillis);
+    return profiler;
+  }
+
+  // instance members ------------------------------------------------------------------------------------------------
+
+  private final int intervalMillis;
+  private final ThreadMXBean threadBean;
+  private final boolean cpuSupported;
+  private final boolean allocSupported;
+  private final ThreadLocal<FrameStack> stacks;
+  private final List<FrameStack> registry;
+  private final Map<String, FrameStats> stats;
+  private final Thread sampler;
+  private volatile boolean running;
+  private long sampleCount;
+
+  private SamplingProfiler(int intervalMillis) {
+    this.intervalMillis = intervalMillis;
+    this.threadBean = ManagementFactory.getThreadMXBean();
+    this.cpuSupported = threadBean.isThreadCpuTimeSupported();
+    if (cpuSupported && !threadBean.isThreadCpuTimeEnabled()) {
+      threadBean.setThreadCpuTimeEnabled(true);
+    }
+    this.allocSupported = enableAllocationCounters(threadBean);
+    this.registry = new CopyOnWriteArrayList<>();
+    this.stacks = ThreadLocal.withInitial(this::register);
+    this.stats = new HashMap<>();
+    this.running = true;
+    this.sampler = new Thread(this::sampleLoop, "benerator-sampling-profiler");
+    this.sampler.setDaemon(true);
+  }
+
+  public boolean isCpuSupported() {
+    return cpuSupported;
+  }
+
+  public boolean isAllocSupported() {
+    return allocSupported;
+  }
+
+  /** Stops sampling. After this call, the results can be evaluated. */
+  public void stop() {
+    synchronized (SamplingProfiler.class) {
+      if (current == this) {
+        current = null;
+      }
+    }
+    running = false;
+    sampler.interrupt();
+    try {
+      sampler.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    logger.info("Stopped sampling profiler after {} samples", sampleCount);
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  public long getSampleCount() {
+    return sampleCount;
+  }
+
+  /** @return the statistics of each sampled frame stack, with the stack's labels joined by ';' as key */
+  public Map<String, FrameStats> getStackStats() {
+    return stats;
+  }
+
+  /**
+   * Aggregates the statistics by frame label.
+   * @param self if true, only samples in which a frame was on top of its stack are counted,
+   *             otherwise all samples in which it was on the stack
+   * @return the aggregated statistics, sorted by descending CPU time and sample count
+   */
+  public List<FrameStats> getFrameStats(boolean self) {
+    Map<String, FrameStats> result = new HashMap<>();
+    for (Map.Entry<String, FrameStats> entry : stats.entrySet()) {
+      String[] frames = entry.getKey().split(FRAME_SEPARATOR);
+      FrameStats stackStats = entry.getValue();
+      if (self) {
+        String label = frames[frames.length - 1];
+        result.computeIfAbsent(label, FrameStats::new).add(stackStats);
+      } else {
+        Set<String> counted = new HashSet<>();
+        for (String label : frames) {
+          if (counted.add(label)) { // count recursive frames only once
+            result.computeIfAbsent(label, FrameStats::new).add(stackStats);
+          }
+        }
+      }
+    }
+    List<FrameStats> list = new ArrayList<>(result.values());
+    list.sort((s1, s2) -> {
+      int cmp = Long.compare(s2.getCpuNanos(), s1.getCpuNanos());
+      return (cmp != 0 ? cmp : Long.compare(s2.getSamples(), s1.getSamples()));
+    });
+    return list;
+  }
+
+  /** Creates a report of the frames with the highest self CPU time. */
+  public List<String> createHotSpotReport(int limit) {
+    List<FrameStats> selfStats = getFrameStats(true);
+    Map<String, FrameStats> totalStats = new HashMap<>();
+    for (FrameStats frame : getFrameStats(false)) {
+      totalStats.put(frame.getLabel(), frame);
+    }
+    long cpuSum = 0;
+    long allocSum = 0;
+    for (FrameStats frame : selfStats) {
+      cpuSum += frame.getCpuNanos();
+      allocSum += frame.getAllocatedBytes();
+    }
+    List<String> lines = new ArrayList<>();
+    lines.add(String.format(Locale.US, "Hot spots of %d samples (self CPU, self allocation, total CPU):", sampleCount));
+    lines.add(String.format(Locale.US, "%8s %10s %6s %12s %6s %10s  %s",
+        "samples", "CPU ms", "CPU %", "alloc kB", "alloc%", "total ms", "frame"));
+    for (int i = 0; i < selfStats.size() && i < limit; i++) {
+      FrameStats self = selfStats.get(i);
+      FrameStats total = totalStats.get(self.getLabel());
+      lines.add(String.format(Locale.US, "%8d %10.1f %6.1f %12d %6.1f %10.1f  %s",
+          self.getSamples(), self.getCpuNanos() / 1e6, percentage(self.getCpuNanos(), cpuSum),
+          self.getAllocatedBytes() / 1024, percentage(self.getAllocatedBytes(), allocSum),
+          total.getCpuNanos() / 1e6, self.getLabel()));
+    }
+    return lines;
+  }
+
+  /**
+   * Writes the sampled frame stacks in the 'collapsed stacks' format which is used by flame graph tools:
+   * one line per stack, with the frame labels separated by ';', followed by a blank and the stack's weight.
+   * @param allocation if true, the weight is the number of allocated bytes,
+   *                   otherwise the CPU time in microseconds
+   * @param out the writer to write to
+   */
+  public void writeCollapsedStacks(boolean allocation, Writer out) throws IOException {
+    for (Map.Entry<String, FrameStats> entry : stats.entrySet()) {
+      FrameStats stackStats = entry.getValue();
+      long weight = (allocation ? stackStats.getAllocatedBytes() : stackStats.getCpuNanos() / 1000);
+      if (weight > 0) {
+        out.write(entry.getKey().replace(' ', '_'));
+        out.write(' ');
+        out.write(String.valueOf(weight));
+        out.write('\n');
+      }
+    }
+    out.flush();
+  }
+
+  // sampling --------------------------------------------------------------------------------------------------------
+
+  private FrameStack register() {
+    FrameStack stack = new FrameStack(Thread.currentThread());
+    stack.lastCpuNanos = cpuNanos(stack.threadId);
+    stack.lastAllocatedBytes = allocatedBytes(stack.threadId);
+    registry.add(stack);
+    return stack;
+  }
+
+  private FrameStack threadStack() {
+    return stacks.get();
+  }
+
+  private void sampleLoop() {
+    while (running) {
+      try {
+        Thread.sleep(intervalMillis);
+      } catch (InterruptedException e) {
+        // interrupted by stop(), take a final sample
+      }
+      sample();
+    }
+  }
+
+  void sample() {
+    sampleCount++;
+    for (FrameStack stack : registry) {
+      boolean alive = stack.thread.isAlive();
+      long cpu = (alive ? cpuNanos(stack.threadId) : -1);
+      long alloc = (alive ? allocatedBytes(stack.threadId) : -1);
+      String path = stack.path();
+      if (path != null) {
+        FrameStats frameStats = stats.computeIfAbsent(path, FrameStats::new);
+        frameStats.add(1, (cpu >= 0 ? cpu - stack.lastCpuNanos : 0),
+            (alloc >= 0 ? alloc - stack.lastAllocatedBytes : 0));
+      }
+      if (alive) {
+        stack.lastCpuNanos = cpu;
+        stack.lastAllocatedBytes = alloc;
+      } else {
+        registry.remove(stack);
+      }
+    }
+  }
+
+  private long cpuNanos(long threadId) {
+    return (cpuSupported ? Math.max(0, threadBean.getThreadCpuTime(threadId)) : 0);
+  }
+
+  private long allocatedBytes(long threadId) {
+    return (allocSupported ?
+        Math.max(0, ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(threadId)) : 0);
+  }
+
+  private static boolean enableAllocationCounters(ThreadMXBean threadBean) {
+    try {
+      if (threadBean instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+        if (bean.isThreadAllocatedMemorySupported()) {
+          bean.setThreadAllocatedMemoryEnabled(true);
+          return true;
+        }
+      }
+    } catch (RuntimeException | LinkageError e) {
+      logger.debug("Thread allocation counters are not available", e);
+    }
+    logger.info("Thread allocation counters are not supported by this JVM, profiling only CPU time");
+    return false;
+  }
+
+  private static double percentage(long part, long sum) {
+    return (sum > 0 ? part * 100. / sum : 0.);
+  }
+
+  /** The frame stack of one thread. It is written by its thread only and read by the sampler thread. */
+  static final class FrameStack {
+
+    final Thread thread;
+    final long threadId;
+    private volatile String[] frames;
+    private volatile int depth;
+    // only accessed by the sampler thread
+    long lastCpuNanos;
+    long lastAllocatedBytes;
+
+    FrameStack(Thread thread) {
+      this.thread = thread;
+      this.threadId = thread.getId();
+      this.frames = new String[16];
+      this.depth = 0;
+    }
+
+    int push(String label) {
+      int mark = depth;
+      String[] tmp = frames;
+      if (mark == tmp.length) {
+        String[] grown = new String[mark * 2];
+        System.arraycopy(tmp, 0, grown, 0, mark);
+        frames = tmp = grown;
+      }
+      tmp[mark] = label;
+      depth = mark + 1;
+      return mark;
+    }
+
+    void cut(int mark) {
+      if (mark < depth) {
+        depth = mark;
+      }
+    }
+
+    /** @return the frame labels joined by ';' or null if the stack is empty */
+    String path() {
+      int n = depth;
+      if (n == 0) {
+        return null;
+      }
+      String[] tmp = frames;
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < n && i < tmp.length; i++) {
+        if (i > 0) {
+          builder.append(FRAME_SEPARATOR);
+        }
+        builder.append(String.valueOf(tmp[i]).replace(FRAME_SEPARATOR, ","));
+      }
+      return builder.toString();
+    }
+  }
+
+}
@@ -30,6 +30,9 @@
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.engine.Statement;
+import com.rapiddweller.benerator.engine.metrics.BeneratorMetrics;
+import com.rapiddweller.benerator.engine.metrics.ConsumerMetrics;
+import com.rapiddweller.benerator.engine.profile.SamplingProfiler;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 
 /**
@@ -44,6 +47,8 @@ public class ConsumptionStatement implements Statement {
   private final Consumer consumer;
   private final boolean start;
   private final boolean finish;
+  private final String profileLabel;
+  private final ConsumerMetrics metrics;
 
   /**
    * Instantiates a new Consumption statement.
@@ -56,22 +61,43 @@ public ConsumptionStatement(Consumer consumer, boolean start, boolean finish) {
     this.consumer = consumer;
     this.start = start;
     this.finish = finish;
+    this.profileLabel = "consumer:" + consumer;
+    this.metrics = (consumer != null ? BeneratorMetrics.consumer(consumer) : null);
   }
 
   @Override
   public boolean execute(BeneratorContext context) {
     if (consumer != null) {
       ProductWrapper<?> product = context.getCurrentProduct();
-      if (start) {
-        consumer.startConsuming(product);
-      }
-      if (finish) {
-        consumer.finishConsuming(product);
+      int profileMark = SamplingProfiler.enter(profileLabel);
+      if (metrics != null) {
+        consumeMeasured(product);
+      } else {
+        if (start) {
+          consumer.startConsuming(product);
+        }
+        if (finish) {
+          consumer.finishConsuming(product);
+        }
       }
+      SamplingProfiler.exit(profileMark);
     }
     return true;
   }
 
+  private void consumeMeasured(ProductWrapper<?> product) {
+    if (start) {
+      long startNanos = System.nanoTime();
+      consumer.startConsuming(product);
+      metrics.startConsumingFinished(System.nanoTime() - startNanos);
+    }
+    if (finish) {
+      long startNanos = System.nanoTime();
+      consumer.finishConsuming(product);
+      metrics.finishConsumingFinished(System.nanoTime() - startNanos);
+    }
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + "[" + consumer + "]";
@@ -29,8 +29,10 @@
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.engine.ResourceManager;
 import com.rapiddweller.benerator.engine.Statement;
+import com.rapiddweller.benerator.storage.AbstractStorageSystem;
 import com.rapiddweller.common.ConfigurationError;
 import com.rapiddweller.platform.xml.DOMTree;
+import com.rapiddweller.platform.xml.StreamingXMLStorage;
 import com.rapiddweller.script.Expression;
 import com.rapiddweller.script.expression.ExpressionUtil;
 import org.slf4j.LoggerFactory;
@@ -38,7 +40,8 @@
 
 /**
  * {@link Statement} for creating a {@link DOMTree} element
- * and assigning it with context and resource manager.<br/><br/>
+ * and assigning it with context and resource manager.
+ * In streaming mode, a {@link StreamingXMLStorage} is created instead.<br/><br/>
  * Created: 16.01.2014 16:07:06
  * @author Volker Bergmann
  * @since 0.9.0
@@ -53,9 +56,16 @@ public class DefineDOMTreeStatement implements Statement {
   private final Expression<String> inputUri;
   private final Expression<String> outputUri;
   private final Expression<Boolean> namespaceAware;
+  private final Expression<Boolean> streaming;
 
   public DefineDOMTreeStatement(Expression<String> id, Expression<String> inputUri,
                                 Expression<String> outputUri, Expression<Boolean> namespaceAware, ResourceManager resourceManager) {
+    this(id, inputUri, outputUri, namespaceAware, null, resourceManager);
+  }
+
+  public DefineDOMTreeStatement(Expression<String> id, Expression<String> inputUri, Expression<String> outputUri,
+                                Expression<Boolean> namespaceAware, Expression<Boolean> streaming,
+                                ResourceManager resourceManager) {
     if (id == null) {
       throw new ConfigurationError("No DOMTree id defined");
     }
@@ -63,6 +73,7 @@ public DefineDOMTreeStatement(Expression<String> id, Expression<String> inputUri
     this.inputUri = inputUri;
     this.outputUri = outputUri;
     this.namespaceAware = namespaceAware;
+    this.streaming = streaming;
     this.resourceManager = resourceManager;
   }
 
@@ -71,15 +82,27 @@ public boolean execute(BeneratorContext context) {
     logger.debug("Instantiating database with id '{}'", id);
     String idValue = id.evaluate(context);
     String inputUriValue = ExpressionUtil.evaluate(inputUri, context);
-    DOMTree domTree = new DOMTree(inputUriValue, context);
-
     String outputUriValue = ExpressionUtil.evaluate(outputUri, context);
-    if (outputUriValue != null) {
-      domTree.setOutputUri(outputUriValue);
-    }
     Boolean namespaceAwareValue = ExpressionUtil.evaluate(namespaceAware, context);
-    if (namespaceAware != null) {
-      domTree.setNamespaceAware(namespaceAwareValue);
+    AbstractStorageSystem domTree;
+    if (Boolean.TRUE.equals(ExpressionUtil.evaluate(streaming, context))) {
+      StreamingXMLStorage storage = new StreamingXMLStorage(inputUriValue, context);
+      if (outputUriValue != null) {
+        storage.setOutputUri(outputUriValue);
+      }
+      if (namespaceAwareValue != null) {
+        storage.setNamespaceAware(namespaceAwareValue);
+      }
+      domTree = storage;
+    } else {
+      DOMTree tree = new DOMTree(inputUriValue, context);
+      if (outputUriValue != null) {
+        tree.setOutputUri(outputUriValue);
+      }
+      if (namespaceAwareValue != null) {
+        tree.setNamespaceAware(namespaceAwareValue);
+      }
+      domTree = tree;
     }
 
     // register this object on all relevant managers and in the context
@@ -65,6 +65,9 @@ public class DefineDatabaseStatement implements Statement {
   private final Expression<Boolean> readOnly;
   private final Expression<Boolean> lazy;
   private final Expression<Boolean> acceptUnknownColumnTypes;
+  private final Expression<Boolean> bulkLoad;
+  private final Expression<Integer> bulkChunkSize;
+  private final Expression<Boolean> bulkCommit;
   private final ResourceManager resourceManager;
 
   public DefineDatabaseStatement(Expression<String> id, Expression<String> environment, Expression<String> system,
@@ -72,7 +75,9 @@ public DefineDatabaseStatement(Expression<String> id, Expression<String> environ
                                  Expression<String> catalog, Expression<String> schema, Expression<Boolean> metaCache,
                                  Expression<String> tableFilter, Expression<String> includeTables, Expression<String> excludeTables,
                                  Expression<Boolean> batch, Expression<Integer> fetchSize, Expression<Boolean> readOnly, Expression<Boolean> lazy,
-                                 Expression<Boolean> acceptUnknownColumnTypes, ResourceManager resourceManager) {
+                                 Expression<Boolean> acceptUnknownColumnTypes, Expression<Boolean> bulkLoad,
+                                 Expression<Integer> bulkChunkSize, Expression<Boolean> bulkCommit,
+                                 ResourceManager resourceManager) {
     if (id == null) {
       throw new ConfigurationError("No database id defined");
     }
@@ -94,6 +99,9 @@ public DefineDatabaseStatement(Expression<String> id, Expression<String> environ
     this.readOnly = readOnly;
     this.lazy = lazy;
     this.acceptUnknownColumnTypes = acceptUnknownColumnTypes;
+    this.bulkLoad = bulkLoad;
+    this.bulkChunkSize = bulkChunkSize;
+    this.bulkCommit = bulkCommit;
     this.resourceManager = resourceManager;
   }
 
@@ -143,6 +151,9 @@ public boolean execute(BeneratorContext context) {
     Boolean isLazy = ExpressionUtil.evaluate(lazy, context);
     db.setLazy(isLazy);
     db.setAcceptUnknownColumnTypes(ExpressionUtil.evaluate(acceptUnknownColumnTypes, context));
+    db.setBulkLoad(ExpressionUtil.evaluate(bulkLoad, context));
+    db.setBulkChunkSize(ExpressionUtil.evaluate(bulkChunkSize, context));
+    db.setBulkCommit(ExpressionUtil.evaluate(bulkCommit, context));
 
     // register this object on all relevant managers and in the context
     context.setGlobal(idValue, db);
@@ -38,6 +38,9 @@
 import com.rapiddweller.benerator.engine.ScopedLifeCycleHolder;
 import com.rapiddweller.benerator.engine.Statement;
 import com.rapiddweller.benerator.engine.StatementUtil;
+import com.rapiddweller.benerator.engine.metrics.BeneratorMetrics;
+import com.rapiddweller.benerator.engine.metrics.GenerationMetrics;
+import com.rapiddweller.benerator.engine.profile.SamplingProfiler;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.ErrorHandler;
@@ -75,6 +78,8 @@ public class GenerateAndConsumeTask implements Task, PageListener, ResourceManag
   private final AtomicBoolean initialized;
   private Consumer consumer;
   private String message;
+  private GenerationMetrics metrics;
+  private volatile long pageStartNanos; // set by the threads executing the task, read on page completion
 
 
   // constructor -------------------------------------------------------------------------------------------------------
@@ -119,6 +124,7 @@ public void init(BeneratorContext context) {
       if (!initialized.get()) {
         this.context = context;
         this.consumer = ExpressionUtil.evaluate(consumerExpr, context);
+        this.metrics = BeneratorMetrics.generation(taskName);
         resourceManager.addResource(consumer);
         if (consumersExist()) {
           injectConsumptionStart();
@@ -162,6 +168,10 @@ public TaskResult execute(Context ctx, ErrorHandler errorHandler) {
     if (!initialized.get()) {
       init((BeneratorContext) ctx);
     }
+    int profileMark = SamplingProfiler.enter(taskName);
+    if (metrics != null && pageStartNanos == 0) {
+      pageStartNanos = System.nanoTime();
+    }
     try {
       boolean success = true;
       for (int i = 0; i < statements.size(); i++) {
@@ -181,6 +191,9 @@ public TaskResult execute(Context ctx, ErrorHandler errorHandler) {
       }
       if (success) {
         BeneratorMonitor.INSTANCE.countGenerations(1);
+        if (metrics != null) {
+          metrics.countGeneration();
+        }
       }
       enqueueResets();
       Thread.yield();
@@ -188,6 +201,8 @@ public TaskResult execute(Context ctx, ErrorHandler errorHandler) {
     } catch (Exception e) {
       errorHandler.handleError("Error in execution of task " + getTaskName(), e);
       return TaskResult.EXECUTING; // stay available if the ErrorHandler has not canceled execution
+    } finally {
+      SamplingProfiler.exit(profileMark);
     }
   }
 
@@ -227,6 +242,10 @@ public void pageStarting() {
   @Override
   public void pageFinished() {
     IOUtil.flush(consumer);
+    if (metrics != null && pageStartNanos != 0) {
+      metrics.pageFinished(System.nanoTime() - pageStartNanos);
+      pageStartNanos = 0;
+    }
   }
 
 
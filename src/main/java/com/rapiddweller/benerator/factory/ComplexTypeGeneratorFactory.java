@@ -36,13 +36,18 @@
 import com.rapiddweller.benerator.composite.CompositeEntityGenerator;
 import com.rapiddweller.benerator.distribution.DistributingGenerator;
 import com.rapiddweller.benerator.distribution.Distribution;
+import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.BeneratorOpts;
 import com.rapiddweller.benerator.engine.TypedEntitySourceAdapter;
+import com.rapiddweller.benerator.util.LineShuffler;
 import com.rapiddweller.benerator.wrapper.DataSourceGenerator;
 import com.rapiddweller.benerator.wrapper.EntityPartSource;
+import com.rapiddweller.benerator.wrapper.FileDeletingGeneratorProxy;
 import com.rapiddweller.benerator.wrapper.WrapperFactory;
 import com.rapiddweller.common.ConfigurationError;
 import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.FileUtil;
 import com.rapiddweller.common.StringUtil;
 import com.rapiddweller.common.SyntaxError;
 import com.rapiddweller.format.DataSource;
@@ -66,6 +71,8 @@
 import com.rapiddweller.script.BeanSpec;
 import com.rapiddweller.script.DatabeneScriptParser;
 
+import java.io.File;
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.List;
 
@@ -119,13 +126,14 @@ protected Generator<Entity> createSourceGenerator(
     // create sourceObject generator
 
     Generator<Entity> generator = null;
+    boolean shuffled = false;
     if (sourceObject != null) {
       generator = createSourceGeneratorFromObject(descriptor, context, sourceObject);
     } else {
       String segment = descriptor.getSegment();
       for (FileFormat format : FileFormats.all()) {
         if (format.matchesUri(sourceSpec)) {
-          generator = createProtocolSourceGenerator(sourceSpec, format, descriptor, context);
+          generator = createProtocolSourceGenerator(sourceSpec, format, segment, descriptor, context);
           break;
         }
       }
@@ -133,7 +141,14 @@ protected Generator<Entity> createSourceGenerator(
         if (DataFileUtil.isXmlDocument(sourceSpec)) {
           generator = new DataSourceGenerator<>(new DbUnitEntitySource(sourceSpec, context));
         } else if (DataFileUtil.isCsvDocument(sourceSpec)) {
-          generator = createCSVSourceGenerator(descriptor, context, sourceSpec);
+          if (isShuffled(descriptor, uniqueness, context)) {
+            String copy = createShuffledCopy(descriptor, context, sourceSpec);
+            generator = new FileDeletingGeneratorProxy<>(
+                createCSVSourceGenerator(descriptor, context, copy), new File(copy));
+            shuffled = true;
+          } else {
+            generator = createCSVSourceGenerator(descriptor, context, sourceSpec);
+          }
         } else if (DataFileUtil.isFixedColumnWidthFile(sourceSpec)) {
           generator = createFixedColumnWidthSourceGenerator(descriptor, context, sourceSpec);
         } else if (DataFileUtil.isExcelDocument(sourceSpec)) {
@@ -162,7 +177,9 @@ protected Generator<Entity> createSourceGenerator(
       generator = new SimpleTypeEntityGenerator(generator, descriptor);
     }
     generator = applyFilter(descriptor, generator);
-    generator = applyDistribution(descriptor, uniqueness, context, generator);
+    if (!shuffled) {
+      generator = applyDistribution(descriptor, uniqueness, context, generator);
+    }
     return generator;
   }
 
@@ -243,9 +260,9 @@ private static Generator<Entity> createSourceGeneratorFromObject(ComplexTypeDesc
     return generator;
   }
 
-  private static Generator<Entity> createProtocolSourceGenerator(String url, FileFormat format,
+  private static Generator<Entity> createProtocolSourceGenerator(String url, FileFormat format, String segment,
       ComplexTypeDescriptor complexType, BeneratorContext context) {
-    DataSourceProvider<Entity> fileProvider = format.provider(url, null, complexType, context);
+    DataSourceProvider<Entity> fileProvider = format.provider(url, segment, complexType, context);
     return createEntitySourceGenerator(complexType, context, url, fileProvider);
   }
 
@@ -287,6 +304,33 @@ private static Generator<Entity> createCSVSourceGenerator(
     return createEntitySourceGenerator(complexType, context, sourceName, fileProvider);
   }
 
+  /** Tells if a CSV source shall be iterated in 'shuffle' order, which is done by shuffling a copy of the file. */
+  private static boolean isShuffled(ComplexTypeDescriptor descriptor, Uniqueness uniqueness, BeneratorContext context) {
+    Distribution distribution = FactoryUtil.getDistribution(descriptor.getDistribution(), uniqueness, false, context);
+    return (descriptor.getDataset() == null && distribution == SequenceManager.SHUFFLE_SEQUENCE);
+  }
+
+  private static String createShuffledCopy(ComplexTypeDescriptor descriptor, BeneratorContext context, String sourceSpec) {
+    String encoding = descriptor.getEncoding();
+    if (encoding == null) {
+      encoding = context.getDefaultEncoding();
+    }
+    File copy = null;
+    try {
+      // the copy is deleted when the generator is closed, see FileDeletingGeneratorProxy
+      copy = File.createTempFile("benerator-shuffled-", ".csv");
+      copy.deleteOnExit();
+      LineShuffler.shuffle(context.resolveRelativeUri(sourceSpec), copy.getAbsolutePath(),
+          BeneratorOpts.getShuffleBufferSize(), 1, encoding, true);
+      return copy.getAbsolutePath();
+    } catch (IOException e) {
+      if (copy != null) {
+        FileUtil.deleteIfExists(copy);
+      }
+      throw new ConfigurationError("Error shuffling " + sourceSpec, e);
+    }
+  }
+
   private static Generator<Entity> createXLSSourceGenerator(
       ComplexTypeDescriptor complexType, BeneratorContext context, String sourceName, String segment) {
     ScriptConverterForStrings converter = new ScriptConverterForStrings(context);
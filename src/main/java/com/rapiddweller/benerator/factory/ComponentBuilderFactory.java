@@ -43,7 +43,6 @@
 import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.distribution.sequence.ExpandSequence;
 import com.rapiddweller.benerator.engine.BeneratorContext;
-import com.rapiddweller.benerator.engine.expression.ScriptExpression;
 import com.rapiddweller.benerator.primitive.ScriptGenerator;
 import com.rapiddweller.benerator.sample.ConstantGenerator;
 import com.rapiddweller.benerator.wrapper.AsIntegerGeneratorWrapper;
@@ -69,7 +68,6 @@
 import com.rapiddweller.model.data.SimpleTypeDescriptor;
 import com.rapiddweller.model.data.TypeDescriptor;
 import com.rapiddweller.model.data.Uniqueness;
-import com.rapiddweller.script.Expression;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
@@ -343,8 +341,7 @@ static ComponentBuilder<?> wrapWithCondition(ComponentDescriptor descriptor, Com
     }
     String conditionText = typeDescriptor.getCondition();
     if (!StringUtil.isEmpty(conditionText)) {
-      Expression<Boolean> condition = new ScriptExpression<>(conditionText);
-      return new ConditionalComponentBuilder(builder, condition);
+      return new ConditionalComponentBuilder(builder, conditionText);
     } else {
       return builder;
     }
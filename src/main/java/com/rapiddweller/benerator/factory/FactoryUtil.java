@@ -34,7 +34,6 @@
 import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.engine.BeneratorContext;
 import com.rapiddweller.benerator.primitive.ScriptGenerator;
-import com.rapiddweller.common.BeanUtil;
 import com.rapiddweller.common.ConfigurationError;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.LocaleUtil;
@@ -46,12 +45,12 @@
 import com.rapiddweller.model.data.FeatureDescriptor;
 import com.rapiddweller.model.data.FeatureDetail;
 import com.rapiddweller.model.data.Uniqueness;
+import com.rapiddweller.platform.java.BeanAccessor;
 import com.rapiddweller.script.DatabeneScriptParser;
 import com.rapiddweller.script.Expression;
 import com.rapiddweller.script.WeightedSample;
 import com.rapiddweller.script.expression.DynamicExpression;
 
-import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -88,15 +87,17 @@ public static void mapDetailToBeanProperty(FeatureDescriptor descriptor, String
   }
 
   public static void setBeanProperty(Object bean, String detailName, Object detailValue, Context context) {
-    if (detailValue != null && BeanUtil.hasProperty(bean.getClass(), detailName)) {
+    if (detailValue == null) {
+      return;
+    }
+    BeanAccessor.Property property = BeanAccessor.of(bean.getClass()).getWritableProperty(detailName);
+    if (property != null) {
       try {
-        PropertyDescriptor propertyDescriptor = BeanUtil.getPropertyDescriptor(bean.getClass(), detailName);
-        Class<?> propertyType = propertyDescriptor.getPropertyType();
         Object propertyValue = detailValue;
-        if (detailValue instanceof String && StorageSystem.class.isAssignableFrom(propertyType)) {
+        if (detailValue instanceof String && StorageSystem.class.isAssignableFrom(property.getType())) {
           propertyValue = context.get(propertyValue.toString());
         }
-        BeanUtil.setPropertyValue(bean, detailName, propertyValue, false);
+        property.set(bean, propertyValue);
       } catch (RuntimeException e) {
         throw new RuntimeException("Error setting '" + detailName + "' of class " + bean.getClass().getName(), e);
       }
@@ -32,6 +32,8 @@
 import com.rapiddweller.benerator.distribution.Distribution;
 import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.primitive.CharacterGenerator;
+import com.rapiddweller.benerator.primitive.CompiledRegexGenerator;
+import com.rapiddweller.benerator.primitive.IndexedRegexGenerator;
 import com.rapiddweller.benerator.primitive.datetime.DateGenerator;
 import com.rapiddweller.benerator.sample.AttachedWeightSampleGenerator;
 import com.rapiddweller.benerator.sample.ConstantGenerator;
@@ -283,6 +285,15 @@ public Set<Character> defaultSubSet(Set<Character> characters) {
 
   protected abstract Distribution defaultLengthDistribution(Uniqueness uniqueness, boolean required);
 
+  /** Tells if regular expressions may be compiled into a flat {@link CompiledRegexGenerator} program
+   *  for the given uniqueness, which provides for uniformly random choices of lengths, characters and alternatives.
+   *  For unique generation, an {@link IndexedRegexGenerator} is used which creates the products in random order.
+   *  @param uniqueness the uniqueness requirement
+   *  @return true if the compiled generators meet this factory's semantics, otherwise false */
+  protected boolean isRegexCompilable(Uniqueness uniqueness) {
+    return false;
+  }
+
 
   // private helpers -------------------------------------------------------------------------------------------------
 
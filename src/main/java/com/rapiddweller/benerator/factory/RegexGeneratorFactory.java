@@ -29,6 +29,8 @@
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.GeneratorProvider;
 import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.primitive.CompiledRegexGenerator;
+import com.rapiddweller.benerator.primitive.IndexedRegexGenerator;
 import com.rapiddweller.benerator.sample.ConstantGenerator;
 import com.rapiddweller.benerator.wrapper.AlternativeGenerator;
 import com.rapiddweller.benerator.wrapper.ConcatenatingGenerator;
@@ -50,14 +52,20 @@
 
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
- * Creates generators for regular expressions and their sub parts.<br/><br/>
+ * Creates generators for regular expressions and their sub parts.
+ * If the {@link GeneratorFactory} permits it, a regular expression is compiled into a flat
+ * {@link CompiledRegexGenerator} program or, for unique generation, into an {@link IndexedRegexGenerator},
+ * otherwise a tree of generators is created.<br/><br/>
  * Created: 17.11.2007 16:30:09
  * @author Volker Bergmann
  */
 public class RegexGeneratorFactory {
 
+  private static final int MAX_CHAR_RUN = 1000;
+
   private RegexGeneratorFactory() {
     // private constructor to prevent instantiation
   }
@@ -72,6 +80,15 @@ public static NonNullGenerator<String> create(String pattern, Locale locale, int
       throw new IllegalArgumentException("Not a regular expression: null");
     }
     RegexPart regex = new RegexParser(locale).parseRegex(pattern);
+    if (factory.isRegexCompilable(uniqueness)) {
+      CompiledRegexGenerator.Builder builder = new CompiledRegexGenerator.Builder();
+      if (compileObject(regex, minLength, maxLength, builder, factory.getDefaultsProvider())) {
+        NonNullGenerator<String> compiled = (uniqueness.isUnique() ? builder.buildIndexed() : builder.build());
+        if (compiled != null) {
+          return compiled;
+        }
+      }
+    }
     return createFromObject(regex, minLength, maxLength, uniqueness, factory);
   }
 
@@ -137,6 +154,15 @@ private static NonNullGenerator<String> createFromSequence(
   static NonNullGenerator[] createComponentGenerators(RegexPart[] parts, Integer maxComponentLength,
                                                       Integer maxTotalLength, Uniqueness uniqueness, GeneratorFactory factory) {
     NonNullGenerator<?>[] components = new NonNullGenerator<?>[parts.length];
+    Integer[] componentLengths = componentMaxLengths(parts, maxComponentLength, maxTotalLength);
+    for (int i = 0; i < parts.length; i++) {
+      components[i] = createFromObject(parts[i], parts[i].minLength(), componentLengths[i], uniqueness, factory);
+    }
+    return components;
+  }
+
+  private static Integer[] componentMaxLengths(RegexPart[] parts, Integer maxComponentLength, Integer maxTotalLength) {
+    Integer[] result = new Integer[parts.length];
     Integer remainingLength = maxTotalLength;
     for (int i = 0; i < parts.length; i++) {
       RegexPart part = parts[i];
@@ -147,7 +173,7 @@ static NonNullGenerator[] createComponentGenerators(RegexPart[] parts, Integer m
       if (componentLength != null && remainingLength != null) {
         componentLength = Math.min(componentLength, remainingLength);
       }
-      components[i] = createFromObject(part, part.minLength(), componentLength, uniqueness, factory);
+      result[i] = componentLength;
       if (remainingLength != null) {
         remainingLength -= part.minLength();
         if (remainingLength < 0) {
@@ -155,7 +181,7 @@ static NonNullGenerator[] createComponentGenerators(RegexPart[] parts, Integer m
         }
       }
     }
-    return components;
+    return result;
   }
 
   @SuppressWarnings({"unchecked", "rawtypes"})
@@ -191,6 +217,11 @@ private static NonNullGenerator<String> createCharSetGenerator(
       CharSet charSet, int minCount, Integer maxCount, int minLength, Integer maxLength,
       Uniqueness uniqueness, GeneratorFactory factory) {
     int min = Math.max(minCount, minLength);
+    int max = charSetMaxCount(maxCount, maxLength, factory.getDefaultsProvider());
+    return factory.createStringGenerator(charSet.getSet(), min, max, 1, null, uniqueness);
+  }
+
+  private static int charSetMaxCount(Integer maxCount, Integer maxLength, DefaultsProvider defaultsProvider) {
     Integer max = maxCount;
     if (max == null) {
       max = maxLength;
@@ -198,9 +229,98 @@ private static NonNullGenerator<String> createCharSetGenerator(
       max = Math.min(max, maxLength);
     }
     if (max == null) {
-      max = factory.getDefaultsProvider().defaultMaxLength();
+      max = defaultsProvider.defaultMaxLength();
     }
-    return factory.createStringGenerator(charSet.getSet(), min, max, 1, null, uniqueness);
+    return max;
+  }
+
+  // compilation to a flat generation program ------------------------------------------------------------------------
+  // The methods mirror the creation of the generator tree and return false for constructs which cannot be compiled
+
+  private static boolean compileObject(RegexPart part, int minLength, Integer maxLength,
+                                       CompiledRegexGenerator.Builder builder, DefaultsProvider defaultsProvider) {
+    if (part instanceof Factor) {
+      return compileFactor((Factor) part, minLength, maxLength, builder, defaultsProvider);
+    } else {
+      return compileObject(part, 1, 1, minLength, maxLength, builder, defaultsProvider);
+    }
+  }
+
+  private static boolean compileFactor(Factor part, int minLength, Integer maxLength,
+                                       CompiledRegexGenerator.Builder builder, DefaultsProvider defaultsProvider) {
+    Quantifier quantifier = part.getQuantifier();
+    return compileObject(part.getAtom(), quantifier.getMin(), quantifier.getMax(), minLength, maxLength,
+        builder, defaultsProvider);
+  }
+
+  private static boolean compileObject(RegexPart object, int minQuant, Integer maxQuant, int minLength,
+      Integer maxLength, CompiledRegexGenerator.Builder builder, DefaultsProvider defaultsProvider) {
+    if (object instanceof Factor) {
+      return compileFactor((Factor) object, minLength, maxLength, builder, defaultsProvider);
+    } else if (object instanceof RegexChar) {
+      int minReps = max(minLength, minQuant, defaultsProvider.defaultMinLength());
+      int maxReps = min(maxLength, maxQuant, defaultsProvider.defaultMaxLength());
+      return compileChars(CollectionUtil.toSet(((RegexChar) object).getChar()), minReps, maxReps, builder);
+    } else if (object instanceof RegexCharClass) {
+      int minReps = Math.max(minQuant, minLength);
+      int maxReps = charSetMaxCount(maxQuant, maxLength, defaultsProvider);
+      return compileChars(((RegexCharClass) object).getCharSet().getSet(), minReps, maxReps, builder);
+    } else if (object instanceof Sequence) {
+      RegexPart[] parts = ((Sequence) object).getFactors();
+      Integer[] componentLengths = componentMaxLengths(parts, maxLength, maxLength);
+      for (int i = 0; i < parts.length; i++) {
+        if (!compileObject(parts[i], parts[i].minLength(), componentLengths[i], builder, defaultsProvider)) {
+          return false;
+        }
+      }
+      return true;
+    } else if (object instanceof Group) {
+      if (maxQuant == null) {
+        return false;
+      }
+      builder.beginRepeat(minQuant, maxQuant);
+      boolean result = compileObject(((Group) object).getRegex(), minLength, maxLength, builder, defaultsProvider);
+      builder.end();
+      return result;
+    } else if (object instanceof Choice) {
+      return compileChoice((Choice) object, minQuant, maxQuant, maxLength, builder, defaultsProvider);
+    } else if (object instanceof RegexString) {
+      builder.literal(((RegexString) object).getString());
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  private static boolean compileChoice(Choice choice, int minCount, Integer maxCount, Integer maxLength,
+                                       CompiledRegexGenerator.Builder builder, DefaultsProvider defaultsProvider) {
+    RegexPart[] alternatives = choice.getAlternatives();
+    if (maxCount == null || alternatives.length == 0) {
+      return false;
+    }
+    Integer[] componentLengths = componentMaxLengths(alternatives, maxLength, null);
+    builder.beginChoice(minCount, maxCount, alternatives.length);
+    for (int i = 0; i < alternatives.length; i++) {
+      RegexPart alternative = alternatives[i];
+      if (!compileObject(alternative, alternative.minLength(), componentLengths[i], builder, defaultsProvider)) {
+        return false;
+      }
+      builder.endAlternative();
+    }
+    builder.end();
+    return true;
+  }
+
+  private static boolean compileChars(Set<Character> chars, int minCount, int maxCount,
+                                      CompiledRegexGenerator.Builder builder) {
+    // like DefaultVarLengthStringGenerator, restrict the length of a character run to 1000
+    minCount = Math.min(minCount, MAX_CHAR_RUN);
+    maxCount = Math.min(maxCount, MAX_CHAR_RUN);
+    if (chars.isEmpty() || minCount > maxCount) {
+      return false;
+    }
+    builder.chars(chars, minCount, maxCount);
+    return true;
   }
 
   private static int min(Integer v1, Integer v2, int defaultValue) {
@@ -34,6 +34,7 @@
 import com.rapiddweller.benerator.distribution.SequenceManager;
 import com.rapiddweller.benerator.primitive.BooleanGenerator;
 import com.rapiddweller.benerator.primitive.IncrementalStringGenerator;
+import com.rapiddweller.benerator.primitive.IndexedRegexGenerator;
 import com.rapiddweller.benerator.primitive.UniqueScrambledStringGenerator;
 import com.rapiddweller.benerator.sample.AttachedWeightSampleGenerator;
 import com.rapiddweller.benerator.sample.ConstantGenerator;
@@ -153,6 +154,9 @@ public NonNullGenerator<String> createStringGenerator(Set<Character> chars,
     if (uniqueness == Uniqueness.ORDERED) {
       return new IncrementalStringGenerator(chars, minLength, maxLength, lengthGranularity);
     } else if (uniqueness.isUnique()) {
+      if (!chars.isEmpty() && minLength <= maxLength) {
+        return IndexedRegexGenerator.forCharSet(chars, minLength, maxLength, lengthGranularity);
+      }
       return new UniqueScrambledStringGenerator(chars, minLength, maxLength);
     } else {
       return BeneratorFactory.getInstance().createVarLengthStringGenerator(
@@ -221,6 +225,11 @@ protected boolean defaultUnique() {
     return false;
   }
 
+  @Override
+  protected boolean isRegexCompilable(Uniqueness uniqueness) {
+    return (uniqueness != Uniqueness.ORDERED);
+  }
+
   @Override
   public <T> Generator<T> createNullGenerator(Class<T> generatedType) {
     return new ConstantGenerator<>(null, generatedType);
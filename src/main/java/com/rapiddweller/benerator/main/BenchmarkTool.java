@@ -3,11 +3,14 @@
 package com.rapiddweller.benerator.main;
 
 import com.rapiddweller.benerator.BeneratorUtil;
+import com.rapiddweller.benerator.benchmark.BenchmarkBaseline;
+import com.rapiddweller.benerator.benchmark.BenchmarkRecord;
+import com.rapiddweller.benerator.benchmark.BenchmarkReportWriter;
 import com.rapiddweller.benerator.benchmark.BenchmarkToolConfig;
 import com.rapiddweller.benerator.benchmark.BenchmarkToolReport;
 import com.rapiddweller.benerator.benchmark.BenchmarkRunner;
 import com.rapiddweller.benerator.benchmark.PerformanceFormatter;
-import com.rapiddweller.benerator.benchmark.SensorResult;
+import com.rapiddweller.benerator.benchmark.SensorStatistics;
 import com.rapiddweller.benerator.benchmark.Benchmark;
 import com.rapiddweller.benerator.benchmark.BenchmarkResult;
 import com.rapiddweller.benerator.benchmark.ExecutionMode;
@@ -24,7 +27,10 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 
 import static com.rapiddweller.benerator.BeneratorUtil.isEEAvailable;
@@ -50,6 +56,10 @@ public static void main(String[] args) throws IOException {
     BenchmarkToolConfig config = parseCommandLineConfig(args);
     BenchmarkToolReport result = BenchmarkRunner.runBenchmarks(config);
     printResult(result);
+    writeResultFiles(result, config);
+    if (config.getBaseline() != null && compareWithBaseline(result, config) > 0) {
+      System.exit(1);
+    }
   }
 
 
@@ -62,6 +72,34 @@ private BenchmarkTool() {
 
   // run methods -----------------------------------------------------------------------------------------------------
 
+  private static void writeResultFiles(BenchmarkToolReport result, BenchmarkToolConfig config) throws IOException {
+    if (config.getCsvFile() != null) {
+      try (Writer out = new FileWriter(config.getCsvFile(), StandardCharsets.UTF_8)) {
+        BenchmarkReportWriter.writeCsv(result, out);
+      }
+      logger.info("Wrote benchmark results to {}", config.getCsvFile());
+    }
+    if (config.getJsonFile() != null) {
+      try (Writer out = new FileWriter(config.getJsonFile(), StandardCharsets.UTF_8)) {
+        BenchmarkReportWriter.writeJson(result, out);
+      }
+      logger.info("Wrote benchmark results to {}", config.getJsonFile());
+    }
+  }
+
+  static int compareWithBaseline(BenchmarkToolReport result, BenchmarkToolConfig config) throws IOException {
+    BenchmarkBaseline baseline = BenchmarkBaseline.read(config.getBaseline());
+    ConsoleInfoPrinter printer = new ConsoleInfoPrinter();
+    printer.printLines("Comparison with baseline " + config.getBaseline() + ":");
+    int regressions = baseline.compare(BenchmarkRecord.of(result), config.getMaxRegression(), printer);
+    if (regressions > 0) {
+      printer.printLines(regressions + " benchmark(s) regressed by more than " + config.getMaxRegression() + "%");
+    } else {
+      printer.printLines("No benchmark regressed by more than " + config.getMaxRegression() + "%");
+    }
+    return regressions;
+  }
+
   // private helpers -------------------------------------------------------------------------------------------------
 
   private static void printHelp() {
@@ -76,12 +114,21 @@ private static void printHelp() {
         "                  only available on Enterprise Edition)",
         "--env x[,y]       runs only database tests on the environments listed",
         "--kafka x[,y]     runs only Kafka tests on the environments listed",
+        "--embedded        runs database and Kafka tests additionally on embedded",
+        "                  H2/HSQLDB databases and an in-process Kafka stand-in",
         "--minSecs n       Choose generation count to have a test execution time",
         "                  of at least n seconds (default: 10)",
         "--maxThreads k    Use only up to k cores for testing",
         "                  (default: slightly more than the number of cores)",
         "--mode <spec>     activates Benerator mode strict, lenient or " +
         "                  turbo (default: lenient)",
+        "--runs n          repeats each measurement n times and reports mean",
+        "                  and 95% confidence interval (default: 1)",
+        "--csv <file>      writes the results to a CSV file",
+        "--json <file>     writes the results to a JSON file",
+        "--baseline <file> compares the results with a CSV file of a previous",
+        "                  run and exits with status 1 on regressions",
+        "--maxRegression p tolerated throughput loss in percent (default: 10)",
         "--help            print this help",
         "--list            lists the available benchmark tests",
         "[name]            is an optional name of a benchmark test to execute." +
@@ -115,8 +162,8 @@ private static Object[][] createTable(BenchmarkToolReport result) {
         SensorSummary sensorSummary = benchmarkResult.getSensorSummary(sensor);
         int i = 1;
         for (ExecutionMode mode : executionModes) {
-          SensorResult sensorResult = sensorSummary.getResult(mode);
-          row[i] = (sensorResult != null ? PerformanceFormatter.format(sensorResult.entitiesPerHour()) : "N/A");
+          SensorStatistics stats = sensorSummary.getStatistics(mode);
+          row[i] = (stats != null ? PerformanceFormatter.format(stats.getEntitiesPerHour()) : "N/A");
           i++;
         }
       }
@@ -182,6 +229,9 @@ private static String[] createAndPrintTitle(BenchmarkToolReport result) {
       "",
       "Numbers are million entities generated per hour"
     });
+    if (result.getRuns() > 1) {
+      builder.add("(mean values of " + result.getRuns() + " runs)");
+    }
     String[] title = builder.toArray();
     for (String line : title) {
       logger.debug("{}", line);
@@ -211,10 +261,16 @@ static BenchmarkToolConfig parseCommandLineConfig(String... args) {
     p.addFlag("ce", "--ce", null);
     p.addFlag("ee", "--ee", null);
     p.addFlag("list", "--list", null);
+    p.addFlag("embedded", "--embedded", null);
     p.addOption("mode", "--mode", "-m");
     p.addOption("minSecs", "--minSecs", null);
     p.addOption("maxThreads", "--maxThreads", null);
     p.addOption("systemsSpec", "--env", null);
+    p.addOption("runs", "--runs", null);
+    p.addOption("csvFile", "--csv", null);
+    p.addOption("jsonFile", "--json", null);
+    p.addOption("baseline", "--baseline", null);
+    p.addOption("maxRegression", "--maxRegression", null);
     p.addArgument("name", false);
     BenchmarkToolConfig config = new BenchmarkToolConfig(PROJECT_FOLDER);
     p.parse(config, args);
@@ -239,6 +295,14 @@ static BenchmarkToolConfig parseCommandLineConfig(String... args) {
       throw new ConfigurationError("Benerator Enterprise Edition is not available on this installation");
     }
 
+    if (config.isEmbedded()) {
+      config.addSystemsSpec(BenchmarkRunner.BUILTIN_ENVIRONMENT);
+    }
+
+    if (config.getRuns() < 1) {
+      throw new ConfigurationError("--runs must be at least 1");
+    }
+
     // maxThreads
     int reportedCores = Runtime.getRuntime().availableProcessors();
     if (config.getMaxThreads() == 0) {
@@ -274,7 +274,10 @@ private <T extends InstanceDescriptor> T mapInstanceDetails(
                 String lcSourceSpec = sourceSpec.toLowerCase();
                 if (lcSourceSpec.endsWith(".ent.csv")
                     || lcSourceSpec.endsWith(".ent.fcw")
-                    || lcSourceSpec.endsWith(".dbunit.xml")) {
+                    || lcSourceSpec.endsWith(".dbunit.xml")
+                    || lcSourceSpec.endsWith(".bcol")
+                    || lcSourceSpec.endsWith(".bent")
+                    || lcSourceSpec.endsWith(".bent.gz")) {
                   partType = "entity";
                 }
               }
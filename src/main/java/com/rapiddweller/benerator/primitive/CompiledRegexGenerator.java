@@ -0,0 +1,258 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.RandomProvider;
+import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Generates random Strings by executing a flat generation program which was compiled from a regular expression,
+ * see {@link Builder}. Character classes are represented as char[] tables, quantifiers as loops and alternatives
+ * as jump tables. All parts of a product are written into a single {@link StringBuilder} which is reused
+ * by each thread, so no intermediate Strings or wrappers are created.<br/><br/>
+ * Created: 19.10.2026 09:12:40
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class CompiledRegexGenerator extends ThreadSafeNonNullGenerator<String> {
+
+  // op codes and their operands -------------------------------------------------------------------------------------
+
+  /** LITERAL literalIndex */
+  static final int LITERAL = 0;
+  /** CHARS tableIndex minCount maxCount */
+  static final int CHARS = 1;
+  /** REPEAT minCount maxCount bodyEnd, followed by the body */
+  static final int REPEAT = 2;
+  /** CHOICE minCount maxCount alternativeCount alternativeEnd..., followed by the alternatives */
+  static final int CHOICE = 3;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int[] code;
+  private final char[][] charTables;
+  private final String[] literals;
+  private final RandomProvider random;
+  private final ThreadLocal<StringBuilder> builders;
+
+  CompiledRegexGenerator(int[] code, char[][] charTables, String[] literals) {
+    this.code = code;
+    this.charTables = charTables;
+    this.literals = literals;
+    this.random = BeneratorFactory.getInstance().getRandomProvider();
+    this.builders = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+  }
+
+  // Generator interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public Class<String> getGeneratedType() {
+    return String.class;
+  }
+
+  @Override
+  public String generate() {
+    StringBuilder builder = builders.get();
+    builder.setLength(0);
+    execute(0, code.length, builder);
+    return builder.toString();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + code.length + " ops]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void execute(int pc, int end, StringBuilder builder) {
+    while (pc < end) {
+      switch (code[pc]) {
+        case LITERAL:
+          builder.append(literals[code[pc + 1]]);
+          pc += 2;
+          break;
+        case CHARS:
+          appendChars(charTables[code[pc + 1]], count(code[pc + 2], code[pc + 3]), builder);
+          pc += 4;
+          break;
+        case REPEAT:
+          int bodyEnd = code[pc + 3];
+          for (int i = count(code[pc + 1], code[pc + 2]); i > 0; i--) {
+            execute(pc + 4, bodyEnd, builder);
+          }
+          pc = bodyEnd;
+          break;
+        case CHOICE:
+          int alternativeCount = code[pc + 3];
+          int table = pc + 4;
+          for (int i = count(code[pc + 1], code[pc + 2]); i > 0; i--) {
+            int alternative = random.randomInt(alternativeCount);
+            int start = (alternative == 0 ? table + alternativeCount : code[table + alternative - 1]);
+            execute(start, code[table + alternative], builder);
+          }
+          pc = code[table + alternativeCount - 1];
+          break;
+        default:
+          throw new IllegalStateException("Illegal op code " + code[pc] + " at index " + pc);
+      }
+    }
+  }
+
+  private void appendChars(char[] chars, int count, StringBuilder builder) {
+    if (chars.length == 1) {
+      for (int i = 0; i < count; i++) {
+        builder.append(chars[0]);
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        builder.append(chars[random.randomInt(chars.length)]);
+      }
+    }
+  }
+
+  private int count(int min, int max) {
+    return (min == max ? min : random.randomInt(min, max));
+  }
+
+  /**
+   * Assembles the generation program of a {@link CompiledRegexGenerator}.
+   * Nested structures are opened by {@link #beginRepeat(int, int)} or {@link #beginChoice(int, int, int)}
+   * and closed by {@link #end()}, each alternative of a choice is terminated by {@link #endAlternative()}.
+   */
+  public static class Builder {
+
+    private int[] code;
+    private int size;
+    private final List<char[]> charTables;
+    private final List<String> literals;
+    private final List<int[]> openStructures; // each entry holds the start index and the next alternative slot
+
+    public Builder() {
+      this.code = new int[32];
+      this.size = 0;
+      this.charTables = new ArrayList<>();
+      this.literals = new ArrayList<>();
+      this.openStructures = new ArrayList<>();
+    }
+
+    public Builder literal(String text) {
+      if (!text.isEmpty()) {
+        add(LITERAL, literals.size());
+        literals.add(text);
+      }
+      return this;
+    }
+
+    public Builder chars(Collection<Character> chars, int minCount, int maxCount) {
+      checkCounts(minCount, maxCount);
+      if (chars.isEmpty()) {
+        throw new IllegalArgumentException("Empty character set");
+      }
+      char[] table = new char[chars.size()];
+      int i = 0;
+      for (Character c : chars) {
+        table[i++] = c;
+      }
+      Arrays.sort(table);
+      if (maxCount > 0) {
+        add(CHARS, charTables.size(), minCount, maxCount);
+        charTables.add(table);
+      }
+      return this;
+    }
+
+    public Builder beginRepeat(int minCount, int maxCount) {
+      checkCounts(minCount, maxCount);
+      openStructures.add(new int[] { size, -1 });
+      add(REPEAT, minCount, maxCount, 0);
+      return this;
+    }
+
+    public Builder beginChoice(int minCount, int maxCount, int alternativeCount) {
+      checkCounts(minCount, maxCount);
+      if (alternativeCount < 1) {
+        throw new IllegalArgumentException("A choice needs at least one alternative");
+      }
+      openStructures.add(new int[] { size, size + 4 });
+      add(CHOICE, minCount, maxCount, alternativeCount);
+      for (int i = 0; i < alternativeCount; i++) {
+        add(-1);
+      }
+      return this;
+    }
+
+    public Builder endAlternative() {
+      int[] structure = currentStructure(CHOICE);
+      int start = structure[0];
+      if (structure[1] >= start + 4 + code[start + 3]) {
+        throw new IllegalStateException("All alternatives of the choice have already been defined");
+      }
+      code[structure[1]++] = size;
+      return this;
+    }
+
+    public Builder end() {
+      if (openStructures.isEmpty()) {
+        throw new IllegalStateException("No open repetition or choice");
+      }
+      int[] structure = openStructures.remove(openStructures.size() - 1);
+      int start = structure[0];
+      if (code[start] == REPEAT) {
+        code[start + 3] = size;
+      } else if (structure[1] != start + 4 + code[start + 3]) {
+        throw new IllegalStateException("Not all alternatives of the choice have been defined");
+      }
+      return this;
+    }
+
+    public CompiledRegexGenerator build() {
+      if (!openStructures.isEmpty()) {
+        throw new IllegalStateException("Unclosed repetition or choice");
+      }
+      return new CompiledRegexGenerator(Arrays.copyOf(code, size),
+          charTables.toArray(new char[0][]), literals.toArray(new String[0]));
+    }
+
+    /** Creates an {@link IndexedRegexGenerator} for unique generation with the program.
+     *  @return the generator or null if the program's products cannot be indexed uniquely */
+    public IndexedRegexGenerator buildIndexed() {
+      if (!openStructures.isEmpty()) {
+        throw new IllegalStateException("Unclosed repetition or choice");
+      }
+      return IndexedRegexGenerator.forProgram(Arrays.copyOf(code, size),
+          charTables.toArray(new char[0][]), literals.toArray(new String[0]));
+    }
+
+    // private helpers -----------------------------------------------------------------------------------------------
+
+    private int[] currentStructure(int opCode) {
+      if (openStructures.isEmpty() || code[openStructures.get(openStructures.size() - 1)[0]] != opCode) {
+        throw new IllegalStateException("No open structure of op code " + opCode);
+      }
+      return openStructures.get(openStructures.size() - 1);
+    }
+
+    private void add(int... values) {
+      if (size + values.length > code.length) {
+        code = Arrays.copyOf(code, Math.max(code.length * 2, size + values.length));
+      }
+      System.arraycopy(values, 0, code, size, values.length);
+      size += values.length;
+    }
+
+    private static void checkCounts(int minCount, int maxCount) {
+      if (minCount < 0 || maxCount < minCount) {
+        throw new IllegalArgumentException("Illegal count range: " + minCount + ".." + maxCount);
+      }
+    }
+
+  }
+
+}
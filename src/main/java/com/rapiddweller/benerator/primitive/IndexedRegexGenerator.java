@@ -0,0 +1,604 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive;
+
+import com.rapiddweller.benerator.BeneratorFactory;
+import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.util.FeistelPermutation;
+import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.rapiddweller.benerator.primitive.CompiledRegexGenerator.CHARS;
+import static com.rapiddweller.benerator.primitive.CompiledRegexGenerator.CHOICE;
+import static com.rapiddweller.benerator.primitive.CompiledRegexGenerator.LITERAL;
+import static com.rapiddweller.benerator.primitive.CompiledRegexGenerator.REPEAT;
+
+/**
+ * Generates unique Strings by mapping an index to the n-th String of the language of a regular expression.
+ * The generation program of a {@link CompiledRegexGenerator} is analyzed for its cardinality and the indices
+ * 0 to cardinality-1 are permuted by a {@link FeistelPermutation}, so the products appear in random order,
+ * but are unique without keeping track of the generated values. Cardinalities beyond {@link Long#MAX_VALUE}
+ * are restricted to that value.<br/>
+ * The mapping is only possible if each String can be created in one way only. This is assured for sequences
+ * with at most one part of variable length, for repetitions of parts of fixed length and for alternatives
+ * of fixed length which are distinguishable by their lengths or by a character position with disjoint character
+ * sets, for example '(com|org|net)' or '2[0-4][0-9]|25[0-5]'. For other expressions, no generator is created.<br/>
+ * Threads share the index counter, and by {@link #setPartition(int, int)}, different generator instances
+ * with the same seed can create disjoint partitions of the products, e.g. in different processes.<br/><br/>
+ * Created: 19.10.2026 11:40:12
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class IndexedRegexGenerator extends ThreadSafeNonNullGenerator<String> {
+
+  private static final int MAX_TRACKED_POSITIONS = 64;
+  private static final int INITIAL_CAPACITY = 64;
+  private static final long SCRAMBLE_SEED = 0x2545F4914F6CDD1DL;
+
+  private final Node root;
+  private final AtomicLong cursor;
+  private final ThreadLocal<StringBuilder> builders;
+  private Long seed;
+  private int partitionIndex;
+  private int partitionCount;
+  private long startIndex;
+  private long endIndex;
+  private FeistelPermutation permutation;
+
+  private IndexedRegexGenerator(Node root) {
+    this.root = root;
+    this.cursor = new AtomicLong();
+    this.builders = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+    this.seed = null;
+    this.partitionIndex = 0;
+    this.partitionCount = 1;
+  }
+
+  /** Creates a generator for unique Strings of the given characters and lengths.
+   *  @param chars the characters to use
+   *  @param minLength the minimum length of the products
+   *  @param maxLength the maximum length of the products
+   *  @return a generator for the Strings */
+  public static IndexedRegexGenerator forCharSet(Set<Character> chars, int minLength, int maxLength) {
+    return forCharSet(chars, minLength, maxLength, 1);
+  }
+
+  /** Creates a generator for unique Strings of the given characters with the lengths minLength,
+   *  minLength + lengthGranularity, minLength + 2 * lengthGranularity, ... up to maxLength.
+   *  Each length becomes an alternative of a choice, which the alternatives' lengths make unambiguous.
+   *  @param chars the characters to use
+   *  @param minLength the minimum length of the products
+   *  @param maxLength the maximum length of the products
+   *  @param lengthGranularity the difference between the allowed lengths
+   *  @return a generator for the Strings */
+  public static IndexedRegexGenerator forCharSet(Set<Character> chars, int minLength, int maxLength,
+                                                 int lengthGranularity) {
+    if (lengthGranularity < 1) {
+      throw new IllegalArgumentException("Illegal length granularity: " + lengthGranularity);
+    }
+    CompiledRegexGenerator.Builder builder = new CompiledRegexGenerator.Builder();
+    if (lengthGranularity == 1) {
+      builder.chars(chars, minLength, maxLength);
+    } else {
+      int lengthCount = (maxLength - minLength) / lengthGranularity + 1;
+      builder.beginChoice(1, 1, lengthCount);
+      for (int i = 0; i < lengthCount; i++) {
+        int length = minLength + i * lengthGranularity;
+        builder.chars(chars, length, length).endAlternative();
+      }
+      builder.end();
+    }
+    return builder.buildIndexed();
+  }
+
+  /** Creates a generator for a generation program of a {@link CompiledRegexGenerator}
+   *  or returns null if the program's products cannot be indexed uniquely. */
+  static IndexedRegexGenerator forProgram(int[] code, char[][] charTables, String[] literals) {
+    Node root = new ProgramParser(code, charTables, literals).parse(0, code.length);
+    return (root != null ? new IndexedRegexGenerator(root) : null);
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  /** @return the number of Strings which can be generated, restricted to {@link Long#MAX_VALUE} */
+  public long getCardinality() {
+    return root.cardinality;
+  }
+
+  /** Sets the key of the permutation. Generators with the same seed and pattern create the products
+   *  in the same order. If no seed is set, a random one is used. */
+  public void setSeed(long seed) {
+    assertNotInitialized();
+    this.seed = seed;
+  }
+
+  /** Restricts the generator to one of several disjoint partitions of the products.
+   *  @param partitionIndex the index of the partition, from 0 to partitionCount-1
+   *  @param partitionCount the number of partitions */
+  public void setPartition(int partitionIndex, int partitionCount) {
+    assertNotInitialized();
+    if (partitionCount < 1 || partitionIndex < 0 || partitionIndex >= partitionCount) {
+      throw new IllegalArgumentException("Illegal partition " + partitionIndex + " of " + partitionCount);
+    }
+    this.partitionIndex = partitionIndex;
+    this.partitionCount = partitionCount;
+  }
+
+  // Generator interface implementation ------------------------------------------------------------------------------
+
+  @Override
+  public Class<String> getGeneratedType() {
+    return String.class;
+  }
+
+  @Override
+  public boolean isParallelizable() {
+    return false;
+  }
+
+  @Override
+  public void init(GeneratorContext context) {
+    assertNotInitialized();
+    long cardinality = root.cardinality;
+    this.startIndex = partitionBorder(cardinality, partitionIndex, partitionCount);
+    this.endIndex = partitionBorder(cardinality, partitionIndex + 1, partitionCount);
+    if (seed == null) {
+      seed = BeneratorFactory.getInstance().getRandomProvider().randomLong(Long.MAX_VALUE);
+    }
+    this.permutation = new FeistelPermutation(cardinality, seed);
+    this.cursor.set(startIndex);
+    super.init(context);
+  }
+
+  @Override
+  public String generate() {
+    long index = cursor.getAndIncrement();
+    if (index >= endIndex || index < startIndex) {
+      cursor.set(endIndex);
+      return null;
+    }
+    StringBuilder builder = builders.get();
+    builder.setLength(0);
+    root.append(permutation.permute(index), builder);
+    return builder.toString();
+  }
+
+  @Override
+  public void reset() {
+    cursor.set(startIndex);
+    super.reset();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[cardinality=" + root.cardinality + ", partition=" + partitionIndex + "/"
+        + partitionCount + "]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static long partitionBorder(long cardinality, int partitionIndex, int partitionCount) {
+    return BigInteger.valueOf(cardinality).multiply(BigInteger.valueOf(partitionIndex))
+        .divide(BigInteger.valueOf(partitionCount)).longValue();
+  }
+
+  static long multiply(long a, long b) {
+    long high = Math.multiplyHigh(a, b);
+    long low = a * b;
+    return (high != 0 || low < 0 ? Long.MAX_VALUE : low);
+  }
+
+  static long add(long a, long b) {
+    long sum = a + b;
+    return (sum < 0 ? Long.MAX_VALUE : sum);
+  }
+
+  /** Adds an offset to a digit which depends on the preceding digits, so that high-order digits which would be
+   *  zero for all indices below {@link Long#MAX_VALUE} still vary. For given preceding digits,
+   *  the operation is a bijection of the numbers 0 to cardinality-1, so the mapping stays unique. */
+  static long scramble(long digit, long state, long cardinality) {
+    long sum = digit + Math.floorMod(FeistelPermutation.mix(state), cardinality);
+    return (sum >= cardinality || sum < 0 ? sum - cardinality : sum); // sum < 0 indicates an overflow
+  }
+
+  static long nextState(long state, long digit) {
+    return (state ^ digit) * 0x9E3779B97F4A7C15L;
+  }
+
+  /** Calculates the number of combinations of 'count' parts each of which has 'cardinality' variants. */
+  static long power(long cardinality, int count) {
+    long result = 1;
+    for (int i = 0; i < count && result < Long.MAX_VALUE; i++) {
+      result = multiply(result, cardinality);
+    }
+    return result;
+  }
+
+  // index mapping nodes ---------------------------------------------------------------------------------------------
+
+  /** Maps the indices 0 to cardinality-1 to different Strings. */
+  abstract static class Node {
+
+    final long cardinality;
+    /** the length of all Strings or -1 if it varies */
+    final int length;
+    /** for fixed lengths, the characters which may appear at each position or null if unknown */
+    final char[][] positions;
+
+    Node(long cardinality, int length, char[][] positions) {
+      this.cardinality = cardinality;
+      this.length = length;
+      this.positions = positions;
+    }
+
+    boolean isFixedLength() {
+      return (length >= 0);
+    }
+
+    abstract void append(long index, StringBuilder builder);
+  }
+
+  static class LiteralNode extends Node {
+
+    private final String text;
+
+    LiteralNode(String text) {
+      super(1, text.length(), literalPositions(text));
+      this.text = text;
+    }
+
+    @Override
+    void append(long index, StringBuilder builder) {
+      builder.append(text);
+    }
+
+    private static char[][] literalPositions(String text) {
+      if (text.length() > MAX_TRACKED_POSITIONS) {
+        return null;
+      }
+      char[][] result = new char[text.length()][];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = new char[] { text.charAt(i) };
+      }
+      return result;
+    }
+  }
+
+  /** Represents a repetition of a unit of fixed length. Different repetition counts result in different lengths. */
+  static class RepetitionNode extends Node {
+
+    private final Node unit;
+    private final int minCount;
+    private final long[] countCardinalities;
+
+    RepetitionNode(Node unit, int minCount, int maxCount) {
+      super(cardinality(unit.cardinality, minCount, maxCount),
+          (minCount == maxCount ? unit.length * minCount : -1),
+          (minCount == maxCount ? repeatPositions(unit.positions, minCount) : null));
+      this.unit = unit;
+      this.minCount = minCount;
+      this.countCardinalities = new long[maxCount - minCount + 1];
+      for (int i = 0; i < countCardinalities.length; i++) {
+        countCardinalities[i] = power(unit.cardinality, minCount + i);
+      }
+    }
+
+    @Override
+    void append(long index, StringBuilder builder) {
+      int count = minCount;
+      for (int i = 0; i < countCardinalities.length - 1 && index >= countCardinalities[i]; i++) {
+        index -= countCardinalities[i];
+        count++;
+      }
+      long state = SCRAMBLE_SEED;
+      for (int i = 0; i < count; i++) {
+        long digit;
+        if (i < count - 1) {
+          digit = index % unit.cardinality;
+          index /= unit.cardinality;
+        } else {
+          digit = index;
+        }
+        digit = scramble(digit, state, unit.cardinality);
+        unit.append(digit, builder);
+        state = nextState(state, digit);
+      }
+    }
+
+    private static long cardinality(long unitCardinality, int minCount, int maxCount) {
+      long result = 0;
+      for (int count = minCount; count <= maxCount && result < Long.MAX_VALUE; count++) {
+        result = add(result, power(unitCardinality, count));
+      }
+      return result;
+    }
+
+    private static char[][] repeatPositions(char[][] unitPositions, int count) {
+      if (unitPositions == null || unitPositions.length * count > MAX_TRACKED_POSITIONS) {
+        return null;
+      }
+      char[][] result = new char[unitPositions.length * count][];
+      for (int i = 0; i < count; i++) {
+        System.arraycopy(unitPositions, 0, result, i * unitPositions.length, unitPositions.length);
+      }
+      return result;
+    }
+  }
+
+  /** Represents a run of characters from a character set. */
+  static class CharsNode extends RepetitionNode {
+    CharsNode(char[] chars, int minCount, int maxCount) {
+      super(new CharNode(chars), minCount, maxCount);
+    }
+  }
+
+  static class CharNode extends Node {
+
+    private final char[] chars;
+
+    CharNode(char[] chars) {
+      super(chars.length, 1, new char[][] { chars });
+      this.chars = chars;
+    }
+
+    @Override
+    void append(long index, StringBuilder builder) {
+      builder.append(chars[(int) index]);
+    }
+  }
+
+  /** Represents alternatives of fixed length which can be distinguished by their products. */
+  static class ChoiceNode extends Node {
+
+    private final Node[] alternatives;
+
+    ChoiceNode(Node[] alternatives, int length) {
+      super(choiceCardinality(alternatives), length, (length >= 0 ? unitePositions(alternatives, length) : null));
+      this.alternatives = alternatives;
+    }
+
+    @Override
+    void append(long index, StringBuilder builder) {
+      for (int i = 0; i < alternatives.length - 1; i++) {
+        Node alternative = alternatives[i];
+        if (index < alternative.cardinality) {
+          alternative.append(index, builder);
+          return;
+        }
+        index -= alternative.cardinality;
+      }
+      alternatives[alternatives.length - 1].append(index, builder);
+    }
+
+    private static long choiceCardinality(Node[] alternatives) {
+      long result = 0;
+      for (Node alternative : alternatives) {
+        result = add(result, alternative.cardinality);
+      }
+      return result;
+    }
+
+    private static char[][] unitePositions(Node[] alternatives, int length) {
+      char[][] result = new char[length][];
+      for (int p = 0; p < length; p++) {
+        StringBuilder chars = new StringBuilder();
+        for (Node alternative : alternatives) {
+          if (alternative.positions == null) {
+            return null;
+          }
+          for (char c : alternative.positions[p]) {
+            if (chars.indexOf(String.valueOf(c)) < 0) {
+              chars.append(c);
+            }
+          }
+        }
+        result[p] = chars.toString().toCharArray();
+        Arrays.sort(result[p]);
+      }
+      return result;
+    }
+  }
+
+  /** Represents a sequence of parts of which at most one has a variable length. */
+  static class SequenceNode extends Node {
+
+    private final Node[] parts;
+
+    SequenceNode(Node[] parts, int length, char[][] positions) {
+      super(sequenceCardinality(parts), length, positions);
+      this.parts = parts;
+    }
+
+    @Override
+    void append(long index, StringBuilder builder) {
+      long state = SCRAMBLE_SEED;
+      for (int i = 0; i < parts.length; i++) {
+        Node part = parts[i];
+        long digit;
+        if (i < parts.length - 1) {
+          digit = index % part.cardinality;
+          index /= part.cardinality;
+        } else {
+          digit = index;
+        }
+        digit = scramble(digit, state, part.cardinality);
+        part.append(digit, builder);
+        state = nextState(state, digit);
+      }
+    }
+
+    private static long sequenceCardinality(Node[] parts) {
+      long result = 1;
+      for (Node part : parts) {
+        result = multiply(result, part.cardinality);
+      }
+      return result;
+    }
+  }
+
+  /** Converts a generation program to a tree of {@link Node}s, returning null for ambiguous constructs. */
+  private static class ProgramParser {
+
+    private final int[] code;
+    private final char[][] charTables;
+    private final String[] literals;
+
+    ProgramParser(int[] code, char[][] charTables, String[] literals) {
+      this.code = code;
+      this.charTables = charTables;
+      this.literals = literals;
+    }
+
+    Node parse(int pc, int end) {
+      List<Node> parts = new ArrayList<>();
+      while (pc < end) {
+        Node part;
+        switch (code[pc]) {
+          case LITERAL:
+            part = new LiteralNode(literals[code[pc + 1]]);
+            pc += 2;
+            break;
+          case CHARS:
+            part = new CharsNode(charTables[code[pc + 1]], code[pc + 2], code[pc + 3]);
+            pc += 4;
+            break;
+          case REPEAT:
+            Node body = parse(pc + 4, code[pc + 3]);
+            part = (body != null ? repeat(body, code[pc + 1], code[pc + 2]) : null);
+            pc = code[pc + 3];
+            break;
+          case CHOICE:
+            Node choice = parseChoice(pc);
+            part = (choice != null ? repeat(choice, code[pc + 1], code[pc + 2]) : null);
+            pc = code[pc + 4 + code[pc + 3] - 1];
+            break;
+          default:
+            throw new IllegalStateException("Illegal op code " + code[pc] + " at index " + pc);
+        }
+        if (part == null) {
+          return null;
+        }
+        if (part.cardinality > 1 || part.length != 0) { // skip empty parts
+          parts.add(part);
+        }
+      }
+      return sequence(parts);
+    }
+
+    private Node parseChoice(int pc) {
+      int alternativeCount = code[pc + 3];
+      int table = pc + 4;
+      Node[] alternatives = new Node[alternativeCount];
+      for (int i = 0; i < alternativeCount; i++) {
+        int start = (i == 0 ? table + alternativeCount : code[table + i - 1]);
+        alternatives[i] = parse(start, code[table + i]);
+        if (alternatives[i] == null || !alternatives[i].isFixedLength()) {
+          return null;
+        }
+      }
+      int length = alternatives[0].length;
+      for (int i = 0; i < alternativeCount; i++) {
+        Node alternative = alternatives[i];
+        if (alternative.length != length) {
+          length = -1;
+        }
+        for (int j = 0; j < i; j++) {
+          if (!distinguishable(alternative, alternatives[j])) {
+            return null;
+          }
+        }
+      }
+      return new ChoiceNode(alternatives, length);
+    }
+
+    private static Node repeat(Node unit, int minCount, int maxCount) {
+      if (minCount == 1 && maxCount == 1) {
+        return unit;
+      } else if (maxCount == 0) {
+        return new LiteralNode("");
+      } else if (!unit.isFixedLength() || (unit.length == 0 && minCount < maxCount)) {
+        return null;
+      } else {
+        return new RepetitionNode(unit, minCount, maxCount);
+      }
+    }
+
+    private static Node sequence(List<Node> parts) {
+      if (parts.isEmpty()) {
+        return new LiteralNode("");
+      } else if (parts.size() == 1) {
+        return parts.get(0);
+      }
+      int variableParts = 0;
+      int length = 0;
+      for (Node part : parts) {
+        if (part.isFixedLength()) {
+          length += part.length;
+        } else {
+          variableParts++;
+        }
+      }
+      if (variableParts > 1) {
+        return null;
+      }
+      if (variableParts == 1) {
+        return new SequenceNode(parts.toArray(new Node[0]), -1, null);
+      }
+      return new SequenceNode(parts.toArray(new Node[0]), length, concatPositions(parts, length));
+    }
+
+    private static char[][] concatPositions(List<Node> parts, int length) {
+      if (length > MAX_TRACKED_POSITIONS) {
+        return null;
+      }
+      char[][] result = new char[length][];
+      int offset = 0;
+      for (Node part : parts) {
+        if (part.positions == null) {
+          return null;
+        }
+        System.arraycopy(part.positions, 0, result, offset, part.length);
+        offset += part.length;
+      }
+      return result;
+    }
+
+    /** Tells if two Nodes of fixed length are guaranteed to create different Strings. */
+    private static boolean distinguishable(Node node1, Node node2) {
+      if (node1.length != node2.length) {
+        return true;
+      }
+      if (node1.positions == null || node2.positions == null) {
+        return false;
+      }
+      for (int p = 0; p < node1.length; p++) {
+        if (disjoint(node1.positions[p], node2.positions[p])) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean disjoint(char[] sortedChars1, char[] sortedChars2) {
+      int i = 0;
+      int j = 0;
+      while (i < sortedChars1.length && j < sortedChars2.length) {
+        if (sortedChars1[i] == sortedChars2[j]) {
+          return false;
+        } else if (sortedChars1[i] < sortedChars2[j]) {
+          i++;
+        } else {
+          j++;
+        }
+      }
+      return true;
+    }
+  }
+
+}
@@ -26,6 +26,7 @@
 
 package com.rapiddweller.benerator.script;
 
+import com.rapiddweller.benerator.engine.BeneratorOpts;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.format.script.AbstractScript;
 import com.rapiddweller.format.script.Script;
@@ -33,7 +34,14 @@
 import com.rapiddweller.script.Expression;
 
 /**
- * {@link Script} implementation for BeneratorScript.<br/>
+ * {@link Script} implementation for BeneratorScript.
+ * When a compile threshold is configured (see {@link BeneratorOpts#getScriptCompileThreshold()}),
+ * scripts which have been evaluated that often are compiled to a {@link CompiledScript}.
+ * Scripts which cannot be compiled keep being interpreted. Each evaluation for which the compiled form
+ * has to fall back to the interpreter raises a deoptimization score, each successful compiled evaluation
+ * lowers it again. Only when the score reaches its limit, i.e. when the compiled form fails for a
+ * considerable share of the recent evaluations, the script returns to being interpreted for good.
+ * Occasional deoptimizations in a long run thus do not disable compilation.<br/>
  * <br/>
  * Created at 09.10.2009 06:48:01
  *
@@ -42,8 +50,16 @@
  */
 public class BeneratorScript extends AbstractScript {
 
+  private static final int DEOPTIMIZATION_PENALTY = 50;
+  private static final int MAX_DEOPTIMIZATION_SCORE = 100 * DEOPTIMIZATION_PENALTY;
+
   private final Expression<?> expression;
   private final String text;
+  private final int compileThreshold;
+  private int evaluationCount;
+  private int deoptimizationScore;
+  private boolean compileAttempted;
+  private volatile CompiledScript compiled;
 
   /**
    * Instantiates a new Benerator script.
@@ -52,8 +68,32 @@ public class BeneratorScript extends AbstractScript {
    * @param text       the text
    */
   public BeneratorScript(Expression<?> expression, String text) {
+    this(expression, text, BeneratorOpts.getScriptCompileThreshold());
+  }
+
+  /**
+   * Instantiates a new Benerator script.
+   *
+   * @param expression       the expression
+   * @param text             the text
+   * @param compileThreshold the number of interpreted evaluations after which the script is compiled, -1 for never
+   */
+  public BeneratorScript(Expression<?> expression, String text, int compileThreshold) {
     this.expression = expression;
     this.text = text;
+    this.compileThreshold = (expression != null ? compileThreshold : -1);
+    this.evaluationCount = 0;
+    this.deoptimizationScore = 0;
+    this.compileAttempted = false;
+    this.compiled = null;
+  }
+
+  public Expression<?> getExpression() {
+    return expression;
+  }
+
+  public boolean isCompiled() {
+    return (compiled != null);
   }
 
   @Override
@@ -61,6 +101,21 @@ public Object evaluate(Context context) throws ScriptException {
     if (expression == null) {
       return null;
     }
+    CompiledScript compiledScript = this.compiled;
+    if (compiledScript != null) {
+      try {
+        Object result = compiledScript.evaluate(context);
+        if (deoptimizationScore > 0) {
+          deoptimizationScore--;
+        }
+        return result;
+      } catch (RuntimeException e) {
+        deoptimize(); // the interpreter decides about the result or the error to report
+      }
+    } else if (!compileAttempted && compileThreshold >= 0 && evaluationCount++ >= compileThreshold) {
+      compileAttempted = true;
+      this.compiled = CompiledScript.compile(expression);
+    }
     try {
       return expression.evaluate(context);
     } catch (Exception e) {
@@ -68,6 +123,13 @@ public Object evaluate(Context context) throws ScriptException {
     }
   }
 
+  private void deoptimize() {
+    deoptimizationScore += DEOPTIMIZATION_PENALTY;
+    if (deoptimizationScore >= MAX_DEOPTIMIZATION_SCORE) {
+      compiled = null; // the operand types do not fit the compiled form, so interpret from now on
+    }
+  }
+
   @Override
   public String toString() {
     return text;
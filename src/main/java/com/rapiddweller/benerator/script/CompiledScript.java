@@ -0,0 +1,418 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.script;
+
+import com.rapiddweller.common.Composite;
+import com.rapiddweller.common.Context;
+import com.rapiddweller.script.Expression;
+import com.rapiddweller.script.QNExpression;
+import com.rapiddweller.script.expression.ConditionalAndExpression;
+import com.rapiddweller.script.expression.ConditionalOrExpression;
+import com.rapiddweller.script.expression.ConstantExpression;
+import com.rapiddweller.script.expression.DivisionExpression;
+import com.rapiddweller.script.expression.EqualsExpression;
+import com.rapiddweller.script.expression.GreaterExpression;
+import com.rapiddweller.script.expression.GreaterOrEqualsExpression;
+import com.rapiddweller.script.expression.LessExpression;
+import com.rapiddweller.script.expression.LessOrEqualsExpression;
+import com.rapiddweller.script.expression.LogicalComplementExpression;
+import com.rapiddweller.script.expression.MultiplicationExpression;
+import com.rapiddweller.script.expression.NotEqualsExpression;
+import com.rapiddweller.script.expression.SubtractionExpression;
+import com.rapiddweller.script.expression.SumExpression;
+import com.rapiddweller.script.expression.UnaryMinusExpression;
+import com.rapiddweller.script.expression.WrapperExpression;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compiled form of a BeneratorScript expression: The {@link Expression} tree created by the
+ * {@link com.rapiddweller.script.DatabeneScriptParser} is translated once into a tree of specialized
+ * lambdas, which the JIT compiles like regular code, instead of being interpreted by generic
+ * expression objects and type conversion logic on each evaluation.
+ * Only a subset of the expression nodes is supported: literals, variables, feature access on
+ * entities and maps (like <code>this.age</code>), arithmetic, comparison and logical operators.
+ * For other nodes, {@link #compile(Expression)} returns null.
+ * When an evaluation encounters operand types for which the compiled semantics might differ
+ * from the interpreter's (e.g. mixed number types or integer overflow), it throws a
+ * {@link Deoptimization} and the caller falls back to the interpreter.
+ * Since the supported subset has no side effects, the result of an evaluation only depends
+ * on the values of the variables and feature paths the expression reads. These are exposed
+ * by {@link #getInputPaths()} and {@link #readInputs(Context)}.<br/><br/>
+ * Created: 19.10.2026 18:10:26
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class CompiledScript {
+
+  private static final Object[] NO_INPUTS = new Object[0];
+
+  private final String text;
+  private final Node root;
+  private final List<String> inputPaths;
+  private final Node[] inputs;
+
+  private CompiledScript(String text, Node root, List<String> inputPaths, List<Node> inputs) {
+    this.text = text;
+    this.root = root;
+    this.inputPaths = Collections.unmodifiableList(inputPaths);
+    this.inputs = inputs.toArray(new Node[0]);
+  }
+
+  /**
+   * Compiles a parsed BeneratorScript expression.
+   * @param expression the expression tree as created by the {@link com.rapiddweller.script.DatabeneScriptParser}
+   * @return the compiled script or null, if the expression uses constructs that cannot be compiled
+   */
+  public static CompiledScript compile(Expression<?> expression) {
+    if (expression == null) {
+      return null;
+    }
+    try {
+      Compiler compiler = new Compiler();
+      Node root = compiler.compile(expression);
+      return new CompiledScript(expression.toString(), root, compiler.inputPaths, compiler.inputs);
+    } catch (Uncompilable e) {
+      return null;
+    }
+  }
+
+  /**
+   * Evaluates the compiled expression.
+   * @param context the context which provides the variables
+   * @return the result of the evaluation
+   * @throws Deoptimization if the script must be evaluated by the interpreter
+   */
+  public Object evaluate(Context context) {
+    return root.eval(context);
+  }
+
+  /**
+   * @return the distinct variables and feature paths read by the expression, e.g. <code>this.age</code>
+   */
+  public List<String> getInputPaths() {
+    return inputPaths;
+  }
+
+  /**
+   * Reads the current values of the {@link #getInputPaths() input paths}.
+   * @param context the context which provides the variables
+   * @return the values in the order of {@link #getInputPaths()}
+   * @throws Deoptimization if an input cannot be resolved by the compiled code
+   */
+  public Object[] readInputs(Context context) {
+    if (inputs.length == 0) {
+      return NO_INPUTS;
+    }
+    Object[] values = new Object[inputs.length];
+    for (int i = 0; i < inputs.length; i++) {
+      values[i] = inputs[i].eval(context);
+    }
+    return values;
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+
+  // evaluation ------------------------------------------------------------------------------------------------------
+
+  /** Signals that an evaluation needs to be performed by the interpreter. */
+  public static final class Deoptimization extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+    static final Deoptimization INSTANCE = new Deoptimization();
+
+    private Deoptimization() {
+      super("deoptimization", null, false, false);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Node {
+    Object eval(Context context);
+  }
+
+  private static Node variable(String name) {
+    return context -> {
+      if (!context.contains(name)) {
+        throw Deoptimization.INSTANCE; // may be a class name or a function, let the interpreter resolve it
+      }
+      return context.get(name);
+    };
+  }
+
+  private static Node feature(Node owner, String name) {
+    return context -> {
+      Object value = owner.eval(context);
+      if (value instanceof Composite) {
+        return ((Composite) value).getComponent(name);
+      } else if (value instanceof Map) {
+        return ((Map<?, ?>) value).get(name);
+      } else {
+        throw Deoptimization.INSTANCE;
+      }
+    };
+  }
+
+  private static Node arithmetic(char operator, Node left, Node right) {
+    return context -> {
+      Object a = left.eval(context);
+      Object b = right.eval(context);
+      if (a instanceof Integer && b instanceof Integer) {
+        int x = (Integer) a;
+        int y = (Integer) b;
+        try {
+          switch (operator) {
+            case '+': return Math.addExact(x, y);
+            case '-': return Math.subtractExact(x, y);
+            case '*': return Math.multiplyExact(x, y);
+            default: throw Deoptimization.INSTANCE;
+          }
+        } catch (ArithmeticException e) {
+          throw Deoptimization.INSTANCE;
+        }
+      } else if (a instanceof Long && b instanceof Long) {
+        long x = (Long) a;
+        long y = (Long) b;
+        try {
+          switch (operator) {
+            case '+': return Math.addExact(x, y);
+            case '-': return Math.subtractExact(x, y);
+            case '*': return Math.multiplyExact(x, y);
+            default: throw Deoptimization.INSTANCE;
+          }
+        } catch (ArithmeticException e) {
+          throw Deoptimization.INSTANCE;
+        }
+      } else if (a instanceof Double && b instanceof Double) {
+        double x = (Double) a;
+        double y = (Double) b;
+        switch (operator) {
+          case '+': return x + y;
+          case '-': return x - y;
+          case '*': return x * y;
+          case '/': return x / y;
+          default: throw Deoptimization.INSTANCE;
+        }
+      } else if (operator == '+' && a instanceof String && b instanceof String) {
+        return (String) a + b;
+      }
+      throw Deoptimization.INSTANCE;
+    };
+  }
+
+  private static Node comparison(String operator, Node left, Node right) {
+    return context -> {
+      Object a = left.eval(context);
+      Object b = right.eval(context);
+      int comparison;
+      if (a instanceof Integer && b instanceof Integer) {
+        comparison = Integer.compare((Integer) a, (Integer) b);
+      } else if (a instanceof Long && b instanceof Long) {
+        comparison = Long.compare((Long) a, (Long) b);
+      } else if (a instanceof Double && b instanceof Double) {
+        double x = (Double) a;
+        double y = (Double) b;
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+          throw Deoptimization.INSTANCE;
+        }
+        comparison = Double.compare(x, y);
+      } else {
+        throw Deoptimization.INSTANCE;
+      }
+      switch (operator) {
+        case "<": return comparison < 0;
+        case "<=": return comparison <= 0;
+        case ">": return comparison > 0;
+        default: return comparison >= 0;
+      }
+    };
+  }
+
+  private static Node equality(boolean negate, Node left, Node right) {
+    return context -> {
+      Object a = left.eval(context);
+      Object b = right.eval(context);
+      if (a != null && b != null && a.getClass() != b.getClass()) {
+        throw Deoptimization.INSTANCE; // the interpreter converts between types
+      }
+      if (a instanceof Double && ((Double) a).isNaN()) {
+        throw Deoptimization.INSTANCE;
+      }
+      return negate != Objects.equals(a, b);
+    };
+  }
+
+  private static Node and(Node[] operands) {
+    return context -> {
+      for (Node operand : operands) {
+        if (!bool(operand.eval(context))) {
+          return false;
+        }
+      }
+      return true;
+    };
+  }
+
+  private static Node or(Node[] operands) {
+    return context -> {
+      for (Node operand : operands) {
+        if (bool(operand.eval(context))) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  private static Node negation(Node operand) {
+    return context -> {
+      Object value = operand.eval(context);
+      try {
+        if (value instanceof Integer) {
+          return Math.negateExact((Integer) value);
+        } else if (value instanceof Long) {
+          return Math.negateExact((Long) value);
+        }
+      } catch (ArithmeticException e) {
+        throw Deoptimization.INSTANCE;
+      }
+      if (value instanceof Double) {
+        return -(Double) value;
+      }
+      throw Deoptimization.INSTANCE;
+    };
+  }
+
+  private static Node unlessVariable(String qualifiedName, Node featurePath) {
+    return context -> {
+      if (context.contains(qualifiedName)) {
+        throw Deoptimization.INSTANCE; // the interpreter prefers a variable with the full name
+      }
+      return featurePath.eval(context);
+    };
+  }
+
+  private static boolean bool(Object value) {
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    }
+    throw Deoptimization.INSTANCE;
+  }
+
+  // compiler --------------------------------------------------------------------------------------------------------
+
+  /** Signals a construct that is not supported by the compiler. */
+  private static final class Uncompilable extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    Uncompilable() {
+      super("uncompilable", null, false, false);
+    }
+  }
+
+  private static class Compiler {
+
+    private final List<String> inputPaths = new ArrayList<>();
+    private final List<Node> inputs = new ArrayList<>();
+
+    Node compile(Expression<?> expression) {
+      if (expression instanceof ConstantExpression) {
+        return constant(((ConstantExpression<?>) expression).getValue());
+      } else if (expression instanceof QNExpression) {
+        return name(expression.toString());
+      } else if (expression instanceof SumExpression) {
+        return arithmetic('+', expression);
+      } else if (expression instanceof SubtractionExpression) {
+        return arithmetic('-', expression);
+      } else if (expression instanceof MultiplicationExpression) {
+        return arithmetic('*', expression);
+      } else if (expression instanceof DivisionExpression) {
+        return arithmetic('/', expression);
+      } else if (expression instanceof LessExpression) {
+        return comparison("<", expression);
+      } else if (expression instanceof LessOrEqualsExpression) {
+        return comparison("<=", expression);
+      } else if (expression instanceof GreaterExpression) {
+        return comparison(">", expression);
+      } else if (expression instanceof GreaterOrEqualsExpression) {
+        return comparison(">=", expression);
+      } else if (expression instanceof EqualsExpression) {
+        Node[] operands = operands(expression, 2);
+        return equality(false, operands[0], operands[1]);
+      } else if (expression instanceof NotEqualsExpression) {
+        Node[] operands = operands(expression, 2);
+        return equality(true, operands[0], operands[1]);
+      } else if (expression instanceof ConditionalAndExpression) {
+        return and(operands(expression, -1));
+      } else if (expression instanceof ConditionalOrExpression) {
+        return or(operands(expression, -1));
+      } else if (expression instanceof LogicalComplementExpression) {
+        Node operand = operands(expression, 1)[0];
+        return context -> !bool(operand.eval(context));
+      } else if (expression instanceof UnaryMinusExpression) {
+        return negation(operands(expression, 1)[0]);
+      } else {
+        throw new Uncompilable(); // invocations, constructions, casts, conditional expressions, ...
+      }
+    }
+
+    private static Node constant(Object value) {
+      if (value != null && !(value instanceof Boolean || value instanceof Integer || value instanceof Long
+          || value instanceof Double || value instanceof String)) {
+        throw new Uncompilable(); // leave other types to the interpreter
+      }
+      return context -> value;
+    }
+
+    private Node name(String path) {
+      // a QNExpression renders its name parts separated by dots
+      String[] parts = path.split("\\.");
+      Node node = variable(parts[0]);
+      for (int i = 1; i < parts.length; i++) {
+        node = feature(node, parts[i]);
+      }
+      if (parts.length > 1) {
+        node = unlessVariable(path, node);
+      }
+      if (!inputPaths.contains(path)) {
+        inputPaths.add(path);
+        inputs.add(node);
+      }
+      return node;
+    }
+
+    private Node arithmetic(char operator, Expression<?> expression) {
+      Node[] operands = operands(expression, -1);
+      Node node = operands[0];
+      for (int i = 1; i < operands.length; i++) {
+        node = CompiledScript.arithmetic(operator, node, operands[i]);
+      }
+      return node;
+    }
+
+    private Node comparison(String operator, Expression<?> expression) {
+      Node[] operands = operands(expression, 2);
+      return CompiledScript.comparison(operator, operands[0], operands[1]);
+    }
+
+    private Node[] operands(Expression<?> expression, int expectedCount) {
+      Expression<?>[] terms = ((WrapperExpression<?>) expression).getSourceExpressions();
+      if (terms.length == 0 || (expectedCount > 0 && terms.length != expectedCount)) {
+        throw new Uncompilable();
+      }
+      Node[] operands = new Node[terms.length];
+      for (int i = 0; i < terms.length; i++) {
+        operands[i] = compile(terms[i]);
+      }
+      return operands;
+    }
+  }
+
+}
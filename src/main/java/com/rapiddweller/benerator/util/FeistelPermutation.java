@@ -0,0 +1,114 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+/**
+ * Format-preserving pseudo-random permutation of the numbers 0 to size-1: A balanced Feistel network
+ * on the smallest even bit width which covers the range is combined with cycle walking, so each number
+ * of the range is mapped to a unique number of the same range without storing any state.
+ * Objects of this class are immutable and thus thread-safe.<br/><br/>
+ * Created: 19.10.2026 11:02:37
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FeistelPermutation {
+
+  public static final int DEFAULT_ROUNDS = 6;
+
+  private final long size;
+  private final int halfBits;
+  private final long halfMask;
+  private final long[] roundKeys;
+
+  public FeistelPermutation(long size, long seed) {
+    this(size, seed, DEFAULT_ROUNDS);
+  }
+
+  public FeistelPermutation(long size, long seed, int rounds) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Permutation size must be positive, but was " + size);
+    }
+    if (rounds < 1) {
+      throw new IllegalArgumentException("Number of rounds must be positive, but was " + rounds);
+    }
+    this.size = size;
+    int bits = (size > 1 ? 64 - Long.numberOfLeadingZeros(size - 1) : 1);
+    this.halfBits = (bits + 1) / 2;
+    this.halfMask = (1L << halfBits) - 1;
+    this.roundKeys = new long[rounds];
+    long state = seed;
+    for (int i = 0; i < rounds; i++) {
+      state += 0x9E3779B97F4A7C15L;
+      roundKeys[i] = mix(state);
+    }
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  /** Maps an index to its permuted position.
+   *  @param index a number between 0 and size-1
+   *  @return a number between 0 and size-1 which is different for each index */
+  public long permute(long index) {
+    if (index < 0 || index >= size) {
+      throw new IllegalArgumentException("Index out of range 0.." + (size - 1) + ": " + index);
+    }
+    long result = index;
+    do {
+      result = encrypt(result);
+    } while (result < 0 || result >= size); // with 64 bits, values beyond Long.MAX_VALUE appear negative
+    return result;
+  }
+
+  /** Maps a permuted position back to its index, being the inverse function of {@link #permute(long)}.
+   *  @param value a number between 0 and size-1
+   *  @return the index which is mapped to the value */
+  public long invert(long value) {
+    if (value < 0 || value >= size) {
+      throw new IllegalArgumentException("Value out of range 0.." + (size - 1) + ": " + value);
+    }
+    long result = value;
+    do {
+      result = decrypt(result);
+    } while (result < 0 || result >= size);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[size=" + size + ", rounds=" + roundKeys.length + "]";
+  }
+
+  /** The finalizer of the SplitMix64 algorithm, which spreads each input bit over all output bits. */
+  public static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private long encrypt(long value) {
+    long left = (value >>> halfBits) & halfMask;
+    long right = value & halfMask;
+    for (long key : roundKeys) {
+      long tmp = left ^ (mix(right ^ key) & halfMask);
+      left = right;
+      right = tmp;
+    }
+    return (left << halfBits) | right;
+  }
+
+  private long decrypt(long value) {
+    long left = (value >>> halfBits) & halfMask;
+    long right = value & halfMask;
+    for (int i = roundKeys.length - 1; i >= 0; i--) {
+      long tmp = right ^ (mix(left ^ roundKeys[i]) & halfMask);
+      right = left;
+      left = tmp;
+    }
+    return (left << halfBits) | right;
+  }
+
+}
@@ -36,15 +36,25 @@
 import org.slf4j.Logger;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileWriter;
+import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
- * Reads a text file, shuffles its lines and writes it to another file.<br/><br/>
+ * Reads a text file, shuffles its lines and writes it to another file.
+ * Files of arbitrary size are shuffled with bounded memory: If the lines do not fit into the buffer,
+ * each line is written to a randomly chosen bucket file, then each bucket is shuffled separately
+ * (recursively, if it exceeds the buffer size) and the results are concatenated.
+ * Since the bucket assignment is independent and uniform, and each bucket is shuffled with the
+ * Fisher-Yates algorithm, the result is a uniformly distributed permutation of the input lines.
+ * Empty lines are skipped.<br/><br/>
  * Created: 16.07.2007 20:29:10
  */
 public class LineShuffler {
@@ -52,6 +62,12 @@ public class LineShuffler {
   public static final Logger logger = LoggerFactory.getLogger(LineShuffler.class);
   private static final RandomProvider random = BeneratorFactory.getInstance().getRandomProvider();
 
+  /** The default maximum number of lines to hold in memory. */
+  public static final int DEFAULT_BUFFER_SIZE = 1000000;
+
+  private static final int DEFAULT_BUCKET_COUNT = 64;
+  private static final int MAX_BUCKET_COUNT = 512;
+
   public static void main(String[] args) throws IOException {
     if (args.length < 2) {
       printHelp();
@@ -59,61 +75,201 @@ public static void main(String[] args) throws IOException {
     }
     String inFilename = args[0];
     String outFilename = args[1];
-    int bufferSize = (args.length > 2 ? Integer.parseInt(args[2]) : 100000);
+    int bufferSize = (args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_BUFFER_SIZE);
     shuffle(inFilename, outFilename, bufferSize);
   }
 
   public static void shuffle(String inFilename, String outFilename, int bufferSize) throws IOException {
-    logger.info("shuffling {} and writing to {} (max. {} lines)", inFilename, outFilename, bufferSize);
-    ReaderLineIterator iterator = new ReaderLineIterator(new BufferedReader(IOUtil.getReaderForURI(inFilename)));
-    List<String> lines = read(bufferSize, iterator);
-    shuffle(lines);
-    save(lines, outFilename);
+    shuffle(inFilename, outFilename, bufferSize, 0, null, false);
+  }
+
+  /**
+   * Shuffles the lines of a text file.
+   * @param inUri the URI of the file to shuffle
+   * @param outFilename the name of the file to write
+   * @param bufferSize the maximum number of lines to hold in memory
+   * @param headerLines the number of leading lines which are copied unchanged, e.g. 1 for the header of a CSV file
+   * @param encoding the character encoding of the files, or null for UTF-8
+   * @param csvRecords if true, lines are joined to CSV records as long as they end inside a quoted cell,
+   *     so that records with line breaks in quoted cells are kept together
+   */
+  public static void shuffle(String inUri, String outFilename, int bufferSize, int headerLines, String encoding,
+                             boolean csvRecords) throws IOException {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("Illegal buffer size: " + bufferSize);
+    }
+    logger.info("shuffling {} and writing to {} (max. {} lines in memory)", inUri, outFilename, bufferSize);
+    Charset charset = (encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8);
+    File inFile = new File(inUri);
+    long inputSize = (inFile.isFile() ? inFile.length() : -1);
+    try (BufferedReader reader = IOUtil.getReaderForURI(inUri, charset.name());
+         Writer out = Files.newBufferedWriter(new File(outFilename).toPath(), charset)) {
+      Iterator<String> iterator = recordIterator(reader, csvRecords);
+      for (int i = 0; i < headerLines && iterator.hasNext(); i++) {
+        out.write(iterator.next());
+        out.write('\n');
+      }
+      long count = shuffle(iterator, inputSize, out, bufferSize, charset, csvRecords);
+      logger.info("shuffled {} lines", count);
+    }
   }
 
+  /** Shuffles the lines in memory with the Fisher-Yates algorithm, resulting in a uniformly distributed permutation. */
   public static void shuffle(List<String> lines) {
-    int size = lines.size();
-    int iterations = size / 2;
-    for (int i = 0; i < iterations; i++) {
-      int i1 = random.randomInt(size);
-      int i2;
-      do {
-        i2 = random.randomInt(size);
-      } while (i1 == i2);
-      String tmp = lines.get(i1);
-      lines.set(i1, lines.get(i2));
-      lines.set(i2, tmp);
+    for (int i = lines.size() - 1; i > 0; i--) {
+      int j = random.randomInt(i + 1);
+      String tmp = lines.get(i);
+      lines.set(i, lines.get(j));
+      lines.set(j, tmp);
     }
   }
 
   // private helpers -------------------------------------------------------------------------------------------------
 
-  private static List<String> read(int bufferSize, ReaderLineIterator iterator) {
-    List<String> lines = new ArrayList<>(Math.max(100000, bufferSize));
-    int lineCount = 0;
-    while (iterator.hasNext() && lineCount < bufferSize) {
+  private static long shuffle(Iterator<String> iterator, long inputSize, Writer out, int bufferSize, Charset charset,
+                              boolean csvRecords) throws IOException {
+    List<String> lines = read(bufferSize, iterator);
+    if (!iterator.hasNext()) {
+      shuffle(lines);
+      save(lines, out);
+      return lines.size();
+    }
+    int bucketCount = bucketCount(lines, inputSize, bufferSize);
+    logger.debug("spilling lines to {} buckets", bucketCount);
+    Path directory = Files.createTempDirectory("benerator-shuffle");
+    File[] bucketFiles = new File[bucketCount];
+    try {
+      spill(lines, iterator, directory, bucketFiles, charset);
+      lines = null; // release the buffer before processing the buckets
+      long count = 0;
+      for (File bucketFile : bucketFiles) {
+        try (BufferedReader reader = Files.newBufferedReader(bucketFile.toPath(), charset)) {
+          Iterator<String> bucket = recordIterator(reader, csvRecords);
+          count += shuffle(bucket, bucketFile.length(), out, bufferSize, charset, csvRecords);
+        }
+        Files.delete(bucketFile.toPath());
+      }
+      return count;
+    } finally {
+      for (File bucketFile : bucketFiles) {
+        if (bucketFile != null) {
+          Files.deleteIfExists(bucketFile.toPath());
+        }
+      }
+      Files.deleteIfExists(directory);
+    }
+  }
+
+  private static Iterator<String> recordIterator(BufferedReader reader, boolean csvRecords) {
+    Iterator<String> lines = new ReaderLineIterator(reader);
+    return (csvRecords ? new CSVRecordIterator(lines) : lines);
+  }
+
+  private static List<String> read(int bufferSize, Iterator<String> iterator) {
+    List<String> lines = new ArrayList<>(Math.min(100000, bufferSize));
+    while (lines.size() < bufferSize && iterator.hasNext()) {
       String line = iterator.next();
       if (!StringUtil.isEmpty(line)) {
         lines.add(line);
-        lineCount++;
-        if (lineCount % 100000 == 99999) {
-          logger.info("parsed {} lines", lineCount);
+        if (lines.size() % 100000 == 99999) {
+          logger.debug("parsed {} lines", lines.size() + 1);
         }
       }
     }
     return lines;
   }
 
-  private static void save(List<String> lines, String outputFilename) throws IOException {
-    logger.info("saving {}...", outputFilename);
-    try (PrintWriter printer = new PrintWriter(new BufferedWriter(new FileWriter(outputFilename)))) {
-      for (String line : lines) {
-        printer.println(line);
+  private static int bucketCount(List<String> sample, long inputSize, int bufferSize) {
+    if (inputSize < 0) {
+      return DEFAULT_BUCKET_COUNT;
+    }
+    long sampleChars = 0;
+    for (String line : sample) {
+      sampleChars += line.length() + 1;
+    }
+    double estimatedLines = (double) inputSize * sample.size() / Math.max(1, sampleChars);
+    // aim at buckets of half the buffer size, so that only few of them need to be split again
+    long count = (long) Math.ceil(2 * estimatedLines / bufferSize);
+    return (int) Math.max(2, Math.min(MAX_BUCKET_COUNT, count));
+  }
+
+  private static void spill(List<String> buffer, Iterator<String> iterator, Path directory, File[] bucketFiles,
+                            Charset charset) throws IOException {
+    Writer[] buckets = new Writer[bucketFiles.length];
+    try {
+      for (int i = 0; i < buckets.length; i++) {
+        bucketFiles[i] = directory.resolve("bucket" + i + ".txt").toFile();
+        buckets[i] = Files.newBufferedWriter(bucketFiles[i].toPath(), charset);
+      }
+      for (String line : buffer) {
+        writeLine(line, buckets[random.randomInt(buckets.length)]);
       }
+      while (iterator.hasNext()) {
+        String line = iterator.next();
+        if (!StringUtil.isEmpty(line)) {
+          writeLine(line, buckets[random.randomInt(buckets.length)]);
+        }
+      }
+    } finally {
+      for (Writer bucket : buckets) {
+        IOUtil.close(bucket);
+      }
+    }
+  }
+
+  private static void save(List<String> lines, Writer out) throws IOException {
+    for (String line : lines) {
+      writeLine(line, out);
     }
   }
 
+  private static void writeLine(String line, Writer out) throws IOException {
+    out.write(line);
+    out.write('\n');
+  }
+
   private static void printHelp() {
-    ConsoleInfoPrinter.printHelp("Parameters: inFile outFile [buffer size]");
+    ConsoleInfoPrinter.printHelp("Parameters: inFile outFile [max. lines in memory]");
+  }
+
+  /** Joins lines as long as they end inside a quoted cell, so that each element is a complete CSV record. */
+  static class CSVRecordIterator implements Iterator<String> {
+
+    private final Iterator<String> lines;
+
+    CSVRecordIterator(Iterator<String> lines) {
+      this.lines = lines;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return lines.hasNext();
+    }
+
+    @Override
+    public String next() {
+      String line = lines.next();
+      if (!endsInQuote(line, false)) {
+        return line;
+      }
+      StringBuilder record = new StringBuilder(line);
+      boolean quoted = true;
+      while (quoted && lines.hasNext()) {
+        line = lines.next();
+        record.append('\n').append(line);
+        quoted = endsInQuote(line, true);
+      }
+      return record.toString();
+    }
+
+    private static boolean endsInQuote(String line, boolean quoted) {
+      for (int i = 0; i < line.length(); i++) {
+        if (line.charAt(i) == '"') {
+          quoted = !quoted;
+        }
+      }
+      return quoted;
+    }
   }
+
 }
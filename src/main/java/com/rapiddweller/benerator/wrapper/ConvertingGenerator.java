@@ -30,6 +30,7 @@
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.IllegalGeneratorStateException;
 import com.rapiddweller.benerator.InvalidGeneratorSetupException;
+import com.rapiddweller.benerator.engine.profile.SamplingProfiler;
 import com.rapiddweller.common.ArrayFormat;
 import com.rapiddweller.common.ArrayUtil;
 import com.rapiddweller.common.ConversionException;
@@ -52,6 +53,8 @@
    */
   protected final Converter<?, ?>[] converters;
 
+  private String profileLabel;
+
   /**
    * Initializes all attributes
    *
@@ -92,15 +95,28 @@ public ProductWrapper<T> generate(ProductWrapper<T> wrapper) {
         return null;
       }
       Object tmp = sourceWrapper.unwrap();
+      int profileMark = (SamplingProfiler.isActive() ? SamplingProfiler.enter(profileLabel()) : -1);
       for (Converter converter : converters) {
         tmp = converter.convert(tmp);
       }
+      SamplingProfiler.exit(profileMark);
       return wrapper.wrap((T) tmp);
     } catch (ConversionException e) {
       throw new IllegalGeneratorStateException(e);
     }
   }
 
+  private String profileLabel() {
+    if (profileLabel == null) {
+      StringBuilder builder = new StringBuilder("converter:");
+      for (int i = 0; i < converters.length; i++) {
+        builder.append(i > 0 ? "," : "").append(converters[i].getClass().getSimpleName());
+      }
+      profileLabel = builder.toString();
+    }
+    return profileLabel;
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + "[source=" + getSource() + ", " +
@@ -0,0 +1,36 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.wrapper;
+
+import com.rapiddweller.benerator.Generator;
+import com.rapiddweller.common.FileUtil;
+
+import java.io.File;
+
+/**
+ * {@link Generator} proxy that deletes a temporary file when it is closed,
+ * e.g. the file from which its source reads.<br/><br/>
+ * Created: 19.10.2026 10:41:18
+ * @param <E> the type of the generated objects
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FileDeletingGeneratorProxy<E> extends GeneratorProxy<E> {
+
+  private final File file;
+
+  public FileDeletingGeneratorProxy(Generator<E> source, File file) {
+    super(source);
+    this.file = file;
+  }
+
+  @Override
+  public void close() {
+    try {
+      super.close();
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
+}
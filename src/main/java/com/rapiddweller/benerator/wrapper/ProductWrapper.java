@@ -120,6 +120,19 @@ public ProductWrapper<E> setTag(String key, String value) {
     return this;
   }
 
+  /**
+   * Creates a new wrapper with the same product and a copy of the tags.
+   *
+   * @return the copy
+   */
+  public ProductWrapper<E> copy() {
+    ProductWrapper<E> copy = new ProductWrapper<>(product);
+    if (tags != null && !tags.isEmpty()) {
+      copy.tags = new HashMap<>(tags);
+    }
+    return copy;
+  }
+
   @Override
   public String toString() {
     return String.valueOf(product);
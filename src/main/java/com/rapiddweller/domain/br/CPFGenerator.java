@@ -26,6 +26,8 @@
 
 package com.rapiddweller.domain.br;
 
+import com.rapiddweller.benerator.GeneratorContext;
+import com.rapiddweller.benerator.distribution.sequence.PermutationLongGenerator;
 import com.rapiddweller.benerator.util.ThreadSafeNonNullGenerator;
 
 import java.util.ArrayList;
@@ -34,6 +36,9 @@
 /**
  * Generates Brazilian CPF numbers. CPF stands for 'Cadastro de Pessoa Fisica'
  * and is a tax payer number assigned to an individual person (Pessoa Fisica).
+ * In unique mode, the nine base digits are provided by a {@link PermutationLongGenerator},
+ * so each number is generated once in random order without tracking the generated numbers.
+ * Base numbers which consist of a single repeated digit are skipped, since they are no valid CPFs.
  *
  * @author Eric Chaves
  * @author Volker Bergmann
@@ -41,12 +46,17 @@
  */
 public class CPFGenerator extends ThreadSafeNonNullGenerator<String> {
 
+  private static final long BASE_NUMBER_COUNT = 1000000000L; // nine digits
+  private static final long REPEATED_DIGIT_BASE = 111111111L; // all multiples have a single repeated digit
+
   /**
    * flag indicating should return CPF in numeric or formatted form.
    * defaults to true
    */
   private final boolean formatted;
   private final Random random;
+  private boolean unique;
+  private PermutationLongGenerator indexGenerator;
 
   /**
    * Instantiates a new Cpf generator.
@@ -61,8 +71,39 @@ public CPFGenerator() {
    * @param formatted the formatted
    */
   public CPFGenerator(boolean formatted) {
+    this(formatted, false);
+  }
+
+  /**
+   * Instantiates a new Cpf generator.
+   *
+   * @param formatted the formatted
+   * @param unique    the unique
+   */
+  public CPFGenerator(boolean formatted, boolean unique) {
     this.random = new Random();
     this.formatted = formatted;
+    this.unique = unique;
+    this.indexGenerator = null;
+  }
+
+  /**
+   * Is unique boolean.
+   *
+   * @return the boolean
+   */
+  public boolean isUnique() {
+    return unique;
+  }
+
+  /**
+   * Sets unique.
+   *
+   * @param unique the unique
+   */
+  public void setUnique(boolean unique) {
+    assertNotInitialized();
+    this.unique = unique;
   }
 
   private static void addDigit(ArrayList<Integer> digits) {
@@ -73,13 +114,41 @@ private static void addDigit(ArrayList<Integer> digits) {
     digits.add((sum % 11 < 2) ? 0 : 11 - (sum % 11));
   }
 
+  @Override
+  public boolean isParallelizable() {
+    return !unique;
+  }
+
+  @Override
+  public void init(GeneratorContext context) {
+    assertNotInitialized();
+    if (unique) {
+      indexGenerator = new PermutationLongGenerator(0, BASE_NUMBER_COUNT - 1);
+      indexGenerator.init(context);
+    }
+    super.init(context);
+  }
+
   @Override
   public String generate() {
     StringBuilder buf = new StringBuilder();
     ArrayList<Integer> digits = new ArrayList<>();
 
-    for (int i = 0; i < 9; i++) {
-      digits.add(random.nextInt(9));
+    if (unique) {
+      Long index;
+      do {
+        index = indexGenerator.generate();
+        if (index == null) {
+          return null;
+        }
+      } while (!isValidBase(index));
+      for (long divisor = BASE_NUMBER_COUNT / 10; divisor > 0; divisor /= 10) {
+        digits.add((int) (index / divisor % 10));
+      }
+    } else {
+      for (int i = 0; i < 9; i++) {
+        digits.add(random.nextInt(9));
+      }
     }
     addDigit(digits);
     addDigit(digits);
@@ -95,9 +164,22 @@ public String generate() {
     return buf.toString();
   }
 
+  /** @return false if the base number consists of nine equal digits, like 000000000 or 111111111 */
+  static boolean isValidBase(long base) {
+    return (base % REPEATED_DIGIT_BASE != 0);
+  }
+
   @Override
   public Class<String> getGeneratedType() {
     return String.class;
   }
 
+  @Override
+  public void reset() {
+    if (indexGenerator != null) {
+      indexGenerator.reset();
+    }
+    super.reset();
+  }
+
 }
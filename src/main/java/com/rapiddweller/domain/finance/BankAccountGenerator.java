@@ -30,6 +30,7 @@
 import com.rapiddweller.benerator.Generator;
 import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.distribution.sequence.PermutationLongGenerator;
 import com.rapiddweller.benerator.util.WrapperProvider;
 import com.rapiddweller.benerator.wrapper.CompositeGenerator;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
@@ -38,7 +39,10 @@
 import com.rapiddweller.domain.address.Country;
 
 /**
- * Generates German {@link BankAccount}s with low validity requirements.<br/><br/>
+ * Generates German {@link BankAccount}s with low validity requirements.
+ * In unique mode, the account numbers are provided by a {@link PermutationLongGenerator},
+ * so each account number and thus each IBAN is generated once in random order
+ * without tracking the generated numbers.<br/><br/>
  * Created at 24.06.2008 08:36:32
  * @author Volker Bergmann
  * @since 0.5.4
@@ -48,8 +52,13 @@ public class BankAccountGenerator extends CompositeGenerator<BankAccount>
 
   private final String countryCode;
   private final BankGenerator bankGenerator;
+  private static final int ACCOUNT_NUMBER_LENGTH = 10;
+  private static final long ACCOUNT_NUMBER_COUNT = 10000000000L; // ten digits
+
   private final Generator<String> accountNumberGenerator;
   private final WrapperProvider<String> wp;
+  private boolean unique;
+  private PermutationLongGenerator accountNumberIndexGenerator;
 
   public BankAccountGenerator() {
     super(BankAccount.class);
@@ -57,35 +66,72 @@ public BankAccountGenerator() {
     this.countryCode = Country.getDefault().getIsoCode();
     this.bankGenerator = registerComponent(new BankGenerator());
     this.accountNumberGenerator = registerComponent(BeneratorFactory.getInstance()
-        .createVarLengthStringGenerator("[0-9]", 10, 10, 1, null));
+        .createVarLengthStringGenerator("[0-9]", ACCOUNT_NUMBER_LENGTH, ACCOUNT_NUMBER_LENGTH, 1, null));
     this.wp = new WrapperProvider<>();
+    this.unique = false;
+  }
+
+  public boolean isUnique() {
+    return unique;
+  }
+
+  /**
+   * Sets unique mode in which each account number is generated only once.
+   *
+   * @param unique the unique
+   */
+  public void setUnique(boolean unique) {
+    assertNotInitialized();
+    this.unique = unique;
   }
 
   @Override
   public synchronized void init(GeneratorContext context) {
     bankGenerator.init(context);
     accountNumberGenerator.init(context);
+    if (unique) {
+      accountNumberIndexGenerator = registerComponent(new PermutationLongGenerator(0, ACCOUNT_NUMBER_COUNT - 1));
+      accountNumberIndexGenerator.init(context);
+    }
     super.init(context);
   }
 
   @Override
   public ProductWrapper<BankAccount> generate(
       ProductWrapper<BankAccount> wrapper) {
-    return wrapper.wrap(generate());
+    BankAccount account = generate();
+    return (account != null ? wrapper.wrap(account) : null);
   }
 
   @Override
   public BankAccount generate() {
     Bank bank = bankGenerator.generate();
-    String accountNumber = accountNumberGenerator.generate(wp.get()).unwrap();
+    String accountNumber;
+    if (unique) {
+      Long index = accountNumberIndexGenerator.generate();
+      if (index == null) {
+        return null;
+      }
+      accountNumber = StringUtil.padLeft(String.valueOf(index), ACCOUNT_NUMBER_LENGTH, '0');
+    } else {
+      accountNumber = accountNumberGenerator.generate(wp.get()).unwrap();
+    }
     String iban = createIban(bank, accountNumber);
     return new BankAccount(bank, accountNumber, iban);
   }
 
+  @Override
+  public void reset() {
+    if (accountNumberIndexGenerator != null) {
+      accountNumberIndexGenerator.reset();
+    }
+    super.reset();
+  }
+
   private String createIban(Bank bank, String accountNumber) {
     String builder = countryCode + "00" +
         bank.getBankCode() +
-        StringUtil.padLeft(accountNumber, 10, '0');
+        StringUtil.padLeft(accountNumber, ACCOUNT_NUMBER_LENGTH, '0');
     return IBANUtil.fixChecksum(builder);
   }
 
@@ -26,14 +26,18 @@
 
 package com.rapiddweller.domain.us;
 
+import com.rapiddweller.benerator.GeneratorContext;
 import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.distribution.sequence.PermutationLongGenerator;
 import com.rapiddweller.benerator.distribution.sequence.RandomIntegerGenerator;
 import com.rapiddweller.benerator.wrapper.CompositeGenerator;
 import com.rapiddweller.benerator.wrapper.ProductWrapper;
 import com.rapiddweller.common.StringUtil;
 
 /**
- * Generates US Social Security Numbers.<br/>
+ * Generates US Social Security Numbers.
+ * In unique mode, each valid combination of area, group and serial number is generated once in random order
+ * by mapping the indices of a {@link PermutationLongGenerator} to the combinations.<br/>
  * <br/>
  * Created at 17.11.2008 06:54:42
  *
@@ -47,9 +51,16 @@
 public class SSNGenerator extends CompositeGenerator<String>
     implements NonNullGenerator<String> {
 
+  private static final int GROUP_COUNT = 99;
+  private static final int SERIAL_COUNT = 9999;
+
   private final RandomIntegerGenerator areaNumberGenerator;
   private final RandomIntegerGenerator groupNumberGenerator;
   private final RandomIntegerGenerator serialNumberGenerator;
+  private int maxAreaCode;
+  private boolean unique;
+  private int[] areaNumbers;
+  private PermutationLongGenerator indexGenerator;
 
   /**
    * Instantiates a new Ssn generator.
@@ -64,7 +75,19 @@ public SSNGenerator() {
    * @param maxAreaCode the max area code
    */
   public SSNGenerator(int maxAreaCode) {
+    this(maxAreaCode, false);
+  }
+
+  /**
+   * Instantiates a new Ssn generator.
+   *
+   * @param maxAreaCode the max area code
+   * @param unique      the unique
+   */
+  public SSNGenerator(int maxAreaCode, boolean unique) {
     super(String.class);
+    this.maxAreaCode = maxAreaCode;
+    this.unique = unique;
     areaNumberGenerator =
         registerComponent(new RandomIntegerGenerator(1, maxAreaCode));
     groupNumberGenerator =
@@ -73,24 +96,58 @@ public SSNGenerator(int maxAreaCode) {
         registerComponent(new RandomIntegerGenerator(1, 9999));
   }
 
+  @Override
+  public boolean isParallelizable() {
+    return !unique && super.isParallelizable();
+  }
+
+  @Override
+  public void init(GeneratorContext context) {
+    assertNotInitialized();
+    if (unique) {
+      areaNumbers = new int[maxAreaCode];
+      int areaCount = 0;
+      for (int area = 1; area <= maxAreaCode; area++) {
+        if (isValidAreaNumber(area)) {
+          areaNumbers[areaCount++] = area;
+        }
+      }
+      indexGenerator = new PermutationLongGenerator(0, (long) areaCount * GROUP_COUNT * SERIAL_COUNT - 1);
+      indexGenerator.init(context);
+    }
+    super.init(context);
+  }
+
   @Override
   public ProductWrapper<String> generate(ProductWrapper<String> wrapper) {
-    return wrapper.wrap(generate());
+    String ssn = generate();
+    return (ssn != null ? wrapper.wrap(ssn) : null);
   }
 
   @Override
   public String generate() {
+    if (unique) {
+      Long index = indexGenerator.generate();
+      if (index == null) {
+        return null;
+      }
+      int area = areaNumbers[(int) (index / (GROUP_COUNT * SERIAL_COUNT))];
+      int groupAndSerial = (int) (index % (GROUP_COUNT * SERIAL_COUNT));
+      return format(area, groupAndSerial / SERIAL_COUNT + 1, groupAndSerial % SERIAL_COUNT + 1);
+    }
     Integer area;
     do {
       area = areaNumberGenerator.generate();
-    } while (area == 666 || (area >= 734 && area <= 749));
-    return StringUtil.padLeft(String.valueOf(area), 3, '0') + '-' +
-        StringUtil.padLeft(
-            String.valueOf(groupNumberGenerator.generate()), 2,
-            '0') + '-' +
-        StringUtil.padLeft(
-            String.valueOf(serialNumberGenerator.generate()), 4,
-            '0');
+    } while (!isValidAreaNumber(area));
+    return format(area, groupNumberGenerator.generate(), serialNumberGenerator.generate());
+  }
+
+  @Override
+  public void reset() {
+    if (indexGenerator != null) {
+      indexGenerator.reset();
+    }
+    super.reset();
   }
 
   /**
@@ -99,12 +156,44 @@ public String generate() {
    * @param maxAreaCode the max area code
    */
   public void setMaxAreaCode(int maxAreaCode) {
+    this.maxAreaCode = maxAreaCode;
     areaNumberGenerator.setMax(maxAreaCode);
   }
 
+  /**
+   * Is unique boolean.
+   *
+   * @return the boolean
+   */
+  public boolean isUnique() {
+    return unique;
+  }
+
+  /**
+   * Sets unique.
+   *
+   * @param unique the unique
+   */
+  public void setUnique(boolean unique) {
+    assertNotInitialized();
+    this.unique = unique;
+  }
+
   @Override
   public String toString() {
-    return getClass().getSimpleName();
+    return getClass().getSimpleName() + (unique ? "[unique]" : "");
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static boolean isValidAreaNumber(int area) {
+    return (area != 666 && (area < 734 || area > 749));
+  }
+
+  private static String format(int area, int group, int serial) {
+    return StringUtil.padLeft(String.valueOf(area), 3, '0') + '-' +
+        StringUtil.padLeft(String.valueOf(group), 2, '0') + '-' +
+        StringUtil.padLeft(String.valueOf(serial), 4, '0');
   }
 
 }
@@ -31,16 +31,30 @@
 import com.rapiddweller.common.CollectionUtil;
 import com.rapiddweller.common.collection.ListBasedSet;
 import com.rapiddweller.common.collection.NamedValueList;
+import com.rapiddweller.script.PrimitiveType;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Describes a type that aggregates {@link ComponentDescriptor}s.<br/>
  * <br/>
+ * When parsing is finished, a descriptor can be {@link #freeze() frozen} for fast lookups during generation:
+ * A frozen descriptor provides its parts, components and id component names as precomputed immutable
+ * structures with inherited parts flattened in, and resolves components by a case-insensitive hash index
+ * instead of scanning its parts and those of its parent types. If the descriptor or one of its parent types
+ * is structurally modified after freezing, or if the type of a component is changed, the precomputed
+ * structures are recalculated on the next access.<br/>
+ * <br/>
  * Created: 03.03.2008 10:56:16
  *
  * @author Volker Bergmann
@@ -51,6 +65,9 @@ public class ComplexTypeDescriptor extends TypeDescriptor implements VariableHol
   public static final String __SIMPLE_CONTENT = "__SIMPLE_CONTENT";
 
   private NamedValueList<InstanceDescriptor> parts; // TODO use only ComponentDescriptors
+  private final AtomicLong structureVersion = new AtomicLong(); // is incremented on each structural change
+  private volatile boolean frozen;
+  private volatile FrozenStructure frozenStructure;
 
   // constructors ----------------------------------------------------------------------------------------------------
 
@@ -82,11 +99,13 @@ public void addPart(InstanceDescriptor part) {
   public void addComponent(ComponentDescriptor component) {
     linkToParentTypeComponent(component);
     parts.add(component.getName(), component);
+    structureChanged();
   }
 
   public void setComponent(ComponentDescriptor component) {
     linkToParentTypeComponent(component);
     parts.set(component.getName(), component);
+    structureChanged();
   }
 
   /** Searches the parent type descriptor for a component of the same name and,
@@ -101,10 +120,40 @@ private void linkToParentTypeComponent(ComponentDescriptor component) {
   }
 
   public ComponentDescriptor getComponent(String name) {
+    FrozenStructure structure = frozenStructure();
+    if (structure != null) {
+      return structure.getComponent(name);
+    }
     return BeneratorFactory.getInstance().getComponent(name, parts, (ComplexTypeDescriptor) getParent());
   }
 
+  /** Returns the Java type to which values of the given component are converted when set in an {@link Entity},
+   *  or null if the component is not of a simple type.
+   *  @param component a component of this type
+   *  @return the Java type to use for the component values */
+  public Class<?> getComponentJavaType(ComponentDescriptor component) {
+    FrozenStructure structure = frozenStructure();
+    if (structure != null) {
+      JavaType javaType = structure.javaTypes.get(component);
+      if (javaType != null) {
+        if (javaType.typeVersion == component.getTypeVersion()) {
+          return javaType.type;
+        }
+        structureChanged(); // the component type has changed since the snapshot was taken
+      }
+    }
+    return resolveJavaType(component);
+  }
+
   public List<InstanceDescriptor> getParts() {
+    FrozenStructure structure = frozenStructure();
+    if (structure != null) {
+      return structure.parts;
+    }
+    return collectParts();
+  }
+
+  private List<InstanceDescriptor> collectParts() {
     NamedValueList<InstanceDescriptor> result =
         NamedValueList.createCaseInsensitiveList();
 
@@ -127,8 +176,16 @@ public List<InstanceDescriptor> getParts() {
   }
 
   public List<ComponentDescriptor> getComponents() {
+    FrozenStructure structure = frozenStructure();
+    if (structure != null) {
+      return structure.components;
+    }
+    return collectComponents(getParts());
+  }
+
+  private static List<ComponentDescriptor> collectComponents(List<InstanceDescriptor> parts) {
     List<ComponentDescriptor> result = new ArrayList<>();
-    for (InstanceDescriptor instance : getParts()) {
+    for (InstanceDescriptor instance : parts) {
       if (instance instanceof ComponentDescriptor) {
         result.add((ComponentDescriptor) instance);
       }
@@ -146,9 +203,19 @@ public boolean isDeclaredComponent(String componentName) {
     return parts.containsName(componentName);
   }
 
+  /** Returns the names of the id components. For a frozen descriptor, the returned array is shared
+   *  and must not be modified. */
   public String[] getIdComponentNames() {
+    FrozenStructure structure = frozenStructure();
+    if (structure != null) {
+      return structure.idComponentNames;
+    }
+    return collectIdComponentNames(getComponents());
+  }
+
+  private static String[] collectIdComponentNames(List<ComponentDescriptor> components) {
     ArrayBuilder<String> builder = new ArrayBuilder<>(String.class);
-    for (ComponentDescriptor descriptor : getComponents()) {
+    for (ComponentDescriptor descriptor : components) {
       if (descriptor instanceof IdDescriptor) {
         builder.add(descriptor.getName());
       }
@@ -157,6 +224,10 @@ public String[] getIdComponentNames() {
   }
 
   public List<ReferenceDescriptor> getReferenceComponents() {
+    FrozenStructure structure = frozenStructure();
+    if (structure != null) {
+      return structure.referenceComponents;
+    }
     return CollectionUtil.extractItemsOfExactType(ReferenceDescriptor.class,
         getComponents());
   }
@@ -164,6 +235,32 @@ public List<ReferenceDescriptor> getReferenceComponents() {
   @Override
   public void addVariable(VariableDescriptor variable) {
     parts.add(variable.getName(), variable);
+    structureChanged();
+  }
+
+  @Override
+  public void setParentName(String parentName) {
+    super.setParentName(parentName);
+    structureChanged();
+  }
+
+  @Override
+  public void setParent(TypeDescriptor parent) {
+    super.setParent(parent);
+    structureChanged();
+  }
+
+  // freezing --------------------------------------------------------------------------------------------------------
+
+  /** Marks the descriptor as completely parsed, so that it provides its structure from precomputed indexes.
+   *  @return this descriptor */
+  public ComplexTypeDescriptor freeze() {
+    this.frozen = true;
+    return this;
+  }
+
+  public boolean isFrozen() {
+    return frozen;
   }
 
   // construction helper methods -------------------------------------------------------------------------------------
@@ -181,6 +278,135 @@ protected void init() {
 
   public void clear() { // TODO remove
     parts.clear();
+    structureChanged();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void structureChanged() {
+    structureVersion.incrementAndGet();
+    this.frozenStructure = null;
+  }
+
+  private FrozenStructure frozenStructure() {
+    if (!frozen) {
+      return null;
+    }
+    FrozenStructure structure = this.frozenStructure;
+    if (structure == null || !structure.isUpToDate(this)) {
+      structure = new FrozenStructure(this);
+      this.frozenStructure = structure;
+    }
+    return structure;
+  }
+
+  private Class<?> resolveJavaType(ComponentDescriptor component) {
+    TypeDescriptor componentType = component.getTypeDescriptor();
+    if (!(componentType instanceof SimpleTypeDescriptor)) {
+      return null;
+    }
+    PrimitiveType primitiveType = ((SimpleTypeDescriptor) componentType).getPrimitiveType();
+    if (primitiveType == null) {
+      primitiveType = PrimitiveType.STRING;
+    }
+    return getDataModel().getBeanDescriptorProvider().concreteType(primitiveType.getName());
+  }
+
+  /** Immutable snapshot of the structure of a frozen descriptor. */
+  private static final class FrozenStructure {
+
+    /** the structure versions of the owner and its parent types at the time the snapshot was taken */
+    private final long version;
+    private final ComplexTypeDescriptor[] parentTypes;
+    private final long[] parentVersions;
+    final List<InstanceDescriptor> parts;
+    final List<ComponentDescriptor> components;
+    final String[] idComponentNames;
+    final List<ReferenceDescriptor> referenceComponents;
+    final Map<ComponentDescriptor, JavaType> javaTypes;
+    /** maps the lower case names of all components including the inherited ones and their exact names
+     *  (if different) to the component that {@link #getComponent(String)} would yield */
+    private final Map<String, ComponentDescriptor> componentIndex;
+
+    FrozenStructure(ComplexTypeDescriptor owner) {
+      this.version = owner.structureVersion.get();
+      List<ComplexTypeDescriptor> parents = new ArrayList<>();
+      for (TypeDescriptor type = owner.getParent(); type instanceof ComplexTypeDescriptor; type = type.getParent()) {
+        parents.add((ComplexTypeDescriptor) type);
+      }
+      this.parentTypes = parents.toArray(new ComplexTypeDescriptor[0]);
+      this.parentVersions = new long[parentTypes.length];
+      for (int i = 0; i < parentTypes.length; i++) {
+        parentVersions[i] = parentTypes[i].structureVersion.get();
+      }
+      this.parts = Collections.unmodifiableList(owner.collectParts());
+      this.components = Collections.unmodifiableList(collectComponents(parts));
+      this.idComponentNames = collectIdComponentNames(components);
+      this.referenceComponents = Collections.unmodifiableList(
+          CollectionUtil.extractItemsOfExactType(ReferenceDescriptor.class, components));
+      this.componentIndex = new HashMap<>();
+      // like getComponent(): the first declared component of a name wins, then those of the parent types
+      for (TypeDescriptor type = owner; type instanceof ComplexTypeDescriptor; type = type.getParent()) {
+        for (InstanceDescriptor part : ((ComplexTypeDescriptor) type).getDeclaredParts()) {
+          if (part instanceof ComponentDescriptor) {
+            index((ComponentDescriptor) part);
+          }
+        }
+      }
+      this.javaTypes = new IdentityHashMap<>();
+      for (ComponentDescriptor component : componentIndex.values()) {
+        long typeVersion = component.getTypeVersion();
+        javaTypes.put(component, new JavaType(owner.resolveJavaType(component), typeVersion));
+      }
+    }
+
+    /** Tells if neither the owner nor one of its parent types has been modified since the snapshot was taken.
+     *  Replacing a parent type is a modification of the child, so the parent types need not be resolved again. */
+    boolean isUpToDate(ComplexTypeDescriptor owner) {
+      if (owner.structureVersion.get() != version) {
+        return false;
+      }
+      for (int i = 0; i < parentTypes.length; i++) {
+        if (parentTypes[i].structureVersion.get() != parentVersions[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    ComponentDescriptor getComponent(String name) {
+      ComponentDescriptor component = componentIndex.get(name);
+      if (component == null && name != null) {
+        component = componentIndex.get(name.toLowerCase(Locale.ROOT));
+      }
+      return component;
+    }
+
+    private void index(ComponentDescriptor component) {
+      String name = component.getName();
+      if (name == null) {
+        return;
+      }
+      String key = name.toLowerCase(Locale.ROOT);
+      if (!componentIndex.containsKey(key)) {
+        componentIndex.put(key, component);
+        if (!key.equals(name)) {
+          componentIndex.put(name, component);
+        }
+      }
+    }
+  }
+
+  /** Java type of a component, together with the component's type version from which it was resolved. */
+  private static final class JavaType {
+
+    final Class<?> type;
+    final long typeVersion;
+
+    JavaType(Class<?> type, long typeVersion) {
+      this.type = type;
+      this.typeVersion = typeVersion;
+    }
   }
 
   // java.lang.Object overrides --------------------------------------------------------------------------------------
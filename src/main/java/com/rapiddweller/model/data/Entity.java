@@ -35,8 +35,6 @@
 import com.rapiddweller.common.ProgrammerError;
 import com.rapiddweller.common.collection.OrderedNameMap;
 import com.rapiddweller.common.converter.AnyConverter;
-import com.rapiddweller.platform.java.BeanDescriptorProvider;
-import com.rapiddweller.script.PrimitiveType;
 import com.rapiddweller.common.ArrayUtil;
 
 import java.lang.reflect.Array;
@@ -127,14 +125,8 @@ public void setComponent(String componentName, Object component) {
     if (descriptor != null) {
       ComponentDescriptor componentDescriptor = descriptor.getComponent(componentName);
       String internalComponentName = componentName;
-      if (componentDescriptor != null && componentDescriptor.getTypeDescriptor() instanceof SimpleTypeDescriptor) {
-        SimpleTypeDescriptor componentType = (SimpleTypeDescriptor) componentDescriptor.getTypeDescriptor();
-        PrimitiveType primitiveType = componentType.getPrimitiveType();
-        if (primitiveType == null) {
-          primitiveType = PrimitiveType.STRING;
-        }
-        BeanDescriptorProvider beanProvider = descriptor.getDataModel().getBeanDescriptorProvider();
-        Class<?> javaType = beanProvider.concreteType(primitiveType.getName());
+      Class<?> javaType = (componentDescriptor != null ? descriptor.getComponentJavaType(componentDescriptor) : null);
+      if (javaType != null) {
         component = AnyConverter.convert(component, javaType);
         internalComponentName = componentDescriptor.getName();
       }
@@ -60,6 +60,7 @@ public class InstanceDescriptor extends FeatureDescriptor {
 
   private InstanceDescriptor parent;
   private TypeDescriptor localType;
+  private volatile long typeVersion; // is incremented on each change of the type or local type
 
 
   // constructors ----------------------------------------------------------------------------------------------------
@@ -103,6 +104,7 @@ protected InstanceDescriptor(String name, DescriptorProvider provider,
 
   public void setParent(InstanceDescriptor parent) {
     this.parent = parent;
+    typeVersion++;
   }
 
   @Override
@@ -142,6 +144,7 @@ public TypeDescriptor getLocalType() {
 
   public void setLocalType(TypeDescriptor localType) {
     this.localType = localType;
+    typeVersion++;
     if (localType != null) {
       setType(null);
     }
@@ -158,10 +161,17 @@ public TypeDescriptor getLocalType(boolean complexType) {
       localType =
           new SimpleTypeDescriptor(getName(), provider, getType());
     }
+    typeVersion++;
     setType(null);
     return localType;
   }
 
+  /** Returns a number which changes whenever the type of this descriptor or of its parent is changed,
+   *  allowing to detect stale cached type information. */
+  public long getTypeVersion() {
+    return typeVersion + (parent != null ? parent.getTypeVersion() : 0);
+  }
+
   public Boolean isUnique() {
     return (Boolean) getDetailValue(UNIQUE);
   }
@@ -295,6 +305,9 @@ public void setDetailValue(String detailName, Object detailValue) {
       }
     } else {
       super.setDetailValue(detailName, detailValue);
+      if (TYPE.equals(detailName)) {
+        typeVersion++;
+      }
     }
   }
 
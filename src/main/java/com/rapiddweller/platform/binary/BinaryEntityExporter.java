@@ -0,0 +1,130 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.binary;
+
+import com.rapiddweller.benerator.consumer.AbstractConsumer;
+import com.rapiddweller.benerator.consumer.FileExporter;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.FileCompression;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Exports entities to a file in the compact binary entity format of {@link BinaryEntityWriter},
+ * which can be read by a {@link BinaryEntitySource}. The file keeps the order of the entities,
+ * so generated data can be staged once and replayed into several targets.
+ * With the 'compression' property or the file suffix '.gz', the file is gzip compressed.<br/><br/>
+ * Created: 19.10.2026 11:17:43
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BinaryEntityExporter extends AbstractConsumer implements FileExporter {
+
+  private static final String DEFAULT_URI = "export" + BinaryFileFormat.FILE_SUFFIX;
+
+  private String uri;
+  private String compression;
+
+  private BinaryEntityWriter writer;
+  private boolean closed;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public BinaryEntityExporter() {
+    this(DEFAULT_URI);
+  }
+
+  public BinaryEntityExporter(String uri) {
+    this.uri = uri;
+    this.compression = null;
+    this.closed = false;
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  @Override
+  public String getUri() {
+    return uri;
+  }
+
+  public void setUri(String uri) {
+    this.uri = uri;
+  }
+
+  public String getCompression() {
+    return compression;
+  }
+
+  /** Sets the compression of the file: 'none' or 'gzip'. If it is not set, it is derived from the file suffix. */
+  public void setCompression(String compression) {
+    this.compression = compression;
+  }
+
+  // Consumer interface implementation -------------------------------------------------------------------------------
+
+  @Override
+  public synchronized void startProductConsumption(Object object) {
+    if (!(object instanceof Entity)) {
+      throw new IllegalArgumentException("Expected entity, but got " + object);
+    }
+    if (closed) {
+      throw new IllegalStateException("Exporter has already been closed: " + this);
+    }
+    try {
+      openIfNecessary();
+      writer.writeEntity((Entity) object);
+    } catch (IOException e) {
+      throw new ConfigurationError("Error writing binary entity file " + uri, e);
+    }
+  }
+
+  @Override
+  public synchronized void flush() {
+    if (writer != null) {
+      try {
+        writer.flush();
+      } catch (IOException e) {
+        throw new ConfigurationError("Error flushing binary entity file " + uri, e);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      openIfNecessary();
+      writer.close();
+    } catch (IOException e) {
+      throw new ConfigurationError("Error closing binary entity file " + uri, e);
+    } finally {
+      writer = null;
+    }
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + uri + "]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void openIfNecessary() throws IOException {
+    if (writer != null) {
+      return;
+    }
+    File directory = new File(uri).getAbsoluteFile().getParentFile();
+    if (!directory.exists() && !directory.mkdirs() && !directory.isDirectory()) {
+      throw new ConfigurationError("Directory cannot be created: " + directory);
+    }
+    writer = new BinaryEntityWriter(FileCompression.createOutputStream(uri, compression, false));
+  }
+
+}
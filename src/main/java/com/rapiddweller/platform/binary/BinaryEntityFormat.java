@@ -0,0 +1,38 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.binary;
+
+import com.rapiddweller.platform.columnar.ColumnType;
+
+/**
+ * Constants of the binary entity format. A file starts with {@link #MAGIC} and {@link #VERSION},
+ * followed by one record per entity, and ends with {@link #END}. Each value is preceded by a tag byte:
+ * Scalar values use the codes and representations of {@link ColumnType}, strings may be replaced by references
+ * to a dictionary of previous strings, and entities and arrays are nested recursively.<br/><br/>
+ * Created: 19.10.2026 09:48:25
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+final class BinaryEntityFormat {
+
+  static final byte[] MAGIC = { 'B', 'E', 'N', 'T' };
+  static final byte VERSION = 1;
+
+  /** Reference to a string in the dictionary, followed by its varint index. */
+  static final byte STRING_REF = 32;
+  /** String which is added to the dictionary, followed by the string. */
+  static final byte STRING_NEW = 33;
+  /** Entity, followed by its schema reference and its component values. A schema reference of 0
+   *  introduces a new schema with entity type name and component names, the following schemas are
+   *  referenced by their number, starting with 1. */
+  static final byte ENTITY = 34;
+  /** Object array, followed by its varint length and its elements. */
+  static final byte ARRAY = 35;
+  /** End of the file. */
+  static final byte END = 127;
+
+  private BinaryEntityFormat() {
+    // private constructor to prevent instantiation
+  }
+
+}
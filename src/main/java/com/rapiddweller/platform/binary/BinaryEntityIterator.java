@@ -0,0 +1,99 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.binary;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.FileCompression;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Iterates the entities of a file written by a {@link BinaryEntityExporter}.
+ * Files with the suffix '.gz' are decompressed while reading.<br/><br/>
+ * Created: 19.10.2026 11:46:20
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BinaryEntityIterator implements DataIterator<Entity> {
+
+  private final String uri;
+  private final String segment;
+  private BinaryEntityReader reader;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  /**
+   * @param uri        the uri of the file to read
+   * @param entityType the type of the created entities, or null for using the types stored in the file
+   * @param segment    the stored entity type to read, or null for reading all entities of the file
+   * @param context    the context for resolving stored entity types
+   */
+  public BinaryEntityIterator(String uri, ComplexTypeDescriptor entityType, String segment,
+                              BeneratorContext context) {
+    this.uri = uri;
+    this.segment = segment;
+    InputStream in = null;
+    try {
+      in = IOUtil.getInputStreamForURI(uri);
+      if (FileCompression.GZIP.equals(FileCompression.resolve(uri, null))) {
+        in = new GZIPInputStream(in, 65536);
+      }
+      this.reader = new BinaryEntityReader(new BufferedInputStream(in, 65536), context);
+      this.reader.setEntityType(entityType);
+      this.reader.setSegment(segment);
+    } catch (IOException e) {
+      IOUtil.close(in);
+      throw new ConfigurationError("Error opening binary entity file " + uri, e);
+    }
+  }
+
+  // DataIterator interface implementation ---------------------------------------------------------------------------
+
+  @Override
+  public Class<Entity> getType() {
+    return Entity.class;
+  }
+
+  @Override
+  public DataContainer<Entity> next(DataContainer<Entity> container) {
+    if (reader == null) {
+      return null;
+    }
+    try {
+      Entity entity = reader.readEntity();
+      if (entity == null) {
+        close();
+        return null;
+      }
+      return container.setData(entity);
+    } catch (EOFException e) {
+      throw new RuntimeException("Unexpected end of binary entity file " + uri, e);
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading binary entity file " + uri, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    IOUtil.close(reader);
+    reader = null;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[uri=" + uri + ", segment=" + segment + "]";
+  }
+
+}
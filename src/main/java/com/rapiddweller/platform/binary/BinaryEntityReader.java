@@ -0,0 +1,183 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.binary;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.columnar.ColumnType;
+import com.rapiddweller.platform.file.BinaryIO;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads entities from a stream which has been written by a {@link BinaryEntityWriter}.
+ * Since later records refer to the schemas and strings of previous ones, the stream is always decoded
+ * completely, entities of other types than the requested 'segment' are decoded and then dropped.<br/><br/>
+ * Created: 19.10.2026 10:41:09
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BinaryEntityReader implements Closeable {
+
+  private final DataInputStream in;
+  private final BeneratorContext context;
+  private ComplexTypeDescriptor entityType;
+  private String segment;
+
+  private final List<Schema> schemas;
+  private final List<String> dictionary;
+  private boolean finished;
+
+  /**
+   * @param in      the stream to read
+   * @param context the context for resolving stored entity types
+   * @throws IOException if the stream cannot be read or does not contain binary entity data
+   */
+  public BinaryEntityReader(InputStream in, BeneratorContext context) throws IOException {
+    this.in = new DataInputStream(in);
+    this.context = context;
+    this.schemas = new ArrayList<>();
+    this.dictionary = new ArrayList<>();
+    this.finished = false;
+    byte[] magic = new byte[BinaryEntityFormat.MAGIC.length];
+    this.in.readFully(magic);
+    if (!Arrays.equals(magic, BinaryEntityFormat.MAGIC)) {
+      throw new IOException("Not a binary entity file");
+    }
+    byte version = this.in.readByte();
+    if (version != BinaryEntityFormat.VERSION) {
+      throw new IOException("Unsupported version " + version);
+    }
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  /** Sets the type of the top-level entities. If it is not set, the stored entity types are used. */
+  public void setEntityType(ComplexTypeDescriptor entityType) {
+    this.entityType = entityType;
+  }
+
+  /** Sets the stored type of the top-level entities to read. If it is not set, all entities are read. */
+  public void setSegment(String segment) {
+    this.segment = segment;
+  }
+
+  // interface -------------------------------------------------------------------------------------------------------
+
+  /** @return the next entity or null if the end of the stream has been reached */
+  public Entity readEntity() throws IOException {
+    while (!finished) {
+      byte tag = in.readByte();
+      if (tag == BinaryEntityFormat.END) {
+        finished = true;
+      } else if (tag != BinaryEntityFormat.ENTITY) {
+        throw new IOException("Corrupt entity tag: " + tag);
+      } else {
+        Schema schema = readSchema();
+        if (segment == null || segment.equals(schema.type)) {
+          return readComponents(new Entity(entityType != null ? entityType : schema.descriptor), schema);
+        }
+        for (int i = 0; i < schema.componentNames.length; i++) {
+          readValue();
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private Object readValue() throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case BinaryEntityFormat.STRING_REF:
+        int index = (int) BinaryIO.readVarLong(in);
+        if (index >= dictionary.size()) {
+          throw new IOException("Illegal string reference: " + index);
+        }
+        return dictionary.get(index);
+      case BinaryEntityFormat.STRING_NEW:
+        String s = BinaryIO.readString(in);
+        dictionary.add(s);
+        return s;
+      case BinaryEntityFormat.ENTITY:
+        Schema schema = readSchema();
+        return readComponents(new Entity(schema.descriptor), schema);
+      case BinaryEntityFormat.ARRAY:
+        Object[] array = new Object[(int) BinaryIO.readVarLong(in)];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = readValue();
+        }
+        return array;
+      default:
+        try {
+          return ColumnType.ofCode(tag).read(in);
+        } catch (IllegalArgumentException e) {
+          throw new IOException("Corrupt value tag: " + tag, e);
+        }
+    }
+  }
+
+  private Entity readComponents(Entity entity, Schema schema) throws IOException {
+    for (String componentName : schema.componentNames) {
+      entity.setComponent(componentName, readValue());
+    }
+    return entity;
+  }
+
+  private Schema readSchema() throws IOException {
+    int ref = (int) BinaryIO.readVarLong(in);
+    if (ref > 0) {
+      if (ref > schemas.size()) {
+        throw new IOException("Illegal schema reference: " + ref);
+      }
+      return schemas.get(ref - 1);
+    }
+    String type = BinaryIO.readString(in);
+    String[] componentNames = new String[(int) BinaryIO.readVarLong(in)];
+    for (int i = 0; i < componentNames.length; i++) {
+      componentNames[i] = BinaryIO.readString(in);
+    }
+    Schema schema = new Schema(type, storedType(type), componentNames);
+    schemas.add(schema);
+    return schema;
+  }
+
+  private ComplexTypeDescriptor storedType(String name) {
+    if (name.isEmpty()) {
+      return null;
+    }
+    ComplexTypeDescriptor type = (ComplexTypeDescriptor) context.getDataModel().getTypeDescriptor(name);
+    if (type == null) {
+      type = new ComplexTypeDescriptor(name, context.getLocalDescriptorProvider());
+    }
+    return type;
+  }
+
+  private static final class Schema {
+
+    final String type;
+    final ComplexTypeDescriptor descriptor;
+    final String[] componentNames;
+
+    Schema(String type, ComplexTypeDescriptor descriptor, String[] componentNames) {
+      this.type = type;
+      this.descriptor = descriptor;
+      this.componentNames = componentNames;
+    }
+
+  }
+
+}
@@ -0,0 +1,179 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.binary;
+
+import com.rapiddweller.common.converter.ToStringConverter;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.columnar.ColumnType;
+import com.rapiddweller.platform.file.BinaryIO;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes entities to a stream in the binary entity format, which can be read by a {@link BinaryEntityReader}.
+ * The entity type and the component names are written once per combination (schema), later entities
+ * only refer to the schema. Numbers are written as varints, short strings are collected in a dictionary
+ * of limited size and repetitions are written as dictionary references. Nested entities and arrays are written
+ * recursively. Values of other types are written as strings.<br/><br/>
+ * Created: 19.10.2026 10:02:51
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BinaryEntityWriter implements Closeable, Flushable {
+
+  static final int MAX_DICTIONARY_SIZE = 1 << 16;
+  static final int MAX_DICTIONARY_STRING_LENGTH = 64;
+
+  private final DataOutputStream out;
+  private final Map<String, List<Schema>> schemas;
+  private int schemaCount;
+  private final Map<String, Integer> dictionary;
+
+  public BinaryEntityWriter(OutputStream out) throws IOException {
+    this.out = new DataOutputStream(out);
+    this.schemas = new HashMap<>();
+    this.schemaCount = 0;
+    this.dictionary = new HashMap<>();
+    this.out.write(BinaryEntityFormat.MAGIC);
+    this.out.writeByte(BinaryEntityFormat.VERSION);
+  }
+
+  public void writeEntity(Entity entity) throws IOException {
+    out.writeByte(BinaryEntityFormat.ENTITY);
+    writeEntityBody(entity);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  /** Writes the end mark and closes the underlying stream. */
+  @Override
+  public void close() throws IOException {
+    try {
+      out.writeByte(BinaryEntityFormat.END);
+    } finally {
+      out.close();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void writeEntityBody(Entity entity) throws IOException {
+    Map<String, Object> components = entity.getComponents();
+    Schema schema = schemaOf(entity.type(), components);
+    if (schema != null) {
+      BinaryIO.writeVarLong(schema.id, out);
+    } else {
+      schema = addSchema(entity.type(), components);
+      BinaryIO.writeVarLong(0, out);
+      BinaryIO.writeString(schema.type, out);
+      BinaryIO.writeVarLong(schema.componentNames.length, out);
+      for (String componentName : schema.componentNames) {
+        BinaryIO.writeString(componentName, out);
+      }
+    }
+    for (Object value : components.values()) {
+      writeValue(value);
+    }
+  }
+
+  private void writeValue(Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(ColumnType.NULL.getCode());
+    } else if (value instanceof String) {
+      writeString((String) value);
+    } else if (value instanceof Entity) {
+      out.writeByte(BinaryEntityFormat.ENTITY);
+      writeEntityBody((Entity) value);
+    } else if (value instanceof Object[]) {
+      Object[] array = (Object[]) value;
+      out.writeByte(BinaryEntityFormat.ARRAY);
+      BinaryIO.writeVarLong(array.length, out);
+      for (Object element : array) {
+        writeValue(element);
+      }
+    } else {
+      ColumnType type = ColumnType.ofJavaType(value.getClass());
+      if (type != null) {
+        out.writeByte(type.getCode());
+        type.write(value, out);
+      } else {
+        writeString(ToStringConverter.convert(value, null));
+      }
+    }
+  }
+
+  private void writeString(String s) throws IOException {
+    Integer index = dictionary.get(s);
+    if (index != null) {
+      out.writeByte(BinaryEntityFormat.STRING_REF);
+      BinaryIO.writeVarLong(index, out);
+    } else if (s.length() <= MAX_DICTIONARY_STRING_LENGTH && dictionary.size() < MAX_DICTIONARY_SIZE) {
+      dictionary.put(s, dictionary.size());
+      out.writeByte(BinaryEntityFormat.STRING_NEW);
+      BinaryIO.writeString(s, out);
+    } else {
+      out.writeByte(ColumnType.STRING.getCode());
+      BinaryIO.writeString(s, out);
+    }
+  }
+
+  private Schema schemaOf(String type, Map<String, Object> components) {
+    List<Schema> candidates = schemas.get(type != null ? type : "");
+    if (candidates != null) {
+      for (Schema candidate : candidates) {
+        if (candidate.matches(components)) {
+          return candidate;
+        }
+      }
+    }
+    return null;
+  }
+
+  private Schema addSchema(String type, Map<String, Object> components) {
+    String typeName = (type != null ? type : "");
+    Schema schema = new Schema(++schemaCount, typeName, components.keySet().toArray(new String[0]));
+    schemas.computeIfAbsent(typeName, k -> new ArrayList<>()).add(schema);
+    return schema;
+  }
+
+  /** Entity type and component names of a group of entities. */
+  private static final class Schema {
+
+    final int id;
+    final String type;
+    final String[] componentNames;
+
+    Schema(int id, String type, String[] componentNames) {
+      this.id = id;
+      this.type = type;
+      this.componentNames = componentNames;
+    }
+
+    boolean matches(Map<String, Object> components) {
+      if (components.size() != componentNames.length) {
+        return false;
+      }
+      Iterator<String> iterator = components.keySet().iterator();
+      for (String componentName : componentNames) {
+        if (!componentName.equals(iterator.next())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+  }
+
+}
@@ -0,0 +1,48 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.binary;
+
+import com.rapiddweller.benerator.FileFormat;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.factory.DataSourceProvider;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+
+import java.util.Locale;
+
+/**
+ * {@link FileFormat} of the binary entity files written by {@link BinaryEntityExporter},
+ * recognized by the file suffixes '.bent' and '.bent.gz'.<br/><br/>
+ * Created: 19.10.2026 12:10:26
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BinaryFileFormat implements FileFormat {
+
+  public static final String FILE_SUFFIX = ".bent";
+
+  @Override
+  public String getName() {
+    return "binary";
+  }
+
+  @Override
+  public boolean matchesUri(String sourceSpec) {
+    if (sourceSpec == null) {
+      return false;
+    }
+    String lowerCaseSpec = sourceSpec.toLowerCase(Locale.ROOT);
+    return (lowerCaseSpec.endsWith(FILE_SUFFIX) || lowerCaseSpec.endsWith(FILE_SUFFIX + ".gz"));
+  }
+
+  @Override
+  public DataSourceProvider<Entity> provider(String uri, String segment, ComplexTypeDescriptor descriptor,
+                                             BeneratorContext context) {
+    return (id, sourceContext) -> {
+      BinaryEntitySource source = new BinaryEntitySource(id, descriptor, segment);
+      source.setContext(sourceContext);
+      return source;
+    };
+  }
+
+}
@@ -0,0 +1,256 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.columnar;
+
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.converter.ToStringConverter;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.BinaryIO;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes and decodes the column chunks of the columnar file format.
+ * A column chunk starts with the code of its {@link ColumnType}, followed by the positions of null values
+ * and the non-null values in plain or dictionary encoding. Null positions and dictionary indices are stored
+ * as a hybrid of run-length encoded runs and literal groups, so constant, sorted or low-cardinality columns
+ * shrink to a few bytes. Integral numbers are stored as zigzag varints.
+ * Nested entities and arrays cannot be represented and are rejected.<br/><br/>
+ * Created: 19.10.2026 09:41:18
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+final class ColumnCodec {
+
+  static final byte[] MAGIC = { 'B', 'C', 'O', 'L' };
+  static final byte VERSION = 1;
+  static final byte ROW_GROUP = 1;
+  static final byte FOOTER = 2;
+
+  static final byte PLAIN = 0;
+  static final byte DICTIONARY = 1;
+
+  private static final byte ALL_PRESENT = 0;
+  private static final byte WITH_NULLS = 1;
+
+  private static final int MIN_RUN_LENGTH = 4;
+
+  private ColumnCodec() {
+    // private constructor to prevent instantiation
+  }
+
+  // column chunks ---------------------------------------------------------------------------------------------------
+
+  /** Writes the values of a column.
+   *  @return true if values of different or unsupported types were converted to strings */
+  static boolean writeColumn(String column, List<Object> values, DataOutput out) throws IOException {
+    ColumnType type = columnType(column, values);
+    out.writeByte(type.getCode());
+    if (type == ColumnType.NULL) {
+      return false;
+    }
+    boolean converted = false;
+    int rowCount = values.size();
+    int[] presence = new int[rowCount];
+    Object[] nonNullValues = new Object[rowCount];
+    int nonNullCount = 0;
+    for (int i = 0; i < rowCount; i++) {
+      Object value = values.get(i);
+      if (value != null) {
+        presence[i] = 1;
+        if (type == ColumnType.STRING && !(value instanceof String)) {
+          value = ToStringConverter.convert(value, null);
+          converted = true;
+        }
+        nonNullValues[nonNullCount++] = value;
+      }
+    }
+    if (nonNullCount == rowCount) {
+      out.writeByte(ALL_PRESENT);
+    } else {
+      out.writeByte(WITH_NULLS);
+      writeRunLengthEncoded(presence, rowCount, out);
+    }
+    if (!type.isDictionaryEncodable() || !writeDictionaryEncoded(type, nonNullValues, nonNullCount, out)) {
+      out.writeByte(PLAIN);
+      for (int i = 0; i < nonNullCount; i++) {
+        type.write(nonNullValues[i], out);
+      }
+    }
+    return converted;
+  }
+
+  static Object[] readColumn(int rowCount, DataInput in) throws IOException {
+    Object[] result = new Object[rowCount];
+    ColumnType type = ColumnType.ofCode(in.readByte());
+    if (type == ColumnType.NULL) {
+      return result;
+    }
+    int[] presence = (in.readByte() == WITH_NULLS ? readRunLengthEncoded(rowCount, in) : null);
+    int nonNullCount = (presence != null ? count(presence) : rowCount);
+    Object[] values = new Object[nonNullCount];
+    if (in.readByte() == DICTIONARY) {
+      Object[] dictionary = new Object[(int) BinaryIO.readVarLong(in)];
+      for (int i = 0; i < dictionary.length; i++) {
+        dictionary[i] = type.read(in);
+      }
+      int[] indices = readRunLengthEncoded(nonNullCount, in);
+      for (int i = 0; i < nonNullCount; i++) {
+        Object value = dictionary[indices[i]];
+        values[i] = (value instanceof Date ? ((Date) value).clone() : value); // dates are mutable
+      }
+    } else {
+      for (int i = 0; i < nonNullCount; i++) {
+        values[i] = type.read(in);
+      }
+    }
+    for (int row = 0, index = 0; row < rowCount; row++) {
+      if (presence == null || presence[row] == 1) {
+        result[row] = values[index++];
+      }
+    }
+    return result;
+  }
+
+  /** Determines the type of a column: If the non-null values have different or unsupported classes,
+   *  they are stored as strings.
+   *  @throws ConfigurationError if the column contains nested entities or arrays */
+  static ColumnType columnType(String column, List<Object> values) {
+    Class<?> javaType = null;
+    for (Object value : values) {
+      if (value != null) {
+        checkFlat(column, value);
+        if (javaType == null) {
+          javaType = value.getClass();
+        } else if (value.getClass() != javaType) {
+          return ColumnType.STRING;
+        }
+      }
+    }
+    if (javaType == null) {
+      return ColumnType.NULL;
+    }
+    ColumnType type = ColumnType.ofJavaType(javaType);
+    return (type != null ? type : ColumnType.STRING);
+  }
+
+  private static void checkFlat(String column, Object value) {
+    String kind = null;
+    if (value instanceof Entity) {
+      kind = "nested entities";
+    } else if ((value.getClass().isArray() && !(value instanceof byte[])) || value instanceof Collection) {
+      kind = "arrays";
+    }
+    if (kind != null) {
+      throw new ConfigurationError("Column '" + column + "' contains " + kind + ", which cannot be stored " +
+          "in a columnar file. Flatten the data or use the binary entity file format");
+    }
+  }
+
+  /** Writes the values as dictionary and indices, if there are on average at least two occurrences
+   *  of each distinct value.
+   *  @return true if the values were written, false if dictionary encoding is not useful for them */
+  private static boolean writeDictionaryEncoded(ColumnType type, Object[] values, int count, DataOutput out)
+      throws IOException {
+    int maxDictionarySize = count / 2;
+    Map<Object, Integer> dictionary = new HashMap<>();
+    int[] indices = new int[count];
+    for (int i = 0; i < count; i++) {
+      Integer index = dictionary.get(values[i]);
+      if (index == null) {
+        if (dictionary.size() == maxDictionarySize) {
+          return false;
+        }
+        index = dictionary.size();
+        dictionary.put(values[i], index);
+      }
+      indices[i] = index;
+    }
+    Object[] entries = new Object[dictionary.size()];
+    for (Map.Entry<Object, Integer> entry : dictionary.entrySet()) {
+      entries[entry.getValue()] = entry.getKey();
+    }
+    out.writeByte(DICTIONARY);
+    BinaryIO.writeVarLong(entries.length, out);
+    for (Object entry : entries) {
+      type.write(entry, out);
+    }
+    writeRunLengthEncoded(indices, count, out);
+    return true;
+  }
+
+  // run-length encoding ---------------------------------------------------------------------------------------------
+
+  /** Writes non-negative ints as a sequence of groups. Each group starts with a varint header,
+   *  whose lowest bit tells if it is a run (1) of one repeated value or a group of literal values (0),
+   *  and whose remaining bits tell the number of values. */
+  static void writeRunLengthEncoded(int[] values, int count, DataOutput out) throws IOException {
+    int i = 0;
+    while (i < count) {
+      int runLength = runLength(values, i, count);
+      if (runLength >= MIN_RUN_LENGTH) {
+        BinaryIO.writeVarLong(((long) runLength << 1) | 1, out);
+        BinaryIO.writeVarLong(values[i], out);
+        i += runLength;
+      } else {
+        int end = i + runLength;
+        while (end < count && (runLength = runLength(values, end, count)) < MIN_RUN_LENGTH) {
+          end += runLength;
+        }
+        BinaryIO.writeVarLong((long) (end - i) << 1, out);
+        for (; i < end; i++) {
+          BinaryIO.writeVarLong(values[i], out);
+        }
+      }
+    }
+  }
+
+  static int[] readRunLengthEncoded(int count, DataInput in) throws IOException {
+    int[] result = new int[count];
+    int i = 0;
+    while (i < count) {
+      long header = BinaryIO.readVarLong(in);
+      int length = (int) (header >>> 1);
+      if (length <= 0 || length > count - i) {
+        throw new IOException("Corrupt run length: " + length);
+      }
+      if ((header & 1) == 1) {
+        int value = (int) BinaryIO.readVarLong(in);
+        for (int end = i + length; i < end; i++) {
+          result[i] = value;
+        }
+      } else {
+        for (int end = i + length; i < end; i++) {
+          result[i] = (int) BinaryIO.readVarLong(in);
+        }
+      }
+    }
+    return result;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static int runLength(int[] values, int start, int count) {
+    int end = start + 1;
+    while (end < count && values[end] == values[start]) {
+      end++;
+    }
+    return end - start;
+  }
+
+  private static int count(int[] presence) {
+    int count = 0;
+    for (int flag : presence) {
+      count += flag;
+    }
+    return count;
+  }
+
+}
@@ -0,0 +1,279 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.columnar;
+
+import com.rapiddweller.platform.file.BinaryIO;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Types of the values in a column of a columnar file. Each type has a one-byte code, which is stored in the file,
+ * and a binary representation of its values. All values of a column in one row group have the same Java class.
+ * The binary entity format uses the same codes and representations for its scalar values.<br/><br/>
+ * Created: 19.10.2026 09:12:40
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public enum ColumnType {
+
+  /** Type of columns which only contain null values. */
+  NULL(0, Void.class, false) {
+    @Override
+    public void write(Object value, DataOutput out) {
+      // no data
+    }
+    @Override
+    public Object read(DataInput in) {
+      return null;
+    }
+  },
+
+  BOOLEAN(1, Boolean.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      out.writeBoolean((Boolean) value);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return in.readBoolean();
+    }
+  },
+
+  BYTE(2, Byte.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      out.writeByte((Byte) value);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return in.readByte();
+    }
+  },
+
+  SHORT(3, Short.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BinaryIO.writeSignedVarLong((Short) value, out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return (short) BinaryIO.readSignedVarLong(in);
+    }
+  },
+
+  INT(4, Integer.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BinaryIO.writeSignedVarLong((Integer) value, out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return (int) BinaryIO.readSignedVarLong(in);
+    }
+  },
+
+  LONG(5, Long.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BinaryIO.writeSignedVarLong((Long) value, out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return BinaryIO.readSignedVarLong(in);
+    }
+  },
+
+  FLOAT(6, Float.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      out.writeFloat((Float) value);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return in.readFloat();
+    }
+  },
+
+  DOUBLE(7, Double.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      out.writeDouble((Double) value);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return in.readDouble();
+    }
+  },
+
+  BIG_INTEGER(8, BigInteger.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BinaryIO.writeBytes(((BigInteger) value).toByteArray(), out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return new BigInteger(BinaryIO.readBytes(in));
+    }
+  },
+
+  BIG_DECIMAL(9, BigDecimal.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BigDecimal decimal = (BigDecimal) value;
+      BinaryIO.writeSignedVarLong(decimal.scale(), out);
+      BinaryIO.writeBytes(decimal.unscaledValue().toByteArray(), out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      int scale = (int) BinaryIO.readSignedVarLong(in);
+      return new BigDecimal(new BigInteger(BinaryIO.readBytes(in)), scale);
+    }
+  },
+
+  CHARACTER(10, Character.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      out.writeChar((Character) value);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return in.readChar();
+    }
+  },
+
+  STRING(11, String.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BinaryIO.writeString((String) value, out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return BinaryIO.readString(in);
+    }
+  },
+
+  DATE(12, Date.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BinaryIO.writeSignedVarLong(((Date) value).getTime(), out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return new Date(BinaryIO.readSignedVarLong(in));
+    }
+  },
+
+  SQL_DATE(13, java.sql.Date.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BinaryIO.writeSignedVarLong(((Date) value).getTime(), out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return new java.sql.Date(BinaryIO.readSignedVarLong(in));
+    }
+  },
+
+  TIME(14, Time.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BinaryIO.writeSignedVarLong(((Time) value).getTime(), out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return new Time(BinaryIO.readSignedVarLong(in));
+    }
+  },
+
+  TIMESTAMP(15, Timestamp.class, true) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      Timestamp timestamp = (Timestamp) value;
+      BinaryIO.writeSignedVarLong(timestamp.getTime(), out);
+      BinaryIO.writeVarLong(timestamp.getNanos(), out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      Timestamp timestamp = new Timestamp(BinaryIO.readSignedVarLong(in));
+      timestamp.setNanos((int) BinaryIO.readVarLong(in));
+      return timestamp;
+    }
+  },
+
+  /** Type of byte arrays. Since arrays have no value-based equals(), they are not dictionary encoded. */
+  BINARY(16, byte[].class, false) {
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+      BinaryIO.writeBytes((byte[]) value, out);
+    }
+    @Override
+    public Object read(DataInput in) throws IOException {
+      return BinaryIO.readBytes(in);
+    }
+  };
+
+  private final byte code;
+  private final Class<?> javaType;
+  private final boolean dictionaryEncodable;
+
+  ColumnType(int code, Class<?> javaType, boolean dictionaryEncodable) {
+    this.code = (byte) code;
+    this.javaType = javaType;
+    this.dictionaryEncodable = dictionaryEncodable;
+  }
+
+  public byte getCode() {
+    return code;
+  }
+
+  public Class<?> getJavaType() {
+    return javaType;
+  }
+
+  public boolean isDictionaryEncodable() {
+    return dictionaryEncodable;
+  }
+
+  /** Writes a non-null value of the type's Java class. */
+  public abstract void write(Object value, DataOutput out) throws IOException;
+
+  public abstract Object read(DataInput in) throws IOException;
+
+  /** @return the column type of the given Java class or null if the class is not supported */
+  public static ColumnType ofJavaType(Class<?> javaType) {
+    return Lookup.BY_JAVA_TYPE.get(javaType);
+  }
+
+  public static ColumnType ofCode(byte code) {
+    ColumnType type = (code >= 0 && code < Lookup.BY_CODE.length ? Lookup.BY_CODE[code] : null);
+    if (type == null) {
+      throw new IllegalArgumentException("Unknown column type code: " + code);
+    }
+    return type;
+  }
+
+  /** Lookup tables, which are initialized after the enum constants. */
+  private static final class Lookup {
+
+    static final Map<Class<?>, ColumnType> BY_JAVA_TYPE = new HashMap<>();
+    static final ColumnType[] BY_CODE = new ColumnType[values().length];
+
+    static {
+      for (ColumnType type : values()) {
+        BY_JAVA_TYPE.put(type.javaType, type);
+        BY_CODE[type.code] = type;
+      }
+    }
+
+  }
+
+}
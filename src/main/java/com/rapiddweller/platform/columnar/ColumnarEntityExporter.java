@@ -0,0 +1,268 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.columnar;
+
+import com.rapiddweller.benerator.consumer.AbstractConsumer;
+import com.rapiddweller.benerator.consumer.FileExporter;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.BinaryIO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Exports entities to a binary columnar file, which can be read by a {@link ColumnarEntitySource}.
+ * The entities are collected in row groups, one per entity type. When a row group has reached the configured
+ * 'rowGroupSize', its values are encoded column by column and appended to the file, so the row group size
+ * limits the memory used by the exporter. Each row group contains the entity type and the names and value types
+ * of its columns, so the file is self-describing. A footer lists the row groups with their file offsets.
+ * The column encodings are described in {@link ColumnCodec}.<br/><br/>
+ * Created: 19.10.2026 11:05:27
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ColumnarEntityExporter extends AbstractConsumer implements FileExporter {
+
+  private static final Logger logger = LoggerFactory.getLogger(ColumnarEntityExporter.class);
+
+  private static final String DEFAULT_URI = "export" + ColumnarFileFormat.FILE_SUFFIX;
+  public static final int DEFAULT_ROW_GROUP_SIZE = 10000;
+
+  private String uri;
+  private int rowGroupSize;
+
+  private DataOutputStream out;
+  private long position;
+  private final Map<String, RowGroup> rowGroups;
+  private final List<RowGroupInfo> writtenRowGroups;
+  private final Set<String> convertedColumns;
+  private boolean closed;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public ColumnarEntityExporter() {
+    this(DEFAULT_URI);
+  }
+
+  public ColumnarEntityExporter(String uri) {
+    this.uri = uri;
+    this.rowGroupSize = DEFAULT_ROW_GROUP_SIZE;
+    this.rowGroups = new LinkedHashMap<>();
+    this.writtenRowGroups = new ArrayList<>();
+    this.convertedColumns = new HashSet<>();
+    this.closed = false;
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  @Override
+  public String getUri() {
+    return uri;
+  }
+
+  public void setUri(String uri) {
+    this.uri = uri;
+  }
+
+  public int getRowGroupSize() {
+    return rowGroupSize;
+  }
+
+  /** Sets the maximum number of entities which are buffered per entity type before they are written. */
+  public void setRowGroupSize(int rowGroupSize) {
+    if (rowGroupSize <= 0) {
+      throw new ConfigurationError("rowGroupSize must be positive, but was " + rowGroupSize);
+    }
+    this.rowGroupSize = rowGroupSize;
+  }
+
+  // Consumer interface implementation -------------------------------------------------------------------------------
+
+  @Override
+  public synchronized void startProductConsumption(Object object) {
+    if (!(object instanceof Entity)) {
+      throw new IllegalArgumentException("Expected entity, but got " + object);
+    }
+    if (closed) {
+      throw new IllegalStateException("Exporter has already been closed: " + this);
+    }
+    Entity entity = (Entity) object;
+    RowGroup rowGroup = rowGroups.computeIfAbsent(entity.type(), RowGroup::new);
+    rowGroup.add(entity);
+    if (rowGroup.rowCount >= rowGroupSize) {
+      writeRowGroup(rowGroup);
+    }
+  }
+
+  /** Flushes the written row groups to the file. Buffered entities are kept in their row groups,
+   *  since writing them early would shrink the row groups and their compression. */
+  @Override
+  public synchronized void flush() {
+    if (out != null) {
+      IOUtil.flush(out);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      for (RowGroup rowGroup : rowGroups.values()) {
+        if (rowGroup.rowCount > 0) {
+          writeRowGroup(rowGroup);
+        }
+      }
+      rowGroups.clear();
+      openIfNecessary();
+      writeFooter();
+    } catch (IOException e) {
+      throw new ConfigurationError("Error closing columnar file " + uri, e);
+    } finally {
+      IOUtil.close(out);
+      out = null;
+    }
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + uri + ", rowGroupSize=" + rowGroupSize + "]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void writeRowGroup(RowGroup rowGroup) {
+    try {
+      openIfNecessary();
+      ByteArrayOutputStream columnBuffer = new ByteArrayOutputStream();
+      DataOutputStream columns = new DataOutputStream(columnBuffer);
+      BinaryIO.writeVarLong(rowGroup.columns.size(), columns);
+      for (Map.Entry<String, List<Object>> column : rowGroup.columns.entrySet()) {
+        BinaryIO.writeString(column.getKey(), columns);
+        if (ColumnCodec.writeColumn(column.getKey(), column.getValue(), columns)
+            && convertedColumns.add(rowGroup.type + '.' + column.getKey())) {
+          logger.warn("Column '{}' of '{}' entities has values of different or unsupported types, " +
+              "which are written as strings", column.getKey(), rowGroup.type);
+        }
+      }
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(columnBuffer.size() + 64);
+      DataOutputStream header = new DataOutputStream(buffer);
+      header.writeByte(ColumnCodec.ROW_GROUP);
+      BinaryIO.writeString(rowGroup.type, header);
+      BinaryIO.writeVarLong(rowGroup.rowCount, header);
+      BinaryIO.writeVarLong(columnBuffer.size(), header);
+      columnBuffer.writeTo(buffer);
+      logger.debug("Writing row group of {} '{}' entities with {} bytes to {}",
+          rowGroup.rowCount, rowGroup.type, buffer.size(), uri);
+      buffer.writeTo(out);
+      writtenRowGroups.add(new RowGroupInfo(rowGroup.type, position, rowGroup.rowCount));
+      position += buffer.size();
+      rowGroup.clear();
+    } catch (IOException e) {
+      throw new ConfigurationError("Error writing columnar file " + uri, e);
+    }
+  }
+
+  private void writeFooter() throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    DataOutputStream footer = new DataOutputStream(buffer);
+    footer.writeByte(ColumnCodec.FOOTER);
+    BinaryIO.writeVarLong(writtenRowGroups.size(), footer);
+    for (RowGroupInfo info : writtenRowGroups) {
+      BinaryIO.writeString(info.type, footer);
+      BinaryIO.writeVarLong(info.offset, footer);
+      BinaryIO.writeVarLong(info.rowCount, footer);
+    }
+    buffer.writeTo(out);
+    out.writeInt(buffer.size()); // enables readers to find the footer from the end of the file
+    out.write(ColumnCodec.MAGIC);
+  }
+
+  private void openIfNecessary() throws IOException {
+    if (out != null) {
+      return;
+    }
+    File file = new File(uri);
+    File directory = file.getAbsoluteFile().getParentFile();
+    if (!directory.exists() && !directory.mkdirs() && !directory.isDirectory()) {
+      throw new ConfigurationError("Directory cannot be created: " + directory);
+    }
+    out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 65536));
+    out.write(ColumnCodec.MAGIC);
+    out.writeByte(ColumnCodec.VERSION);
+    position = ColumnCodec.MAGIC.length + 1;
+  }
+
+  /** Buffers the values of the entities of one type column by column. */
+  private static final class RowGroup {
+
+    final String type;
+    final Map<String, List<Object>> columns;
+    int rowCount;
+
+    RowGroup(String type) {
+      this.type = type;
+      this.columns = new LinkedHashMap<>();
+      this.rowCount = 0;
+    }
+
+    void add(Entity entity) {
+      for (Map.Entry<String, Object> component : entity.getComponents().entrySet()) {
+        List<Object> column = columns.get(component.getKey());
+        if (column == null) { // new column: fill in nulls for the preceding rows
+          column = new ArrayList<>();
+          for (int i = 0; i < rowCount; i++) {
+            column.add(null);
+          }
+          columns.put(component.getKey(), column);
+        }
+        column.add(component.getValue());
+      }
+      rowCount++;
+      for (List<Object> column : columns.values()) {
+        if (column.size() < rowCount) { // the entity has no such component
+          column.add(null);
+        }
+      }
+    }
+
+    void clear() {
+      columns.clear();
+      rowCount = 0;
+    }
+
+  }
+
+  private static final class RowGroupInfo {
+
+    final String type;
+    final long offset;
+    final int rowCount;
+
+    RowGroupInfo(String type, long offset, int rowCount) {
+      this.type = type;
+      this.offset = offset;
+      this.rowCount = rowCount;
+    }
+
+  }
+
+}
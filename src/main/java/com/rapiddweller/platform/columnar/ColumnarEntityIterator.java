@@ -0,0 +1,169 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.columnar;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.BinaryIO;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Iterates the entities of a file written by a {@link ColumnarEntityExporter}. The file is read sequentially
+ * and only one row group is decoded at a time, so memory usage is limited by the row group size of the file.
+ * Row groups of other entity types than the requested 'segment' are skipped without decoding them.<br/><br/>
+ * Created: 19.10.2026 13:22:51
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ColumnarEntityIterator implements DataIterator<Entity> {
+
+  private final String uri;
+  private final ComplexTypeDescriptor entityType;
+  private final String segment;
+  private final BeneratorContext context;
+
+  private DataInputStream in;
+  private ComplexTypeDescriptor rowGroupType;
+  private String[] columnNames;
+  private Object[][] columns;
+  private int rowCount;
+  private int row;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  /**
+   * @param uri        the uri of the file to read
+   * @param entityType the type of the created entities, or null for using the types stored in the file
+   * @param segment    the stored entity type to read, or null for reading all entities of the file
+   * @param context    the context for resolving stored entity types
+   */
+  public ColumnarEntityIterator(String uri, ComplexTypeDescriptor entityType, String segment,
+                                BeneratorContext context) {
+    this.uri = uri;
+    this.entityType = entityType;
+    this.segment = segment;
+    this.context = context;
+    this.rowCount = 0;
+    this.row = 0;
+    try {
+      this.in = new DataInputStream(new BufferedInputStream(IOUtil.getInputStreamForURI(uri), 65536));
+      byte[] magic = new byte[ColumnCodec.MAGIC.length];
+      in.readFully(magic);
+      if (!Arrays.equals(magic, ColumnCodec.MAGIC)) {
+        throw new IOException("Not a columnar file");
+      }
+      byte version = in.readByte();
+      if (version != ColumnCodec.VERSION) {
+        throw new IOException("Unsupported version " + version);
+      }
+    } catch (IOException e) {
+      close();
+      throw new ConfigurationError("Error opening columnar file " + uri, e);
+    }
+  }
+
+  // DataIterator interface implementation ---------------------------------------------------------------------------
+
+  @Override
+  public Class<Entity> getType() {
+    return Entity.class;
+  }
+
+  @Override
+  public DataContainer<Entity> next(DataContainer<Entity> container) {
+    while (row >= rowCount) {
+      if (!readRowGroup()) {
+        return null;
+      }
+    }
+    Entity entity = new Entity(rowGroupType);
+    for (int column = 0; column < columns.length; column++) {
+      entity.setComponent(columnNames[column], columns[column][row]);
+    }
+    row++;
+    return container.setData(entity);
+  }
+
+  @Override
+  public void close() {
+    IOUtil.close(in);
+    in = null;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[uri=" + uri + ", segment=" + segment + "]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  /** @return false if the end of the data has been reached */
+  private boolean readRowGroup() {
+    if (in == null) {
+      return false;
+    }
+    try {
+      byte marker = in.readByte();
+      if (marker == ColumnCodec.FOOTER) {
+        close();
+        return false;
+      } else if (marker != ColumnCodec.ROW_GROUP) {
+        throw new IOException("Corrupt row group marker: " + marker);
+      }
+      String type = BinaryIO.readString(in);
+      rowCount = (int) BinaryIO.readVarLong(in);
+      long length = BinaryIO.readVarLong(in);
+      row = 0;
+      if (segment != null && !segment.equals(type)) {
+        skip(length);
+        rowCount = 0;
+        return true;
+      }
+      int columnCount = (int) BinaryIO.readVarLong(in);
+      columnNames = new String[columnCount];
+      columns = new Object[columnCount][];
+      for (int i = 0; i < columnCount; i++) {
+        columnNames[i] = BinaryIO.readString(in);
+        columns[i] = ColumnCodec.readColumn(rowCount, in);
+      }
+      rowGroupType = (entityType != null ? entityType : storedType(type));
+      return true;
+    } catch (EOFException e) {
+      throw new RuntimeException("Unexpected end of columnar file " + uri, e);
+    } catch (IOException e) {
+      throw new RuntimeException("Error reading columnar file " + uri, e);
+    }
+  }
+
+  private ComplexTypeDescriptor storedType(String name) {
+    ComplexTypeDescriptor type = (ComplexTypeDescriptor) context.getDataModel().getTypeDescriptor(name);
+    if (type == null) {
+      type = new ComplexTypeDescriptor(name, context.getLocalDescriptorProvider());
+    }
+    return type;
+  }
+
+  private void skip(long length) throws IOException {
+    while (length > 0) {
+      int skipped = in.skipBytes((int) Math.min(length, Integer.MAX_VALUE));
+      if (skipped <= 0) {
+        in.readByte(); // throws an EOFException at the end of the file
+        skipped = 1;
+      }
+      length -= skipped;
+    }
+  }
+
+}
@@ -0,0 +1,60 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.columnar;
+
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.model.data.FileBasedEntitySource;
+
+/**
+ * Imports {@link Entity} data from columnar files written by a {@link ColumnarEntityExporter}.
+ * If the file contains entities of several types, the 'segment' property selects the type to import.
+ * <br/><br/>
+ * Created: 19.10.2026 13:58:10
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ColumnarEntitySource extends FileBasedEntitySource {
+
+  private final ComplexTypeDescriptor entityType;
+  private String segment;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public ColumnarEntitySource() {
+    this(null, null, null);
+  }
+
+  public ColumnarEntitySource(String uri, ComplexTypeDescriptor entityType, String segment) {
+    super(uri);
+    this.entityType = entityType;
+    this.segment = segment;
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public String getSegment() {
+    return segment;
+  }
+
+  /** Sets the name of the entity type to import. If it is not set, all entities of the file are imported. */
+  public void setSegment(String segment) {
+    this.segment = segment;
+  }
+
+  // EntitySource interface ------------------------------------------------------------------------------------------
+
+  @Override
+  public DataIterator<Entity> iterator() {
+    return new ColumnarEntityIterator(resolveUri(), entityType, segment, context);
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[uri=" + uri + ", segment=" + segment + "]";
+  }
+
+}
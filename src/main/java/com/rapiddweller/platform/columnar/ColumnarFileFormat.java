@@ -0,0 +1,44 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.columnar;
+
+import com.rapiddweller.benerator.FileFormat;
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.factory.DataSourceProvider;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+
+import java.util.Locale;
+
+/**
+ * {@link FileFormat} of the columnar files written by {@link ColumnarEntityExporter},
+ * recognized by the file suffix '.bcol'.<br/><br/>
+ * Created: 19.10.2026 14:16:35
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ColumnarFileFormat implements FileFormat {
+
+  public static final String FILE_SUFFIX = ".bcol";
+
+  @Override
+  public String getName() {
+    return "columnar";
+  }
+
+  @Override
+  public boolean matchesUri(String sourceSpec) {
+    return (sourceSpec != null && sourceSpec.toLowerCase(Locale.ROOT).endsWith(FILE_SUFFIX));
+  }
+
+  @Override
+  public DataSourceProvider<Entity> provider(String uri, String segment, ComplexTypeDescriptor descriptor,
+                                             BeneratorContext context) {
+    return (id, sourceContext) -> {
+      ColumnarEntitySource source = new ColumnarEntitySource(id, descriptor, segment);
+      source.setContext(sourceContext);
+      return source;
+    };
+  }
+
+}
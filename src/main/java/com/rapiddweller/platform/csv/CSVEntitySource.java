@@ -55,6 +55,7 @@ public class CSVEntitySource extends FileBasedEntitySource implements Tabular {
   private final ComplexTypeDescriptor entityType;
   private String[] columnNames;
   private boolean expectingHeader;
+  private int parseThreads;
 
 
   // constructors ----------------------------------------------------------------------------------------------------
@@ -96,6 +97,7 @@ public CSVEntitySource(String uri, ComplexTypeDescriptor entityType,
     this.entityType = entityType;
     this.preprocessor = preprocessor;
     this.expectingHeader = true;
+    this.parseThreads = 1;
   }
 
   // properties ------------------------------------------------------------------------------------------------------
@@ -118,6 +120,16 @@ public void setEncoding(String encoding) {
     this.encoding = encoding;
   }
 
+  /**
+   * Sets the number of threads for parsing the file. With more than one thread,
+   * local files in an ASCII-compatible encoding are parsed by a {@link MappedCSVEntityIterator}.
+   *
+   * @param parseThreads the number of parser threads
+   */
+  public void setParseThreads(int parseThreads) {
+    this.parseThreads = parseThreads;
+  }
+
   @Override
   public String[] getColumnNames() {
     if (ArrayUtil.isEmpty(columnNames)) {
@@ -147,9 +159,18 @@ public void setColumns(String[] columns) {
 
   @Override
   public DataIterator<Entity> iterator() {
+    String resolvedUri = resolveUri();
+    if (parseThreads > 1 && isRowBased() && MappedCSVEntityIterator.isApplicable(resolvedUri, encoding)) {
+      MappedCSVEntityIterator iterator = new MappedCSVEntityIterator(
+          resolvedUri, entityType, preprocessor, separator, encoding, parseThreads);
+      if (!expectingHeader) {
+        iterator.setColumns(getColumnNames());
+      }
+      return iterator;
+    }
     try {
       CSVEntityIterator iterator =
-          new CSVEntityIterator(resolveUri(), entityType,
+          new CSVEntityIterator(resolvedUri, entityType,
               preprocessor, separator, encoding);
       if (!expectingHeader) {
         iterator.setColumns(getColumnNames());
@@ -161,6 +182,10 @@ public DataIterator<Entity> iterator() {
     }
   }
 
+  private boolean isRowBased() {
+    return (entityType == null || entityType.isRowBased() == null || entityType.isRowBased());
+  }
+
   // java.lang.Object overrides --------------------------------------------------------------------------------------
 
   @Override
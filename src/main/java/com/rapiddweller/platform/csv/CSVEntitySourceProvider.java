@@ -27,6 +27,7 @@
 package com.rapiddweller.platform.csv;
 
 import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.BeneratorOpts;
 import com.rapiddweller.benerator.factory.DataSourceProvider;
 import com.rapiddweller.common.Converter;
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
@@ -62,6 +63,7 @@ public EntitySource create(String uri, BeneratorContext context) {
         new CSVEntitySource(uri, entityType, encoding, converter,
             separator);
     source.setContext(context);
+    source.setParseThreads(BeneratorOpts.getCsvParseThreads());
     return source;
   }
 
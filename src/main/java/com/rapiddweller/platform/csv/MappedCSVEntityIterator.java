@@ -0,0 +1,582 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.csv;
+
+import com.rapiddweller.common.ArrayUtil;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.StringUtil;
+import com.rapiddweller.common.Tabular;
+import com.rapiddweller.common.converter.NoOpConverter;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.array.Array2EntityConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Iterates Entities in a local CSV file using memory-mapped I/O and multiple parser threads.
+ * The file is split into chunks on record boundaries, each chunk is parsed by a worker thread
+ * and the resulting entities are provided in file order.
+ * Quoted cells may contain separators, line breaks and escaped quotes (<code>""</code>).
+ * Since records are split on byte level, the file encoding must be ASCII-compatible
+ * (e.g. UTF-8 or ISO-8859-1), see {@link #isApplicable(String, String)}.<br/><br/>
+ * Splitting works in two steps: First, raw chunks of fixed size are scanned in parallel for their
+ * number of quotes and for their first line break outside and inside quotes. Then the quote parity
+ * of all preceding chunks tells which of the two line breaks is the real record boundary.<br/><br/>
+ * Created: 19.10.2026 11:24:06
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class MappedCSVEntityIterator implements DataIterator<Entity>, Tabular {
+
+  public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+  private static final byte QUOTE = '"';
+  private static final byte LF = '\n';
+  private static final byte CR = '\r';
+
+  private final File file;
+  private final ComplexTypeDescriptor entityDescriptor;
+  private final Converter<String, ?> preprocessor;
+  private final byte separator;
+  private final Charset charset;
+  private final int threads;
+  private final int chunkSize;
+  private String[] columns;
+  private boolean expectingHeader;
+
+  private boolean initialized;
+  private boolean concurrentPreprocessing;
+  private FileChannel channel;
+  private ExecutorService executor;
+  private Array2EntityConverter a2eConverter;
+  private long fileSize;
+  private long scanOffset;
+  private long recordOffset;
+  private boolean inQuotes;
+  private final Deque<Future<ChunkScan>> scans;
+  private final Deque<Future<Batch>> batches;
+  private final ThreadLocal<CellDecoder> decoders;
+  private Batch currentBatch;
+  private int batchIndex;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public MappedCSVEntityIterator(String uri, ComplexTypeDescriptor descriptor, Converter<String, ?> preprocessor,
+                                 char separator, String encoding, int threads) {
+    this(uri, descriptor, preprocessor, separator, encoding, threads, DEFAULT_CHUNK_SIZE);
+  }
+
+  public MappedCSVEntityIterator(String uri, ComplexTypeDescriptor descriptor, Converter<String, ?> preprocessor,
+                                 char separator, String encoding, int threads, int chunkSize) {
+    if (!isApplicable(uri, encoding)) {
+      throw new ConfigurationError("Not a local file with ASCII-compatible encoding: " + uri + " (" + encoding + ")");
+    }
+    if (separator > 127) {
+      throw new ConfigurationError("Not an ASCII separator: " + separator);
+    }
+    this.file = new File(uri);
+    this.entityDescriptor = descriptor;
+    this.preprocessor = (preprocessor instanceof NoOpConverter ? null : preprocessor);
+    this.separator = (byte) separator;
+    this.charset = Charset.forName(encoding);
+    this.threads = Math.max(1, threads);
+    this.chunkSize = Math.max(1024, chunkSize);
+    this.expectingHeader = true;
+    this.initialized = false;
+    this.scans = new ArrayDeque<>();
+    this.batches = new ArrayDeque<>();
+    this.decoders = ThreadLocal.withInitial(() -> new CellDecoder(charset));
+  }
+
+  /**
+   * Tells if a CSV file can be parsed by this class, which requires it to be a local file
+   * and its encoding to represent separators, quotes and line breaks by single ASCII bytes.
+   * @param uri      the file path
+   * @param encoding the file encoding
+   * @return true if the file can be processed, otherwise false
+   */
+  public static boolean isApplicable(String uri, String encoding) {
+    if (uri == null || !new File(uri).isFile() || !Charset.isSupported(encoding)) {
+      return false;
+    }
+    Charset charset = Charset.forName(encoding);
+    if (!StandardCharsets.UTF_8.equals(charset) && charset.newEncoder().maxBytesPerChar() > 1) {
+      return false;
+    }
+    byte[] probe = {QUOTE, LF, CR, ',', ';', '\t', '|'};
+    return new String(probe, charset).equals("\"\n\r,;\t|");
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public void setExpectingHeader(boolean expectingHeader) {
+    this.expectingHeader = expectingHeader;
+  }
+
+  public void setColumns(String[] columns) {
+    this.expectingHeader = false;
+    if (ArrayUtil.isEmpty(columns)) {
+      this.columns = null;
+    } else {
+      this.columns = columns.clone();
+      StringUtil.trimAll(this.columns);
+    }
+  }
+
+  @Override
+  public String[] getColumnNames() {
+    return columns;
+  }
+
+  // DataIterator interface ------------------------------------------------------------------------------------------
+
+  @Override
+  public Class<Entity> getType() {
+    return Entity.class;
+  }
+
+  @Override
+  public DataContainer<Entity> next(DataContainer<Entity> container) {
+    assureInitialized();
+    while (currentBatch == null || batchIndex >= currentBatch.size) {
+      fetchBatches();
+      if (batches.isEmpty()) {
+        return null;
+      }
+      currentBatch = await(batches.poll());
+      batchIndex = 0;
+    }
+    Object item = currentBatch.items[batchIndex];
+    currentBatch.items[batchIndex++] = null; // release the reference early
+    Entity entity = (item instanceof Entity ? (Entity) item : toEntity((Object[]) item, true));
+    return container.setData(entity);
+  }
+
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+    IOUtil.close(channel);
+    scans.clear();
+    batches.clear();
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[uri=" + file + ", encoding=" + charset +
+        ", separator=" + (char) separator + ", threads=" + threads + "]";
+  }
+
+  // initialization --------------------------------------------------------------------------------------------------
+
+  private void assureInitialized() {
+    if (!initialized) {
+      init();
+      initialized = true;
+    }
+  }
+
+  private void init() {
+    try {
+      this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+      this.fileSize = channel.size();
+      this.recordOffset = (StandardCharsets.UTF_8.equals(charset) ? bomLength() : 0);
+      if (expectingHeader) {
+        parseHeader();
+      }
+      if (columns == null) {
+        throw new ConfigurationError("No columns defined for " + file);
+      }
+      this.a2eConverter = new Array2EntityConverter(entityDescriptor, columns, true);
+      this.concurrentPreprocessing = (preprocessor == null || preprocessor.isThreadSafe());
+      this.scanOffset = recordOffset;
+      this.inQuotes = false;
+      this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+        Thread thread = new Thread(runnable, "csv-parser-" + file.getName());
+        thread.setDaemon(true);
+        return thread;
+      });
+    } catch (IOException e) {
+      throw new RuntimeException("Error in processing " + file, e);
+    }
+  }
+
+  private long bomLength() throws IOException {
+    if (fileSize < 3) {
+      return 0;
+    }
+    ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, 3);
+    return (buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF ? 3 : 0);
+  }
+
+  private void parseHeader() throws IOException {
+    // find the end of the first record sequentially, then parse it like any other chunk
+    long end = recordOffset;
+    boolean quoted = false;
+    while (end < fileSize) {
+      long length = Math.min(chunkSize, fileSize - end);
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, end, length);
+      int i = 0;
+      for (; i < length; i++) {
+        byte b = buffer.get(i);
+        if (b == QUOTE) {
+          quoted = !quoted;
+        } else if (b == LF && !quoted) {
+          break;
+        }
+      }
+      end += i;
+      if (i < length) {
+        end++; // include the line feed
+        break;
+      }
+    }
+    Batch header = new ChunkParser(recordOffset, end, false).call();
+    if (header.size > 0) {
+      Object[] cells = (Object[]) header.items[0];
+      columns = new String[cells.length];
+      for (int i = 0; i < cells.length; i++) {
+        columns[i] = (cells[i] != null ? cells[i].toString().trim() : "");
+      }
+    }
+    recordOffset = end;
+  }
+
+  // chunk scheduling ------------------------------------------------------------------------------------------------
+
+  private void fetchBatches() {
+    int maxPending = threads * 2;
+    while (batches.size() < maxPending && recordOffset < fileSize) {
+      while (scans.size() < maxPending && scanOffset < fileSize) {
+        long length = Math.min(chunkSize, fileSize - scanOffset);
+        scans.add(executor.submit(new ChunkScanner(scanOffset, length)));
+        scanOffset += length;
+      }
+      ChunkScan scan = await(scans.poll());
+      long boundary = (inQuotes ? scan.firstLineEndInQuotes : scan.firstLineEnd);
+      if (scan.quoteCount % 2 == 1) {
+        inQuotes = !inQuotes;
+      }
+      long recordEnd = (scan.offset + scan.length >= fileSize ? fileSize : boundary);
+      if (recordEnd > recordOffset) {
+        batches.add(executor.submit(new ChunkParser(recordOffset, recordEnd, concurrentPreprocessing)));
+        recordOffset = recordEnd;
+      }
+      // otherwise the chunk contains no record boundary and is parsed together with the next one
+    }
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while parsing CSV", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new RuntimeException("Error parsing CSV", cause);
+    }
+  }
+
+  private Entity toEntity(Object[] cells, boolean preprocess) {
+    if (preprocess && preprocessor != null) {
+      for (int i = 0; i < cells.length; i++) {
+        if (cells[i] != null) {
+          cells[i] = preprocessor.convert((String) cells[i]);
+        }
+      }
+    }
+    return a2eConverter.convert(cells);
+  }
+
+  // helper classes --------------------------------------------------------------------------------------------------
+
+  /** Result of scanning a raw chunk. Line end positions point behind the line feed or are -1 if there is none. */
+  private static final class ChunkScan {
+    long offset;
+    long length;
+    long quoteCount;
+    long firstLineEnd = -1;
+    long firstLineEndInQuotes = -1;
+  }
+
+  private final class ChunkScanner implements Callable<ChunkScan> {
+
+    private final long offset;
+    private final long length;
+
+    ChunkScanner(long offset, long length) {
+      this.offset = offset;
+      this.length = length;
+    }
+
+    @Override
+    public ChunkScan call() throws IOException {
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+      ChunkScan scan = new ChunkScan();
+      scan.offset = offset;
+      scan.length = length;
+      long quotes = 0;
+      for (int i = 0; i < length; i++) {
+        byte b = buffer.get(i);
+        if (b == QUOTE) {
+          quotes++;
+        } else if (b == LF) {
+          // a line feed is a record boundary only outside of quotes,
+          // so record the first one for both possible quote states at chunk start
+          if ((quotes & 1) == 0) {
+            if (scan.firstLineEnd < 0) {
+              scan.firstLineEnd = offset + i + 1;
+            }
+          } else if (scan.firstLineEndInQuotes < 0) {
+            scan.firstLineEndInQuotes = offset + i + 1;
+          }
+        }
+      }
+      scan.quoteCount = quotes;
+      return scan;
+    }
+  }
+
+  /** Parsed records of a chunk: Entities or, if preprocessing must happen on the consumer thread, cell arrays. */
+  private static final class Batch {
+    final Object[] items;
+    final int size;
+
+    Batch(Object[] items, int size) {
+      this.items = items;
+      this.size = size;
+    }
+  }
+
+  private final class ChunkParser implements Callable<Batch> {
+
+    private final long start;
+    private final long end;
+    private final boolean convert;
+
+    ChunkParser(long start, long end, boolean convert) {
+      this.start = start;
+      this.end = end;
+      this.convert = convert;
+    }
+
+    @Override
+    public Batch call() throws IOException {
+      if (end - start > Integer.MAX_VALUE) {
+        throw new IOException("CSV record too long at position " + start + " of " + file);
+      }
+      int length = (int) (end - start);
+      ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+      CellDecoder decoder = decoders.get();
+      decoder.setInput(bytes);
+      try {
+        return parse(bytes, length, decoder);
+      } finally {
+        decoder.setInput(null); // do not keep the mapping alive
+      }
+    }
+
+    private Batch parse(ByteBuffer bytes, int length, CellDecoder decoder) {
+      Object[] items = new Object[Math.max(16, length / 64)];
+      int count = 0;
+      Object[] cells = new Object[columns != null ? columns.length : 16];
+      int pos = 0;
+      while (pos < length) {
+        // parse one record
+        int cellCount = 0;
+        boolean recordEnd = false;
+        int recordStart = pos;
+        while (!recordEnd) {
+          Object cell;
+          if (pos < length && bytes.get(pos) == QUOTE) {
+            pos++;
+            int cellStart = pos;
+            boolean escaped = false;
+            while (pos < length) {
+              if (bytes.get(pos) == QUOTE) {
+                if (pos + 1 < length && bytes.get(pos + 1) == QUOTE) {
+                  escaped = true;
+                  pos += 2;
+                  continue;
+                }
+                break;
+              }
+              pos++;
+            }
+            cell = decoder.decode(cellStart, pos, escaped);
+            pos++; // skip the closing quote
+            // skip anything up to the next separator or line end
+            while (pos < length && bytes.get(pos) != separator && bytes.get(pos) != LF) {
+              pos++;
+            }
+          } else {
+            int cellStart = pos;
+            byte b = 0;
+            while (pos < length && (b = bytes.get(pos)) != separator && b != LF) {
+              pos++;
+            }
+            int cellEnd = pos;
+            if (cellEnd > cellStart && bytes.get(cellEnd - 1) == CR && (pos >= length || b == LF)) {
+              cellEnd--;
+            }
+            cell = (cellEnd > cellStart ? decoder.decode(cellStart, cellEnd, false) : null);
+          }
+          if (cellCount == cells.length) {
+            cells = Arrays.copyOf(cells, cells.length * 2);
+          }
+          cells[cellCount++] = cell;
+          if (pos >= length || bytes.get(pos) == LF) {
+            recordEnd = true;
+          }
+          pos++; // skip separator or line feed
+        }
+        if (cellCount == 1 && cells[0] == null && pos - recordStart <= 2) {
+          continue; // ignore empty lines
+        }
+        Object[] row = Arrays.copyOf(cells, cellCount);
+        if (count == items.length) {
+          items = Arrays.copyOf(items, items.length * 2);
+        }
+        items[count++] = (convert ? toEntity(row, true) : row);
+      }
+      return new Batch(items, count);
+    }
+  }
+
+  /**
+   * Decodes cells of a mapped chunk into a reusable char buffer of the parser thread, so the only allocation
+   * per cell is the resulting String. ASCII cells are converted byte by byte, other cells by a CharsetDecoder.
+   * Short values are looked up in a small cache of recently decoded Strings, so repeated values
+   * like codes, flags or enumeration values are shared instead of being allocated again.
+   */
+  private static final class CellDecoder {
+
+    private static final int CACHE_SIZE = 1024; // must be a power of two
+    private static final int MAX_CACHED_LENGTH = 16;
+
+    private final CharsetDecoder decoder;
+    private final String[] cache;
+    private CharBuffer chars;
+    private ByteBuffer input;
+
+    CellDecoder(Charset charset) {
+      this.decoder = charset.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      this.cache = new String[CACHE_SIZE];
+      this.chars = CharBuffer.allocate(256);
+    }
+
+    void setInput(ByteBuffer bytes) {
+      // use a view, so setting position and limit does not interfere with the parser's absolute access
+      this.input = (bytes != null ? bytes.duplicate() : null);
+    }
+
+    String decode(int start, int end, boolean escaped) {
+      int capacity = (int) ((end - start) * (double) decoder.maxCharsPerByte()) + 1;
+      if (chars.capacity() < capacity) {
+        chars = CharBuffer.allocate(Math.max(capacity, chars.capacity() * 2));
+      }
+      char[] array = chars.array();
+      int length = decodeAscii(start, end, array);
+      if (length < 0) {
+        length = decodeCharset(start, end);
+      }
+      if (escaped) {
+        length = unescapeQuotes(array, length);
+      }
+      return (length <= MAX_CACHED_LENGTH ? cached(array, length) : new String(array, 0, length));
+    }
+
+    /** @return the number of decoded chars or -1 if the cell contains non-ASCII bytes */
+    private int decodeAscii(int start, int end, char[] array) {
+      for (int i = start; i < end; i++) {
+        byte b = input.get(i);
+        if (b < 0) {
+          return -1;
+        }
+        array[i - start] = (char) b;
+      }
+      return end - start;
+    }
+
+    private int decodeCharset(int start, int end) {
+      input.limit(end);
+      input.position(start);
+      chars.clear();
+      decoder.reset();
+      decoder.decode(input, chars, true);
+      decoder.flush(chars);
+      input.limit(input.capacity()); // restore for the absolute access of decodeAscii()
+      return chars.position();
+    }
+
+    private static int unescapeQuotes(char[] array, int length) {
+      int target = 0;
+      for (int i = 0; i < length; i++) {
+        array[target++] = array[i];
+        if (array[i] == '"' && i + 1 < length && array[i + 1] == '"') {
+          i++;
+        }
+      }
+      return target;
+    }
+
+    private String cached(char[] array, int length) {
+      int hash = 0;
+      for (int i = 0; i < length; i++) {
+        hash = 31 * hash + array[i];
+      }
+      int index = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+      String value = cache[index];
+      if (value == null || !matches(value, array, length)) {
+        value = new String(array, 0, length);
+        cache[index] = value;
+      }
+      return value;
+    }
+
+    private static boolean matches(String value, char[] array, int length) {
+      if (value.length() != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (value.charAt(i) != array[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+}
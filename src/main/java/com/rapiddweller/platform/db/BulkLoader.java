@@ -0,0 +1,162 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.jdbacl.ColumnInfo;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Parent class for loaders which import the rows of a table with a database's native bulk-load mechanism
+ * instead of JDBC insert statements. Rows are encoded into the bulk format when added and are imported
+ * in chunks by {@link #load(Connection)}.<br/><br/>
+ * Created: 19.10.2026 16:48:30
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public abstract class BulkLoader implements Closeable {
+
+  protected final String table;
+  protected final String[] columns;
+  protected int rowCount;
+
+  protected BulkLoader(String table, List<ColumnInfo> columnInfos) {
+    this.table = table;
+    this.columns = new String[columnInfos.size()];
+    for (int i = 0; i < columns.length; i++) {
+      columns[i] = columnInfos.get(i).name;
+    }
+    this.rowCount = 0;
+  }
+
+  /** Creates a BulkLoader for the given database type or returns null if the database type is not supported.
+   *  @param dbType the database type as provided by {@link DBSystem#getDbType()}
+   *  @param table the name of the table to load
+   *  @param columnInfos the columns of the rows to load
+   *  @return a suitable BulkLoader or null */
+  public static BulkLoader forDbType(String dbType, String table, List<ColumnInfo> columnInfos) {
+    String type = (dbType != null ? dbType.toLowerCase() : "");
+    if (type.startsWith("postgres")) {
+      return new PostgreSQLCopyLoader(table, columnInfos);
+    } else if (type.equals("h2")) {
+      return new CSVSpoolBulkLoader(table, columnInfos, CSVSpoolBulkLoader.H2_IMPORT);
+    } else {
+      return null;
+    }
+  }
+
+  public String getTable() {
+    return table;
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /** Encodes a row for the next chunk.
+   *  @param values the JDBC values of the columns in the order of the column infos */
+  public void addRow(Object[] values) {
+    if (values.length != columns.length) {
+      throw new IllegalArgumentException("Expected " + columns.length + " values for table " + table + ", " +
+          "but found " + values.length);
+    }
+    addRowImpl(values);
+    rowCount++;
+  }
+
+  /** Imports the rows added since the last invocation.
+   *  @param connection the connection to use
+   *  @return the number of imported rows */
+  public int load(Connection connection) throws SQLException {
+    if (rowCount == 0) {
+      return 0;
+    }
+    int count = rowCount;
+    loadImpl(connection);
+    rowCount = 0;
+    return count;
+  }
+
+  @Override
+  public void close() {
+    // nothing to do by default
+  }
+
+  // callback interface for child classes ----------------------------------------------------------------------------
+
+  protected abstract void addRowImpl(Object[] values);
+
+  protected abstract void loadImpl(Connection connection) throws SQLException;
+
+  // helpers for child classes ---------------------------------------------------------------------------------------
+
+  protected String quotedTableAndColumns() {
+    StringBuilder builder = new StringBuilder(quote(table)).append(" (");
+    for (int i = 0; i < columns.length; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append(quote(columns[i]));
+    }
+    return builder.append(')').toString();
+  }
+
+  /** Quotes an identifier, preserving the exact case in which it was reported by the database metadata. */
+  static String quote(String identifier) {
+    return '"' + identifier.replace("\"", "\"\"") + '"';
+  }
+
+  /** Renders a non-null value as text which the databases' bulk import mechanisms parse correctly. */
+  static String formatText(Object value) {
+    if (value instanceof java.util.Date && !(value instanceof java.sql.Date) && !(value instanceof java.sql.Time)
+        && !(value instanceof Timestamp)) {
+      return new Timestamp(((java.util.Date) value).getTime()).toString();
+    } else if (value instanceof java.math.BigDecimal) {
+      return ((java.math.BigDecimal) value).toPlainString();
+    } else {
+      return value.toString();
+    }
+  }
+
+  /** Escapes the characters which have a special meaning in the text format of PostgreSQL's COPY
+   *  and in MySQL's LOAD DATA with default settings. */
+  static String escapeText(String text) {
+    StringBuilder builder = null;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      String replacement;
+      switch (c) {
+        case '\\': replacement = "\\\\"; break;
+        case '\t': replacement = "\\t"; break;
+        case '\n': replacement = "\\n"; break;
+        case '\r': replacement = "\\r"; break;
+        case '\0': replacement = "\\0"; break;
+        default: replacement = null;
+      }
+      if (replacement != null && builder == null) {
+        builder = new StringBuilder(text.length() + 16).append(text, 0, i);
+      }
+      if (builder != null) {
+        if (replacement != null) {
+          builder.append(replacement);
+        } else {
+          builder.append(c);
+        }
+      }
+    }
+    return (builder != null ? builder.toString() : text);
+  }
+
+  static String toHex(byte[] bytes) {
+    StringBuilder builder = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,125 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.jdbacl.ColumnInfo;
+import com.rapiddweller.jdbacl.DBUtil;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * {@link BulkLoader} which spools the rows into a temporary CSV file and imports each chunk
+ * with a database-specific import statement. The statement is defined by a pattern with the placeholders
+ * {@value #TABLE_AND_COLUMNS} and {@value #FILE}. The CSV file has a header row, all strings are quoted
+ * and null values are represented by empty unquoted fields.<br/><br/>
+ * Created: 19.10.2026 17:21:44
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class CSVSpoolBulkLoader extends BulkLoader {
+
+  public static final String TABLE_AND_COLUMNS = "{tableAndColumns}";
+  public static final String FILE = "{file}";
+
+  /** Import statement for H2 */
+  public static final String H2_IMPORT =
+      "insert into " + TABLE_AND_COLUMNS + " select * from CSVREAD('" + FILE + "', null, 'charset=UTF-8')";
+
+  private final String importPattern;
+  private File file;
+  private Writer writer;
+
+  public CSVSpoolBulkLoader(String table, List<ColumnInfo> columnInfos, String importPattern) {
+    super(table, columnInfos);
+    this.importPattern = importPattern;
+    this.file = null;
+    this.writer = null;
+  }
+
+  @Override
+  protected void addRowImpl(Object[] values) {
+    try {
+      if (writer == null) {
+        openSpoolFile();
+      }
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        Object value = values[i];
+        if (value instanceof String) {
+          writeQuoted((String) value);
+        } else if (value instanceof byte[]) {
+          writer.write(toHex((byte[]) value));
+        } else if (value != null) {
+          writer.write(formatText(value));
+        }
+      }
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new RuntimeException("Error spooling data of table " + table + " to " + file, e);
+    }
+  }
+
+  @Override
+  protected void loadImpl(Connection connection) throws SQLException {
+    try {
+      writer.close();
+      writer = null;
+      String sql = importPattern
+          .replace(TABLE_AND_COLUMNS, quotedTableAndColumns())
+          .replace(FILE, file.getAbsolutePath().replace("'", "''"));
+      DBUtil.executeUpdate(sql, connection);
+    } catch (IOException e) {
+      throw new SQLException("Error spooling data of table " + table + " to " + file, e);
+    } finally {
+      deleteSpoolFile();
+    }
+  }
+
+  @Override
+  public void close() {
+    IOUtil.close(writer);
+    writer = null;
+    deleteSpoolFile();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void openSpoolFile() throws IOException {
+    file = File.createTempFile("benerator-" + table + "-", ".csv");
+    writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8));
+    for (int i = 0; i < columns.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writeQuoted(columns[i]);
+    }
+    writer.write('\n');
+  }
+
+  private void writeQuoted(String text) throws IOException {
+    writer.write('"');
+    writer.write(text.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  private void deleteSpoolFile() {
+    if (file != null) {
+      FileUtil.deleteIfExists(file);
+      file = null;
+    }
+  }
+
+}
@@ -26,6 +26,8 @@
 
 package com.rapiddweller.platform.db;
 
+import com.rapiddweller.benerator.engine.metrics.BeneratorMetrics;
+import com.rapiddweller.benerator.engine.metrics.DatabaseMetrics;
 import com.rapiddweller.common.LogCategoriesConstants;
 import com.rapiddweller.common.OrderedMap;
 import com.rapiddweller.jdbacl.ColumnInfo;
@@ -53,6 +55,7 @@ public class ConnectionHolder implements Closeable {
 
   private static final Logger JDBC_LOGGER =
       LoggerFactory.getLogger(LogCategoriesConstants.JDBC);
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionHolder.class);
   /**
    * The Insert statements.
    */
@@ -66,8 +69,13 @@ public class ConnectionHolder implements Closeable {
    */
   public final Map<ComplexTypeDescriptor, PreparedStatement>
       selectByPKStatements;
+  /**
+   * The bulk loaders.
+   */
+  public final Map<ComplexTypeDescriptor, BulkLoader> bulkLoaders;
   private final DBSystem db;
   private Connection connection;
+  private boolean bulkLoadUnsupported;
 
   /**
    * Instantiates a new Connection holder.
@@ -78,6 +86,7 @@ public ConnectionHolder(DBSystem db) {
     this.insertStatements = new OrderedMap<>();
     this.updateStatements = new OrderedMap<>();
     this.selectByPKStatements = new OrderedMap<>();
+    this.bulkLoaders = new OrderedMap<>();
     this.db = db;
     this.connection = null; // lazily initialized
   }
@@ -98,18 +107,25 @@ public Connection getConnection() {
    * Commit.
    */
   public void commit() {
+    DatabaseMetrics metrics = BeneratorMetrics.database(db.getId());
+    long startNanos = (metrics != null ? System.nanoTime() : 0);
     try {
-      flushStatements(insertStatements);
-      flushStatements(updateStatements);
+      loadBulkChunks(metrics);
+      flushStatements(insertStatements, metrics);
+      flushStatements(updateStatements, metrics);
       JDBC_LOGGER.debug("Committing connection: {}", connection);
       getConnection().commit();
+      if (metrics != null) {
+        metrics.commitFinished(System.nanoTime() - startNanos);
+      }
     } catch (SQLException e) {
       throw new RuntimeException(e);
     }
   }
 
   private void flushStatements(
-      Map<ComplexTypeDescriptor, PreparedStatement> statements)
+      Map<ComplexTypeDescriptor, PreparedStatement> statements,
+      DatabaseMetrics metrics)
       throws SQLException {
     for (Map.Entry<ComplexTypeDescriptor, PreparedStatement> entry : statements
         .entrySet()) {
@@ -117,7 +133,10 @@ private void flushStatements(
       if (statement != null) {
         // need to finish old statement
         if (db.isBatch()) {
-          statement.executeBatch();
+          int[] results = statement.executeBatch();
+          if (metrics != null) {
+            metrics.batchExecuted(results.length);
+          }
         }
         JDBC_LOGGER.debug("Closing statement: {}", statement);
         DBUtil.close(statement);
@@ -126,6 +145,71 @@ private void flushStatements(
     }
   }
 
+  /**
+   * Passes a row to the bulk loader of its table. When the bulk loader has reached the chunk size,
+   * the pending rows of all bulk loaders are imported in the order in which the tables were first used.
+   *
+   * @param descriptor  the descriptor of the table
+   * @param columnInfos the column infos
+   * @param values      the JDBC values of the columns
+   * @return true if the row was accepted, false if the database does not support bulk loading
+   */
+  public boolean addBulkRow(ComplexTypeDescriptor descriptor, List<ColumnInfo> columnInfos, Object[] values) {
+    BulkLoader loader = bulkLoaders.get(descriptor);
+    if (loader == null) {
+      if (bulkLoadUnsupported) {
+        return false;
+      }
+      loader = createBulkLoader(descriptor, columnInfos);
+      if (loader == null) {
+        return false;
+      }
+    }
+    loader.addRow(values);
+    if (loader.getRowCount() >= db.getBulkChunkSize()) {
+      try {
+        loadBulkChunks(BeneratorMetrics.database(db.getId()));
+        if (db.isBulkCommit()) {
+          JDBC_LOGGER.debug("Committing connection after bulk load: {}", connection);
+          getConnection().commit();
+        }
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return true;
+  }
+
+  private BulkLoader createBulkLoader(ComplexTypeDescriptor descriptor, List<ColumnInfo> columnInfos) {
+    String tableName = descriptor.getName();
+    DBTable table = db.getTable(tableName.toUpperCase());
+    if (table == null) {
+      throw new IllegalArgumentException("Table not found: " + tableName);
+    }
+    BulkLoader loader = BulkLoader.forDbType(db.getDbType(), table.getName(), columnInfos);
+    if (loader == null) {
+      LOGGER.warn("Bulk loading is not supported for database type '{}', using insert statements",
+          db.getDbType());
+      bulkLoadUnsupported = true;
+      return null;
+    }
+    JDBC_LOGGER.debug("Creating bulk loader for table {}", table.getName());
+    bulkLoaders.put(descriptor, loader);
+    return loader;
+  }
+
+  private void loadBulkChunks(DatabaseMetrics metrics) throws SQLException {
+    for (BulkLoader loader : bulkLoaders.values()) {
+      int rowCount = loader.load(getConnection());
+      if (rowCount > 0) {
+        JDBC_LOGGER.debug("Bulk loaded {} rows into {}", rowCount, loader.getTable());
+        if (metrics != null) {
+          metrics.batchExecuted(rowCount);
+        }
+      }
+    }
+  }
+
   /**
    * Gets select by pk statement.
    *
@@ -221,7 +305,14 @@ private PreparedStatement createStatement(ComplexTypeDescriptor descriptor,
 
   @Override
   public void close() {
-    commit();
+    try {
+      commit();
+    } finally {
+      for (BulkLoader loader : bulkLoaders.values()) {
+        loader.close();
+      }
+      bulkLoaders.clear();
+    }
     DBUtil.close(connection);
   }
 
@@ -109,6 +109,7 @@
 public abstract class DBSystem extends AbstractStorageSystem {
 
   private static final int DEFAULT_FETCH_SIZE = 100;
+  public static final int DEFAULT_BULK_CHUNK_SIZE = 10000;
   private static final VersionNumber MIN_ORACLE_VERSION = VersionNumber.valueOf("10" + ".2.0.4"); // little trick to satisfy SonarCube which thinks this is an IP address
   private static final TypeDescriptor[] EMPTY_TYPE_DESCRIPTOR_ARRAY = new TypeDescriptor[0];
 
@@ -116,6 +117,9 @@ public abstract class DBSystem extends AbstractStorageSystem {
   private final TypeMapper driverTypeMapper;
   private final AtomicInteger invalidationCount;
   protected boolean batch;
+  protected boolean bulkLoad;
+  protected int bulkChunkSize;
+  protected boolean bulkCommit;
   protected boolean readOnly;
   protected Database database;
   protected DBMetaDataImporter importer;
@@ -183,6 +187,9 @@ private DBSystem(String id, DataModel dataModel) {
     setFetchSize(DEFAULT_FETCH_SIZE);
     setMetaDataCache(false);
     setBatch(false);
+    setBulkLoad(false);
+    setBulkChunkSize(DEFAULT_BULK_CHUNK_SIZE);
+    setBulkCommit(false);
     setReadOnly(false);
     setLazy(true);
     setDynamicQuerySupported(true);
@@ -331,6 +338,38 @@ public void setBatch(boolean batch) {
     this.batch = batch;
   }
 
+  public boolean isBulkLoad() {
+    return bulkLoad;
+  }
+
+  /** Activates inserting with the database's native bulk-load mechanism, if one is supported
+   *  (see {@link BulkLoader#forDbType(String, String, List)}). */
+  public void setBulkLoad(boolean bulkLoad) {
+    this.bulkLoad = bulkLoad;
+  }
+
+  public int getBulkChunkSize() {
+    return bulkChunkSize;
+  }
+
+  /** Sets the number of rows after which the pending bulk-load rows are imported. */
+  public void setBulkChunkSize(int bulkChunkSize) {
+    if (bulkChunkSize < 1) {
+      throw new ConfigurationError("bulkChunkSize must be positive, but was " + bulkChunkSize);
+    }
+    this.bulkChunkSize = bulkChunkSize;
+  }
+
+  public boolean isBulkCommit() {
+    return bulkCommit;
+  }
+
+  /** Specifies if a commit is performed after each imported bulk-load chunk
+   *  or only when the database is flushed. */
+  public void setBulkCommit(boolean bulkCommit) {
+    this.bulkCommit = bulkCommit;
+  }
+
   public int getFetchSize() {
     return fetchSize;
   }
@@ -708,6 +747,12 @@ private QueryDataSource createQuery(String query, Context context,
   protected abstract PreparedStatement getStatement(
       ComplexTypeDescriptor descriptor, boolean insert, List<ColumnInfo> columnInfos);
 
+  /** Passes a row to the bulk loader of its table.
+   *  @return true if the row was accepted, false if bulk loading is not supported */
+  protected boolean addBulkRow(ComplexTypeDescriptor descriptor, List<ColumnInfo> columnInfos, Object[] values) {
+    return false;
+  }
+
   private void parseTable(DBTable table) {
     logger.debug("Parsing table {}", table);
     String tableName = table.getName();
@@ -817,7 +862,7 @@ public ComplexTypeDescriptor mapTableToComplexTypeDescriptor(
                 " of table " + table.getName(), e);
       }
     }
-    return complexType;
+    return complexType.freeze();
   }
 
   public List<ColumnInfo> getWriteColumnInfos(Entity entity, boolean insert) {
@@ -960,17 +1005,14 @@ private void persistOrUpdate(Entity entity, boolean insert) {
     parseMetadataIfNecessary();
     List<ColumnInfo> writeColumnInfos = getWriteColumnInfos(entity, insert);
     try {
+      if (insert && bulkLoad && loadInBulk(entity, writeColumnInfos)) {
+        return;
+      }
       String tableName = entity.type();
       PreparedStatement statement = getStatement(entity.descriptor(), insert, writeColumnInfos);
       for (int i = 0; i < writeColumnInfos.size(); i++) {
         ColumnInfo info = writeColumnInfos.get(i);
-        Object jdbcValue = entity.getComponent(info.name);
-        if (info.type != null) {
-          jdbcValue = AnyConverter.convert(jdbcValue, info.type);
-          if (info.type == String.class && jdbcValue != null) {
-            jdbcValue = jdbcValue.toString().replace("#{","{").replace("}#","}");
-          }
-        }
+        Object jdbcValue = jdbcValue(entity, info);
         try {
           boolean criticalOracleType =
               (dialect instanceof OracleDialect && (info.sqlType == Types.NCLOB || info.sqlType == Types.OTHER));
@@ -997,6 +1039,25 @@ private void persistOrUpdate(Entity entity, boolean insert) {
     }
   }
 
+  private boolean loadInBulk(Entity entity, List<ColumnInfo> writeColumnInfos) {
+    Object[] values = new Object[writeColumnInfos.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = jdbcValue(entity, writeColumnInfos.get(i));
+    }
+    return addBulkRow(entity.descriptor(), writeColumnInfos, values);
+  }
+
+  private static Object jdbcValue(Entity entity, ColumnInfo info) {
+    Object jdbcValue = entity.getComponent(info.name);
+    if (info.type != null) {
+      jdbcValue = AnyConverter.convert(jdbcValue, info.type);
+      if (info.type == String.class && jdbcValue != null) {
+        jdbcValue = jdbcValue.toString().replace("#{","{").replace("}#","}");
+      }
+    }
+    return jdbcValue;
+  }
+
   private void parseMetadataIfNecessary() {
     if (typeDescriptors == null) {
       parseMetaData();
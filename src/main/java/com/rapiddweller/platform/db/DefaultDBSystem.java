@@ -89,4 +89,9 @@ protected PreparedStatement getStatement(ComplexTypeDescriptor descriptor,
     return connectionHolder.getStatement(descriptor, insert, columnInfos);
   }
 
+  @Override
+  protected boolean addBulkRow(ComplexTypeDescriptor descriptor, List<ColumnInfo> columnInfos, Object[] values) {
+    return connectionHolder.addBulkRow(descriptor, columnInfos, values);
+  }
+
 }
@@ -0,0 +1,70 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.jdbacl.ColumnInfo;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * {@link BulkLoader} which imports rows with PostgreSQL's 'COPY ... FROM STDIN' by the driver's
+ * {@link CopyManager}. Rows are encoded into COPY's text format when added.<br/><br/>
+ * Created: 19.10.2026 17:05:12
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class PostgreSQLCopyLoader extends BulkLoader {
+
+  private static final String NULL = "\\N";
+
+  private final String copySql;
+  private final StringBuilder buffer;
+
+  public PostgreSQLCopyLoader(String table, List<ColumnInfo> columnInfos) {
+    super(table, columnInfos);
+    this.copySql = "COPY " + quotedTableAndColumns() + " FROM STDIN";
+    this.buffer = new StringBuilder(8192);
+  }
+
+  @Override
+  protected void addRowImpl(Object[] values) {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        buffer.append('\t');
+      }
+      Object value = values[i];
+      if (value == null) {
+        buffer.append(NULL);
+      } else if (value instanceof byte[]) {
+        buffer.append("\\\\x").append(toHex((byte[]) value)); // bytea hex format with escaped backslash
+      } else {
+        buffer.append(escapeText(formatText(value)));
+      }
+    }
+    buffer.append('\n');
+  }
+
+  @Override
+  protected void loadImpl(Connection connection) throws SQLException {
+    Reader data = new StringReader(buffer.toString());
+    buffer.setLength(0);
+    copyIn(connection, copySql, data);
+  }
+
+  /** Streams the data to the database. Overwrite this for using a different COPY mechanism. */
+  protected long copyIn(Connection connection, String sql, Reader data) throws SQLException {
+    try {
+      return new CopyManager(connection.unwrap(BaseConnection.class)).copyIn(sql, data);
+    } catch (IOException e) {
+      throw new SQLException("Error copying data into " + table, e);
+    }
+  }
+
+}
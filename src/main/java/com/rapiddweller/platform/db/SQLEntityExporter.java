@@ -35,11 +35,20 @@
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
-import java.util.Map.Entry;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Exports Entities to a SQL file.<br/><br/>
+ * Exports Entities to a SQL file.<br/>
+ * By default, each entity is rendered as a single 'insert' statement. With the {@link SQLExportFormat}
+ * 'multiRowInsert', consecutive entities of the same table are grouped into 'insert' statements with
+ * up to {@link #setRowsPerStatement(int) rowsPerStatement} rows. The format 'copy' renders PostgreSQL
+ * 'COPY ... FROM stdin' blocks and 'loadData' tab-separated data of a single table for MySQL's
+ * 'LOAD DATA INFILE'. The statement prefix of a table is rendered once and reused
+ * as long as the entities have the same columns.<br/><br/>
  * Created: 12.07.2008 09:43:59
  * @author Volker Bergmann
  * @since 0.5.4
@@ -52,11 +61,22 @@ public class SQLEntityExporter extends TextFileExporter {
 
   private static final String DEFAULT_URI = "export.sql";
 
+  static final int DEFAULT_ROWS_PER_STATEMENT = 100;
+
+  private static final String TSV_NULL = "\\N";
+
   // attributes ------------------------------------------------------------------------------------------------------
 
   private DatabaseDialect dialect = null;
   private String dialectName;
   private VersionNumber dialectVersion;
+  private SQLExportFormat format;
+  private Integer rowsPerStatement;
+
+  private final Map<String, TablePrefix> prefixes;
+  /** the prefix of the currently open multi-row statement or COPY block, or of the table exported by 'loadData' */
+  private TablePrefix openPrefix;
+  private int openRows;
 
   // constructors ----------------------------------------------------------------------------------------------------
 
@@ -76,6 +96,8 @@ public SQLEntityExporter(String uri, String dialect, String lineSeparator,
                            String encoding) {
     super(uri, encoding, lineSeparator);
     setDialect(dialect);
+    this.format = SQLExportFormat.insert;
+    this.prefixes = new ConcurrentHashMap<>(); // shared by the shards of a sharded export
   }
 
   public void setDialect(String dialectName) {
@@ -94,11 +116,37 @@ public void setVersion(String version) {
     }
   }
 
+  public SQLExportFormat getFormat() {
+    return format;
+  }
+
+  public void setFormat(String format) {
+    try {
+      this.format = SQLExportFormat.valueOf(format);
+    } catch (IllegalArgumentException e) {
+      throw new ConfigurationError("Illegal SQL export format: '" + format + "'. " +
+          "Supported formats: " + Arrays.toString(SQLExportFormat.values()), e);
+    }
+  }
+
+  /** Sets the maximum number of rows per statement in the format 'multiRowInsert'.
+   *  If not set, a dialect-specific default is used. */
+  public void setRowsPerStatement(int rowsPerStatement) {
+    if (rowsPerStatement < 1) {
+      throw new ConfigurationError("rowsPerStatement must be positive, but was " + rowsPerStatement);
+    }
+    this.rowsPerStatement = rowsPerStatement;
+  }
+
+  public int getRowsPerStatement() {
+    return (rowsPerStatement != null ? rowsPerStatement : defaultRowsPerStatement(dialectName));
+  }
+
   // Callback methods for parent class functionality -----------------------------------------------------------------
 
   @Override
   protected void startConsumingImpl(Object object) {
-    if (dialect == null) {
+    if (dialect == null && (format == SQLExportFormat.insert || format == SQLExportFormat.multiRowInsert)) {
       throw new ConfigurationError(
           "'dialect' not set in " + getClass().getSimpleName());
     }
@@ -107,8 +155,19 @@ protected void startConsumingImpl(Object object) {
       throw new IllegalArgumentException("Expected Entity");
     }
     Entity entity = (Entity) object;
-    String sql = createSQLInsert(entity);
-    printer.println(sql);
+    switch (format) {
+      case multiRowInsert:
+        printMultiRowInsert(entity);
+        break;
+      case copy:
+        printCopyRow(entity);
+        break;
+      case loadData:
+        printLoadDataRow(entity);
+        break;
+      default:
+        printer.println(createSQLInsert(entity));
+    }
   }
 
   @Override
@@ -116,41 +175,175 @@ protected void postInitPrinter(Object object) {
     // nothing special to do
   }
 
+  @Override
+  protected void preClosePrinter() {
+    closeOpenPrefix();
+  }
+
   String createSQLInsert(Entity entity) {
-    String table = entity.type();
-    StringBuilder builder = new StringBuilder("insert into ");
-    if (dialect.quoteTableNames) {
-      builder.append('"').append(table).append('"');
+    StringBuilder builder = new StringBuilder(prefixFor(entity).insertPrefix);
+    appendValues(entity, builder);
+    builder.append(';');
+    String sql = builder.toString();
+    LOGGER.debug("built SQL statement: {}", sql);
+    return sql;
+  }
+
+  static int defaultRowsPerStatement(String dialectName) {
+    String name = (dialectName != null ? dialectName.toLowerCase() : "");
+    if (name.contains("oracle") || name.contains("firebird")) {
+      return 1; // no support for multiple rows in a 'values' clause
+    } else if (name.contains("sql_server") || name.contains("mssql")) {
+      return 1000; // the maximum number of rows supported in a 'values' clause
     } else {
-      builder.append(table);
+      return DEFAULT_ROWS_PER_STATEMENT;
     }
-    builder.append(" (");
-    Set<Entry<String, Object>> components =
-        entity.getComponents().entrySet();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void printMultiRowInsert(Entity entity) {
+    TablePrefix prefix = prefixFor(entity);
+    if (openPrefix != null && (openPrefix != prefix || openRows >= getRowsPerStatement())) {
+      closeOpenPrefix();
+    }
+    StringBuilder builder = new StringBuilder();
+    if (openPrefix == null) {
+      builder.append(prefix.insertPrefix);
+      openPrefix = prefix;
+      openRows = 0;
+    } else {
+      printer.println(",");
+    }
+    appendValues(entity, builder);
+    printer.print(builder);
+    openRows++;
+  }
+
+  private void printCopyRow(Entity entity) {
+    TablePrefix prefix = prefixFor(entity);
+    if (openPrefix != prefix) {
+      closeOpenPrefix();
+      printer.println("COPY " + prefix.tableAndColumns + " FROM stdin;");
+      openPrefix = prefix;
+    }
+    printer.println(createTsvRow(entity));
+  }
+
+  private void printLoadDataRow(Entity entity) {
+    TablePrefix prefix = prefixFor(entity);
+    if (openPrefix == null) {
+      openPrefix = prefix;
+    } else if (openPrefix != prefix) {
+      throw new ConfigurationError("The SQL export format 'loadData' supports only one table with fixed columns " +
+          "per file, but found " + openPrefix.tableAndColumns + " and " + prefix.tableAndColumns);
+    }
+    printer.println(createTsvRow(entity));
+  }
+
+  private void closeOpenPrefix() {
+    if (openPrefix == null) {
+      return;
+    }
+    switch (format) {
+      case multiRowInsert:
+        printer.println(";");
+        break;
+      case copy:
+        printer.println("\\.");
+        break;
+      case loadData:
+        LOGGER.info("Import {} by LOAD DATA LOCAL INFILE '{}' INTO TABLE {} " +
+                "FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '{}' {}",
+            uri, uri, openPrefix.table, BulkLoader.escapeText(lineSeparator), openPrefix.columnList);
+        break;
+      default:
+        // nothing to do
+    }
+    openPrefix = null;
+  }
+
+  private TablePrefix prefixFor(Entity entity) {
+    String table = entity.type();
+    Collection<String> columns = entity.getComponents().keySet();
+    TablePrefix prefix = prefixes.get(table);
+    if (prefix == null || !prefix.hasColumns(columns)) {
+      boolean quote = (dialect != null && dialect.quoteTableNames);
+      prefix = new TablePrefix(table, columns, quote);
+      prefixes.put(table, prefix);
+    }
+    return prefix;
+  }
+
+  private void appendValues(Entity entity, StringBuilder builder) {
+    builder.append('(');
     boolean first = true;
-    for (Entry<String, Object> entry : components) {
+    for (Object value : entity.getComponents().values()) {
       if (first) {
         first = false;
       } else {
         builder.append(", ");
       }
-      builder.append(entry.getKey());
+      builder.append(dialect.formatValue(value));
     }
-    builder.append(") values (");
-    first = true;
-    for (Entry<String, Object> entry : components) {
+    builder.append(')');
+  }
+
+  private String createTsvRow(Entity entity) {
+    StringBuilder builder = new StringBuilder();
+    boolean first = true;
+    for (Object value : entity.getComponents().values()) {
       if (first) {
         first = false;
       } else {
-        builder.append(", ");
+        builder.append('\t');
       }
-      Object value = entry.getValue();
-      builder.append(dialect.formatValue(value));
+      builder.append(formatTsvValue(value));
+    }
+    return builder.toString();
+  }
+
+  private String formatTsvValue(Object value) {
+    if (value == null) {
+      return TSV_NULL;
+    } else if (value instanceof Boolean && format == SQLExportFormat.loadData) {
+      return ((Boolean) value ? "1" : "0");
+    } else if (value instanceof byte[] && format == SQLExportFormat.copy) {
+      return BulkLoader.escapeText("\\x" + BulkLoader.toHex((byte[]) value)); // PostgreSQL's hex format for bytea
+    } else {
+      return BulkLoader.escapeText(plainConverter.convert(value));
+    }
+  }
+
+  /** Holds the rendered table and column names of a table with a certain sequence of columns. */
+  private static final class TablePrefix {
+
+    final String table;
+    final String[] columns;
+    final String columnList;
+    final String tableAndColumns;
+    final String insertPrefix;
+
+    TablePrefix(String table, Collection<String> columns, boolean quoteTableName) {
+      this.table = (quoteTableName ? '"' + table + '"' : table);
+      this.columns = columns.toArray(new String[0]);
+      this.columnList = "(" + String.join(", ", this.columns) + ")";
+      this.tableAndColumns = this.table + " " + columnList;
+      this.insertPrefix = "insert into " + tableAndColumns + " values ";
+    }
+
+    boolean hasColumns(Collection<String> candidates) {
+      if (candidates.size() != columns.length) {
+        return false;
+      }
+      Iterator<String> iterator = candidates.iterator();
+      for (String column : columns) {
+        if (!column.equals(iterator.next())) {
+          return false;
+        }
+      }
+      return true;
     }
-    builder.append(");");
-    String sql = builder.toString();
-    LOGGER.debug("built SQL statement: {}", sql);
-    return sql;
   }
 
 }
@@ -0,0 +1,25 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+/**
+ * Enumerates the output formats of the {@link SQLEntityExporter}.<br/><br/>
+ * Created: 19.10.2026 16:02:11
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public enum SQLExportFormat {
+
+  /** one 'insert' statement per entity */
+  insert,
+
+  /** 'insert' statements with multiple rows in the 'values' clause */
+  multiRowInsert,
+
+  /** PostgreSQL 'COPY ... FROM stdin' blocks, as executed by psql */
+  copy,
+
+  /** tab-separated data of a single table for MySQL's 'LOAD DATA INFILE' */
+  loadData
+
+}
@@ -27,12 +27,15 @@
 package com.rapiddweller.platform.dbunit;
 
 import com.rapiddweller.benerator.consumer.AbstractConsumer;
+import com.rapiddweller.benerator.consumer.FileExporter;
+import com.rapiddweller.benerator.consumer.FileShards;
 import com.rapiddweller.common.ConfigurationError;
 import com.rapiddweller.common.Encodings;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.converter.ToStringConverter;
 import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.FileCompression;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import org.xml.sax.SAXException;
@@ -44,16 +47,21 @@
 import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
-import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
 
 /**
- * Exports entities in DbUnit XML file format.<br/><br/>
+ * Exports entities in DbUnit XML file format.
+ * The file is compressed as configured by the property 'compression' or by the suffix of the uri,
+ * see {@link FileCompression}.
+ * In sharded mode, each thread writes to its own part file, see {@link FileShards}. Only the first part
+ * opens the 'dataset' element and only the last one closes it.<br/><br/>
  * @author Volker Bergmann
  * @since 0.3.04
  */
-public class DbUnitEntityExporter extends AbstractConsumer {
+public class DbUnitEntityExporter extends AbstractConsumer implements FileExporter {
 
   // attributes ------------------------------------------------------------------------------------------------------
 
@@ -69,7 +77,13 @@ public class DbUnitEntityExporter extends AbstractConsumer {
 
   private String uri;
   private String encoding;
+  private String compression;
+  private boolean sharded;
+  private boolean joinShards;
 
+  private boolean continuation;
+  private boolean lastPart;
+  private FileShards<DbUnitEntityExporter> shards;
   private State state;
   private OutputStream out;
   private TransformerHandler handler;
@@ -90,10 +104,16 @@ public DbUnitEntityExporter(String uri, String encoding) {
     setEncoding(encoding);
     this.toStringConverter = new ToStringConverter(null, DATE_PATTERN, TIMESTAMP_PATTERN);
     this.state = State.CREATED;
+    this.sharded = false;
+    this.joinShards = true;
+    this.continuation = false;
+    this.lastPart = true;
+    this.shards = new FileShards<>(this::createShard);
   }
 
   // properties ------------------------------------------------------------------------------------------------------
 
+  @Override
   public String getUri() {
     return uri;
   }
@@ -113,6 +133,35 @@ public void setEncoding(String encoding) {
     }
   }
 
+  public String getCompression() {
+    return compression;
+  }
+
+  /** Sets the compression of the output file: 'none' or 'gzip'. If it is not set,
+   *  gzip compression is applied to files with the suffix '.gz'. */
+  public void setCompression(String compression) {
+    this.compression = compression;
+  }
+
+  public boolean isSharded() {
+    return sharded;
+  }
+
+  /** Makes each thread write to its own part file named like the uri with a '.partN' infix. */
+  public void setSharded(boolean sharded) {
+    this.sharded = sharded;
+  }
+
+  public boolean isJoinShards() {
+    return joinShards;
+  }
+
+  /** Decides if the part files of a sharded export are joined to the export file on close.
+   *  If not, the part files are kept and listed in a file named like the uri with a '.manifest' suffix. */
+  public void setJoinShards(boolean joinShards) {
+    this.joinShards = joinShards;
+  }
+
   // Consumer interface ----------------------------------------------------------------------------------------------
 
   @Override
@@ -120,6 +169,10 @@ public void startProductConsumption(Object object) {
     if (!(object instanceof Entity)) {
       throw new IllegalArgumentException("Expected entity");
     }
+    if (sharded) {
+      shards.ofCurrentThread().startProductConsumption(object);
+      return;
+    }
     Entity entity = (Entity) object;
     try {
       logger.debug("exporting {}", entity);
@@ -144,6 +197,11 @@ public void startProductConsumption(Object object) {
 
   @Override
   public void flush() {
+    if (sharded) {
+      for (DbUnitEntityExporter shard : shards.list()) {
+        shard.flush();
+      }
+    }
     if (out != null) {
       IOUtil.flush(out);
     }
@@ -151,13 +209,22 @@ public void flush() {
 
   @Override
   public void close() {
+    if (!shards.isEmpty()) {
+      shards.close((shard, last) -> {
+        shard.lastPart = last;
+        shard.close();
+      }, uri, false, joinShards);
+      return;
+    }
     initializeIfCreated();
     if (state == State.CLOSED) {
       return;
     }
     if (handler != null) {
       try {
-        handler.endElement("", "", "dataset");
+        if (lastPart) {
+          handler.endElement("", "", "dataset");
+        }
         handler.endDocument();
         handler = null;
       } catch (SAXException e) {
@@ -187,14 +254,22 @@ private void initialize() {
       serializer.setOutputProperty(OutputKeys.ENCODING, encoding);
       serializer.setOutputProperty(OutputKeys.INDENT, "yes");
 
-      out = new FileOutputStream(uri);
-      handler.setResult(new StreamResult(out));
-
-      // bug fix: the following extra call to start/endDocument fixes the bug,
-      // that in normal invocation no line separator is inserted after the <?xml?> header
-      handler.startDocument();
-      handler.endDocument();
-      // end of bug fix
+      out = FileCompression.createOutputStream(uri, compression, false);
+      if (continuation) {
+        // the part continues the dataset element of the previous part: The serializer needs the element
+        // for correct indentation, but its start tag is dropped from the output
+        serializer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        handler.setResult(new StreamResult(new PrefixSkippingOutputStream(out,
+            ("<dataset>" + SystemInfo.getLineSeparator()).getBytes(encoding))));
+      } else {
+        handler.setResult(new StreamResult(out));
+
+        // bug fix: the following extra call to start/endDocument fixes the bug,
+        // that in normal invocation no line separator is inserted after the <?xml?> header
+        handler.startDocument();
+        handler.endDocument();
+        // end of bug fix
+      }
 
       handler.startDocument();
       handler.startElement("", "", "dataset", null);
@@ -207,10 +282,53 @@ private void initialize() {
     }
   }
 
+  private DbUnitEntityExporter createShard(int index) {
+    DbUnitEntityExporter shard = new DbUnitEntityExporter(FileShards.shardUri(uri, index), encoding);
+    shard.compression = compression;
+    shard.continuation = (index > 0);
+    return shard;
+  }
+
   private enum State {
     CREATED, INITIALIZED, CLOSED
   }
 
+  /** Drops the given bytes from the beginning of the output, requiring that they are written. */
+  private static class PrefixSkippingOutputStream extends FilterOutputStream {
+
+    private final byte[] prefix;
+    private int skipped;
+
+    PrefixSkippingOutputStream(OutputStream out, byte[] prefix) {
+      super(out);
+      this.prefix = prefix;
+      this.skipped = 0;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (skipped < prefix.length) {
+        if ((byte) b != prefix[skipped]) {
+          throw new IOException("Unexpected start of dataset continuation");
+        }
+        skipped++;
+      } else {
+        out.write(b);
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      while (skipped < prefix.length && len > 0) {
+        write(b[off++]);
+        len--;
+      }
+      if (len > 0) {
+        out.write(b, off, len);
+      }
+    }
+  }
+
   //  java.lang.String overrides --------------------------------------------------------------------------------------
 
   @Override
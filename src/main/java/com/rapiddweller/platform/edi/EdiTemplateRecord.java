@@ -28,6 +28,7 @@
 
 import com.rapiddweller.common.converter.AnyConverter;
 import com.rapiddweller.platform.template.DefaultTemplateRecord;
+import com.rapiddweller.platform.template.TemplateRecord;
 
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,9 @@
  */
 public class EdiTemplateRecord extends DefaultTemplateRecord {
 
+  /** Segment count of the records which have been written in streaming mode. */
+  private int aggregatedSegmentCount;
+
   @Override
   public Object get(String name) {
     if ("recursiveSegmentCount".equals(name)) {
@@ -49,8 +53,15 @@ public Object get(String name) {
     }
   }
 
+  @Override
+  public void aggregate(String name, TemplateRecord record) {
+    if (record instanceof EdiTemplateRecord) {
+      aggregatedSegmentCount += ((EdiTemplateRecord) record).calculateRecursiveSegmentCount();
+    }
+  }
+
   private int calculateRecursiveSegmentCount() {
-    int sum = getBaseSegmentCount();
+    int sum = getBaseSegmentCount() + aggregatedSegmentCount;
     for (Map.Entry<String, ?> component : components.entrySet()) {
       if (component.getValue() instanceof List) {
         for (Object listItem : (List<?>) component.getValue()) {
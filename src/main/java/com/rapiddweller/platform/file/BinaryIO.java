@@ -0,0 +1,73 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.file;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads and writes the primitive elements of the binary file formats: Variable-length integers (varints),
+ * which need one byte for each 7 bits of the value, and length-prefixed byte arrays and UTF-8 strings.<br/><br/>
+ * Created: 19.10.2026 09:06:12
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BinaryIO {
+
+  private BinaryIO() {
+    // private constructor to prevent instantiation
+  }
+
+  /** Writes a non-negative number as varint. */
+  public static void writeVarLong(long value, DataOutput out) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  public static long readVarLong(DataInput in) throws IOException {
+    long result = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.readByte();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  /** Writes a number in zigzag encoding, so that numbers of small magnitude need few bytes, even if negative. */
+  public static void writeSignedVarLong(long value, DataOutput out) throws IOException {
+    writeVarLong((value << 1) ^ (value >> 63), out);
+  }
+
+  public static long readSignedVarLong(DataInput in) throws IOException {
+    long value = readVarLong(in);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  public static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+    writeVarLong(bytes.length, out);
+    out.write(bytes);
+  }
+
+  public static byte[] readBytes(DataInput in) throws IOException {
+    byte[] bytes = new byte[(int) readVarLong(in)];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  public static void writeString(String s, DataOutput out) throws IOException {
+    writeBytes(s.getBytes(StandardCharsets.UTF_8), out);
+  }
+
+  public static String readString(DataInput in) throws IOException {
+    return new String(readBytes(in), StandardCharsets.UTF_8);
+  }
+
+}
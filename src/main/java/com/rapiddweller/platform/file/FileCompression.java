@@ -0,0 +1,89 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.file;
+
+import com.rapiddweller.common.ConfigurationError;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Selects and creates the compression layer of exported files. The compression is specified
+ * explicitly by name or derived from the suffix of the file name. Supported are 'none' and 'gzip'
+ * (suffix '.gz'), which is written by a {@link ParallelGzipOutputStream}. The Zstandard and LZ4 formats
+ * (suffixes '.zst' and '.lz4') are recognized, but rejected, since the JDK provides no codec for them.<br/><br/>
+ * Created: 19.10.2026 09:52:33
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FileCompression {
+
+  public static final String NONE = "none";
+  public static final String GZIP = "gzip";
+
+  private FileCompression() {
+    // private constructor to prevent instantiation
+  }
+
+  /**
+   * Determines the compression of a file.
+   *
+   * @param uri         the uri of the file
+   * @param compression the configured compression, or null for deriving it from the file suffix
+   * @return {@link #NONE} or {@link #GZIP}
+   */
+  public static String resolve(String uri, String compression) {
+    String name = (compression != null ? compression.trim().toLowerCase(Locale.ROOT) : suffixCompression(uri));
+    switch (name) {
+      case NONE:
+      case "":
+        return NONE;
+      case GZIP:
+      case "gz":
+        return GZIP;
+      case "zstd":
+      case "zst":
+      case "lz4":
+        throw new ConfigurationError("Compression '" + name + "' is not available, since the JDK has no codec "
+            + "for it. Use '" + GZIP + "' instead");
+      default:
+        throw new ConfigurationError("Unknown compression: '" + compression + "'. Supported: " + NONE + ", " + GZIP);
+    }
+  }
+
+  /**
+   * Opens a file for writing with the specified compression.
+   *
+   * @param uri         the file to write
+   * @param compression the configured compression, or null for deriving it from the file suffix
+   * @param append      true for appending to an existing file
+   * @return a buffered stream which writes to the file
+   * @throws IOException if the file cannot be opened
+   */
+  public static OutputStream createOutputStream(String uri, String compression, boolean append) throws IOException {
+    OutputStream out = new FileOutputStream(uri, append);
+    if (GZIP.equals(resolve(uri, compression))) {
+      return new ParallelGzipOutputStream(out); // buffers the data in its blocks
+    }
+    return new BufferedOutputStream(out, 65536);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static String suffixCompression(String uri) {
+    String lowerCaseUri = (uri != null ? uri.toLowerCase(Locale.ROOT) : "");
+    if (lowerCaseUri.endsWith(".gz")) {
+      return GZIP;
+    } else if (lowerCaseUri.endsWith(".zst")) {
+      return "zst";
+    } else if (lowerCaseUri.endsWith(".lz4")) {
+      return "lz4";
+    } else {
+      return NONE;
+    }
+  }
+
+}
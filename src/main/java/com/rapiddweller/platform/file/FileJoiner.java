@@ -31,20 +31,22 @@
 import com.rapiddweller.common.Assert;
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.ErrorHandler;
-import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.task.AbstractTask;
 import com.rapiddweller.task.TaskResult;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Joins several source files into a destination file.
  * If the property 'append' is 'true' and the destination file already exists,
- * it will append the source files' contents to the existing file.<br/>
+ * it will append the source files' contents to the existing file.
+ * The contents are copied with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+ * which lets the operating system copy the data without passing it through the Java heap.<br/>
  * <br/>
  * Created at 16.09.2009 15:50:25
  *
@@ -53,8 +55,6 @@
  */
 public class FileJoiner extends AbstractTask {
 
-  private static final int BUFFER_SIZE = 65536;
-
   private String[] sources = new String[0];
   private String destination = null;
   private boolean append = false;
@@ -62,19 +62,6 @@ public class FileJoiner extends AbstractTask {
 
   // properties ------------------------------------------------------------------------------------------------------
 
-  private static void appendFile(OutputStream out, String source, byte[] buffer, BeneratorContext context) throws IOException {
-    FileInputStream in = null;
-    try {
-      in = new FileInputStream(context.resolveRelativeUri(source));
-      int partLength = 0;
-      while ((partLength = in.read(buffer)) > 0) {
-        out.write(buffer, 0, partLength);
-      }
-    } finally {
-      IOUtil.close(in);
-    }
-  }
-
   /**
    * Get sources string [ ].
    *
@@ -155,14 +142,13 @@ public void setDeleteSources(boolean deleteSources) {
   public TaskResult execute(Context ctx, ErrorHandler errorHandler) {
     Assert.notNull(destination, "property 'destination'");
     BeneratorContext context = (BeneratorContext) ctx;
-    byte[] buffer = new byte[BUFFER_SIZE];
-    OutputStream out = null;
     try {
       File destFile = new File(context.resolveRelativeUri(destination));
-      out = new FileOutputStream(destFile, append);
+      List<File> sourceFiles = new ArrayList<>(sources.length);
       for (String source : sources) {
-        appendFile(out, source, buffer, context);
+        sourceFiles.add(new File(context.resolveRelativeUri(source)));
       }
+      join(sourceFiles, destFile, append);
       if (deleteSources) {
         for (String source : sources) {
           File file = new File(source);
@@ -174,10 +160,31 @@ public TaskResult execute(Context ctx, ErrorHandler errorHandler) {
       }
     } catch (IOException e) {
       errorHandler.handleError("Error joining files: " + ArrayFormat.format(sources), e);
-    } finally {
-      IOUtil.close(out);
     }
     return TaskResult.FINISHED;
   }
 
+  /**
+   * Concatenates files by channel transfer.
+   *
+   * @param sources     the files to join, in the order of concatenation
+   * @param destination the file to write
+   * @param append      if true, the sources' contents are appended to an existing destination file
+   * @throws IOException if reading or writing fails
+   */
+  public static void join(List<File> sources, File destination, boolean append) throws IOException {
+    try (FileChannel out = FileChannel.open(destination.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        (append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING))) {
+      for (File source : sources) {
+        try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+          long size = in.size();
+          long position = 0;
+          while (position < size) {
+            position += in.transferTo(position, size - position, out);
+          }
+        }
+      }
+    }
+  }
+
 }
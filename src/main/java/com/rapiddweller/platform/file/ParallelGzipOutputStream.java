@@ -0,0 +1,182 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link OutputStream} which writes gzip format by compressing the data in independent blocks
+ * on a shared pool of background threads. Each block becomes a complete gzip member, and a sequence
+ * of members is a valid gzip file (RFC 1952) which can be read by any gzip tool
+ * or {@link java.util.zip.GZIPInputStream}.
+ * Since the members do not depend on each other, downstream readers can split the file at member borders
+ * and decompress them in parallel. The compressed blocks are written in the order of the data. The number
+ * of blocks in progress is limited, so a writer which produces data faster than it can be compressed
+ * is slowed down instead of filling the heap. {@link #flush()} only writes the blocks which have already
+ * been compressed and leaves the current block open, so frequent flushing neither reduces the compression ratio
+ * nor makes the caller wait for compression. All remaining data is written on {@link #close()}.<br/><br/>
+ * Created: 19.10.2026 09:14:06
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+  private static final int THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+  private static final int MAX_PENDING_BLOCKS = 2 * THREAD_COUNT;
+
+  private static ExecutorService pool;
+
+  private final OutputStream out;
+  private final int level;
+  private final Deque<Future<byte[]>> pendingBlocks;
+  private byte[] block;
+  private int blockLength;
+  private boolean closed;
+
+  // constructors ----------------------------------------------------------------------------------------------------
+
+  public ParallelGzipOutputStream(OutputStream out) {
+    this(out, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  public ParallelGzipOutputStream(OutputStream out, int blockSize, int level) {
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("Block size must be positive, but was " + blockSize);
+    }
+    if (level != Deflater.DEFAULT_COMPRESSION
+        && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+      throw new IllegalArgumentException("Illegal compression level: " + level);
+    }
+    this.out = out;
+    this.level = level;
+    this.pendingBlocks = new ArrayDeque<>(MAX_PENDING_BLOCKS);
+    this.block = new byte[blockSize];
+    this.blockLength = 0;
+    this.closed = false;
+  }
+
+  // OutputStream interface implementation ---------------------------------------------------------------------------
+
+  @Override
+  public void write(int b) throws IOException {
+    if (blockLength == block.length) {
+      submitBlock();
+    }
+    block[blockLength++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    while (length > 0) {
+      if (blockLength == block.length) {
+        submitBlock();
+      }
+      int chunk = Math.min(length, block.length - blockLength);
+      System.arraycopy(bytes, offset, block, blockLength, chunk);
+      blockLength += chunk;
+      offset += chunk;
+      length -= chunk;
+    }
+  }
+
+  /** Writes the blocks which have already been compressed, the current block is kept open. */
+  @Override
+  public void flush() throws IOException {
+    while (!pendingBlocks.isEmpty() && pendingBlocks.getFirst().isDone()) {
+      writeNextCompressedBlock();
+    }
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      submitBlock();
+      while (!pendingBlocks.isEmpty()) {
+        writeNextCompressedBlock();
+      }
+      out.flush();
+    } finally {
+      for (Future<byte[]> pendingBlock : pendingBlocks) {
+        pendingBlock.cancel(false);
+      }
+      out.close();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void submitBlock() throws IOException {
+    if (blockLength == 0) {
+      return;
+    }
+    if (pendingBlocks.size() >= MAX_PENDING_BLOCKS) {
+      writeNextCompressedBlock();
+    }
+    byte[] data = (blockLength == block.length ? block : Arrays.copyOf(block, blockLength));
+    pendingBlocks.add(pool().submit(() -> compress(data, level)));
+    if (data == block) {
+      block = new byte[block.length]; // the full block is now owned by the compression task
+    }
+    blockLength = 0;
+  }
+
+  private void writeNextCompressedBlock() throws IOException {
+    try {
+      out.write(pendingBlocks.removeFirst().get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for compression");
+    } catch (ExecutionException e) {
+      throw new IOException("Error compressing data", e.getCause());
+    }
+  }
+
+  static byte[] compress(byte[] data, int level) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 2 + 64);
+    try (GZIPOutputStream gzip = new LeveledGzipOutputStream(buffer, level)) {
+      gzip.write(data);
+    }
+    return buffer.toByteArray();
+  }
+
+  private static synchronized ExecutorService pool() {
+    if (pool == null) {
+      AtomicInteger threadCount = new AtomicInteger();
+      pool = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+        Thread thread = new Thread(runnable, "benerator-gzip-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return pool;
+  }
+
+  /** {@link GZIPOutputStream} with a configurable compression level. */
+  private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+    LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+      super(out, 65536);
+      def.setLevel(level);
+    }
+  }
+
+}
@@ -0,0 +1,162 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.fixedwidth;
+
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.format.Alignment;
+import com.rapiddweller.format.fixedwidth.FixedWidthColumnDescriptor;
+import com.rapiddweller.format.fixedwidth.FixedWidthUtil;
+import com.rapiddweller.model.data.ComponentAccessor;
+import com.rapiddweller.model.data.Entity;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Encodes Entities as fixed-width records directly into a reusable byte buffer.
+ * String values of ASCII characters are padded and copied byte-wise into the buffer,
+ * all other values are formatted by a {@link FWRecordFormatter}.<br/><br/>
+ * Created: 19.10.2026 15:17:48
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FWRecordEncoder {
+
+  private final FWRecordFormatter formatter;
+  private final ComponentAccessor[] accessors;
+  private final int[] widths;
+  private final Alignment[] alignments;
+  private final byte[] padBytes;
+  private final Charset charset;
+  private final boolean asciiCompatible;
+  private final byte[] lineSeparator;
+  private byte[] buffer;
+  private int length;
+
+  public FWRecordEncoder(String columnFormatList, String nullString, Locale locale, String encoding, String lineSeparator) {
+    this.formatter = new FWRecordFormatter(columnFormatList, nullString, locale);
+    this.charset = Charset.forName(encoding);
+    this.asciiCompatible = isAsciiCompatible(charset);
+    this.lineSeparator = lineSeparator.getBytes(charset);
+    try {
+      FixedWidthColumnDescriptor[] descriptors = FixedWidthUtil.parseBeanColumnsSpec(
+          columnFormatList, "", nullString, locale).getColumnDescriptors();
+      this.accessors = new ComponentAccessor[descriptors.length];
+      this.widths = new int[descriptors.length];
+      this.alignments = new Alignment[descriptors.length];
+      this.padBytes = new byte[descriptors.length];
+      int recordLength = this.lineSeparator.length;
+      for (int i = 0; i < descriptors.length; i++) {
+        FixedWidthColumnDescriptor descriptor = descriptors[i];
+        accessors[i] = new ComponentAccessor(descriptor.getName());
+        widths[i] = descriptor.getWidth();
+        alignments[i] = descriptor.getAlignment();
+        char padChar = descriptor.getPadChar();
+        padBytes[i] = (padChar < 128 ? (byte) padChar : 0);
+        if (padChar >= 128) {
+          alignments[i] = null; // always use the formatter
+        }
+        recordLength += widths[i];
+      }
+      this.buffer = new byte[recordLength];
+    } catch (ParseException e) {
+      throw new ConfigurationError("Invalid column definition: " + columnFormatList, e);
+    }
+  }
+
+  static boolean isAsciiCompatible(Charset charset) {
+    if (!StandardCharsets.UTF_8.equals(charset) && charset.newEncoder().maxBytesPerChar() > 1) {
+      return false;
+    }
+    byte[] probe = {' ', '0', 'A', 'z', '~'};
+    return new String(probe, charset).equals(" 0Az~");
+  }
+
+  /**
+   * Encodes an entity as a record including the line separator and writes it to a stream.
+   * @param entity the entity to encode
+   * @param out    the stream to write to
+   * @throws IOException if writing fails
+   */
+  public void write(Entity entity, OutputStream out) throws IOException {
+    encode(entity);
+    out.write(buffer, 0, length);
+  }
+
+  void encode(Entity entity) {
+    length = 0;
+    for (int i = 0; i < accessors.length; i++) {
+      if (!encodeDirectly(accessors[i].getValue(entity), i)) {
+        appendText(formatter.formatColumn(entity, i));
+      }
+    }
+    appendBytes(lineSeparator, lineSeparator.length);
+  }
+
+  byte[] getBuffer() {
+    return buffer;
+  }
+
+  int getLength() {
+    return length;
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private boolean encodeDirectly(Object value, int column) {
+    if (!asciiCompatible || !(value instanceof CharSequence) || alignments[column] == null
+        || alignments[column] == Alignment.CENTER) {
+      return false;
+    }
+    CharSequence text = (CharSequence) value;
+    int textLength = text.length();
+    int width = widths[column];
+    if (textLength > width) {
+      return false;
+    }
+    for (int i = 0; i < textLength; i++) {
+      if (text.charAt(i) >= 128) {
+        return false;
+      }
+    }
+    ensureCapacity(width);
+    int padding = width - textLength;
+    if (alignments[column] == Alignment.RIGHT) {
+      Arrays.fill(buffer, length, length + padding, padBytes[column]);
+      length += padding;
+    }
+    for (int i = 0; i < textLength; i++) {
+      buffer[length++] = (byte) text.charAt(i);
+    }
+    if (alignments[column] == Alignment.LEFT) {
+      Arrays.fill(buffer, length, length + padding, padBytes[column]);
+      length += padding;
+    }
+    return true;
+  }
+
+  private void appendText(String text) {
+    if (text != null) {
+      byte[] bytes = text.getBytes(charset);
+      appendBytes(bytes, bytes.length);
+    }
+  }
+
+  private void appendBytes(byte[] bytes, int count) {
+    ensureCapacity(count);
+    System.arraycopy(bytes, 0, buffer, length, count);
+    length += count;
+  }
+
+  private void ensureCapacity(int additional) {
+    if (length + additional > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+    }
+  }
+
+}
@@ -75,4 +75,12 @@ public void format(Entity entity, PrintWriter printer) {
     }
   }
 
+  public int getColumnCount() {
+    return converters.length;
+  }
+
+  public String formatColumn(Entity entity, int columnIndex) {
+    return converters[columnIndex].convert(entity);
+  }
+
 }
@@ -32,14 +32,21 @@
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.collection.OrderedNameMap;
 import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.FileCompression;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.util.Locale;
 import java.util.Map;
 
 /**
- * Exports Entities to fixed-width files.<br/><br/>
+ * Exports Entities to fixed-width files.
+ * When writing to a local file, records are encoded into a byte buffer by a {@link FWRecordEncoder}
+ * and written to the file stream without an intermediate Writer.<br/><br/>
  * Created: 26.08.2007 06:17:41
  * @author Volker Bergmann
  */
@@ -49,6 +56,8 @@ public class FixedWidthEntityExporter extends TextFileExporter {
 
   private final Map<String, String> formats;
   private Map<String, FWRecordFormatter> formatters;
+  private Map<String, FWRecordEncoder> encoders;
+  private OutputStream out;
 
   private Locale locale;
 
@@ -65,6 +74,8 @@ public FixedWidthEntityExporter(String uri, String encoding, String columnFormat
     this.uri = uri;
     this.formats = OrderedNameMap.createCaseInsensitiveMap();
     this.formatters = null;
+    this.encoders = null;
+    this.out = null;
     this.locale = Locale.US;
     setColumns(columnFormatList);
     setDecimalPattern("0.##");
@@ -91,19 +102,27 @@ public Map<String, String> getFormats() {
   // Consumer interface ----------------------------------------------------------------------------------------------
 
   @Override
-  public void flush() {
-    if (printer != null) {
-      printer.flush();
+  public void close() {
+    if (sharded) {
+      super.close(); // closes and joins the part files
+    } else {
+      IOUtil.close(printer);
     }
   }
 
+  // Callback methods for TextFileExporter ---------------------------------------------------------------------------
+
   @Override
-  public void close() {
-    IOUtil.close(printer);
+  protected PrintWriter createPrinter() throws IOException {
+    if (uri.indexOf(':') > 1) { // a URL, not a local path
+      out = null;
+      return super.createPrinter();
+    }
+    // the printer is only used for flushing and closing the stream
+    out = FileCompression.createOutputStream(uri, compression, append);
+    return new PrintWriter(new OutputStreamWriter(out, encoding));
   }
 
-  // Callback methods for TextFileExporter ---------------------------------------------------------------------------
-
   @Override
   protected void postInitPrinter(Object object) {
     if (this.formats.isEmpty()) {
@@ -118,8 +137,16 @@ protected void startConsumingImpl(Object object) {
       throw new IllegalArgumentException("Expected Entity");
     }
     Entity entity = (Entity) object;
-    getFormatter(entity.type()).format(entity, printer);
-    printer.print(lineSeparator);
+    if (out != null) {
+      try {
+        getEncoder(entity.type()).write(entity, out);
+      } catch (IOException e) {
+        throw new RuntimeException("Error writing " + entity + " to " + uri, e);
+      }
+    } else {
+      getFormatter(entity.type()).format(entity, printer);
+      printer.print(lineSeparator);
+    }
   }
 
   // private helpers -------------------------------------------------------------------------------------------------
@@ -138,6 +165,28 @@ private FWRecordFormatter getFormatter(String type) {
     return formatter;
   }
 
+  private FWRecordEncoder getEncoder(String type) {
+    if (this.encoders == null) {
+      initEncoders();
+    }
+    FWRecordEncoder encoder = encoders.get(type);
+    if (encoder == null) {
+      encoder = encoders.get("*");
+    }
+    if (encoder == null) {
+      throw new ConfigurationError("No format defined for type " + type);
+    }
+    return encoder;
+  }
+
+  private void initEncoders() {
+    this.encoders = OrderedNameMap.createCaseInsensitiveMap();
+    for (Map.Entry<String, String> entry : this.formats.entrySet()) {
+      this.encoders.put(entry.getKey(),
+          new FWRecordEncoder(entry.getValue(), getNullString(), locale, encoding, lineSeparator));
+    }
+  }
+
   private void initFormatters() {
     this.formatters = OrderedNameMap.createCaseInsensitiveMap();
     for (Map.Entry<String, String> entry : this.formats.entrySet()) {
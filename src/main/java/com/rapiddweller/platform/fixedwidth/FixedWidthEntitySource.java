@@ -50,6 +50,7 @@
 import com.rapiddweller.model.data.FileBasedEntitySource;
 import com.rapiddweller.platform.array.Array2EntityConverter;
 
+import java.io.IOException;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -70,6 +71,7 @@ public class FixedWidthEntitySource extends FileBasedEntitySource {
   private ComplexTypeDescriptor entityDescriptor;
   private FixedWidthColumnDescriptor[] descriptors;
   private String lineFilter;
+  private boolean mapped;
   private final boolean initialized;
   private final Converter<String, String> preprocessor;
 
@@ -98,6 +100,7 @@ public FixedWidthEntitySource(String uri, ComplexTypeDescriptor entityDescriptor
     this.preprocessor = preprocessor;
     this.initialized = false;
     this.lineFilter = lineFilter;
+    this.mapped = false;
   }
 
   // properties ------------------------------------------------------------------------------------------------------
@@ -131,6 +134,20 @@ public void setColumns(String columns) throws ParseException {
     this.descriptors = rowTypeDescriptor.getColumnDescriptors();
   }
 
+  /**
+   * Activates memory-mapped, offset-based reading, see {@link MappedFixedWidthFile}.
+   * It is used for local files without a line filter, other files are read line by line.
+   *
+   * @param mapped true for memory-mapped reading
+   */
+  public void setMapped(boolean mapped) {
+    this.mapped = mapped;
+  }
+
+  public boolean isMapped() {
+    return mapped;
+  }
+
   // Iterable interface ----------------------------------------------------------------------------------------------
 
   public void setLineFilter(String lineFilter) {
@@ -150,9 +167,39 @@ public DataIterator<Entity> iterator() {
     if (!initialized) {
       init();
     }
+    if (isMappingApplicable()) {
+      return partitionIterator(0, 1);
+    }
     return new ConvertingDataIterator<>(this.source.iterator(), converter);
   }
 
+  /**
+   * Creates an iterator over one of several partitions of equal record count, requires memory-mapped reading.
+   * Iterators of different partitions can be used concurrently.
+   *
+   * @param partition      the index of the partition to iterate, starting with 0
+   * @param partitionCount the total number of partitions
+   * @return an iterator over the records of the partition
+   */
+  public DataIterator<Entity> partitionIterator(int partition, int partitionCount) {
+    if (!initialized) {
+      init();
+    }
+    if (!isMappingApplicable()) {
+      throw new UnsupportedOperationException("Partitioning requires memory-mapped reading of a local file " +
+          "without line filter: " + uri);
+    }
+    try {
+      MappedFixedWidthFile file = new MappedFixedWidthFile(resolveUri(), encoding, descriptors);
+      long recordCount = file.getRecordCount();
+      long start = recordCount * partition / partitionCount;
+      long end = recordCount * (partition + 1) / partitionCount;
+      return new MappedFixedWidthEntityIterator(file, true, entityDescriptor, preprocessor, start, end);
+    } catch (IOException e) {
+      throw new RuntimeException("Error mapping " + uri, e);
+    }
+  }
+
   // private helpers -------------------------------------------------------------------------------------------------
 
   private void init() {
@@ -167,6 +214,10 @@ private void init() {
     this.converter = createConverter();
   }
 
+  private boolean isMappingApplicable() {
+    return (mapped && lineFilter == null && MappedFixedWidthFile.isApplicable(resolveUri(), encoding));
+  }
+
   private DataSource<String[]> createSource() {
     PadFormat[] formats = ArrayPropertyExtractor.convert(descriptors, "format", PadFormat.class);
     return new FixedWidthLineSource(resolveUri(), formats, true, encoding, lineFilter);
@@ -0,0 +1,73 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.fixedwidth;
+
+import com.rapiddweller.common.Converter;
+import com.rapiddweller.common.converter.NoOpConverter;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.array.Array2EntityConverter;
+
+/**
+ * Iterates the Entities of a range of records in a {@link MappedFixedWidthFile}.
+ * Iterators over disjoint record ranges of the same file can be used concurrently.<br/><br/>
+ * Created: 19.10.2026 14:41:12
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class MappedFixedWidthEntityIterator implements DataIterator<Entity> {
+
+  private final MappedFixedWidthFile file;
+  private final boolean ownsFile;
+  private final Converter<String, String> preprocessor;
+  private final Array2EntityConverter converter;
+  private final MappedFixedWidthFile.RecordBuffer buffer;
+  private final long endIndex;
+  private long index;
+
+  public MappedFixedWidthEntityIterator(MappedFixedWidthFile file, boolean ownsFile, ComplexTypeDescriptor descriptor,
+                                        Converter<String, String> preprocessor, long startIndex, long endIndex) {
+    this.file = file;
+    this.ownsFile = ownsFile;
+    this.preprocessor = (preprocessor instanceof NoOpConverter ? null : preprocessor);
+    this.converter = new Array2EntityConverter(descriptor, file.getColumnNames(), true);
+    this.buffer = file.createBuffer();
+    this.index = Math.max(0, startIndex);
+    this.endIndex = Math.min(endIndex, file.getRecordCount());
+  }
+
+  @Override
+  public Class<Entity> getType() {
+    return Entity.class;
+  }
+
+  @Override
+  public DataContainer<Entity> next(DataContainer<Entity> container) {
+    if (index >= endIndex) {
+      return null;
+    }
+    String[] cells = new String[file.getColumnNames().length];
+    file.readRecord(index++, buffer, cells);
+    if (preprocessor != null) {
+      for (int i = 0; i < cells.length; i++) {
+        cells[i] = preprocessor.convert(cells[i]);
+      }
+    }
+    return container.setData(converter.convert(cells));
+  }
+
+  @Override
+  public void close() {
+    if (ownsFile) {
+      file.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + file + ", next=" + index + ", end=" + endIndex + "]";
+  }
+
+}
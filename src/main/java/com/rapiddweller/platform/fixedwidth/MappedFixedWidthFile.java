@@ -0,0 +1,237 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.fixedwidth;
+
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.format.Alignment;
+import com.rapiddweller.format.fixedwidth.FixedWidthColumnDescriptor;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Provides offset-based access to the records of a fixed-width file by memory-mapping it.
+ * All records must have the same length in bytes, so the file encoding must either be a
+ * single-byte encoding or the content must be restricted to single-byte characters
+ * (e.g. ASCII content in UTF-8). Records may be separated by LF, CR LF or not at all.
+ * Since each record is located by its index, the file can be read in random order
+ * and in parallel partitions, see {@link MappedFixedWidthEntityIterator}.<br/><br/>
+ * Created: 19.10.2026 14:05:33
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class MappedFixedWidthFile implements Closeable {
+
+  private static final long MAX_SEGMENT_SIZE = 1L << 30;
+
+  private final File file;
+  private final Charset charset;
+  private final String[] columnNames;
+  private final int[] offsets;
+  private final int[] widths;
+  private final boolean[] trimLeading;
+  private final boolean[] trimTrailing;
+  private final byte[] padBytes;
+  private final int contentLength;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer[] segments;
+  private final byte[] separator;
+  private final long recordLength;
+  private final long recordsPerSegment;
+  private final long recordCount;
+
+  public MappedFixedWidthFile(String uri, String encoding, FixedWidthColumnDescriptor... columns) throws IOException {
+    if (!isApplicable(uri, encoding)) {
+      throw new ConfigurationError("Not a local file with a supported encoding: " + uri + " (" + encoding + ")");
+    }
+    this.file = new File(uri);
+    this.charset = Charset.forName(encoding);
+    // compute the record layout
+    this.columnNames = new String[columns.length];
+    this.offsets = new int[columns.length];
+    this.widths = new int[columns.length];
+    this.trimLeading = new boolean[columns.length];
+    this.trimTrailing = new boolean[columns.length];
+    this.padBytes = new byte[columns.length];
+    int offset = 0;
+    for (int i = 0; i < columns.length; i++) {
+      FixedWidthColumnDescriptor column = columns[i];
+      columnNames[i] = column.getName();
+      offsets[i] = offset;
+      widths[i] = column.getWidth();
+      Alignment alignment = column.getAlignment();
+      trimLeading[i] = (alignment != Alignment.LEFT);
+      trimTrailing[i] = (alignment != Alignment.RIGHT);
+      padBytes[i] = singleByte(column.getPadChar());
+      offset += widths[i];
+    }
+    this.contentLength = offset;
+    // map the file
+    this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    long size = channel.size();
+    this.separator = detectSeparator(size);
+    this.recordLength = contentLength + separator.length;
+    long remainder = size % recordLength;
+    if (remainder != 0 && remainder != contentLength) {
+      IOUtil.close(channel);
+      throw new ConfigurationError("Size of " + uri + " does not match its record length of " + recordLength +
+          " bytes. The file has records of different length or contains multi-byte characters");
+    }
+    this.recordCount = size / recordLength + (remainder != 0 ? 1 : 0);
+    this.recordsPerSegment = Math.max(1, MAX_SEGMENT_SIZE / recordLength);
+    int segmentCount = (int) ((recordCount + recordsPerSegment - 1) / recordsPerSegment);
+    this.segments = new MappedByteBuffer[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      long start = i * recordsPerSegment * recordLength;
+      segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(recordsPerSegment * recordLength, size - start));
+    }
+  }
+
+  /**
+   * Tells if a file can be processed by this class, which requires it to be a local file
+   * with an encoding that represents line breaks and pad characters by single bytes.
+   * @param uri      the file path
+   * @param encoding the file encoding
+   * @return true if the file can be processed, otherwise false
+   */
+  public static boolean isApplicable(String uri, String encoding) {
+    if (uri == null || !new File(uri).isFile() || !Charset.isSupported(encoding)) {
+      return false;
+    }
+    Charset charset = Charset.forName(encoding);
+    return (StandardCharsets.UTF_8.equals(charset) || charset.newEncoder().maxBytesPerChar() == 1);
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public String[] getColumnNames() {
+    return columnNames;
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  // record access ---------------------------------------------------------------------------------------------------
+
+  /**
+   * Creates a buffer which can be used for reading records.
+   * Each buffer may only be used by one thread at a time.
+   * @return a new record buffer
+   */
+  public RecordBuffer createBuffer() {
+    return new RecordBuffer();
+  }
+
+  /**
+   * Reads the cells of a record, stripping the pad characters.
+   * @param index  the index of the record
+   * @param buffer a buffer created by {@link #createBuffer()}
+   * @param cells  an array that receives the cell texts
+   */
+  public void readRecord(long index, RecordBuffer buffer, Object[] cells) {
+    if (index < 0 || index >= recordCount) {
+      throw new IndexOutOfBoundsException("Record index " + index + " out of range [0, " + recordCount + ")");
+    }
+    int segmentIndex = (int) (index / recordsPerSegment);
+    int position = (int) ((index % recordsPerSegment) * recordLength);
+    ByteBuffer view = buffer.views[segmentIndex];
+    if (view == null) {
+      view = segments[segmentIndex].duplicate();
+      buffer.views[segmentIndex] = view;
+    }
+    byte[] bytes = buffer.bytes;
+    view.position(position);
+    int length = (int) Math.min(recordLength, view.limit() - position);
+    view.get(bytes, 0, length);
+    if (length == recordLength && !matchesSeparator(bytes, contentLength)) {
+      throw new IllegalStateException("Record " + index + " of " + file + " does not end with a line separator. " +
+          "The file has records of different length or contains multi-byte characters");
+    }
+    for (int i = 0; i < cells.length && i < offsets.length; i++) {
+      int start = offsets[i];
+      int end = start + widths[i];
+      byte pad = padBytes[i];
+      if (trimLeading[i]) {
+        while (start < end && bytes[start] == pad) {
+          start++;
+        }
+      }
+      if (trimTrailing[i]) {
+        while (end > start && bytes[end - 1] == pad) {
+          end--;
+        }
+      }
+      cells[i] = new String(bytes, start, end - start, charset);
+    }
+  }
+
+  @Override
+  public void close() {
+    IOUtil.close(channel);
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + file + ", " + recordCount + " records]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private byte[] detectSeparator(long size) throws IOException {
+    if (size <= contentLength) {
+      return new byte[0];
+    }
+    int probeLength = (int) Math.min(2, size - contentLength);
+    ByteBuffer probe = channel.map(FileChannel.MapMode.READ_ONLY, contentLength, probeLength);
+    byte cr = singleByte('\r');
+    byte lf = singleByte('\n');
+    byte first = probe.get(0);
+    if (first == cr && probeLength == 2 && probe.get(1) == lf) {
+      return new byte[] {cr, lf};
+    } else if (first == lf || first == cr) {
+      return new byte[] {first};
+    } else {
+      return new byte[0];
+    }
+  }
+
+  private boolean matchesSeparator(byte[] bytes, int offset) {
+    for (int i = 0; i < separator.length; i++) {
+      if (bytes[offset + i] != separator[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private byte singleByte(char c) {
+    byte[] bytes = String.valueOf(c).getBytes(charset);
+    if (bytes.length != 1) {
+      throw new ConfigurationError("Character '" + c + "' is not represented by a single byte in " + charset);
+    }
+    return bytes[0];
+  }
+
+  /** Per-thread state for reading records. */
+  public final class RecordBuffer {
+
+    final byte[] bytes = new byte[(int) recordLength];
+    final ByteBuffer[] views = new ByteBuffer[segments.length];
+
+    private RecordBuffer() {
+    }
+  }
+
+}
@@ -26,13 +26,10 @@
 
 package com.rapiddweller.platform.java;
 
-import com.rapiddweller.common.BeanUtil;
 import com.rapiddweller.common.converter.ThreadSafeConverter;
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.Entity;
 
-import java.beans.PropertyDescriptor;
-
 /**
  * Converts a Bean to an Entity.<br/>
  * <br/>
@@ -68,10 +65,8 @@ public Entity convert(Object bean) {
       return null;
     }
     Entity entity = new Entity(descriptor != null ? descriptor : createBeanDescriptor(bean.getClass()));
-    for (PropertyDescriptor descriptor : BeanUtil.getPropertyDescriptors(bean.getClass())) {
-      if (!"class".equals(descriptor.getName())) {
-        entity.setComponent(descriptor.getName(), BeanUtil.getPropertyValue(bean, descriptor.getName()));
-      }
+    for (BeanAccessor.Property property : BeanAccessor.of(bean.getClass()).getReadableProperties()) {
+      entity.setComponent(property.getName(), property.get(bean));
     }
     return entity;
   }
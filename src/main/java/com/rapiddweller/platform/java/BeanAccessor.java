@@ -0,0 +1,318 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.java;
+
+import com.rapiddweller.common.BeanUtil;
+import com.rapiddweller.common.converter.AnyConverter;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides fast access to the constructor and properties of a JavaBean class.
+ * On first use of a class, its property getters and setters and its fields
+ * are resolved to {@link MethodHandle}s and the type conversion for each property
+ * is set up, so that subsequent bean instantiation and property access work without
+ * introspection and reflective method lookup. Fields are only used as a fallback
+ * for writing features which have no setter, see {@link #getWritableFeature(String)}.
+ * Instances are cached per class and are thread-safe.<br/><br/>
+ * Created: 19.10.2026 17:05:31
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BeanAccessor {
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<BeanAccessor> CACHE = new ClassValue<>() {
+    @Override
+    protected BeanAccessor computeValue(Class<?> beanClass) {
+      return new BeanAccessor(beanClass);
+    }
+  };
+
+  private final Class<?> beanClass;
+  private final MethodHandle constructor;
+  private final Map<String, Property> properties;
+  private final List<Property> readableProperties;
+  private final Map<String, Property> fields;
+
+  private BeanAccessor(Class<?> beanClass) {
+    this.beanClass = beanClass;
+    this.constructor = findConstructor(beanClass);
+    this.properties = new LinkedHashMap<>();
+    for (PropertyDescriptor descriptor : BeanUtil.getPropertyDescriptors(beanClass)) {
+      if (!"class".equals(descriptor.getName())) {
+        Method readMethod = descriptor.getReadMethod();
+        Method writeMethod = descriptor.getWriteMethod();
+        properties.put(descriptor.getName(), new Property(descriptor.getName(), descriptor.getPropertyType(),
+            (readMethod != null ? readMethod.getGenericReturnType() : null),
+            unreflectGetter(readMethod), unreflectSetter(writeMethod)));
+      }
+    }
+    this.fields = new LinkedHashMap<>();
+    for (Class<?> type = beanClass; type != null && type != Object.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && !field.isSynthetic()
+            && !fields.containsKey(field.getName())) { // fields of subclasses hide the ones of their parents
+          MethodHandle setter = unreflectSetter(field);
+          if (setter != null) {
+            fields.put(field.getName(), new Property(field.getName(), field.getType(), field.getGenericType(),
+                unreflectGetter(field), setter));
+          }
+        }
+      }
+    }
+    List<Property> readables = new ArrayList<>(properties.size());
+    for (Property property : properties.values()) {
+      if (property.isReadable()) {
+        readables.add(property);
+      }
+    }
+    this.readableProperties = Collections.unmodifiableList(readables);
+  }
+
+  /**
+   * Provides the {@link BeanAccessor} for a class.
+   * @param beanClass the JavaBean class
+   * @return the cached accessor of the class
+   */
+  public static BeanAccessor of(Class<?> beanClass) {
+    return CACHE.get(beanClass);
+  }
+
+  public Class<?> getBeanClass() {
+    return beanClass;
+  }
+
+  /**
+   * Creates a new instance of the bean class using its default constructor.
+   * @return a new bean instance
+   */
+  public Object newInstance() {
+    if (constructor == null) {
+      return BeanUtil.newInstance(beanClass);
+    }
+    try {
+      return (Object) constructor.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException("Error instantiating " + beanClass.getName(), e);
+    }
+  }
+
+  /**
+   * @param name the property name
+   * @return the property of the given name or null if the class has no such property
+   */
+  public Property getProperty(String name) {
+    return properties.get(name);
+  }
+
+  /**
+   * @param name the property name
+   * @return the property of the given name if it can be written, otherwise null
+   */
+  public Property getWritableProperty(String name) {
+    Property property = properties.get(name);
+    return (property != null && property.isWritable() ? property : null);
+  }
+
+  /**
+   * Provides write access to a property or, if the class has no setter for it,
+   * to a non-final field of the same name in the class or one of its parent classes,
+   * regardless of the field's visibility.
+   * @param name the property or field name
+   * @return the writable property or field of the given name, or null if there is none
+   */
+  public Property getWritableFeature(String name) {
+    Property property = getWritableProperty(name);
+    return (property != null ? property : fields.get(name));
+  }
+
+  /**
+   * @return all properties which have a getter, in the order of {@link BeanUtil#getPropertyDescriptors(Class)}
+   */
+  public List<Property> getReadableProperties() {
+    return readableProperties;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + beanClass.getName() + "]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static MethodHandle findConstructor(Class<?> beanClass) {
+    if (beanClass.isInterface() || Modifier.isAbstract(beanClass.getModifiers())) {
+      return null;
+    }
+    try {
+      return unreflect(beanClass.getConstructor(), false, MethodType.methodType(Object.class));
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static MethodHandle unreflectGetter(Member member) {
+    return (member != null ? unreflect(member, false, GETTER_TYPE) : null);
+  }
+
+  private static MethodHandle unreflectSetter(Member member) {
+    return (member != null ? unreflect(member, true, SETTER_TYPE) : null);
+  }
+
+  /** Creates a method handle for a member. If the member or its declaring class is not public,
+   *  the member is made accessible like in reflective access. If it is not accessible at all,
+   *  null is returned, making the property unavailable. */
+  private static MethodHandle unreflect(Member member, boolean fieldSetter, MethodType type) {
+    try {
+      return unreflectMember(member, fieldSetter).asType(type);
+    } catch (IllegalAccessException e) {
+      try {
+        ((AccessibleObject) member).setAccessible(true);
+        return unreflectMember(member, fieldSetter).asType(type);
+      } catch (IllegalAccessException | RuntimeException e2) {
+        return null;
+      }
+    }
+  }
+
+  private static MethodHandle unreflectMember(Member member, boolean fieldSetter) throws IllegalAccessException {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    if (member instanceof Method) {
+      return lookup.unreflect((Method) member);
+    } else if (member instanceof Field) {
+      return (fieldSetter ? lookup.unreflectSetter((Field) member) : lookup.unreflectGetter((Field) member));
+    } else {
+      return lookup.unreflectConstructor((Constructor<?>) member);
+    }
+  }
+
+  // Property class --------------------------------------------------------------------------------------------------
+
+  /** Provides read and write access to a single property of a JavaBean class. */
+  public static class Property {
+
+    private final String name;
+    private final Class<?> type;
+    private final Class<?> wrapperType;
+    private final Class<?> componentType;
+    private final AnyConverter<?> converter;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    Property(String name, Class<?> type, Type genericType, MethodHandle getter, MethodHandle setter) {
+      this.name = name;
+      this.type = type;
+      this.wrapperType = MethodType.methodType(type).wrap().returnType();
+      this.componentType = componentTypeOf(type, genericType);
+      this.converter = new AnyConverter<>(wrapperType);
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Class<?> getType() {
+      return type;
+    }
+
+    /**
+     * @return the component type for array properties, the element type for
+     * collection properties and the property type for all other properties
+     */
+    public Class<?> getComponentType() {
+      return componentType;
+    }
+
+    public boolean isReadable() {
+      return (getter != null);
+    }
+
+    public boolean isWritable() {
+      return (setter != null);
+    }
+
+    public Object get(Object bean) {
+      if (getter == null) {
+        throw new UnsupportedOperationException("Property '" + name + "' is not readable");
+      }
+      try {
+        return (Object) getter.invokeExact(bean);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException("Error reading property '" + name + "' of " + bean, e);
+      }
+    }
+
+    /**
+     * Sets the property value, converting it to the property type if necessary.
+     * @param bean  the bean to modify
+     * @param value the value to set
+     */
+    public void set(Object bean, Object value) {
+      if (setter == null) {
+        throw new UnsupportedOperationException("Property '" + name + "' is not writable");
+      }
+      if (value != null && !wrapperType.isInstance(value)) {
+        value = converter.convert(value);
+      }
+      try {
+        setter.invokeExact(bean, value);
+      } catch (RuntimeException | Error e) {
+        throw new RuntimeException("Error setting property '" + name + "' of " + bean.getClass().getName() +
+            " to " + value, e);
+      } catch (Throwable e) {
+        throw new RuntimeException("Error setting property '" + name + "' of " + bean.getClass().getName(), e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return name + ":" + type.getName();
+    }
+
+    private static Class<?> componentTypeOf(Class<?> type, Type genericType) {
+      if (type.isArray()) {
+        return type.getComponentType();
+      } else if (Collection.class.isAssignableFrom(type)) {
+        if (genericType instanceof ParameterizedType) {
+          Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+          if (elementType instanceof Class) {
+            return (Class<?>) elementType;
+          }
+        }
+        return Object.class;
+      } else {
+        return type;
+      }
+    }
+  }
+
+}
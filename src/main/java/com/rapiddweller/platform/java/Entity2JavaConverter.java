@@ -28,14 +28,9 @@
 
 import com.rapiddweller.common.BeanUtil;
 import com.rapiddweller.common.converter.ThreadSafeConverter;
-import com.rapiddweller.common.mutator.AnyMutator;
 import com.rapiddweller.model.data.Entity;
 
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -91,45 +86,18 @@ private static Object convertArray(Object[] array) {
   }
 
   private static Object convertEntity(Entity entity, Class<?> targetBeanType) {
-    Object result = BeanUtil.newInstance(targetBeanType);
+    BeanAccessor accessor = BeanAccessor.of(targetBeanType);
+    Object result = accessor.newInstance();
     for (Map.Entry<String, Object> entry : entity.getComponents().entrySet()) {
-      String featureName = entry.getKey();
-      Class<?> targetComponentType = typeOrComponentTypeOf(featureName, targetBeanType);
-      if (targetComponentType != null) { // if the target object does not contain a feature of the given name, ignore the entry
-        Object value = convertAny(entry.getValue(), targetComponentType);
-        AnyMutator.setValue(result, featureName, value, false, true);
+      BeanAccessor.Property property = accessor.getWritableFeature(entry.getKey());
+      if (property != null) { // if the target object does not contain a feature of the given name, ignore the entry
+        Object value = convertAny(entry.getValue(), property.getComponentType());
+        property.set(result, value);
       }
     }
     return result;
   }
 
-  private static Class<?> typeOrComponentTypeOf(String featureName, Class<?> beanClass) {
-    Class<?> propertyType = null;
-    PropertyDescriptor propertyDescriptor = BeanUtil.getPropertyDescriptor(beanClass, featureName);
-    if (propertyDescriptor != null) {
-      propertyType = propertyDescriptor.getPropertyType();
-    } else {
-      try {
-        Field field = BeanUtil.getField(beanClass, featureName);
-        propertyType = field.getType();
-      } catch (Exception e) {
-        return null;
-      }
-    }
-    if (propertyType.isArray()) {
-      return propertyType.getComponentType();
-    } else if (Collection.class.isAssignableFrom(propertyType) && propertyDescriptor != null) {
-      return getCollectionType(propertyDescriptor);
-    } else {
-      return propertyType;
-    }
-  }
-
-  private static Class<?> getCollectionType(PropertyDescriptor propertyDescriptor) {
-    ParameterizedType genericReturnType = (ParameterizedType) propertyDescriptor.getReadMethod().getGenericReturnType();
-    return (Class<?>) genericReturnType.getActualTypeArguments()[0];
-  }
-
   @Override
   public Object convert(Object entityOrArray) {
     return convertAny(entityOrArray);
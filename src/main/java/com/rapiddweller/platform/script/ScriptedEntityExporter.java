@@ -150,7 +150,7 @@ public void setFooterScript(String footerScript) {
   protected void postInitPrinter(Object object) {
     try {
       docWriter = new ScriptedDocumentWriter<>(printer, headerScript, partScript, footerScript);
-      if (append) {
+      if (append || wasAppended) {
         docWriter.setWriteHeader(false);
       }
     } catch (IOException e) {
@@ -33,6 +33,7 @@
 import com.rapiddweller.common.Context;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.ProgrammerError;
+import com.rapiddweller.common.SystemInfo;
 import com.rapiddweller.common.accessor.FeatureAccessor;
 import com.rapiddweller.common.context.ContextAware;
 import com.rapiddweller.common.context.DefaultContext;
@@ -45,8 +46,12 @@
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -54,7 +59,19 @@
 
 /**
  * Exports generated data using template files,
- * for example based on the FreeMarker Template Language.<br/><br/>
+ * for example based on the FreeMarker Template Language.
+ * By default, all consumed data is collected in a tree of {@link TemplateRecord}s
+ * and the template is evaluated on {@link #close()}.
+ * In {@link #setStreaming(boolean) streaming} mode, the {@link #templateUri} denotes
+ * a per-record template, which is evaluated for each top-level record (including its nested records)
+ * as soon as it has been consumed completely, providing the record as variable {@link #recordName}
+ * and its 0-based index as 'recordIndex'. Optional header and footer templates are evaluated
+ * before the first and after the last record. The footer can access the total 'recordCount'
+ * and the root record as 'root', which receives each written top-level record
+ * by {@link TemplateRecord#aggregate(String, TemplateRecord)} for updating aggregate values
+ * like the 'recursiveSegmentCount' of an EdiTemplateRecord. The data of the root record
+ * is also provided as variables like in non-streaming mode.
+ * Memory consumption is then limited to the largest top-level record.<br/><br/>
  * Created: 27.06.2014 16:50:44
  *
  * @author Volker Bergmann
@@ -71,10 +88,18 @@ public class TemplateFileEntityExporter implements Consumer, ContextAware {
   private String uri;
   private String encoding;
   private Class<? extends TemplateRecord> recordType;
+  private boolean streaming;
+  private String headerTemplateUri;
+  private String footerTemplateUri;
+  private String recordName;
 
   private TemplateRecord root;
   private Stack<TemplateRecord> stack;
 
+  private Writer out;
+  private Script recordTemplate;
+  private long recordCount;
+
   private Context context;
 
 
@@ -85,6 +110,8 @@ public class TemplateFileEntityExporter implements Consumer, ContextAware {
    */
   public TemplateFileEntityExporter() {
     this.recordType = DefaultTemplateRecord.class;
+    this.streaming = false;
+    this.recordName = "record";
   }
 
 
@@ -180,6 +207,58 @@ public void setRecordType(Class<? extends TemplateRecord> recordType) {
     this.recordType = recordType;
   }
 
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  /**
+   * Activates streaming mode in which each top-level record is rendered and written as soon as it is complete.
+   *
+   * @param streaming true for streaming mode
+   */
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+  }
+
+  public String getHeaderTemplateUri() {
+    return headerTemplateUri;
+  }
+
+  /**
+   * Sets the template to render before the first record in streaming mode.
+   *
+   * @param headerTemplateUri the header template uri
+   */
+  public void setHeaderTemplateUri(String headerTemplateUri) {
+    this.headerTemplateUri = headerTemplateUri;
+  }
+
+  public String getFooterTemplateUri() {
+    return footerTemplateUri;
+  }
+
+  /**
+   * Sets the template to render after the last record in streaming mode.
+   *
+   * @param footerTemplateUri the footer template uri
+   */
+  public void setFooterTemplateUri(String footerTemplateUri) {
+    this.footerTemplateUri = footerTemplateUri;
+  }
+
+  public String getRecordName() {
+    return recordName;
+  }
+
+  /**
+   * Sets the name under which the current record is provided to the record template in streaming mode.
+   *
+   * @param recordName the record name
+   */
+  public void setRecordName(String recordName) {
+    this.recordName = recordName;
+  }
+
 
   // Consumer interface implementation -------------------------------------------------------------------------------
 
@@ -201,7 +280,9 @@ public void startConsuming(ProductWrapper<?> wrapper) {
     TemplateRecord productRecord = entityToRecord(product);
     String featureName = product.type();
     TemplateRecord parentRecord = stack.peek();
-    updateFeature(featureName, parentRecord, productRecord);
+    if (!streaming || parentRecord != root) {
+      updateFeature(featureName, parentRecord, productRecord);
+    }
     stack.push(productRecord);
   }
 
@@ -211,12 +292,18 @@ public void finishConsuming(ProductWrapper<?> wrapper) {
     if (stack.isEmpty()) {
       throw new ConfigurationError("Trying to pop product from empty stack: '" + product + "'");
     }
-    stack.pop();
+    TemplateRecord record = stack.pop();
+    if (streaming && stack.size() == 1) {
+      writeRecord(record);
+      root.aggregate(product.type(), record);
+    }
   }
 
   @Override
   public void close() {
-    if (root != null) {
+    if (streaming) {
+      closeStream();
+    } else if (root != null) {
       LOGGER.debug("Writing file {}", uri);
       try {
         Script template = ScriptUtil.readFile(templateUri);
@@ -244,13 +331,79 @@ public void close() {
 
   @Override
   public void flush() {
-    // nothing to do for this class
+    IOUtil.flush(out);
   }
 
   private void init() {
     this.root = BeanUtil.newInstance(recordType);
     this.stack = new Stack<>();
     this.stack.push(root);
+    if (streaming) {
+      openStream();
+    }
+  }
+
+  private void openStream() {
+    LOGGER.debug("Writing file {}", uri);
+    try {
+      File file = new File(uri.replace('/', File.separatorChar));
+      File folder = file.getParentFile();
+      if (folder != null) {
+        folder.mkdirs();
+      }
+      String charset = (encoding != null ? encoding : SystemInfo.getFileEncoding());
+      this.out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), charset), 65536);
+      this.recordTemplate = ScriptUtil.readFile(templateUri);
+      this.recordCount = 0;
+      if (headerTemplateUri != null) {
+        ScriptUtil.readFile(headerTemplateUri).execute(new DefaultContext(context), out);
+      }
+    } catch (ScriptException e) {
+      throw new ConfigurationError("Error evaluating templates " + headerTemplateUri + ", " + templateUri, e);
+    } catch (IOException e) {
+      throw new RuntimeException("Error creating template-based output", e);
+    }
+  }
+
+  private void writeRecord(TemplateRecord record) {
+    try {
+      Context subContext = new DefaultContext(context);
+      subContext.set(recordName, record);
+      subContext.set("recordIndex", recordCount);
+      recordTemplate.execute(subContext, out);
+      recordCount++;
+    } catch (ScriptException e) {
+      throw new ConfigurationError("Error evaluating template " + templateUri, e);
+    } catch (IOException e) {
+      throw new RuntimeException("Error writing template-based output to " + uri, e);
+    }
+  }
+
+  private void closeStream() {
+    if (out == null) {
+      if (root != null) {
+        return; // already closed
+      }
+      init(); // nothing has been consumed, so write header and footer only
+    }
+    try {
+      if (footerTemplateUri != null) {
+        Context subContext = new DefaultContext(context);
+        for (Map.Entry<String, ?> entry : root.entrySet()) {
+          subContext.set(entry.getKey(), entry.getValue());
+        }
+        subContext.set("root", root);
+        subContext.set("recordCount", recordCount);
+        ScriptUtil.readFile(footerTemplateUri).execute(subContext, out);
+      }
+    } catch (ScriptException e) {
+      throw new ConfigurationError("Error evaluating template " + footerTemplateUri, e);
+    } catch (IOException e) {
+      throw new RuntimeException("Error writing template-based output to " + uri, e);
+    } finally {
+      IOUtil.close(out);
+      out = null;
+    }
   }
 
   private TemplateRecord entityToRecord(Entity entity) {
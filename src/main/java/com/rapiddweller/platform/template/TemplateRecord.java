@@ -59,4 +59,16 @@ public interface TemplateRecord {
    * @return the set
    */
   Set<Map.Entry<String, Object>> entrySet();
+
+  /**
+   * Is called on the root record in streaming mode for each top-level record
+   * after it has been written. Since the written records are not kept, a root record
+   * which provides aggregate values must update them here.
+   *
+   * @param name   the name under which the record would have been added to the root record
+   * @param record the written record
+   */
+  default void aggregate(String name, TemplateRecord record) {
+    // no aggregate values by default
+  }
 }
@@ -224,7 +224,7 @@ public DataSource<?> query(String selector, boolean simplify,
       List<Object> list = new ArrayList<>(nodes.getLength());
       for (int i = 0; i < nodes.getLength(); i++) {
         Node node = nodes.item(i);
-        list.add(node.getTextContent());
+        list.add(XMLPlatformUtil.queryResult(node.getTextContent(), simplify));
       }
       return new DataSourceFromIterable<>(list, Object.class);
     } catch (XPathExpressionException e) {
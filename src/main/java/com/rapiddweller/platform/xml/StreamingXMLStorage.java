@@ -0,0 +1,615 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xml;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.storage.AbstractStorageSystem;
+import com.rapiddweller.common.CollectionUtil;
+import com.rapiddweller.common.Context;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.NullSafeComparator;
+import com.rapiddweller.common.collection.OrderedNameMap;
+import com.rapiddweller.common.context.ContextAware;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.DataSource;
+import com.rapiddweller.format.util.AbstractDataSource;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.model.data.TypeDescriptor;
+import com.rapiddweller.script.PrimitiveType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Attr;
+import org.w3c.dom.CDATASection;
+import org.w3c.dom.Comment;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+import org.w3c.dom.Text;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Characters;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.StartDocument;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming alternative to the {@link DOMTree} for XML documents of arbitrary size.
+ * Each query is evaluated in a single pass over the document, using a {@link StreamingXPath},
+ * so only the elements currently matched are held in memory. Entity queries rewrite the document:
+ * All content is copied to a temporary file, matched elements are written after the consumers
+ * have processed (and possibly {@link #update(Entity)}d) them. Subsequent entity queries
+ * operate on the result of the previous ones and when the storage is {@link #close()}d,
+ * the final result is moved to the {@link #outputUri}. Matched elements are not searched for
+ * nested matches and entity queries cannot be nested.<br/><br/>
+ * Created: 19.10.2026 16:48:21
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class StreamingXMLStorage extends AbstractStorageSystem implements ContextAware {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StreamingXMLStorage.class);
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private String id;
+  private String inputUri;
+  private String outputUri;
+  private boolean namespaceAware;
+
+  private Context context;
+  private final OrderedNameMap<ComplexTypeDescriptor> types;
+
+  /** The result of the last completed rewriting pass, null if the input has not been rewritten */
+  private File currentVersion;
+  private StreamingPass activeRewrite;
+
+  public StreamingXMLStorage() {
+    this(null, null);
+  }
+
+  public StreamingXMLStorage(String inOutUri, BeneratorContext context) {
+    this.id = inOutUri;
+    this.inputUri = inOutUri;
+    this.outputUri = inOutUri;
+    this.namespaceAware = true;
+    this.types = OrderedNameMap.createCaseInsensitiveMap();
+    this.currentVersion = null;
+    this.activeRewrite = null;
+    setContext(context);
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getInputUri() {
+    return inputUri;
+  }
+
+  public void setInputUri(String inputUri) {
+    this.inputUri = inputUri;
+  }
+
+  public String getOutputUri() {
+    return outputUri;
+  }
+
+  public void setOutputUri(String outputUri) {
+    this.outputUri = outputUri;
+  }
+
+  public boolean isNamespaceAware() {
+    return namespaceAware;
+  }
+
+  public void setNamespaceAware(boolean namespaceAware) {
+    this.namespaceAware = namespaceAware;
+  }
+
+  @Override
+  public void setContext(Context context) {
+    this.context = context;
+    if (context instanceof BeneratorContext) {
+      setDataModel(((BeneratorContext) context).getDataModel());
+    }
+  }
+
+  // StorageSystem interface -----------------------------------------------------------------------------------------
+
+  @Override
+  public DataSource<Entity> queryEntities(String type, String selector, Context context) {
+    LOGGER.debug("queryEntities({}, {}, context)", type, selector);
+    StreamingXPath path = StreamingXPath.parse(selector);
+    if (path.getResultType() != StreamingXPath.ResultType.ELEMENT) {
+      throw new IllegalArgumentException("Entity queries must select elements: " + selector);
+    }
+    return new AbstractDataSource<>(Entity.class) {
+      @Override
+      public DataIterator<Entity> iterator() {
+        return new EntityIterator(new StreamingPass(path, true));
+      }
+    };
+  }
+
+  @Override
+  public DataSource<?> queryEntityIds(String type, String selector, Context context) {
+    throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support queries for entity ids");
+  }
+
+  @Override
+  public DataSource<?> query(String selector, boolean simplify, Context context) {
+    LOGGER.debug("query({}, {}, context)", selector, simplify);
+    StreamingXPath path = StreamingXPath.parse(selector);
+    return new AbstractDataSource<>(Object.class) {
+      @Override
+      public DataIterator<Object> iterator() {
+        return new ValueIterator(new StreamingPass(path, false), simplify);
+      }
+    };
+  }
+
+  @Override
+  public void store(Entity entity) {
+    throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support storing entities");
+  }
+
+  @Override
+  public void update(Entity entity) {
+    if (entity instanceof XmlEntity && ((XmlEntity) entity).getSourceElement() != null) {
+      XMLPlatformUtil.mapEntityToElement(entity, ((XmlEntity) entity).getSourceElement());
+    } else {
+      throw new UnsupportedOperationException(getClass().getSimpleName() +
+          " cannot update entities from other sources");
+    }
+  }
+
+  @Override
+  public void flush() {
+    // nothing to do
+  }
+
+  @Override
+  public void close() {
+    if (activeRewrite != null) {
+      activeRewrite.close();
+    }
+    String outputPath = resolveUri(outputUri);
+    try {
+      if (currentVersion != null) {
+        Files.move(currentVersion.toPath(), new File(outputPath).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        currentVersion = null;
+      } else if (!NullSafeComparator.equals(inputUri, outputUri)) {
+        IOUtil.copyFile(resolveUri(inputUri), outputPath);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error writing " + outputUri, e);
+    }
+  }
+
+  @Override
+  public TypeDescriptor[] getTypeDescriptors() {
+    return CollectionUtil.toArray(types.values(), TypeDescriptor.class);
+  }
+
+  @Override
+  public TypeDescriptor getTypeDescriptor(String typeName) {
+    if (PrimitiveType.getInstance(typeName) != null) {
+      return null;
+    }
+    return types.computeIfAbsent(typeName, k -> new ComplexTypeDescriptor(typeName, this));
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + inputUri +
+        (NullSafeComparator.equals(inputUri, outputUri) ? "" : " -> " + outputUri) + "]";
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private String resolveUri(String uri) {
+    return (context instanceof BeneratorContext ? ((BeneratorContext) context).resolveRelativeUri(uri) : uri);
+  }
+
+  private InputStream openCurrentVersion() throws IOException {
+    if (currentVersion != null) {
+      return Files.newInputStream(currentVersion.toPath());
+    } else {
+      return IOUtil.getInputStreamForURI(resolveUri(inputUri));
+    }
+  }
+
+  private void completeRewrite(StreamingPass pass, File result) {
+    if (currentVersion != null && !currentVersion.delete()) {
+      LOGGER.warn("Failed to delete temporary file {}", currentVersion);
+    }
+    currentVersion = result;
+    if (activeRewrite == pass) {
+      activeRewrite = null;
+    }
+  }
+
+  /**
+   * Performs a single pass over the current version of the document,
+   * optionally copying all content to a new version.
+   */
+  private class StreamingPass {
+
+    private final StreamingXPath path;
+    private final XMLEventReader reader;
+    private final InputStream in;
+    private final Document factory;
+    private final XMLEventFactory eventFactory;
+    private final List<StreamingXPath.PathElement> stack;
+    private final boolean rewrite;
+    private File target;
+    private OutputStream out;
+    private XMLEventWriter writer;
+    private Element pending;
+    private boolean finished;
+
+    StreamingPass(StreamingXPath path, boolean rewrite) {
+      if (rewrite && activeRewrite != null) {
+        throw new IllegalStateException("Entity queries on " + StreamingXMLStorage.this + " cannot be nested");
+      }
+      this.path = path;
+      this.rewrite = rewrite;
+      this.stack = new ArrayList<>();
+      this.eventFactory = XMLEventFactory.newInstance();
+      try {
+        DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
+        builderFactory.setNamespaceAware(namespaceAware);
+        this.factory = builderFactory.newDocumentBuilder().newDocument();
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, namespaceAware);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.in = openCurrentVersion();
+        this.reader = inputFactory.createXMLEventReader(in);
+      } catch (ParserConfigurationException | XMLStreamException | IOException e) {
+        throw new RuntimeException("Error opening " + inputUri, e);
+      }
+      if (rewrite) {
+        activeRewrite = this;
+      }
+    }
+
+    /** Returns the next matching element after writing the previous one to the output. */
+    Element nextMatch() {
+      if (finished) {
+        return null;
+      }
+      try {
+        writePending();
+        while (reader.hasNext()) {
+          XMLEvent event = reader.nextEvent();
+          if (event.isStartDocument()) {
+            openWriter((StartDocument) event);
+          } else if (event.isStartElement()) {
+            StartElement start = event.asStartElement();
+            stack.add(pathElement(start));
+            if (path.matchesPath(stack)) {
+              Element element = readElement(start);
+              stack.remove(stack.size() - 1);
+              if (path.matchesContent(element)) {
+                pending = element;
+                return element;
+              }
+              writeElement(element);
+              continue;
+            }
+          } else if (event.isEndElement()) {
+            stack.remove(stack.size() - 1);
+          }
+          if (writer != null) {
+            writer.add(event);
+            if (event.isStartDocument()) {
+              writer.add(eventFactory.createCharacters(LINE_SEPARATOR));
+            }
+          }
+        }
+        finish();
+        return null;
+      } catch (XMLStreamException | IOException e) {
+        abort();
+        throw new RuntimeException("Error processing " + inputUri, e);
+      }
+    }
+
+    private void abort() {
+      finished = true;
+      if (writer != null) {
+        try {
+          writer.close();
+        } catch (XMLStreamException e) {
+          LOGGER.warn("Error closing writer for {}", target, e);
+        }
+        IOUtil.close(out);
+        if (!target.delete()) {
+          LOGGER.warn("Failed to delete temporary file {}", target);
+        }
+      }
+      closeStreams();
+    }
+
+    void close() {
+      if (finished) {
+        return;
+      }
+      if (writer != null) {
+        // copy the remaining content
+        while (nextMatch() != null) {
+          // the remaining matches are written unchanged
+        }
+      } else {
+        finished = true;
+        closeStreams();
+      }
+    }
+
+    private void finish() throws XMLStreamException, IOException {
+      finished = true;
+      if (writer != null) {
+        writer.flush();
+        writer.close();
+        out.close();
+      }
+      closeStreams();
+      if (rewrite) {
+        completeRewrite(this, target);
+      }
+    }
+
+    private void closeStreams() {
+      try {
+        reader.close();
+      } catch (XMLStreamException e) {
+        LOGGER.warn("Error closing reader of {}", inputUri, e);
+      }
+      IOUtil.close(in);
+      if (rewrite && activeRewrite == this) {
+        activeRewrite = null;
+      }
+    }
+
+    private void openWriter(StartDocument startDocument) throws XMLStreamException, IOException {
+      if (!rewrite) {
+        return;
+      }
+      String encoding = (startDocument.encodingSet() ? startDocument.getCharacterEncodingScheme() : "UTF-8");
+      File outputFile = new File(resolveUri(outputUri)).getAbsoluteFile();
+      this.target = File.createTempFile(outputFile.getName(), ".tmp", outputFile.getParentFile());
+      this.out = new BufferedOutputStream(new FileOutputStream(target), 65536);
+      this.writer = XMLOutputFactory.newInstance().createXMLEventWriter(out, encoding);
+    }
+
+    private void writePending() throws XMLStreamException {
+      if (pending != null) {
+        writeElement(pending);
+        pending = null;
+      }
+    }
+
+    // DOM conversion ------------------------------------------------------------------------------------------------
+
+    private StreamingXPath.PathElement pathElement(StartElement start) {
+      Map<String, String> attributes = new HashMap<>();
+      for (Iterator<?> iterator = start.getAttributes(); iterator.hasNext(); ) {
+        Attribute attribute = (Attribute) iterator.next();
+        attributes.put(qualifiedName(attribute.getName()), attribute.getValue());
+      }
+      return new StreamingXPath.PathElement(qualifiedName(start.getName()), attributes);
+    }
+
+    private Element readElement(StartElement start) throws XMLStreamException {
+      Element root = createElement(start);
+      Node current = root;
+      while (true) {
+        XMLEvent event = reader.nextEvent();
+        if (event.isStartElement()) {
+          Element child = createElement(event.asStartElement());
+          current.appendChild(child);
+          current = child;
+        } else if (event.isEndElement()) {
+          if (current == root) {
+            return root;
+          }
+          current = current.getParentNode();
+        } else if (event.isCharacters()) {
+          Characters characters = event.asCharacters();
+          current.appendChild(characters.isCData() ?
+              factory.createCDATASection(characters.getData()) : factory.createTextNode(characters.getData()));
+        } else if (event.getEventType() == XMLEvent.COMMENT) {
+          current.appendChild(factory.createComment(((javax.xml.stream.events.Comment) event).getText()));
+        } else if (event.isProcessingInstruction()) {
+          javax.xml.stream.events.ProcessingInstruction pi = (javax.xml.stream.events.ProcessingInstruction) event;
+          current.appendChild(factory.createProcessingInstruction(pi.getTarget(), pi.getData()));
+        }
+      }
+    }
+
+    private Element createElement(StartElement start) {
+      QName name = start.getName();
+      Element element;
+      if (namespaceAware) {
+        element = factory.createElementNS(emptyToNull(name.getNamespaceURI()), qualifiedName(name));
+        for (Iterator<?> iterator = start.getNamespaces(); iterator.hasNext(); ) {
+          Namespace namespace = (Namespace) iterator.next();
+          String prefix = namespace.getPrefix();
+          element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+              (prefix == null || prefix.isEmpty() ? "xmlns" : "xmlns:" + prefix), namespace.getNamespaceURI());
+        }
+      } else {
+        element = factory.createElement(qualifiedName(name));
+      }
+      for (Iterator<?> iterator = start.getAttributes(); iterator.hasNext(); ) {
+        Attribute attribute = (Attribute) iterator.next();
+        QName attName = attribute.getName();
+        if (namespaceAware) {
+          element.setAttributeNS(emptyToNull(attName.getNamespaceURI()), qualifiedName(attName), attribute.getValue());
+        } else {
+          element.setAttribute(qualifiedName(attName), attribute.getValue());
+        }
+      }
+      return element;
+    }
+
+    private void writeElement(Element element) throws XMLStreamException {
+      if (writer == null) {
+        return;
+      }
+      List<Attribute> attributes = new ArrayList<>();
+      List<Namespace> namespaces = new ArrayList<>();
+      NamedNodeMap atts = element.getAttributes();
+      for (int i = 0; i < atts.getLength(); i++) {
+        Attr att = (Attr) atts.item(i);
+        if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(att.getNamespaceURI())) {
+          String prefix = ("xmlns".equals(att.getName()) ? "" : att.getLocalName());
+          namespaces.add(eventFactory.createNamespace(prefix, att.getValue()));
+        } else {
+          attributes.add(eventFactory.createAttribute(
+              nullToEmpty(att.getPrefix()), nullToEmpty(att.getNamespaceURI()), localName(att), att.getValue()));
+        }
+      }
+      String prefix = nullToEmpty(element.getPrefix());
+      String namespaceUri = nullToEmpty(element.getNamespaceURI());
+      String localName = localName(element);
+      writer.add(eventFactory.createStartElement(prefix, namespaceUri, localName,
+          attributes.iterator(), namespaces.iterator()));
+      for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+        if (child instanceof Element) {
+          writeElement((Element) child);
+        } else if (child instanceof CDATASection) {
+          writer.add(eventFactory.createCData(((CDATASection) child).getData()));
+        } else if (child instanceof Text) {
+          writer.add(eventFactory.createCharacters(((Text) child).getData()));
+        } else if (child instanceof Comment) {
+          writer.add(eventFactory.createComment(((Comment) child).getData()));
+        } else if (child instanceof ProcessingInstruction) {
+          ProcessingInstruction pi = (ProcessingInstruction) child;
+          writer.add(eventFactory.createProcessingInstruction(pi.getTarget(), pi.getData()));
+        }
+      }
+      writer.add(eventFactory.createEndElement(prefix, namespaceUri, localName));
+    }
+
+  }
+
+  private static String qualifiedName(QName name) {
+    String prefix = name.getPrefix();
+    return (prefix == null || prefix.isEmpty() ? name.getLocalPart() : prefix + ':' + name.getLocalPart());
+  }
+
+  private static String localName(Node node) {
+    return (node.getLocalName() != null ? node.getLocalName() : node.getNodeName());
+  }
+
+  private static String emptyToNull(String s) {
+    return (s == null || s.isEmpty() ? null : s);
+  }
+
+  private static String nullToEmpty(String s) {
+    return (s != null ? s : "");
+  }
+
+  private class EntityIterator implements DataIterator<Entity> {
+
+    private final StreamingPass pass;
+
+    EntityIterator(StreamingPass pass) {
+      this.pass = pass;
+    }
+
+    @Override
+    public Class<Entity> getType() {
+      return Entity.class;
+    }
+
+    @Override
+    public DataContainer<Entity> next(DataContainer<Entity> container) {
+      Element element = pass.nextMatch();
+      if (element == null) {
+        return null;
+      }
+      return container.setData(XMLPlatformUtil.convertElement2Entity(element, StreamingXMLStorage.this));
+    }
+
+    @Override
+    public void close() {
+      pass.close();
+    }
+  }
+
+  private class ValueIterator implements DataIterator<Object> {
+
+    private final StreamingPass pass;
+    private final StreamingXPath path;
+    private final boolean simplify;
+
+    ValueIterator(StreamingPass pass, boolean simplify) {
+      this.pass = pass;
+      this.path = pass.path;
+      this.simplify = simplify;
+    }
+
+    @Override
+    public Class<Object> getType() {
+      return Object.class;
+    }
+
+    @Override
+    public DataContainer<Object> next(DataContainer<Object> container) {
+      Element element;
+      while ((element = pass.nextMatch()) != null) {
+        if (path.getResultType() != StreamingXPath.ResultType.ATTRIBUTE) {
+          return container.setData(XMLPlatformUtil.queryResult(element.getTextContent(), simplify));
+        } else if (element.hasAttribute(path.getResultAttribute())) {
+          return container.setData(
+              XMLPlatformUtil.queryResult(element.getAttribute(path.getResultAttribute()), simplify));
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public void close() {
+      pass.close();
+    }
+  }
+
+}
@@ -0,0 +1,312 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xml;
+
+import com.rapiddweller.common.ConfigurationError;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the subset of XPath which can be evaluated in a single pass over an XML stream:
+ * Absolute location paths of child (/) and descendant (//) steps with element names or '*',
+ * optionally ending with a text() or @attribute step. Each element step may have predicates
+ * of the form [@att] or [@att='value'], the last element step may also have predicates
+ * that check the text of a child element: [child] or [child='value'].
+ * Examples: <code>//person</code>, <code>/teams/team[@tnum='1']/person[name='Bob']</code>,
+ * <code>//person/@pnum</code>.<br/><br/>
+ * Created: 19.10.2026 16:12:40
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class StreamingXPath {
+
+  /** The kind of result that is selected by a path. */
+  public enum ResultType { ELEMENT, TEXT, ATTRIBUTE }
+
+  private final String selector;
+  private final List<Step> steps;
+  private final ResultType resultType;
+  private final String resultAttribute;
+
+  private StreamingXPath(String selector, List<Step> steps, ResultType resultType, String resultAttribute) {
+    this.selector = selector;
+    this.steps = steps;
+    this.resultType = resultType;
+    this.resultAttribute = resultAttribute;
+  }
+
+  /**
+   * Parses an XPath expression.
+   * @param selector the XPath expression
+   * @return a {@link StreamingXPath} instance representing the expression
+   * @throws ConfigurationError if the expression is not part of the streamable subset
+   */
+  public static StreamingXPath parse(String selector) {
+    return new Parser(selector).parse();
+  }
+
+  /**
+   * Tells if an XPath expression is part of the streamable subset.
+   * @param selector the XPath expression
+   * @return true if the expression can be evaluated by {@link StreamingXPath}, otherwise false
+   */
+  public static boolean isStreamable(String selector) {
+    try {
+      parse(selector);
+      return true;
+    } catch (ConfigurationError e) {
+      return false;
+    }
+  }
+
+  // properties ------------------------------------------------------------------------------------------------------
+
+  public ResultType getResultType() {
+    return resultType;
+  }
+
+  public String getResultAttribute() {
+    return resultAttribute;
+  }
+
+  // matching --------------------------------------------------------------------------------------------------------
+
+  /**
+   * Checks the element names and attribute predicates of the path against an element and its ancestors.
+   * @param path the current element (last list element) and its ancestors, starting with the root element
+   * @return true if the element matches
+   */
+  public boolean matchesPath(List<PathElement> path) {
+    return matches(steps.size() - 1, path.size() - 1, path);
+  }
+
+  /**
+   * Checks the child element predicates of the last element step against a fully read element.
+   * @param element an element that has been matched by {@link #matchesPath(List)}
+   * @return true if the element matches
+   */
+  public boolean matchesContent(Element element) {
+    for (Predicate predicate : steps.get(steps.size() - 1).predicates) {
+      if (!predicate.isAttributePredicate() && !predicate.matches(element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean matches(int stepIndex, int depth, List<PathElement> path) {
+    Step step = steps.get(stepIndex);
+    if (!step.matches(path.get(depth))) {
+      return false;
+    }
+    if (stepIndex == 0) {
+      return (step.descendant || depth == 0);
+    }
+    if (!step.descendant) {
+      return (depth > 0 && matches(stepIndex - 1, depth - 1, path));
+    }
+    for (int ancestor = depth - 1; ancestor >= 0; ancestor--) {
+      if (matches(stepIndex - 1, ancestor, path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // java.lang.Object overrides --------------------------------------------------------------------------------------
+
+  @Override
+  public String toString() {
+    return selector;
+  }
+
+  // helper classes --------------------------------------------------------------------------------------------------
+
+  /** Holds the name and attributes of an element on the current path of a stream. */
+  public static class PathElement {
+
+    final String name;
+    final Map<String, String> attributes;
+
+    public PathElement(String name, Map<String, String> attributes) {
+      this.name = name;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public String toString() {
+      return name + attributes;
+    }
+  }
+
+  private static class Step {
+
+    final boolean descendant;
+    final String name;
+    final List<Predicate> predicates = new ArrayList<>();
+
+    Step(boolean descendant, String name) {
+      this.descendant = descendant;
+      this.name = name;
+    }
+
+    boolean matches(PathElement element) {
+      if (!"*".equals(name) && !name.equals(element.name)) {
+        return false;
+      }
+      for (Predicate predicate : predicates) {
+        if (predicate.isAttributePredicate() && !predicate.matches(element)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static class Predicate {
+
+    final String attribute;
+    final String child;
+    final String value;
+
+    Predicate(String attribute, String child, String value) {
+      this.attribute = attribute;
+      this.child = child;
+      this.value = value;
+    }
+
+    boolean isAttributePredicate() {
+      return (attribute != null);
+    }
+
+    boolean matches(PathElement element) {
+      String actual = element.attributes.get(attribute);
+      return (actual != null && (value == null || value.equals(actual)));
+    }
+
+    boolean matches(Element element) {
+      for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+        if (node instanceof Element && child.equals(node.getNodeName())
+            && (value == null || value.equals(node.getTextContent()))) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static class Parser {
+
+    private final String selector;
+    private int pos;
+
+    Parser(String selector) {
+      this.selector = (selector != null ? selector.trim() : "");
+      this.pos = 0;
+    }
+
+    StreamingXPath parse() {
+      List<Step> steps = new ArrayList<>();
+      while (pos < selector.length()) {
+        expect('/');
+        boolean descendant = accept('/');
+        if (descendant && (selector.startsWith("@", pos) || selector.startsWith("text()", pos))) {
+          throw error("descendant axis is only supported for elements");
+        }
+        if (accept('@')) {
+          String attribute = parseName();
+          return finish(steps, ResultType.ATTRIBUTE, attribute);
+        }
+        if (selector.startsWith("text()", pos)) {
+          pos += 6;
+          return finish(steps, ResultType.TEXT, null);
+        }
+        Step step = new Step(descendant, accept('*') ? "*" : parseName());
+        while (accept('[')) {
+          step.predicates.add(parsePredicate());
+          expect(']');
+        }
+        steps.add(step);
+      }
+      return finish(steps, ResultType.ELEMENT, null);
+    }
+
+    private StreamingXPath finish(List<Step> steps, ResultType resultType, String resultAttribute) {
+      if (pos < selector.length()) {
+        throw error("unexpected content at position " + pos);
+      }
+      if (steps.isEmpty()) {
+        throw error("no element step");
+      }
+      for (int i = 0; i < steps.size() - 1; i++) {
+        for (Predicate predicate : steps.get(i).predicates) {
+          if (!predicate.isAttributePredicate()) {
+            throw error("child element predicates are only supported on the last element step");
+          }
+        }
+      }
+      return new StreamingXPath(selector, steps, resultType, resultAttribute);
+    }
+
+    private Predicate parsePredicate() {
+      boolean attribute = accept('@');
+      String name = parseName();
+      String value = null;
+      if (accept('=')) {
+        char quote = (pos < selector.length() ? selector.charAt(pos) : 0);
+        if (quote != '\'' && quote != '"') {
+          throw error("expected quoted value at position " + pos);
+        }
+        int end = selector.indexOf(quote, pos + 1);
+        if (end < 0) {
+          throw error("unterminated value at position " + pos);
+        }
+        value = selector.substring(pos + 1, end);
+        pos = end + 1;
+      }
+      return (attribute ? new Predicate(name, null, value) : new Predicate(null, name, value));
+    }
+
+    private String parseName() {
+      int start = pos;
+      if (pos < selector.length() && !Character.isLetter(selector.charAt(pos)) && selector.charAt(pos) != '_') {
+        throw error("expected name at position " + pos);
+      }
+      while (pos < selector.length() && isNameChar(selector.charAt(pos))) {
+        pos++;
+      }
+      if (pos == start) {
+        throw error("expected name at position " + pos);
+      }
+      return selector.substring(start, pos);
+    }
+
+    private static boolean isNameChar(char c) {
+      return (Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':');
+    }
+
+    private boolean accept(char c) {
+      if (pos < selector.length() && selector.charAt(pos) == c) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(char c) {
+      if (!accept(c)) {
+        throw error("expected '" + c + "' at position " + pos);
+      }
+    }
+
+    private ConfigurationError error(String message) {
+      return new ConfigurationError("XPath expression cannot be evaluated in streaming mode, " + message +
+          ": " + selector);
+    }
+  }
+
+}
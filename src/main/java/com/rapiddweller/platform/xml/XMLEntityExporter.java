@@ -28,6 +28,7 @@
 
 import com.rapiddweller.benerator.consumer.AbstractConsumer;
 import com.rapiddweller.benerator.consumer.FileExporter;
+import com.rapiddweller.benerator.consumer.FileShards;
 import com.rapiddweller.common.ConfigurationError;
 import com.rapiddweller.common.IOUtil;
 import com.rapiddweller.common.StringUtil;
@@ -35,6 +36,7 @@
 import com.rapiddweller.common.converter.ToStringConverter;
 import com.rapiddweller.model.data.ComplexTypeDescriptor;
 import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.file.FileCompression;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import org.xml.sax.SAXException;
@@ -46,13 +48,16 @@
 import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
 
 /**
- * Writes Entities to an XML file.<br/><br/>
+ * Writes Entities to an XML file.
+ * The file is compressed as configured by the property 'compression' or by the suffix of the uri,
+ * see {@link FileCompression}.
+ * In sharded mode, each thread writes to its own part file, of which only the first one has an XML declaration,
+ * see {@link FileShards}.<br/><br/>
  * Created: 20.02.2008 15:39:23
  *
  * @author Volker Bergmann
@@ -67,13 +72,19 @@ public class XMLEntityExporter extends AbstractConsumer implements FileExporter
   private static final String DEFAULT_ENCODING = SystemInfo.getFileEncoding();
   private static final String DEFAULT_URI = "export.xml";
 
-  private static final ToStringConverter converter = new ToStringConverter("", "yyyy-MM-dd", "yyyy-MM-dd'T'hh:mm:ss.SSS");
 
   // attributes ------------------------------------------------------------------------------------------------------
 
+  private final ToStringConverter converter = new ToStringConverter("", "yyyy-MM-dd", "yyyy-MM-dd'T'hh:mm:ss.SSS");
+
   private String uri;
   private String encoding;
+  private String compression;
+  private boolean sharded;
+  private boolean joinShards;
 
+  private boolean continuation;
+  private FileShards<XMLEntityExporter> shards;
   private OutputStream out;
   private TransformerHandler handler;
 
@@ -104,6 +115,10 @@ public XMLEntityExporter(String uri) {
   public XMLEntityExporter(String uri, String encoding) {
     this.uri = uri;
     this.encoding = encoding;
+    this.sharded = false;
+    this.joinShards = true;
+    this.continuation = false;
+    this.shards = new FileShards<>(this::createShard);
   }
 
   // properties ------------------------------------------------------------------------------------------------------
@@ -137,9 +152,42 @@ public void setEncoding(String encoding) {
     this.encoding = encoding;
   }
 
+  /**
+   * Sets the compression of the output file: 'none' or 'gzip'. If it is not set,
+   * gzip compression is applied to files with the suffix '.gz'.
+   *
+   * @param compression the compression
+   */
+  public void setCompression(String compression) {
+    this.compression = compression;
+  }
+
+  /**
+   * Makes each thread write to its own part file named like the uri with a '.partN' infix.
+   *
+   * @param sharded the sharded
+   */
+  public void setSharded(boolean sharded) {
+    this.sharded = sharded;
+  }
+
+  /**
+   * Decides if the part files of a sharded export are joined to the export file on close.
+   * If not, the part files are kept and listed in a file named like the uri with a '.manifest' suffix.
+   *
+   * @param joinShards the join shards
+   */
+  public void setJoinShards(boolean joinShards) {
+    this.joinShards = joinShards;
+  }
+
   @Override
   public void startProductConsumption(Object object) {
     LOGGER.debug("startConsuming({})", object);
+    if (sharded) {
+      shards.ofCurrentThread().startProductConsumption(object);
+      return;
+    }
     if (out == null) {
       initHandler();
     }
@@ -150,6 +198,10 @@ public void startProductConsumption(Object object) {
   @Override
   public void finishProductConsumption(Object object) {
     LOGGER.debug("finishConsuming({})", object);
+    if (sharded) {
+      shards.ofCurrentThread().finishProductConsumption(object);
+      return;
+    }
     Entity entity = (Entity) object;
     try {
       handler.endElement("", "", entity.type());
@@ -160,6 +212,11 @@ public void finishProductConsumption(Object object) {
 
   @Override
   public void flush() {
+    if (sharded) {
+      for (XMLEntityExporter shard : shards.list()) {
+        shard.flush();
+      }
+    }
     IOUtil.flush(out);
   }
 
@@ -167,6 +224,10 @@ public void flush() {
 
   @Override
   public void close() {
+    if (!shards.isEmpty()) {
+      shards.close((shard, last) -> shard.close(), uri, false, joinShards);
+      return;
+    }
     if (out != null) {
       try {
         if (handler != null) {
@@ -222,26 +283,38 @@ private void initHandler() {
       transformer.setOutputProperty(OutputKeys.ENCODING, encoding);
       transformer.setOutputProperty(OutputKeys.INDENT, "yes");
       transformer.setOutputProperty("{http://xml.apache.org/xslt}" + "indent-amount", "2");
+      if (continuation) {
+        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+      }
 
-      out = new FileOutputStream(uri);
+      out = FileCompression.createOutputStream(uri, compression, false);
       handler.setResult(new StreamResult(out));
 
-      // bug fix: the following extra call to start/endDocument fixes the bug,
-      // that in normal invocation no line separator is inserted after the <?xml?> header
-      handler.startDocument();
-      handler.endDocument();
-      // end of bug fix
+      if (!continuation) {
+        // bug fix: the following extra call to start/endDocument fixes the bug,
+        // that in normal invocation no line separator is inserted after the <?xml?> header
+        handler.startDocument();
+        handler.endDocument();
+        // end of bug fix
+      }
 
       handler.startDocument();
     } catch (TransformerConfigurationException e) {
       throw new ConfigurationError(e);
     } catch (SAXException e) {
       throw new ConfigurationError("Error in initializing XML file", e);
-    } catch (FileNotFoundException e) {
+    } catch (IOException e) {
       throw new RuntimeException("Error writing file " + uri, e);
     }
   }
 
+  private XMLEntityExporter createShard(int index) {
+    XMLEntityExporter shard = new XMLEntityExporter(FileShards.shardUri(uri, index), encoding);
+    shard.compression = compression;
+    shard.continuation = (index > 0);
+    return shard;
+  }
+
   // java.lang.Object overrides --------------------------------------------------------------------------------------
 
   @Override
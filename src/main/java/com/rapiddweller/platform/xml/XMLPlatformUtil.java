@@ -160,6 +160,18 @@ public static String convertToString(Object value) {
     return ToStringConverter.convert(value, null);
   }
 
+  /**
+   * Represents a single query result like a database query does: as plain value if results shall be
+   * simplified, otherwise as a row with a single column.
+   *
+   * @param value    the value found by the query
+   * @param simplify tells if the result shall be simplified
+   * @return the value or a single-element array with the value
+   */
+  public static Object queryResult(String value, boolean simplify) {
+    return (simplify ? value : new Object[] { value });
+  }
+
   /**
    * Normalize name string.
    *
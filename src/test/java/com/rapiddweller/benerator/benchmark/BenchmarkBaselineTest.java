@@ -0,0 +1,97 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.common.ui.BufferedInfoPrinter;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link BenchmarkBaseline} and the {@link SensorStatistics} it relies on.<br/><br/>
+ * Created: 19.10.2026 22:02:44
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BenchmarkBaselineTest {
+
+  private static final ExecutionMode CE = new ExecutionMode(false, 1);
+
+  @Test
+  public void testStatistics_singleRun() {
+    SensorStatistics stats = new SensorStatistics(Collections.singletonList(result(1000, 500)));
+    assertEquals(1, stats.getRuns());
+    assertEquals(2000., stats.getEntitiesPerSecond(), 0.001);
+    assertEquals(0., stats.getError(), 0.);
+  }
+
+  @Test
+  public void testStatistics_multipleRuns() {
+    // 100, 110 and 90 entities per second
+    SensorStatistics stats = new SensorStatistics(Arrays.asList(
+        result(100, 1000), result(110, 1000), result(90, 1000)));
+    assertEquals(3, stats.getRuns());
+    assertEquals(100., stats.getEntitiesPerSecond(), 0.001);
+    assertEquals(10., stats.getStdDev(), 0.001);
+    assertEquals(4.303 * 10 / Math.sqrt(3), stats.getError(), 0.001);
+  }
+
+  @Test
+  public void testRegression() {
+    BenchmarkRecord reference = record(1000, 10);
+    assertFalse(BenchmarkBaseline.isRegression(record(1100, 10), reference, 10));
+    assertFalse(BenchmarkBaseline.isRegression(record(950, 10), reference, 10));
+    assertTrue(BenchmarkBaseline.isRegression(record(850, 10), reference, 10));
+  }
+
+  @Test
+  public void testInsignificantRegression() {
+    // the throughput loss exceeds the threshold, but the confidence intervals overlap
+    assertFalse(BenchmarkBaseline.isRegression(record(850, 100), record(1000, 100), 10));
+  }
+
+  @Test
+  public void testCompare() {
+    BenchmarkBaseline baseline = new BenchmarkBaseline(Collections.singletonList(record(1000, 10)));
+    List<BenchmarkRecord> results = Arrays.asList(record(800, 10),
+        new BenchmarkRecord("gen-string", null, "[new]", "CE", 1, 3, 1000, 500, 0, 0, 0, 0, 0));
+    BufferedInfoPrinter printer = new BufferedInfoPrinter();
+    assertEquals(1, baseline.compare(results, 10, printer));
+    String output = printer.toString();
+    assertTrue(output.contains("REGRESSION"));
+    assertTrue(output.contains("NEW"));
+  }
+
+  @Test
+  public void testParse() {
+    BenchmarkRecord record = record(1234.5, 12.3);
+    Object[] cells = record.getCells();
+    String[] texts = new String[cells.length];
+    for (int i = 0; i < cells.length; i++) {
+      texts[i] = String.valueOf(cells[i]);
+    }
+    BenchmarkRecord copy = BenchmarkRecord.parse(BenchmarkRecord.CSV_HEADER, texts);
+    assertEquals(record.getKey(), copy.getKey());
+    assertEquals(1234.5, copy.getEntitiesPerSecond(), 0.001);
+    assertEquals(12.3, copy.getError(), 0.001);
+    assertEquals(record.getPeakHeap(), copy.getPeakHeap());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static SensorResult result(long count, int durationMillis) {
+    return new SensorResult("[gen]", count, CE, durationMillis, count * 100, 5, 1000000);
+  }
+
+  private static BenchmarkRecord record(double entitiesPerSecond, double error) {
+    return new BenchmarkRecord("gen-string", null, "[gen]", "CE", 1, 3, 10000,
+        entitiesPerSecond, error, error, entitiesPerSecond * 100, 5, 1000000);
+  }
+
+}
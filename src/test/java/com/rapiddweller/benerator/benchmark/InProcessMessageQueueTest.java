@@ -0,0 +1,72 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.benchmark;
+
+import com.rapiddweller.benerator.test.ModelTest;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.Entity;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link InProcessMessageQueue} and its integration into the {@link BenchmarkRunner}.<br/><br/>
+ * Created: 19.10.2026 22:54:17
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class InProcessMessageQueueTest extends ModelTest {
+
+  @After
+  public void tearDown() {
+    InProcessMessageQueue.clearAll();
+  }
+
+  @Test
+  public void testRoundTrip() {
+    InProcessMessageQueue exporter = new InProcessMessageQueue("test_topic");
+    Entity entity = createEntity("person", "name", "Alice", "age", 23, "nick", null);
+    exporter.startConsuming(new ProductWrapper<>().wrap(entity));
+    exporter.finishConsuming(new ProductWrapper<>().wrap(entity));
+    exporter.close();
+    InProcessMessageQueue importer = new InProcessMessageQueue("test_topic");
+    importer.setContext(context);
+    assertEquals(1, importer.size());
+    DataIterator<Entity> iterator = importer.iterator();
+    Entity copy = iterator.next(new DataContainer<>()).getData();
+    assertEquals("person", copy.type());
+    assertEquals("Alice", copy.get("name"));
+    assertEquals("23", copy.get("age"));
+    assertNull(copy.get("nick"));
+    assertNull(iterator.next(new DataContainer<>()));
+    assertEquals(0, importer.size());
+  }
+
+  @Test
+  public void testSeparateTopics() {
+    InProcessMessageQueue queue1 = new InProcessMessageQueue("topic1");
+    InProcessMessageQueue queue2 = new InProcessMessageQueue("topic2");
+    queue1.startConsuming(new ProductWrapper<>().wrap(createEntity("person", "name", "Bob")));
+    assertEquals(1, queue1.size());
+    assertEquals(0, queue2.size());
+  }
+
+  @Test
+  public void testReplaceKafkaClients() {
+    String xml = "<setup>" +
+        "<kafka-exporter id=\"kafka_exporter\" environment=\"{environment}\" system=\"kafka_small_entity\"/>" +
+        "<kafka-importer id=\"kafka_importer\" environment=\"{environment}\" system=\"kafka_small_entity\" " +
+        "auto.offset.reset=\"earliest\"/>" +
+        "</setup>";
+    String result = BenchmarkRunner.replaceKafkaClients(xml);
+    String className = InProcessMessageQueue.class.getName();
+    assertTrue(result.contains("<bean id=\"kafka_exporter\" spec=\"new " + className + "('kafka_small_entity')\"/>"));
+    assertTrue(result.contains("<bean id=\"kafka_importer\" spec=\"new " + className + "('kafka_small_entity')\"/>"));
+  }
+
+}
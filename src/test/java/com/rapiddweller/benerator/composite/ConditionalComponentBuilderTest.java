@@ -36,8 +36,13 @@
 import com.rapiddweller.script.expression.ConstantExpression;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /**
  * Tests the {@link ConditionalComponentBuilder}.<br/><br/>
@@ -57,6 +62,47 @@ public void testConditionFalse() {
     check(false);
   }
 
+  @Test
+  public void testScopes() {
+    assertEquals(ConditionEvaluator.Scope.CONSTANT, scopeOf("1 < 2"));
+    assertEquals(ConditionEvaluator.Scope.SETUP, scopeOf("limit > 3 && mode == 'full'"));
+    assertEquals(ConditionEvaluator.Scope.ENTITY, scopeOf("this.type == 'A'"));
+    assertEquals(ConditionEvaluator.Scope.DYNAMIC, scopeOf("this.name.startsWith('A')"));
+    assertEquals(ConditionEvaluator.Scope.DYNAMIC,
+        new ConditionalComponentBuilder<>(createSource(), new ConstantExpression<>(true)).getEvaluator().getScope());
+  }
+
+  @Test
+  public void testSetupScopedCondition() {
+    ConditionalComponentBuilder<Entity> builder = new ConditionalComponentBuilder<>(createSource(), "limit > 3");
+    DefaultBeneratorContext context = new DefaultBeneratorContext();
+    context.set("limit", 5);
+    builder.init(context);
+    assertEquals("XXXXX", executeFor("Alice", builder, context).get("name"));
+    assertEquals("XXXXX", executeFor("Bob", builder, context).get("name"));
+    context.set("limit", 2);
+    assertEquals("Charly", executeFor("Charly", builder, context).get("name"));
+    builder.close();
+  }
+
+  @Test
+  public void testSharedEntityCondition() {
+    ConditionalComponentBuilder<Entity> builder1 = new ConditionalComponentBuilder<>(createSource(), "this.name == 'Alice'");
+    ConditionalComponentBuilder<Entity> builder2 = new ConditionalComponentBuilder<>(createSource(), "this.name == 'Alice'");
+    ConditionalComponentBuilder<Entity> builder3 = new ConditionalComponentBuilder<>(createSource(), "this.name == 'Bob'");
+    assertNotSame(builder1.getEvaluator(), builder2.getEvaluator());
+    List<GenerationStep<Entity>> steps = Arrays.asList(builder1, builder2, builder3);
+    ConditionalComponentBuilder.shareEvaluators(steps);
+    assertSame(builder1.getEvaluator(), builder2.getEvaluator());
+    assertNotSame(builder1.getEvaluator(), builder3.getEvaluator());
+    DefaultBeneratorContext context = new DefaultBeneratorContext();
+    builder1.init(context);
+    assertEquals("XXXXX", executeFor("Alice", builder1, context).get("name"));
+    assertEquals("Bob", executeFor("Bob", builder2, context).get("name"));
+    assertEquals("XXXXX", executeFor("Bob", builder3, context).get("name"));
+    builder1.close();
+  }
+
   public void check(boolean condition) {
     ConstantGenerator<String> gen = new ConstantGenerator<>("XXXXX");
     ComponentBuilder<Entity> source = new PlainEntityComponentBuilder("name", gen, null);
@@ -80,4 +126,22 @@ public void check(boolean condition) {
     builder.close();
   }
 
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static ComponentBuilder<Entity> createSource() {
+    return new PlainEntityComponentBuilder("name", new ConstantGenerator<>("XXXXX"), null);
+  }
+
+  private static ConditionEvaluator.Scope scopeOf(String conditionText) {
+    return new ConditionalComponentBuilder<>(createSource(), conditionText).getEvaluator().getScope();
+  }
+
+  private static Entity executeFor(String name, ComponentBuilder<Entity> builder, DefaultBeneratorContext context) {
+    Entity entity = new Entity("x", new DefaultDescriptorProvider("default", new DataModel()));
+    entity.set("name", name);
+    context.setCurrentProduct(new ProductWrapper<>(entity));
+    builder.execute(context);
+    return entity;
+  }
+
 }
@@ -0,0 +1,131 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.consumer;
+
+import com.rapiddweller.benerator.Consumer;
+import com.rapiddweller.benerator.wrapper.ProductWrapper;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the {@link ParallelConsumerChain}.<br/><br/>
+ * Created: 19.10.2026 10:02:17
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ParallelConsumerChainTest {
+
+  @Test
+  public void testOrderAndFlush() {
+    ListConsumer fast = new ListConsumer();
+    SlowConsumer slow = new SlowConsumer();
+    ParallelConsumerChain chain = new ParallelConsumerChain(2, fast, slow);
+    for (int i = 0; i < 20; i++) {
+      consume(i, chain);
+    }
+    chain.flush();
+    // after the flush barrier, all products must have arrived in order
+    assertEquals(20, fast.getConsumedData().size());
+    assertEquals(20, slow.products.size());
+    assertEquals(1, slow.flushCount);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(i, fast.getConsumedData().get(i));
+      assertEquals(i, slow.products.get(i));
+    }
+    assertSame(slow, chain.getBottleneck());
+    chain.close();
+    assertTrue(slow.closed);
+  }
+
+  @Test
+  public void testFailure() {
+    Consumer failing = new AbstractConsumer() {
+      @Override
+      public void startProductConsumption(Object object) {
+        throw new IllegalArgumentException("test");
+      }
+    };
+    ParallelConsumerChain chain = new ParallelConsumerChain(10, new ListConsumer(), failing);
+    consume(1, chain);
+    try {
+      chain.flush();
+      fail("Exception expected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("test", e.getMessage());
+    } finally {
+      chain.close();
+    }
+  }
+
+  @Test
+  public void testTags() {
+    List<String> tags = new ArrayList<>();
+    Consumer tagReader = new AbstractConsumer() {
+      @Override
+      public void startConsuming(ProductWrapper<?> wrapper) {
+        tags.add(wrapper.unwrap() + ":" + wrapper.getTag("last"));
+      }
+      @Override
+      public void startProductConsumption(Object object) {
+        // not called
+      }
+    };
+    ParallelConsumerChain chain = new ParallelConsumerChain(10, tagReader);
+    // like the generation tasks, the publisher reuses its wrapper
+    ProductWrapper<Integer> wrapper = new ProductWrapper<>();
+    chain.startConsuming(wrapper.wrap(1));
+    chain.startConsuming(wrapper.wrap(2).setTag("last", "true"));
+    chain.flush();
+    chain.close();
+    assertEquals(List.of("1:null", "2:true"), tags);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testConsumeAfterClose() {
+    ParallelConsumerChain chain = new ParallelConsumerChain(new ListConsumer());
+    chain.close();
+    consume(1, chain);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void consume(Integer product, ParallelConsumerChain chain) {
+    chain.startConsuming(new ProductWrapper<>(product));
+    chain.finishConsuming(new ProductWrapper<>(product));
+  }
+
+  static class SlowConsumer extends AbstractConsumer {
+
+    final List<Object> products = new ArrayList<>();
+    int flushCount = 0;
+    boolean closed = false;
+
+    @Override
+    public void startProductConsumption(Object object) {
+      try {
+        Thread.sleep(2);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      products.add(object);
+    }
+
+    @Override
+    public void flush() {
+      flushCount++;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+}
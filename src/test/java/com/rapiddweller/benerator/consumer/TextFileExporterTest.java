@@ -61,4 +61,15 @@ public void test() throws IOException {
     assertEquals("test" + SystemInfo.getLineSeparator(), content);
   }
 
+  /**
+   * Test shard uri.
+   */
+  @Test
+  public void testShardUri() {
+    assertEquals("target/export.part0.csv", TextFileExporter.shardUri("target/export.csv", 0));
+    assertEquals("target/export.part12", TextFileExporter.shardUri("target/export", 12));
+    assertEquals("target.d/export.part1", TextFileExporter.shardUri("target.d/export", 1));
+    assertEquals(".profile.part2", TextFileExporter.shardUri(".profile", 2));
+  }
+
 }
@@ -33,9 +33,14 @@
 import com.rapiddweller.benerator.UniqueLongValidator;
 import com.rapiddweller.benerator.primitive.IncrementGenerator;
 import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.benerator.util.GeneratorUtil;
 import com.rapiddweller.benerator.wrapper.WrapperFactory;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -92,4 +97,29 @@ public void testNormal() {
     assertUnavailable(generator);
   }
 
+  /**
+   * Test a source which switches from Long to non-Long values while filling the cache or after it was filled.
+   */
+  @Test
+  public void testMixedTypes() {
+    checkMixedTypes(CACHE_SIZE);
+    checkMixedTypes(5);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void checkMixedTypes(int cacheSize) {
+    Object[] values = { 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, "A", "B", 9L, "C" };
+    SequenceTestGenerator<Object> feed = new SequenceTestGenerator<>(values);
+    Generator<Object> generator = ExpandGeneratorProxy.uniqueProxy(feed, cacheSize, 2);
+    generator.init(context);
+    Set<Object> products = new HashSet<>();
+    for (int i = 0; i < values.length; i++) {
+      Object product = GeneratorUtil.generateNonNull(generator);
+      assertTrue("Not unique: " + product, products.add(product));
+    }
+    assertUnavailable(generator);
+    assertEquals(Set.of(values), products);
+  }
+
 }
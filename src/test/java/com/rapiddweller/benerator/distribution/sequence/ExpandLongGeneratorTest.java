@@ -0,0 +1,126 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.distribution.sequence;
+
+import com.rapiddweller.benerator.test.GeneratorTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ExpandLongGenerator}.<br/><br/>
+ * Created: 19.10.2026 13:58:41
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ExpandLongGeneratorTest extends GeneratorTest {
+
+  @Test
+  public void testUnique() {
+    ExpandLongGenerator generator = new ExpandLongGenerator(1, 1000, 1, 0, 100, 10);
+    generator.init(context);
+    assertCompleteAndUnique(generator, 1, 1000, 1);
+    assertUnavailable(generator);
+  }
+
+  @Test
+  public void testGranularity() {
+    ExpandLongGenerator generator = new ExpandLongGenerator(-10, 10, 5, 0, 3, 2);
+    generator.init(context);
+    assertCompleteAndUnique(generator, -10, 10, 5);
+    assertUnavailable(generator);
+  }
+
+  @Test
+  public void testReset() {
+    ExpandLongGenerator generator = new ExpandLongGenerator(1, 50, 1, 0, 20, 5);
+    generator.init(context);
+    assertCompleteAndUnique(generator, 1, 50, 1);
+    generator.reset();
+    assertCompleteAndUnique(generator, 1, 50, 1);
+    assertUnavailable(generator);
+  }
+
+  @Test
+  public void testDuplicates() {
+    ExpandLongGenerator generator = new ExpandLongGenerator(1, 1000, 1, 0.5f, 100, 10);
+    generator.init(context);
+    List<Long> products = new ArrayList<>();
+    Long product;
+    while ((product = generator.generate()) != null) {
+      assertTrue(product >= 1 && product <= 1000);
+      products.add(product);
+    }
+    assertEquals(1000, new HashSet<>(products).size());
+    assertTrue(products.size() > 1000);
+  }
+
+  @Test
+  public void testMultiThreaded() throws Exception {
+    final int n = 100000;
+    ExpandLongGenerator generator = new ExpandLongGenerator(0, n - 1, 1, 0, 1000, 100);
+    generator.init(context);
+    ConcurrentLinkedQueue<Long> products = new ConcurrentLinkedQueue<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread thread = new Thread(() -> {
+        Long product;
+        while ((product = generator.generate()) != null) {
+          products.add(product);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(n, products.size());
+    assertEquals(n, new HashSet<>(products).size());
+  }
+
+  @Test
+  public void testTakeOverNumbersOfOtherThread() throws Exception {
+    final int n = 1000;
+    ExpandLongGenerator generator = new ExpandLongGenerator(0, n - 1, 1, 0, 200, 20);
+    generator.init(context);
+    Set<Long> products = new HashSet<>();
+    Thread thread = new Thread(() -> products.add(generator.generate())); // caches numbers and quits
+    thread.start();
+    thread.join();
+    Long product;
+    while ((product = generator.generate()) != null) {
+      assertTrue("Not unique: " + product, products.add(product));
+    }
+    assertEquals(n, products.size());
+  }
+
+  @Test
+  public void testCount() {
+    assertEquals(0, ExpandLongGenerator.count(5, 4, 1));
+    assertEquals(1, ExpandLongGenerator.count(5, 5, 1));
+    assertEquals(3, ExpandLongGenerator.count(1, 7, 3));
+    assertEquals(Long.MAX_VALUE, ExpandLongGenerator.count(Long.MIN_VALUE, Long.MAX_VALUE, 1));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void assertCompleteAndUnique(ExpandLongGenerator generator, long min, long max, long granularity) {
+    Set<Long> products = new HashSet<>();
+    for (long i = min; i <= max; i += granularity) {
+      Long product = generator.generate();
+      assertNotNull(product);
+      assertTrue("Out of range: " + product, product >= min && product <= max && (product - min) % granularity == 0);
+      assertTrue("Not unique: " + product, products.add(product));
+    }
+  }
+
+}
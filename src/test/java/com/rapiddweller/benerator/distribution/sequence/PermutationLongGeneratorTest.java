@@ -0,0 +1,198 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.distribution.sequence;
+
+import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.distribution.SequenceManager;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link PermutationLongGenerator} and the {@link PermutationSequence}.<br/><br/>
+ * Created: 19.10.2026 14:48:27
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class PermutationLongGeneratorTest extends GeneratorTest {
+
+  @Test
+  public void testComplete() {
+    PermutationLongGenerator generator = new PermutationLongGenerator(1, 1000);
+    generator.init(context);
+    assertCompleteAndUnique(generator, 1, 1000, 1);
+    assertNull(generator.generate());
+  }
+
+  @Test
+  public void testGranularity() {
+    PermutationLongGenerator generator = new PermutationLongGenerator(-10, 10, 5);
+    generator.init(context);
+    assertCompleteAndUnique(generator, -10, 10, 5);
+    assertNull(generator.generate());
+  }
+
+  @Test
+  public void testSingleValue() {
+    PermutationLongGenerator generator = new PermutationLongGenerator(7, 7);
+    generator.init(context);
+    assertEquals(7L, generator.generate().longValue());
+    assertNull(generator.generate());
+  }
+
+  @Test
+  public void testEmptyRange() {
+    PermutationLongGenerator generator = new PermutationLongGenerator(5, 4);
+    generator.init(context);
+    assertNull(generator.generate());
+  }
+
+  @Test
+  public void testNoStridePattern() {
+    PermutationLongGenerator generator = new PermutationLongGenerator(0, 999999);
+    generator.init(context);
+    Set<Long> differences = new HashSet<>();
+    long previous = generator.generate();
+    for (int i = 0; i < 100; i++) {
+      long next = generator.generate();
+      differences.add(next - previous);
+      previous = next;
+    }
+    assertTrue(differences.size() > 90);
+  }
+
+  @Test
+  public void testSeed() {
+    PermutationLongGenerator generator1 = new PermutationLongGenerator(0, 99999);
+    generator1.setSeed(42);
+    generator1.init(context);
+    PermutationLongGenerator generator2 = new PermutationLongGenerator(0, 99999);
+    generator2.setSeed(42);
+    generator2.init(context);
+    PermutationLongGenerator generator3 = new PermutationLongGenerator(0, 99999);
+    generator3.setSeed(43);
+    generator3.init(context);
+    List<Long> products1 = new ArrayList<>();
+    List<Long> products2 = new ArrayList<>();
+    List<Long> products3 = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      products1.add(generator1.generate());
+      products2.add(generator2.generate());
+      products3.add(generator3.generate());
+    }
+    assertEquals(products1, products2);
+    assertNotEquals(products1, products3);
+  }
+
+  @Test
+  public void testPartitions() {
+    Set<Long> products = new HashSet<>();
+    for (int partition = 0; partition < 3; partition++) {
+      PermutationLongGenerator generator = new PermutationLongGenerator(1, 1000);
+      generator.setSeed(4711);
+      generator.setPartition(partition, 3);
+      generator.init(context);
+      Long product;
+      while ((product = generator.generate()) != null) {
+        assertTrue("Not unique: " + product, products.add(product));
+      }
+    }
+    assertEquals(1000, products.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalPartition() {
+    new PermutationLongGenerator(1, 1000).setPartition(3, 3);
+  }
+
+  @Test
+  public void testReset() {
+    PermutationLongGenerator generator = new PermutationLongGenerator(1, 50);
+    generator.init(context);
+    List<Long> products = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      products.add(generator.generate());
+    }
+    generator.reset();
+    for (int i = 0; i < 50; i++) {
+      assertEquals(products.get(i), generator.generate());
+    }
+    assertNull(generator.generate());
+  }
+
+  @Test
+  public void testHugeRange() {
+    PermutationLongGenerator generator = new PermutationLongGenerator(Long.MIN_VALUE, Long.MAX_VALUE);
+    generator.init(context);
+    assertEquals(Long.MAX_VALUE, generator.getCount());
+    Set<Long> products = new HashSet<>();
+    for (int i = 0; i < 1000; i++) {
+      assertTrue(products.add(generator.generate()));
+    }
+  }
+
+  @Test
+  public void testMultiThreaded() throws Exception {
+    final int n = 100000;
+    PermutationLongGenerator generator = new PermutationLongGenerator(0, n - 1);
+    generator.init(context);
+    ConcurrentLinkedQueue<Long> products = new ConcurrentLinkedQueue<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread thread = new Thread(() -> {
+        Long product;
+        while ((product = generator.generate()) != null) {
+          products.add(product);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(n, products.size());
+    assertEquals(n, new HashSet<>(products).size());
+  }
+
+  @Test
+  public void testSequence() {
+    NonNullGenerator<Integer> generator =
+        SequenceManager.PERMUTATION_SEQUENCE.createNumberGenerator(Integer.class, 1, 100, 1, true);
+    initialize(generator);
+    expectUniquelyGeneratedSet(generator, intRange(1, 100)).withCeasedAvailability();
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static Integer[] intRange(int min, int max) {
+    Integer[] result = new Integer[max - min + 1];
+    for (int i = min; i <= max; i++) {
+      result[i - min] = i;
+    }
+    return result;
+  }
+
+  private static void assertCompleteAndUnique(
+      PermutationLongGenerator generator, long min, long max, long granularity) {
+    Set<Long> products = new HashSet<>();
+    for (long i = min; i <= max; i += granularity) {
+      Long product = generator.generate();
+      assertNotNull(product);
+      assertTrue("Out of range: " + product, product >= min && product <= max && (product - min) % granularity == 0);
+      assertTrue("Not unique: " + product, products.add(product));
+    }
+  }
+
+}
@@ -32,6 +32,11 @@
 import com.rapiddweller.platform.template.TemplateFileEntityExporter;
 import org.junit.Test;
 
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Tests the {@link TemplateFileEntityExporter}.<br/><br/>
  * Created: 27.06.2014 17:42:34
@@ -69,6 +74,35 @@ public void testCountries() throws Exception {
     System.out.println(content);
   }
 
+  @Test
+  public void testCountriesStreaming() throws Exception {
+    String uri = "target/" + getClass().getName() + "-streaming.txt";
+    String templateFolder = "com/rapiddweller/benerator/engine/template/";
+    BeneratorContext context = parseAndExecute(
+        "<setup>" +
+            "<bean id='con' class='TemplateFileEntityExporter'>" +
+            "	<property name='uri' value='" + uri + "'/>" +
+            "	<property name='streaming' value='true'/>" +
+            "	<property name='headerTemplateUri' value='" + templateFolder + "countries-header.ftl'/>" +
+            "	<property name='templateUri' value='" + templateFolder + "countries-record.ftl'/>" +
+            "	<property name='footerTemplateUri' value='" + templateFolder + "countries-footer.ftl'/>" +
+            "</bean>" +
+            "<generate type='countries' count='3' consumer='con'>" +
+            "	<attribute name='name' pattern='[A-Z]{5,10}' />" +
+            "	<attribute name='population' type='int' min='1000000' max='100000000' />" +
+            "   <generate type='states' count='2' consumer='con'>" +
+            "      <attribute name='name' pattern='[A-Z]{5,10}' />" +
+            "   </generate>" +
+            "</generate>" +
+            "</setup>");
+    closeCon(context);
+    String[] lines = IOUtil.readTextLines(uri, false);
+    assertEquals("Countries:", lines[0]);
+    assertTrue(lines[1].trim().startsWith("1. "));
+    assertEquals(6, Arrays.stream(lines).filter(line -> line.trim().startsWith("- ")).count());
+    assertEquals("3 countries", lines[lines.length - 1]);
+  }
+
   /**
    * Test iftdgn 1.
    *
@@ -96,6 +130,19 @@ public void testIFTDGN2() throws Exception {
     System.out.println(content);
   }
 
+  @Test
+  public void testIFTDGNStreaming() throws Exception {
+    BeneratorContext context = parseAndExecuteFile(
+        "com/rapiddweller/benerator/engine/template/IFTDGN-streaming.ben.xml");
+    closeCon(context);
+    String[] lines = IOUtil.readTextLines("target/IFTDGN-streaming.edi", false);
+    assertEquals("UNB+UNOA:2+CAPSTAN+HSDG+130821:1259+OPH'", lines[0]);
+    // each message has UNH, BGM, UNT and 2 EQD segments
+    assertEquals(3, Arrays.stream(lines).filter(line -> line.startsWith("UNT+5+")).count());
+    assertEquals("UNZ+3+OPH'", lines[lines.length - 2]);
+    assertEquals("SEGMENTS+15'", lines[lines.length - 1]);
+  }
+
   private static void closeCon(BeneratorContext context) {
     Consumer con = (Consumer) context.get("con");
     con.close();
@@ -0,0 +1,139 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+import com.rapiddweller.benerator.consumer.AbstractConsumer;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link BeneratorMetrics} with its JMX and Prometheus representations.<br/><br/>
+ * Created: 19.10.2026 10:42:08
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BeneratorMetricsTest {
+
+  private BeneratorMetrics metrics;
+
+  @After
+  public void tearDown() {
+    if (metrics != null) {
+      metrics.stop();
+    }
+  }
+
+  @Test
+  public void testInactive() {
+    assertFalse(BeneratorMetrics.isActive());
+    assertNull(BeneratorMetrics.generation("person"));
+    assertNull(BeneratorMetrics.consumer(new NamedConsumer("ConsoleExporter")));
+    assertNull(BeneratorMetrics.database("db"));
+  }
+
+  @Test
+  public void testJmx() throws Exception {
+    metrics = BeneratorMetrics.start(null, -1);
+    assertEquals(-1, metrics.getHttpPort());
+    GenerationMetrics generation = BeneratorMetrics.generation("person");
+    assertSame(generation, BeneratorMetrics.generation("person"));
+    generation.countGeneration();
+    generation.countGeneration();
+    BeneratorMetrics.consumer(new NamedConsumer("ConsoleExporter[a, b]")).startConsumingFinished(1000);
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName generationName = new ObjectName("benerator:type=generation,name=person");
+    assertEquals(2L, server.getAttribute(generationName, "GenerationCount"));
+    ObjectName consumerName = new ObjectName("benerator:type=consumer,name=" + ObjectName.quote("ConsoleExporter[a, b]"));
+    assertEquals(1L, server.getAttribute(consumerName, "ConsumptionCount"));
+    metrics.stop();
+    assertFalse(server.isRegistered(generationName));
+    assertFalse(BeneratorMetrics.isActive());
+  }
+
+  @Test
+  public void testPrometheusFormat() {
+    metrics = BeneratorMetrics.start(null, -1);
+    GenerationMetrics generation = BeneratorMetrics.generation("person");
+    generation.countGeneration();
+    generation.pageFinished(5000000);
+    DatabaseMetrics database = BeneratorMetrics.database("db");
+    database.batchExecuted(1000);
+    database.commitFinished(20000000);
+    BeneratorMetrics.consumer(new NamedConsumer("Exporter \"x\"")).startConsumingFinished(1000);
+    String text = PrometheusFormatter.format(metrics);
+    assertTrue(text.contains("# TYPE benerator_task_entities_total counter\n"));
+    assertTrue(text.contains("benerator_task_entities_total{task=\"person\"} 1\n"));
+    assertTrue(text.contains("benerator_page_duration_seconds_count{task=\"person\"} 1\n"));
+    assertTrue(text.contains("benerator_db_batch_size{database=\"db\",quantile=\"0.5\"} 1000\n"));
+    assertTrue(text.contains("benerator_consumer_latency_seconds_count{consumer=\"Exporter \\\"x\\\"\",phase=\"start\"} 1\n"));
+    assertTrue(text.contains("jvm_memory_heap_used_bytes "));
+  }
+
+  @Test
+  public void testHttpEndpoint() throws Exception {
+    metrics = BeneratorMetrics.start(null, 0);
+    assertEquals(InetAddress.getLoopbackAddress().getHostAddress(), metrics.getHttpHost());
+    BeneratorMetrics.generation("person").countGeneration();
+    URL url = new URL("http://localhost:" + metrics.getHttpPort() + MetricsHttpServer.PATH);
+    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+    assertEquals(200, connection.getResponseCode());
+    assertEquals(PrometheusFormatter.CONTENT_TYPE, connection.getContentType());
+    try (InputStream in = connection.getInputStream()) {
+      String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      assertTrue(text.contains("benerator_task_entities_total{task=\"person\"} 1\n"));
+    }
+  }
+
+  @Test
+  public void testConsumerIdentity() {
+    metrics = BeneratorMetrics.start(null, -1);
+    NamedConsumer consumer1 = new NamedConsumer("CSVEntityExporter");
+    NamedConsumer consumer2 = new NamedConsumer("CSVEntityExporter");
+    ConsumerMetrics metrics1 = BeneratorMetrics.consumer(consumer1);
+    ConsumerMetrics metrics2 = BeneratorMetrics.consumer(consumer2);
+    assertSame(metrics1, BeneratorMetrics.consumer(consumer1));
+    assertNotSame(metrics1, metrics2);
+    assertEquals("CSVEntityExporter", metrics1.getConsumer());
+    assertEquals("CSVEntityExporter#2", metrics2.getConsumer());
+    assertEquals(2, metrics.getConsumers().size());
+  }
+
+  // helpers ---------------------------------------------------------------------------------------------------------
+
+  static class NamedConsumer extends AbstractConsumer {
+
+    private final String name;
+
+    NamedConsumer(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void startProductConsumption(Object object) {
+      // nothing to do
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+
+  }
+
+}
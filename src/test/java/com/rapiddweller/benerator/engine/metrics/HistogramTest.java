@@ -0,0 +1,74 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link Histogram}.<br/><br/>
+ * Created: 19.10.2026 10:31:50
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class HistogramTest {
+
+  @Test
+  public void testEmpty() {
+    Histogram histogram = new Histogram();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getPercentile(0.99));
+    assertEquals(0., histogram.getMean(), 0.);
+  }
+
+  @Test
+  public void testSmallValues() {
+    Histogram histogram = new Histogram();
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+    assertEquals(10, histogram.getCount());
+    assertEquals(55, histogram.getSum());
+    assertEquals(10, histogram.getMax());
+    assertEquals(5, histogram.getPercentile(0.5));
+    assertEquals(10, histogram.getPercentile(1.));
+  }
+
+  @Test
+  public void testPrecision() {
+    Histogram histogram = new Histogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+    assertEquals(500500., histogram.getMean(), 0.001);
+    assertWithinPrecision(500000, histogram.getPercentile(0.5));
+    assertWithinPrecision(990000, histogram.getPercentile(0.99));
+    assertEquals(1000000, histogram.getPercentile(1.));
+  }
+
+  @Test
+  public void testBuckets() {
+    for (long value : new long[] { 0, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE }) {
+      int index = Histogram.bucketIndex(value);
+      assertTrue(Histogram.upperBound(index) >= value);
+      assertTrue(index == 0 || Histogram.upperBound(index - 1) < value);
+    }
+  }
+
+  @Test
+  public void testNegative() {
+    Histogram histogram = new Histogram();
+    histogram.record(-5);
+    assertEquals(0, histogram.getMax());
+    assertEquals(1, histogram.getCount());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void assertWithinPrecision(long expected, long actual) {
+    assertTrue("Expected " + expected + " but was " + actual, actual >= expected && actual <= expected * 1.125);
+  }
+
+}
@@ -0,0 +1,100 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.engine.profile;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link SamplingProfiler}.<br/><br/>
+ * Created: 19.10.2026 23:48:19
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class SamplingProfilerTest {
+
+  private static volatile Object sink;
+
+  @Test
+  public void testInactive() {
+    assertFalse(SamplingProfiler.isActive());
+    int mark = SamplingProfiler.enter("x");
+    assertEquals(-1, mark);
+    SamplingProfiler.exit(mark);
+  }
+
+  @Test
+  public void testSampling() throws IOException {
+    SamplingProfiler profiler = SamplingProfiler.start(2);
+    try {
+      assertTrue(SamplingProfiler.isActive());
+      long end = System.currentTimeMillis() + 300;
+      while (System.currentTimeMillis() < end) {
+        int mark = SamplingProfiler.enter("person");
+        work("person.name", 3000);
+        work("person.age", 1000);
+        SamplingProfiler.exit(mark);
+      }
+    } finally {
+      profiler.stop();
+    }
+    assertFalse(SamplingProfiler.isActive());
+    assertTrue(profiler.getSampleCount() > 0);
+    // check frame statistics
+    List<FrameStats> selfStats = profiler.getFrameStats(true);
+    assertTrue(containsLabel("person.name", selfStats));
+    List<FrameStats> totalStats = profiler.getFrameStats(false);
+    assertTrue(containsLabel("person", totalStats));
+    // check report
+    List<String> report = profiler.createHotSpotReport(10);
+    assertTrue(report.size() > 2);
+    // check flame graph output
+    StringWriter out = new StringWriter();
+    profiler.writeCollapsedStacks(false, out);
+    if (profiler.isCpuSupported()) {
+      assertTrue(out.toString().contains("person;person.name "));
+    }
+  }
+
+  @Test
+  public void testFrameStack() {
+    SamplingProfiler.FrameStack stack = new SamplingProfiler.FrameStack(Thread.currentThread());
+    int outer = stack.push("a");
+    for (int i = 0; i < 20; i++) {
+      stack.push("b" + i);
+    }
+    assertTrue(stack.path().startsWith("a;b0;b1;"));
+    stack.cut(outer + 1);
+    assertEquals("a", stack.path());
+    stack.cut(outer);
+    assertNull(stack.path());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void work(String label, int n) {
+    int mark = SamplingProfiler.enter(label);
+    for (int i = 0; i < n; i++) {
+      sink = new byte[64];
+    }
+    SamplingProfiler.exit(mark);
+  }
+
+  private static boolean containsLabel(String label, List<FrameStats> stats) {
+    for (FrameStats frame : stats) {
+      if (label.equals(frame.getLabel())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -38,6 +38,7 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
 import java.util.Locale;
 
 import static org.junit.Assert.assertEquals;
@@ -122,6 +123,21 @@ public void testCyclicCSVImport() {
     expectGeneratedSequence(generator, alice, otto, alice).withContinuedAvailability();
   }
 
+  @Test
+  public void testShuffledCSVImport() {
+    ComplexTypeDescriptor type = createComplexType("person");
+    type.setSource(PERSON_CSV);
+    type.setDetailValue("distribution", "shuffle");
+    int copyCount = shuffledCopyCount();
+    Generator<Entity> generator = createGenerator(type);
+    assertEquals(copyCount + 1, shuffledCopyCount());
+    context.set("ottos_age", 39);
+    generator.init(context);
+    expectUniquelyGeneratedSet(generator, alice, otto).withCeasedAvailability();
+    generator.close();
+    assertEquals(copyCount, shuffledCopyCount());
+  }
+
   @Test
   public void testWeightedCSVImport() {
     ComplexTypeDescriptor type = createComplexType("person");
@@ -186,4 +202,10 @@ private Generator<Entity> createGenerator(ComplexTypeDescriptor type) {
     return (Generator<Entity>) generator;
   }
 
+  private static int shuffledCopyCount() {
+    String[] names = new File(System.getProperty("java.io.tmpdir")).list(
+        (dir, name) -> name.startsWith("benerator-shuffled-"));
+    return (names != null ? names.length : 0);
+  }
+
 }
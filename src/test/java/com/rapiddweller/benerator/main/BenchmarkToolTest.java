@@ -8,10 +8,13 @@
 import com.rapiddweller.benerator.environment.SystemRef;
 import com.rapiddweller.benerator.test.ModelTest;
 import com.rapiddweller.common.ArrayBuilder;
+import com.rapiddweller.common.CollectionUtil;
 import com.rapiddweller.common.ConfigurationError;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -60,6 +63,34 @@ public void testFullWithFile() {
     assertEquals("db-big-table", config.getName());
   }
 
+  @Test
+  public void testResultOptions() {
+    BenchmarkToolConfig config = BenchmarkTool.parseCommandLineConfig(
+        "--runs", "5", "--csv", "result.csv", "--json", "result.json", "--baseline", "base.csv", "--maxRegression", "7");
+    assertEquals(5, config.getRuns());
+    assertEquals("result.csv", config.getCsvFile());
+    assertEquals("result.json", config.getJsonFile());
+    assertEquals("base.csv", config.getBaseline());
+    assertEquals(7, config.getMaxRegression());
+  }
+
+  @Test
+  public void testEmbedded() {
+    BenchmarkToolConfig config = BenchmarkTool.parseCommandLineConfig("--embedded");
+    assertTrue(config.isEmbedded());
+    Set<String> systems = new HashSet<>();
+    for (SystemRef system : config.getSystems()) {
+      systems.add(system.toString());
+    }
+    assertEquals(CollectionUtil.toSet("builtin#h2", "builtin#hsqlmem", "builtin#h2file", "builtin#hsqlfile",
+        "builtin#inprocess"), systems);
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testIllegalRuns() {
+    BenchmarkTool.parseCommandLineConfig("--runs", "0");
+  }
+
   @Test
   public void testFileOnly() {
     BenchmarkToolConfig config = BenchmarkTool.parseCommandLineConfig("gen-string");
@@ -118,6 +149,12 @@ public void testFileBenchmarks() throws IOException {
     runBenchmark("file-out-xml");
   }
 
+  @Test
+  public void testEmbeddedBenchmarks() throws IOException {
+    BenchmarkTool.main(new String[] { "--ce", "--maxThreads", "1", "--minSecs", "0", "--embedded", "db-small-table" });
+    BenchmarkTool.main(new String[] { "--ce", "--maxThreads", "1", "--minSecs", "0", "--embedded", "kafka-small-entity" });
+  }
+
   private void runBenchmark(String benchmarkName) throws IOException {
     runBenchmark(benchmarkName, null);
   }
@@ -0,0 +1,107 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive;
+
+import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.factory.RegexGeneratorFactory;
+import com.rapiddweller.benerator.factory.StochasticGeneratorFactory;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.common.CollectionUtil;
+import com.rapiddweller.model.data.Uniqueness;
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link CompiledRegexGenerator} and its {@link CompiledRegexGenerator.Builder}.<br/><br/>
+ * Created: 19.10.2026 10:05:18
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class CompiledRegexGeneratorTest extends GeneratorTest {
+
+  @Test
+  public void testCharsAndLiterals() {
+    CompiledRegexGenerator generator = new CompiledRegexGenerator.Builder()
+        .literal("x").chars(CollectionUtil.toSet('a', 'b'), 2, 2).literal("y").build();
+    initialize(generator);
+    checkProducts(generator, 200, "xaay", "xaby", "xbay", "xbby");
+  }
+
+  @Test
+  public void testRepetition() {
+    CompiledRegexGenerator generator = new CompiledRegexGenerator.Builder()
+        .beginRepeat(0, 2).literal("ab").end().build();
+    initialize(generator);
+    checkProducts(generator, 200, "", "ab", "abab");
+  }
+
+  @Test
+  public void testChoice() {
+    CompiledRegexGenerator generator = new CompiledRegexGenerator.Builder()
+        .literal("x")
+        .beginChoice(1, 2, 2)
+          .chars(CollectionUtil.toSet('0'), 1, 2).endAlternative()
+          .literal("b").endAlternative()
+        .end()
+        .literal("x")
+        .build();
+    initialize(generator);
+    checkProducts(generator, 500,
+        "x0x", "x00x", "xbx", "x0bx", "x00bx", "xb0x", "xb00x", "x00x", "x000x", "x0000x", "xbbx");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testMissingAlternative() {
+    new CompiledRegexGenerator.Builder().beginChoice(1, 1, 2).literal("a").endAlternative().end();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testUnclosedRepetition() {
+    new CompiledRegexGenerator.Builder().beginRepeat(1, 2).literal("a").build();
+  }
+
+  @Test
+  public void testRegexCompilation() {
+    String pattern = "[A-Z]{2}[0-9]{10}";
+    NonNullGenerator<String> generator = createRegexGenerator(pattern, Uniqueness.NONE);
+    assertTrue(generator instanceof CompiledRegexGenerator);
+    for (int i = 0; i < 100; i++) {
+      String product = generator.generate();
+      assertEquals(12, product.length());
+      assertTrue(Pattern.matches(pattern, product));
+    }
+  }
+
+  @Test
+  public void testComplexRegexCompilation() {
+    String byteValue = "([1-9]?[0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])";
+    String pattern = "(" + byteValue + "\\.){3}" + byteValue;
+    NonNullGenerator<String> generator = createRegexGenerator(pattern, Uniqueness.NONE);
+    assertTrue(generator instanceof CompiledRegexGenerator);
+    for (int i = 0; i < 100; i++) {
+      String product = generator.generate();
+      assertTrue(product, Pattern.matches(pattern, product));
+    }
+  }
+
+  @Test
+  public void testUniqueRegexNotCompiled() {
+    assertFalse(createRegexGenerator("[A-Z]{2}", Uniqueness.SIMPLE) instanceof CompiledRegexGenerator);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private NonNullGenerator<String> createRegexGenerator(String pattern, Uniqueness uniqueness) {
+    NonNullGenerator<String> generator = RegexGeneratorFactory.create(pattern, Locale.ENGLISH, 0, null, uniqueness,
+        new StochasticGeneratorFactory());
+    generator.init(context);
+    return generator;
+  }
+
+}
@@ -0,0 +1,134 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.primitive;
+
+import com.rapiddweller.benerator.NonNullGenerator;
+import com.rapiddweller.benerator.factory.RegexGeneratorFactory;
+import com.rapiddweller.benerator.factory.StochasticGeneratorFactory;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.common.CollectionUtil;
+import com.rapiddweller.model.data.Uniqueness;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link IndexedRegexGenerator}.<br/><br/>
+ * Created: 19.10.2026 12:48:51
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class IndexedRegexGeneratorTest extends GeneratorTest {
+
+  @Test
+  public void testCharSet() {
+    IndexedRegexGenerator generator = IndexedRegexGenerator.forCharSet(CollectionUtil.toSet('0', '1'), 1, 2);
+    assertEquals(6, generator.getCardinality());
+    expectUniquelyGeneratedSet(initialize(generator), "0", "1", "00", "01", "10", "11").withCeasedAvailability();
+  }
+
+  @Test
+  public void testCharSetWithLengthGranularity() {
+    IndexedRegexGenerator generator = IndexedRegexGenerator.forCharSet(CollectionUtil.toSet('a', 'b'), 1, 6, 2);
+    assertEquals(2 + 8 + 32, generator.getCardinality());
+    initialize(generator);
+    Set<String> products = new HashSet<>();
+    String product;
+    while ((product = generator.generate()) != null) {
+      assertTrue(product, product.length() == 1 || product.length() == 3 || product.length() == 5);
+      assertTrue(product, products.add(product));
+    }
+    assertEquals(42, products.size());
+  }
+
+  @Test
+  public void testFactoryLengthGranularity() {
+    NonNullGenerator<String> generator = new StochasticGeneratorFactory().createStringGenerator(
+        CollectionUtil.toSet('x', 'y', 'z'), 2, 8, 3, null, Uniqueness.SIMPLE);
+    initialize(generator);
+    for (int i = 0; i < 100; i++) {
+      int length = generator.generate().length();
+      assertTrue("Illegal length: " + length, length == 2 || length == 5 || length == 8);
+    }
+  }
+
+  @Test
+  public void testReset() {
+    IndexedRegexGenerator generator = IndexedRegexGenerator.forCharSet(CollectionUtil.toSet('a', 'b'), 3, 3);
+    generator.setSeed(17);
+    initialize(generator);
+    String first = generator.generate();
+    generator.reset();
+    assertEquals(first, generator.generate());
+  }
+
+  @Test
+  public void testFixedLengthPattern() {
+    NonNullGenerator<String> generator = createUnique("[A-Z]{2}[0-9]{3}");
+    assertEquals(676000, ((IndexedRegexGenerator) generator).getCardinality());
+    expectUniqueProducts(generator, 10000).withContinuedAvailability();
+  }
+
+  @Test
+  public void testDistinguishableAlternatives() {
+    String pattern = "[a-c]{4,6}@(com|org|net)";
+    NonNullGenerator<String> generator = createUnique(pattern);
+    assertTrue(generator instanceof IndexedRegexGenerator);
+    assertEquals(3 * (81 + 243 + 729), ((IndexedRegexGenerator) generator).getCardinality());
+    Set<String> products = new HashSet<>();
+    String product;
+    while ((product = generator.generate()) != null) {
+      assertTrue(product, Pattern.matches(pattern, product));
+      assertTrue("Duplicate: " + product, products.add(product));
+    }
+    assertEquals(3 * (81 + 243 + 729), products.size());
+  }
+
+  @Test
+  public void testAmbiguousPatterns() {
+    assertFalse(createUnique("[ab]{1,2}[ab]{1,2}") instanceof IndexedRegexGenerator);
+    assertFalse(createUnique("(ab|[ab]{2})") instanceof IndexedRegexGenerator);
+  }
+
+  @Test
+  public void testHugeCardinality() {
+    NonNullGenerator<String> generator = createUnique("[A-Z]{20}");
+    assertEquals(Long.MAX_VALUE, ((IndexedRegexGenerator) generator).getCardinality());
+    expectUniqueProducts(generator, 1000).withContinuedAvailability();
+  }
+
+  @Test
+  public void testPartitions() {
+    Set<String> products = new HashSet<>();
+    for (int partition = 0; partition < 3; partition++) {
+      IndexedRegexGenerator generator = IndexedRegexGenerator.forCharSet(CollectionUtil.toSet('0', '1', '2'), 4, 4);
+      generator.setSeed(5);
+      generator.setPartition(partition, 3);
+      initialize(generator);
+      String product;
+      while ((product = generator.generate()) != null) {
+        assertTrue("Duplicate: " + product, products.add(product));
+      }
+      assertNull(generator.generate());
+    }
+    assertEquals(81, products.size());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private NonNullGenerator<String> createUnique(String pattern) {
+    NonNullGenerator<String> generator = RegexGeneratorFactory.create(pattern, Locale.ENGLISH, 0, null,
+        Uniqueness.SIMPLE, new StochasticGeneratorFactory());
+    generator.init(context);
+    return generator;
+  }
+
+}
@@ -0,0 +1,129 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.script;
+
+import com.rapiddweller.benerator.test.ModelTest;
+import com.rapiddweller.common.Context;
+import com.rapiddweller.common.context.DefaultContext;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.script.DatabeneScriptParser;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link CompiledScript} and its use in the {@link BeneratorScript}.<br/><br/>
+ * Created: 19.10.2026 18:52:17
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class CompiledScriptTest extends ModelTest {
+
+  @Test
+  public void testCompilable() {
+    assertNotNull(compile("1 + 2 * x"));
+    assertNotNull(compile("this.age >= 18 && this.name != 'Bob'"));
+    assertNotNull(compile("!(x < 3) || -x == 'a\\tb'"));
+    assertNull(compile("Math.max(x, 3)"));
+    assertNull(compile("new java.util.Date()"));
+    assertNull(compile("x > 0 ? 'positive' : 'negative'"));
+    assertNull(compile("x[0]"));
+    assertNull(compile("x % 2 == 0"));
+  }
+
+  @Test
+  public void testInputPaths() {
+    assertEquals(List.of("this.age", "x"), compile("this.age > x && this.age < 2 * x").getInputPaths());
+    assertEquals(List.of(), compile("1 < 2").getInputPaths());
+  }
+
+  @Test
+  public void testSameResultAsInterpreter() {
+    Context context = new DefaultContext();
+    context.set("x", 5);
+    context.set("d", 1.5);
+    context.set("s", "ab");
+    context.set("person", createEntity("Person", "name", "Alice", "age", 23));
+    checkScript("1 + 2 * x", context);
+    checkScript("-x - 3", context);
+    checkScript("d * 2.0 + d / 3.0", context);
+    checkScript("s + 'c'", context);
+    checkScript("x > 3 && !(x >= 10) || false", context);
+    checkScript("x == 5 || s == 'other'", context);
+    checkScript("person.age >= 18 && person.name != 'Bob'", context);
+    checkScript("person.name", context);
+  }
+
+  @Test
+  public void testDeoptimization() {
+    Context context = new DefaultContext();
+    context.set("x", 5L);
+    BeneratorScript script = compiledScript("x + 1", context); // Long + Integer is handled by the interpreter
+    assertTrue(script.isCompiled());
+    assertEquals(interpret("x + 1", context), script.evaluate(context));
+    context.set("x", Integer.MAX_VALUE);
+    assertEquals(interpret("x + 1", context), script.evaluate(context));
+  }
+
+  @Test
+  public void testOccasionalDeoptimizations() {
+    Context context = new DefaultContext();
+    context.set("x", 5);
+    BeneratorScript script = compiledScript("x + 1", context);
+    for (int i = 0; i < 1000; i++) {
+      context.set("x", (i % 10 == 0 ? (Object) 5L : (Object) 5)); // every 10th evaluation needs the interpreter
+      assertEquals(interpret("x + 1", context), script.evaluate(context));
+    }
+    assertTrue(script.isCompiled());
+  }
+
+  @Test
+  public void testPersistentDeoptimizations() {
+    Context context = new DefaultContext();
+    context.set("x", 5L);
+    BeneratorScript script = compiledScript("x + 1", context);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(6L, script.evaluate(context));
+    }
+    assertFalse(script.isCompiled());
+  }
+
+  @Test
+  public void testNoCompilationByDefault() {
+    Context context = new DefaultContext();
+    context.set("x", 5);
+    BeneratorScript script = new BeneratorScript(DatabeneScriptParser.parseExpression("x + 1"), "x + 1", -1);
+    script.evaluate(context);
+    script.evaluate(context);
+    assertFalse(script.isCompiled());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void checkScript(String text, Context context) {
+    BeneratorScript script = compiledScript(text, context);
+    assertTrue(script.isCompiled());
+    assertEquals(interpret(text, context), script.evaluate(context));
+  }
+
+  private static CompiledScript compile(String text) {
+    return CompiledScript.compile(DatabeneScriptParser.parseExpression(text));
+  }
+
+  private static BeneratorScript compiledScript(String text, Context context) {
+    BeneratorScript script = new BeneratorScript(DatabeneScriptParser.parseExpression(text), text, 0);
+    script.evaluate(context); // interpreted evaluation triggers compilation
+    return script;
+  }
+
+  private static Object interpret(String text, Context context) {
+    return DatabeneScriptParser.parseExpression(text).evaluate(context);
+  }
+
+}
@@ -0,0 +1,69 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.benerator.util;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link FeistelPermutation}.<br/><br/>
+ * Created: 19.10.2026 12:31:09
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FeistelPermutationTest {
+
+  @Test
+  public void testBijection() {
+    for (int size : new int[] { 1, 2, 3, 7, 64, 1000, 65537 }) {
+      FeistelPermutation permutation = new FeistelPermutation(size, 42);
+      BitSet values = new BitSet(size);
+      for (int i = 0; i < size; i++) {
+        long value = permutation.permute(i);
+        assertTrue(value >= 0 && value < size);
+        assertFalse("Duplicate value " + value + " for size " + size, values.get((int) value));
+        values.set((int) value);
+        assertEquals(i, permutation.invert(value));
+      }
+    }
+  }
+
+  @Test
+  public void testMaxSize() {
+    FeistelPermutation permutation = new FeistelPermutation(Long.MAX_VALUE, 7);
+    for (long i = Long.MAX_VALUE - 100; i < Long.MAX_VALUE; i++) {
+      long value = permutation.permute(i);
+      assertTrue(value >= 0);
+      assertEquals(i, permutation.invert(value));
+    }
+  }
+
+  @Test
+  public void testSeed() {
+    FeistelPermutation p1 = new FeistelPermutation(1000000, 1);
+    FeistelPermutation p2 = new FeistelPermutation(1000000, 1);
+    FeistelPermutation p3 = new FeistelPermutation(1000000, 2);
+    boolean different = false;
+    for (int i = 0; i < 100; i++) {
+      assertEquals(p1.permute(i), p2.permute(i));
+      different |= (p1.permute(i) != p3.permute(i));
+    }
+    assertTrue(different);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIndexOutOfRange() {
+    new FeistelPermutation(10, 1).permute(10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalSize() {
+    new FeistelPermutation(0, 1);
+  }
+
+}
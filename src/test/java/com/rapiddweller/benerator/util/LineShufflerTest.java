@@ -31,7 +31,14 @@
 import com.rapiddweller.common.ReaderLineIterator;
 import org.junit.Test;
 
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -50,7 +57,9 @@ public class LineShufflerTest {
    */
   @Test
   public void testShuffleList() {
-    LineShuffler.shuffle(CollectionUtil.toList("1", "2", "3"));
+    List<String> list = CollectionUtil.toList("1", "2", "3");
+    LineShuffler.shuffle(list);
+    assertEquals(CollectionUtil.toSet("1", "2", "3"), new HashSet<>(list));
   }
 
   /**
@@ -77,4 +86,57 @@ public void testShuffleFile() throws IOException {
     }
   }
 
+  @Test
+  public void testExternalShuffle() throws IOException {
+    String inFile = "target/LineShufflerTest-in.txt";
+    String outFile = "target/LineShufflerTest-out.txt";
+    int n = 10000;
+    try (PrintWriter out = new PrintWriter(new FileWriter(inFile))) {
+      out.println("header");
+      for (int i = 0; i < n; i++) {
+        out.println(i);
+      }
+    }
+    LineShuffler.shuffle(inFile, outFile, 100, 1, null, false);
+    List<String> lines = readLines(outFile);
+    assertEquals("header", lines.get(0));
+    assertEquals(n + 1, lines.size());
+    boolean[] check = new boolean[n];
+    int unchangedPositions = 0;
+    for (int i = 1; i <= n; i++) {
+      int value = Integer.parseInt(lines.get(i));
+      assertFalse(check[value]);
+      check[value] = true;
+      if (value == i - 1) {
+        unchangedPositions++;
+      }
+    }
+    assertTrue(unchangedPositions < 10);
+  }
+
+  @Test
+  public void testCsvRecords() throws IOException {
+    String inFile = "target/LineShufflerTest-in.csv";
+    String outFile = "target/LineShufflerTest-out.csv";
+    try (PrintWriter out = new PrintWriter(new FileWriter(inFile))) {
+      out.println("id,text");
+      for (int i = 0; i < 100; i++) {
+        out.println(i + ",\"first\nsecond \"\"quoted\"\"\"");
+      }
+    }
+    LineShuffler.shuffle(inFile, outFile, 10, 1, null, true);
+    List<String> lines = readLines(outFile);
+    assertEquals(201, lines.size());
+    for (int i = 1; i < lines.size(); i += 2) {
+      assertTrue(lines.get(i).endsWith(",\"first"));
+      assertEquals("second \"\"quoted\"\"\"", lines.get(i + 1));
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static List<String> readLines(String file) throws IOException {
+    return Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8);
+  }
+
 }
@@ -29,7 +29,11 @@
 import com.rapiddweller.benerator.test.GeneratorClassTest;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -70,4 +74,30 @@ public void testFormattedNumberGeneration() {
     }
   }
 
+  /**
+   * Test unique number generation.
+   */
+  @Test
+  public void testUnique() {
+    CPFGenerator generator = new CPFGenerator(false, true);
+    generator.init(context);
+    CPFValidator validator = new CPFValidator();
+    Set<String> products = new HashSet<>();
+    for (int i = 0; i < 10000; i++) {
+      String cpf = generator.generate();
+      assertTrue("Invalid CPF: " + cpf, validator.valid(cpf));
+      assertTrue("Not unique: " + cpf, products.add(cpf));
+    }
+  }
+
+  @Test
+  public void testRepeatedDigitBases() {
+    for (long digit = 0; digit <= 9; digit++) {
+      assertFalse(CPFGenerator.isValidBase(digit * 111111111L));
+    }
+    assertTrue(CPFGenerator.isValidBase(1));
+    assertTrue(CPFGenerator.isValidBase(111111112L));
+    assertTrue(CPFGenerator.isValidBase(123456789L));
+  }
+
 }
@@ -29,6 +29,12 @@
 import com.rapiddweller.benerator.test.GeneratorTest;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Tests the {@link BankAccountGenerator}.<br/>
  * <br/>
@@ -50,4 +56,19 @@ public void test() {
     expectGenerations(generator, 100, validator);
   }
 
+  @Test
+  public void testUnique() {
+    BankAccountGenerator generator = new BankAccountGenerator();
+    generator.setUnique(true);
+    generator.init(context);
+    assertFalse(generator.isParallelizable());
+    BankAccountValidator validator = new BankAccountValidator();
+    Set<String> ibans = new HashSet<>();
+    for (int i = 0; i < 10000; i++) {
+      BankAccount account = generator.generate();
+      assertTrue("Invalid account: " + account, validator.valid(account));
+      assertTrue("Not unique: " + account.getIban(), ibans.add(account.getIban()));
+    }
+  }
+
 }
@@ -29,6 +29,9 @@
 import com.rapiddweller.benerator.test.GeneratorClassTest;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -63,4 +66,20 @@ public void testDefault() {
     }
   }
 
+  /**
+   * Test unique generation.
+   */
+  @Test
+  public void testUnique() {
+    SSNGenerator generator = new SSNGenerator(772, true);
+    generator.init(context);
+    SSNValidator validator = new SSNValidator();
+    Set<String> products = new HashSet<>();
+    for (int i = 0; i < 10000; i++) {
+      String ssn = generator.generate();
+      assertTrue("Invalid SSN: " + ssn, validator.isValid(ssn, null));
+      assertTrue("Not unique: " + ssn, products.add(ssn));
+    }
+  }
+
 }
@@ -0,0 +1,122 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.model.data;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ComplexTypeDescriptor}, especially its behaviour when frozen.<br/><br/>
+ * Created: 19.10.2026 15:12:37
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ComplexTypeDescriptorTest {
+
+  private DescriptorProvider dp;
+  private ComplexTypeDescriptor base;
+  private ComplexTypeDescriptor person;
+  private IdDescriptor id;
+  private PartDescriptor baseName;
+  private PartDescriptor name;
+  private PartDescriptor age;
+
+  @Before
+  public void setUp() {
+    dp = new DefaultDescriptorProvider("test", new DataModel());
+    base = new ComplexTypeDescriptor("base", dp);
+    id = new IdDescriptor("ID", dp, "long");
+    base.addComponent(id);
+    baseName = new PartDescriptor("name", dp, "string");
+    base.addComponent(baseName);
+    person = new ComplexTypeDescriptor("person", dp, base);
+    name = new PartDescriptor("Name", dp, "string");
+    person.addComponent(name);
+    person.addVariable(new VariableDescriptor("v", dp, "int"));
+    age = new PartDescriptor("age", dp, "int");
+    person.addComponent(age);
+  }
+
+  @Test
+  public void testFreezeKeepsStructure() {
+    String[] idNames = person.getIdComponentNames();
+    int partCount = person.getParts().size();
+    int componentCount = person.getComponents().size();
+    assertFalse(person.isFrozen());
+    assertSame(person, person.freeze());
+    assertTrue(person.isFrozen());
+    assertArrayEquals(idNames, person.getIdComponentNames());
+    assertEquals(partCount, person.getParts().size());
+    assertEquals(componentCount, person.getComponents().size());
+    assertEquals(3, componentCount);
+  }
+
+  @Test
+  public void testFrozenLookup() {
+    person.freeze();
+    assertSame(name, person.getComponent("name"));
+    assertSame(name, person.getComponent("NAME"));
+    assertSame(age, person.getComponent("Age"));
+    assertSame(id, person.getComponent("id"));
+    assertNull(person.getComponent("v"));
+    assertNull(person.getComponent("unknown"));
+    assertArrayEquals(new String[] { "ID" }, person.getIdComponentNames());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testFrozenComponentsImmutable() {
+    person.freeze();
+    person.getComponents().clear();
+  }
+
+  @Test
+  public void testModificationAfterFreezing() {
+    person.freeze();
+    assertNull(person.getComponent("email"));
+    PartDescriptor email = new PartDescriptor("email", dp, "string");
+    base.addComponent(email);
+    assertSame(email, person.getComponent("email"));
+    assertEquals(4, person.getComponents().size());
+  }
+
+  @Test
+  public void testUnrelatedModificationKeepsSnapshot() {
+    person.freeze();
+    List<ComponentDescriptor> components = person.getComponents();
+    ComplexTypeDescriptor other = new ComplexTypeDescriptor("other", dp);
+    other.addComponent(new PartDescriptor("x", dp, "string"));
+    assertSame(components, person.getComponents());
+  }
+
+  @Test
+  public void testComponentTypeChange() {
+    person.freeze();
+    assertEquals(Integer.class, person.getComponentJavaType(age));
+    age.setType("long");
+    assertEquals(Long.class, person.getComponentJavaType(age));
+    age.setLocalType(new SimpleTypeDescriptor("age", dp, "double"));
+    assertEquals(Double.class, person.getComponentJavaType(age));
+    Entity entity = new Entity(person);
+    entity.set("age", "23");
+    assertEquals(23., entity.get("age"));
+  }
+
+  @Test
+  public void testEntityConversion() {
+    person.freeze();
+    assertEquals(Integer.class, person.getComponentJavaType(age));
+    Entity entity = new Entity(person);
+    entity.set("AGE", "23");
+    assertEquals(23, entity.get("age"));
+  }
+
+}
@@ -0,0 +1,238 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.binary;
+
+import com.rapiddweller.benerator.FileFormats;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link BinaryEntityExporter} together with the {@link BinaryEntitySource}.<br/><br/>
+ * Created: 19.10.2026 13:05:12
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BinaryEntityExporterTest extends GeneratorTest {
+
+  private static final File FILE = new File("target/BinaryEntityExporterTest.bent");
+  private static final File GZIP_FILE = new File("target/BinaryEntityExporterTest.bent.gz");
+
+  @After
+  public void cleanUp() {
+    FileUtil.deleteIfExists(FILE);
+    FileUtil.deleteIfExists(GZIP_FILE);
+  }
+
+  @Test
+  public void testRoundTrip() {
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Timestamp timestamp = new Timestamp(1700000000000L + i);
+      timestamp.setNanos(123456789);
+      entities.add(createEntity("all", "bool", i % 2 == 0, "byte", (byte) i, "short", (short) -i, "int", i * 1000,
+          "long", (i % 3 == 0 ? null : Long.MIN_VALUE + i), "float", 1.5f, "double", i / 3.,
+          "bigInt", BigInteger.TEN.pow(30), "bigDec", new BigDecimal("-12.3400"), "char", 'x',
+          "string", (i < 5 ? "Alice" : "Bob"), "date", new Date(86400000L * i), "sqlDate", new java.sql.Date(0),
+          "time", new Time(3600000), "timestamp", timestamp, "binary", new byte[] { 1, (byte) i },
+          "null", null));
+    }
+    export(FILE, entities);
+    List<Entity> result = readAll(FILE, null);
+    assertEquals(entities.size(), result.size());
+    for (int i = 0; i < entities.size(); i++) {
+      assertEquals("all", result.get(i).type());
+      assertTrue(result.get(i) + " vs. " + entities.get(i), entities.get(i).equalsIgnoringDescriptor(result.get(i)));
+      assertEquals(Timestamp.class, result.get(i).get("timestamp").getClass());
+    }
+  }
+
+  @Test
+  public void testNesting() {
+    Entity address = createEntity("address", "city", "Munich", "zip", "80331");
+    Entity phone1 = createEntity("phone", "number", "123");
+    Entity phone2 = createEntity("phone", "number", "456");
+    Entity person = createEntity("person", "name", "Alice", "address", address,
+        "phones", new Object[] { phone1, phone2 }, "tags", new Object[] { "a", 1, null });
+    export(FILE, List.of(person, person));
+    List<Entity> result = readAll(FILE, null);
+    assertEquals(2, result.size());
+    for (Entity entity : result) {
+      assertTrue(entity.toString(), person.equalsIgnoringDescriptor(entity));
+      assertEquals("address", ((Entity) entity.get("address")).type());
+    }
+  }
+
+  @Test
+  public void testSegments() {
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      entities.add(createEntity("person", "name", "P" + i, "role", "R" + i));
+      entities.add(createEntity("role", "name", "R" + i));
+    }
+    export(FILE, entities);
+    List<Entity> roles = readAll(FILE, "role");
+    assertEquals(7, roles.size());
+    for (int i = 0; i < roles.size(); i++) {
+      assertEquals("role", roles.get(i).type());
+      assertEquals("R" + i, roles.get(i).get("name"));
+    }
+    assertEquals(14, readAll(FILE, null).size());
+    assertEquals(0, readAll(FILE, "user").size());
+  }
+
+  @Test
+  public void testHeterogeneousEntities() {
+    List<Entity> entities = List.of(
+        createEntity("e", "a", 1),
+        createEntity("e", "a", "x", "b", 2.5),
+        createEntity("e", "b", 3.5),
+        createEntity("e", "a", 2));
+    export(FILE, entities);
+    List<Entity> result = readAll(FILE, null);
+    assertEquals(entities.size(), result.size());
+    for (int i = 0; i < entities.size(); i++) {
+      assertTrue(result.get(i).toString(), entities.get(i).equalsIgnoringDescriptor(result.get(i)));
+    }
+  }
+
+  @Test
+  public void testSchemaReuseAcrossComponentOrders() {
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      entities.add(i % 2 == 0 ? createEntity("e", "a", i, "b", "x") : createEntity("e", "b", "y", "a", i));
+    }
+    export(FILE, entities);
+    // per entity: tag, schema reference, 2 tagged values with 1-2 bytes
+    assertTrue("File size: " + FILE.length(), FILE.length() < 8 * 1000);
+    List<Entity> result = readAll(FILE, null);
+    assertEquals(entities.size(), result.size());
+    for (int i = 0; i < entities.size(); i++) {
+      Entity entity = result.get(i);
+      assertTrue(entity.toString(), entities.get(i).equalsIgnoringDescriptor(entity));
+      assertEquals(new ArrayList<>(entities.get(i).getComponents().keySet()),
+          new ArrayList<>(entity.getComponents().keySet()));
+    }
+  }
+
+  @Test
+  public void testDictionaryOverflow() {
+    List<Entity> entities = new ArrayList<>();
+    int count = BinaryEntityWriter.MAX_DICTIONARY_SIZE + 100;
+    String longString = "L".repeat(BinaryEntityWriter.MAX_DICTIONARY_STRING_LENGTH + 1);
+    for (int i = 0; i < count; i++) {
+      entities.add(createEntity("e", "name", "N" + i, "first", "N" + (i % 10), "long", longString));
+    }
+    export(FILE, entities);
+    List<Entity> result = readAll(FILE, null);
+    assertEquals(count, result.size());
+    for (int i = 0; i < count; i++) {
+      Entity entity = result.get(i);
+      assertEquals("N" + i, entity.get("name"));
+      assertEquals("N" + (i % 10), entity.get("first"));
+      assertEquals(longString, entity.get("long"));
+    }
+  }
+
+  @Test
+  public void testNullType() {
+    Entity nested = new Entity((ComplexTypeDescriptor) null, "x", 1);
+    Entity entity = new Entity((ComplexTypeDescriptor) null, "name", "Alice", "nested", nested);
+    export(FILE, List.of(entity, createEntity("e", "name", "Bob"), entity));
+    List<Entity> result = readAll(FILE, null);
+    assertEquals(3, result.size());
+    assertNull(result.get(0).type());
+    assertTrue(result.get(0).toString(), entity.equalsIgnoringDescriptor(result.get(0)));
+    assertNull(((Entity) result.get(0).get("nested")).type());
+    assertEquals("e", result.get(1).type());
+    assertNull(result.get(2).type());
+    assertEquals(1, readAll(FILE, "e").size());
+  }
+
+  @Test
+  public void testEncodingSize() {
+    List<Entity> entities = new ArrayList<>();
+    String[] states = { "CREATED", "RUNNING", "FINISHED" };
+    for (int i = 0; i < 10000; i++) {
+      entities.add(createEntity("job", "id", i, "state", states[i % 3], "owner", "system", "notes", null));
+    }
+    export(FILE, entities);
+    // per entity: tag, schema reference, 4 tagged values with 1-2 bytes
+    assertTrue("File size: " + FILE.length(), FILE.length() < 12 * 10000);
+    assertEquals(10000, readAll(FILE, null).size());
+  }
+
+  @Test
+  public void testGzip() {
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      entities.add(createEntity("e", "id", i, "name", "N" + (i % 10)));
+    }
+    export(GZIP_FILE, entities);
+    List<Entity> result = readAll(GZIP_FILE, null);
+    assertEquals(entities.size(), result.size());
+    assertEquals(999, result.get(999).get("id"));
+    assertEquals("N9", result.get(999).get("name"));
+  }
+
+  @Test
+  public void testEmpty() {
+    export(FILE, List.of());
+    assertEquals(0, readAll(FILE, null).size());
+  }
+
+  @Test
+  public void testFileFormat() {
+    assertTrue(FileFormats.ofName("binary").matchesUri("target/export.BENT"));
+    assertTrue(FileFormats.ofName("binary").matchesUri("target/export.bent.gz"));
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testIllegalFile() {
+    new BinaryEntityIterator("com/rapiddweller/platform/csv/person-bean.csv", null, null, context);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void export(File file, List<Entity> entities) {
+    BinaryEntityExporter exporter = new BinaryEntityExporter(file.getPath());
+    for (Entity entity : entities) {
+      exporter.startProductConsumption(entity);
+      exporter.finishProductConsumption(entity);
+    }
+    exporter.close();
+  }
+
+  private List<Entity> readAll(File file, String segment) {
+    BinaryEntitySource source = new BinaryEntitySource(file.getPath(), null, segment);
+    source.setContext(context);
+    List<Entity> result = new ArrayList<>();
+    try (DataIterator<Entity> iterator = source.iterator()) {
+      DataContainer<Entity> container = new DataContainer<>();
+      while ((container = iterator.next(container)) != null) {
+        result.add(container.getData());
+      }
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,87 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.columnar;
+
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.DefaultDescriptorProvider;
+import com.rapiddweller.model.data.Entity;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ColumnCodec}.<br/><br/>
+ * Created: 19.10.2026 15:47:02
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ColumnCodecTest {
+
+  @Test
+  public void testRunLengthEncoding() throws IOException {
+    int[] runs = new int[10000];
+    Arrays.fill(runs, 5000, 10000, 3);
+    assertEquals(6, checkRunLengthEncoding(runs));
+    Random random = new Random(42);
+    int[] mixed = new int[10000];
+    for (int i = 0; i < mixed.length; i++) {
+      mixed[i] = (random.nextInt(10) == 0 ? random.nextInt(1000) : i / 100);
+    }
+    checkRunLengthEncoding(mixed);
+    checkRunLengthEncoding(new int[] { 1, 2, 3 });
+    checkRunLengthEncoding(new int[0]);
+  }
+
+  @Test
+  public void testColumnType() {
+    assertEquals(ColumnType.NULL, ColumnCodec.columnType("c", Arrays.asList(null, null)));
+    assertEquals(ColumnType.INT, ColumnCodec.columnType("c", Arrays.asList(null, 1, 2)));
+    assertEquals(ColumnType.STRING, ColumnCodec.columnType("c", Arrays.asList(1, 2L)));
+    assertEquals(ColumnType.STRING, ColumnCodec.columnType("c", Arrays.asList(new Object(), null)));
+    assertEquals(ColumnType.BINARY, ColumnCodec.columnType("c", Arrays.asList(new byte[] { 1 }, null)));
+  }
+
+  @Test
+  public void testStringConversion() throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    assertFalse(ColumnCodec.writeColumn("c", Arrays.asList("a", null, "b"), new DataOutputStream(buffer)));
+    assertTrue(ColumnCodec.writeColumn("c", Arrays.asList("a", null, 1), new DataOutputStream(buffer)));
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testNestedEntity() {
+    DefaultDescriptorProvider provider = new DefaultDescriptorProvider("test", new DataModel());
+    ComplexTypeDescriptor type = new ComplexTypeDescriptor("address", provider);
+    ColumnCodec.columnType("address", Arrays.asList(null, new Entity(type)));
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testArray() {
+    ColumnCodec.columnType("tags", Arrays.<Object>asList(new Object[] { "a", "b" }, null));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static int checkRunLengthEncoding(int[] values) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    ColumnCodec.writeRunLengthEncoded(values, values.length, new DataOutputStream(buffer));
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+    assertArrayEquals(values, ColumnCodec.readRunLengthEncoded(values.length, in));
+    assertEquals(-1, in.read());
+    return buffer.size();
+  }
+
+}
@@ -0,0 +1,168 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.columnar;
+
+import com.rapiddweller.benerator.FileFormats;
+import com.rapiddweller.benerator.test.GeneratorTest;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.model.data.Entity;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ColumnarEntityExporter} together with the {@link ColumnarEntitySource}.<br/><br/>
+ * Created: 19.10.2026 15:03:44
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ColumnarEntityExporterTest extends GeneratorTest {
+
+  private static final File FILE = new File("target/ColumnarEntityExporterTest.bcol");
+
+  @After
+  public void cleanUp() {
+    FileUtil.deleteIfExists(FILE);
+  }
+
+  @Test
+  public void testRoundTrip() {
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Timestamp timestamp = new Timestamp(1700000000000L + i);
+      timestamp.setNanos(123456789);
+      entities.add(createEntity("all", "bool", i % 2 == 0, "byte", (byte) i, "short", (short) -i, "int", i * 1000,
+          "long", (i % 3 == 0 ? null : Long.MIN_VALUE + i), "float", 1.5f, "double", i / 3.,
+          "bigInt", BigInteger.TEN.pow(30), "bigDec", new BigDecimal("-12.3400"), "char", 'x',
+          "string", (i < 5 ? "Alice" : "Bob"), "date", new Date(86400000L * i), "sqlDate", new java.sql.Date(0),
+          "time", new Time(3600000), "timestamp", timestamp, "binary", new byte[] { 1, (byte) i },
+          "null", null));
+    }
+    export(3, entities);
+    List<Entity> result = readAll(null);
+    assertEquals(entities.size(), result.size());
+    for (int i = 0; i < entities.size(); i++) {
+      assertEquals("all", result.get(i).type());
+      assertTrue(result.get(i) + " vs. " + entities.get(i), entities.get(i).equalsIgnoringDescriptor(result.get(i)));
+      assertEquals(Timestamp.class, result.get(i).get("timestamp").getClass());
+    }
+    assertTrue(result.get(0).get("date") != result.get(1).get("date"));
+  }
+
+  @Test
+  public void testSegments() {
+    List<Entity> entities = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      entities.add(createEntity("person", "name", "P" + i));
+      entities.add(createEntity("role", "name", "R" + i));
+    }
+    export(3, entities);
+    List<Entity> roles = readAll("role");
+    assertEquals(7, roles.size());
+    for (int i = 0; i < roles.size(); i++) {
+      assertEquals("role", roles.get(i).type());
+      assertEquals("R" + i, roles.get(i).get("name"));
+    }
+    assertEquals(14, readAll(null).size());
+    assertEquals(0, readAll("user").size());
+  }
+
+  @Test
+  public void testHeterogeneousEntities() {
+    export(100, List.of(
+        createEntity("e", "a", 1),
+        createEntity("e", "a", "x", "b", 2.5),
+        createEntity("e", "b", 3.5)));
+    List<Entity> result = readAll(null);
+    assertEquals(3, result.size());
+    assertEquals("1", result.get(0).get("a")); // mixed types are stored as string
+    assertNull(result.get(0).get("b"));
+    assertEquals("x", result.get(1).get("a"));
+    assertEquals(2.5, result.get(1).get("b"));
+    assertNull(result.get(2).get("a"));
+    assertEquals(3.5, result.get(2).get("b"));
+  }
+
+  @Test
+  public void testEmpty() {
+    export(100, List.of());
+    assertEquals(0, readAll(null).size());
+  }
+
+  @Test
+  public void testEncodingSize() {
+    List<Entity> entities = new ArrayList<>();
+    String[] states = { "CREATED", "RUNNING", "FINISHED" };
+    for (int i = 0; i < 100000; i++) {
+      entities.add(createEntity("job", "state", states[i % 100 == 0 ? 0 : (i / 1000) % 3],
+          "owner", "system", "priority", (i / 100) % 5, "notes", null));
+    }
+    export(ColumnarEntityExporter.DEFAULT_ROW_GROUP_SIZE, entities);
+    // 100,000 rows with low cardinality are reduced to dictionaries and runs
+    assertTrue("File size: " + FILE.length(), FILE.length() < 20000);
+    assertEquals(100000, readAll(null).size());
+  }
+
+  @Test
+  public void testFileFormat() {
+    assertTrue(FileFormats.ofName("columnar").matchesUri("target/export.BCOL"));
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testIllegalFile() {
+    new ColumnarEntityIterator("com/rapiddweller/platform/csv/person-bean.csv", null, null, context);
+  }
+
+  @Test
+  public void testTrailer() throws IOException {
+    export(100, List.of(createEntity("e", "a", 1)));
+    byte[] bytes = Files.readAllBytes(FILE.toPath());
+    byte[] magic = new byte[4];
+    System.arraycopy(bytes, bytes.length - 4, magic, 0, 4);
+    assertArrayEquals(ColumnCodec.MAGIC, magic);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void export(int rowGroupSize, List<Entity> entities) {
+    ColumnarEntityExporter exporter = new ColumnarEntityExporter(FILE.getPath());
+    exporter.setRowGroupSize(rowGroupSize);
+    for (Entity entity : entities) {
+      exporter.startProductConsumption(entity);
+      exporter.finishProductConsumption(entity);
+    }
+    exporter.close();
+  }
+
+  private List<Entity> readAll(String segment) {
+    ColumnarEntitySource source = new ColumnarEntitySource(FILE.getPath(), null, segment);
+    source.setContext(context);
+    List<Entity> result = new ArrayList<>();
+    try (DataIterator<Entity> iterator = source.iterator()) {
+      DataContainer<Entity> container = new DataContainer<>();
+      while ((container = iterator.next(container)) != null) {
+        result.add(container.getData());
+      }
+    }
+    return result;
+  }
+
+}
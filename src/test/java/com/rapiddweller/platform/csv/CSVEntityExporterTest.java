@@ -26,6 +26,7 @@
 
 package com.rapiddweller.platform.csv;
 
+import com.rapiddweller.benerator.consumer.TextFileExporter;
 import com.rapiddweller.benerator.test.GeneratorTest;
 import com.rapiddweller.common.FileUtil;
 import com.rapiddweller.common.IOUtil;
@@ -40,13 +41,17 @@
 import org.junit.Test;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -219,6 +224,92 @@ public void testMultiThreaded() throws Exception {
     iterator.close();
   }
 
+  @Test
+  public void testSharded() throws Exception {
+    final CSVEntityExporter exporter = new CSVEntityExporter(CUSTOM_FILE.getAbsolutePath(), "name,age");
+    exporter.setSharded(true);
+    ExecutorService service = Executors.newFixedThreadPool(4);
+    for (int i = 0; i < 4; i++) {
+      service.execute(() -> {
+        for (int j = 0; j < 250; j++) {
+          exporter.startProductConsumption(alice);
+          exporter.finishProductConsumption(alice);
+        }
+      });
+    }
+    service.shutdown();
+    assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+    exporter.close();
+    String[] lines = getContent(CUSTOM_FILE).split("\r\n", -1);
+    assertEquals(1001, lines.length);
+    assertEquals("name,age", lines[0]);
+    for (int i = 1; i < lines.length; i++) {
+      assertEquals("Alice,23", lines[i]);
+    }
+    assertFalse(new File(TextFileExporter.shardUri(CUSTOM_FILE.getAbsolutePath(), 0)).exists());
+  }
+
+  @Test
+  public void testShardsWithManifest() throws Exception {
+    CSVEntityExporter exporter = new CSVEntityExporter(CUSTOM_FILE.getAbsolutePath(), "name");
+    exporter.setSharded(true);
+    exporter.setJoinShards(false);
+    Thread thread = new Thread(() -> exporter.startProductConsumption(bob));
+    thread.start();
+    thread.join();
+    exporter.startProductConsumption(alice);
+    exporter.close();
+    File part0 = new File(TextFileExporter.shardUri(CUSTOM_FILE.getAbsolutePath(), 0));
+    File part1 = new File(TextFileExporter.shardUri(CUSTOM_FILE.getAbsolutePath(), 1));
+    File manifest = new File(CUSTOM_FILE.getAbsolutePath() + ".manifest");
+    try {
+      assertFalse(CUSTOM_FILE.exists());
+      assertEquals("name\r\nBob", getContent(part0));
+      assertEquals("\r\nAlice", getContent(part1));
+      assertEquals(part0.getName() + SystemInfo.getLineSeparator() + part1.getName() + SystemInfo.getLineSeparator(),
+          getContent(manifest));
+    } finally {
+      FileUtil.deleteIfExists(part0);
+      FileUtil.deleteIfExists(part1);
+      FileUtil.deleteIfExists(manifest);
+    }
+  }
+
+  @Test
+  public void testShardedDecimalFormat() throws Exception {
+    CSVEntityExporter exporter = new CSVEntityExporter(CUSTOM_FILE.getAbsolutePath(), "name,weight");
+    exporter.setSharded(true);
+    exporter.setSeparator(';');
+    exporter.setDecimalPattern("0.00");
+    exporter.setDecimalSeparator(',');
+    Entity heavy = createEntity("Person", "name", "Bob", "weight", 81.5);
+    Thread thread = new Thread(() -> exporter.startProductConsumption(heavy));
+    thread.start();
+    thread.join();
+    exporter.startProductConsumption(heavy);
+    exporter.close();
+    assertEquals("name;weight\r\nBob;81,50\r\nBob;81,50", getContent(CUSTOM_FILE));
+  }
+
+  @Test
+  public void testGzip() throws IOException {
+    File file = new File("target/CSVEntityExporterTest.csv.gz");
+    try {
+      CSVEntityExporter exporter = new CSVEntityExporter(file.getAbsolutePath(), "name,age");
+      consumeAliceBobAndClose(exporter);
+      exporter = new CSVEntityExporter(file.getAbsolutePath(), "name,age");
+      exporter.setAppend(true);
+      exporter.startProductConsumption(alice);
+      exporter.close();
+      try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+        assertEquals("name,age\r\nAlice,23\r\nBob,34\r\nAlice,23",
+            new String(in.readAllBytes(), exporter.getEncoding()));
+      }
+    } finally {
+      FileUtil.deleteIfExists(file);
+    }
+  }
+
   @Test
   public void testBinaryContent() throws IOException {
     ComplexTypeDescriptor type = createComplexType("testtype");
@@ -0,0 +1,131 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.csv;
+
+import com.rapiddweller.common.Encodings;
+import com.rapiddweller.common.converter.NoOpConverter;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.AbstractEntityIteratorTest;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link MappedCSVEntityIterator}.<br/><br/>
+ * Created: 19.10.2026 12:40:51
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class MappedCSVEntityIteratorTest extends AbstractEntityIteratorTest {
+
+  @Test
+  public void testSimple() throws IOException {
+    File file = createFile("name,age\nAlice,23\r\nBob,34\n\nCharly,45");
+    ComplexTypeDescriptor descriptor = createPersonDescriptor();
+    try (MappedCSVEntityIterator iterator = new MappedCSVEntityIterator(
+        file.getPath(), descriptor, new NoOpConverter<>(), ',', Encodings.UTF_8, 2)) {
+      assertEquals(new Entity(descriptor, "name", "Alice", "age", 23), nextOf(iterator));
+      assertEquals(new Entity(descriptor, "name", "Bob", "age", 34), nextOf(iterator));
+      assertEquals(new Entity(descriptor, "name", "Charly", "age", 45), nextOf(iterator));
+      assertUnavailable(iterator);
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testQuotesAcrossChunks() throws IOException {
+    // records with quoted line breaks, separators and quotes, spanning several chunks
+    StringBuilder content = new StringBuilder("name,age\n");
+    int n = 2000;
+    for (int i = 0; i < n; i++) {
+      content.append("\"N").append(i).append(",\n\"\"x\"\"\",").append(i).append('\n');
+    }
+    File file = createFile(content.toString());
+    ComplexTypeDescriptor descriptor = createPersonDescriptor();
+    try (MappedCSVEntityIterator iterator = new MappedCSVEntityIterator(
+        file.getPath(), descriptor, null, ',', Encodings.UTF_8, 4, 1024)) {
+      for (int i = 0; i < n; i++) {
+        assertEquals(new Entity(descriptor, "name", "N" + i + ",\n\"x\"", "age", i), nextOf(iterator));
+      }
+      assertUnavailable(iterator);
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testNonAsciiCells() throws IOException {
+    // long and short, quoted and unquoted cells with multi-byte characters, repeated to exercise the value cache
+    String longName = "M\u00fcller-L\u00fcdenscheidt \u20ac";
+    StringBuilder content = new StringBuilder("name,age\n");
+    for (int i = 0; i < 100; i++) {
+      content.append("J\u00fcrgen,").append(i).append('\n');
+      content.append("\"\"\"").append(longName).append("\"\"\",").append(i).append('\n');
+    }
+    File file = createFile(content.toString());
+    ComplexTypeDescriptor descriptor = createPersonDescriptor();
+    try (MappedCSVEntityIterator iterator = new MappedCSVEntityIterator(
+        file.getPath(), descriptor, null, ',', Encodings.UTF_8, 2, 1024)) {
+      for (int i = 0; i < 100; i++) {
+        assertEquals(new Entity(descriptor, "name", "J\u00fcrgen", "age", i), nextOf(iterator));
+        assertEquals(new Entity(descriptor, "name", '"' + longName + '"', "age", i), nextOf(iterator));
+      }
+      assertUnavailable(iterator);
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testColumnsWithoutHeader() throws IOException {
+    File file = createFile("Alice,23\nBob,34\n");
+    ComplexTypeDescriptor descriptor = createPersonDescriptor();
+    try (MappedCSVEntityIterator iterator = new MappedCSVEntityIterator(
+        file.getPath(), descriptor, null, ',', Encodings.UTF_8, 2)) {
+      iterator.setColumns(new String[] {"name", "age"});
+      assertEquals(new Entity(descriptor, "name", "Alice", "age", 23), nextOf(iterator));
+      assertEquals(new Entity(descriptor, "name", "Bob", "age", 34), nextOf(iterator));
+      assertUnavailable(iterator);
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testApplicable() throws IOException {
+    File file = createFile("x");
+    try {
+      assertTrue(MappedCSVEntityIterator.isApplicable(file.getPath(), Encodings.UTF_8));
+      assertTrue(MappedCSVEntityIterator.isApplicable(file.getPath(), "ISO-8859-1"));
+      assertFalse(MappedCSVEntityIterator.isApplicable(file.getPath(), "UTF-16"));
+      assertFalse(MappedCSVEntityIterator.isApplicable("com/rapiddweller/platform/csv/person-bean.csv", Encodings.UTF_8));
+    } finally {
+      file.delete();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static File createFile(String content) throws IOException {
+    File file = File.createTempFile("MappedCSVEntityIteratorTest", ".csv");
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private ComplexTypeDescriptor createPersonDescriptor() {
+    ComplexTypeDescriptor descriptor = createComplexType("Person");
+    descriptor.setComponent(createPart("name", "string"));
+    descriptor.setComponent(createPart("age", "int"));
+    return descriptor;
+  }
+
+}
@@ -0,0 +1,176 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.db;
+
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.jdbacl.ColumnInfo;
+import com.rapiddweller.jdbacl.DBUtil;
+import com.rapiddweller.model.data.DataModel;
+import com.rapiddweller.model.data.Entity;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link BulkLoader} implementations.<br/><br/>
+ * Created: 19.10.2026 17:48:02
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BulkLoaderTest {
+
+  private static final List<ColumnInfo> COLUMNS = Arrays.asList(
+      new ColumnInfo("ID", Types.INTEGER, Integer.class),
+      new ColumnInfo("NAME", Types.VARCHAR, String.class),
+      new ColumnInfo("CREATED", Types.TIMESTAMP, Timestamp.class));
+
+  @Test
+  public void testForDbType() {
+    assertTrue(BulkLoader.forDbType("postgres", "T", COLUMNS) instanceof PostgreSQLCopyLoader);
+    assertTrue(BulkLoader.forDbType("h2", "T", COLUMNS) instanceof CSVSpoolBulkLoader);
+    assertNull(BulkLoader.forDbType("hsql", "T", COLUMNS));
+    assertNull(BulkLoader.forDbType(null, "T", COLUMNS));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalRowLength() {
+    new MockCopyLoader().addRow(new Object[] { 1, "Alice" });
+  }
+
+  @Test
+  public void testPostgreSQLCopy() throws SQLException {
+    MockCopyLoader loader = new MockCopyLoader();
+    loader.addRow(new Object[] { 1, "Al\tice\\", Timestamp.valueOf("2026-10-20 12:34:56.0") });
+    loader.addRow(new Object[] { 2, null, null });
+    assertEquals(2, loader.getRowCount());
+    assertEquals(2, loader.load(null));
+    assertEquals("COPY \"T\" (\"ID\", \"NAME\", \"CREATED\") FROM STDIN", loader.sql);
+    assertEquals("1\tAl\\tice\\\\\t2026-10-20 12:34:56.0\n2\t\\N\t\\N\n", loader.data);
+    assertEquals(0, loader.getRowCount());
+    assertEquals(0, loader.load(null));
+  }
+
+  @Test
+  public void testPostgreSQLBytea() throws SQLException {
+    MockCopyLoader loader = new MockCopyLoader(Arrays.asList(new ColumnInfo("DATA", Types.BLOB, byte[].class)));
+    loader.addRow(new Object[] { new byte[] { 0, 15, (byte) 255 } });
+    loader.load(null);
+    assertEquals("\\\\x000fff\n", loader.data);
+  }
+
+  @Test
+  public void testH2Import() throws SQLException {
+    try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:bulkloadertest", "sa", "")) {
+      DBUtil.executeUpdate("create table T (ID int primary key, NAME varchar(30), CREATED timestamp)", connection);
+      CSVSpoolBulkLoader loader = new CSVSpoolBulkLoader("T", COLUMNS, CSVSpoolBulkLoader.H2_IMPORT);
+      try {
+        loader.addRow(new Object[] { 1, "Alice \"Al\", Smith", Timestamp.valueOf("2026-10-20 12:34:56.0") });
+        loader.addRow(new Object[] { 2, null, null });
+        assertEquals(2, loader.load(connection));
+        loader.addRow(new Object[] { 3, "", null });
+        assertEquals(1, loader.load(connection));
+      } finally {
+        loader.close();
+      }
+      try (Statement statement = connection.createStatement();
+           ResultSet resultSet = statement.executeQuery("select ID, NAME, CREATED from T order by ID")) {
+        assertTrue(resultSet.next());
+        assertEquals("Alice \"Al\", Smith", resultSet.getString(2));
+        assertEquals(Timestamp.valueOf("2026-10-20 12:34:56.0"), resultSet.getTimestamp(3));
+        assertTrue(resultSet.next());
+        assertNull(resultSet.getString(2));
+        assertNull(resultSet.getTimestamp(3));
+        assertTrue(resultSet.next());
+        assertEquals(3, resultSet.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  public void testDBSystemBulkLoad() throws SQLException {
+    checkDBSystemBulkLoad(false);
+  }
+
+  @Test
+  public void testDBSystemBulkCommit() throws SQLException {
+    checkDBSystemBulkLoad(true);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static void checkDBSystemBulkLoad(boolean bulkCommit) throws SQLException {
+    String url = "jdbc:h2:mem:bulkloaddbsystem" + bulkCommit;
+    // the observer connection keeps the in-memory database alive and checks what other connections can see
+    try (Connection observer = DriverManager.getConnection(url, "sa", "")) {
+      DBUtil.executeUpdate("create table PARENT (ID int primary key, NAME varchar(30))", observer);
+      DBUtil.executeUpdate("create table CHILD (ID int primary key, PARENT_ID int not null, " +
+          "constraint CHILD_PARENT_FK foreign key (PARENT_ID) references PARENT (ID))", observer);
+      DefaultDBSystem db = new DefaultDBSystem("bulk", url, "org.h2.Driver", "sa", "", new DataModel());
+      try {
+        db.setSchema("PUBLIC");
+        db.setBulkLoad(true);
+        db.setBulkChunkSize(10);
+        db.setBulkCommit(bulkCommit);
+        for (int i = 1; i <= 25; i++) {
+          db.store(new Entity("PARENT", db, "ID", i, "NAME", "P" + i));
+          db.store(new Entity("CHILD", db, "ID", i, "PARENT_ID", i));
+        }
+        // the loaders reached the chunk size after parent 10 and child 19, the rows 20 to 25 are pending
+        assertEquals(19, count("PARENT", db.getConnection()));
+        assertEquals(19, count("CHILD", db.getConnection()));
+        assertEquals(bulkCommit ? 19 : 0, count("PARENT", observer));
+        assertEquals(bulkCommit ? 19 : 0, count("CHILD", observer));
+        db.flush();
+        assertEquals(25, count("PARENT", observer));
+        assertEquals(25, count("CHILD", observer));
+      } finally {
+        db.close();
+      }
+    }
+  }
+
+  private static int count(String table, Connection connection) {
+    return ((Number) DBUtil.queryScalar("select count(*) from " + table, connection)).intValue();
+  }
+
+  /** Captures the COPY statement and data instead of sending them to a database. */
+  static class MockCopyLoader extends PostgreSQLCopyLoader {
+
+    String sql;
+    String data;
+
+    MockCopyLoader() {
+      this(COLUMNS);
+    }
+
+    MockCopyLoader(List<ColumnInfo> columnInfos) {
+      super("T", columnInfos);
+    }
+
+    @Override
+    protected long copyIn(Connection connection, String sql, Reader data) throws SQLException {
+      try {
+        this.sql = sql;
+        this.data = IOUtil.readAndClose(data);
+        return getRowCount();
+      } catch (IOException e) {
+        throw new SQLException(e);
+      }
+    }
+  }
+
+}
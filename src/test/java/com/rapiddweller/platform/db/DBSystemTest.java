@@ -252,6 +252,21 @@ public void testUpdater() throws Exception {
     db.close();
   }
 
+  /**
+   * Test bulk load fallback to insert statements.
+   */
+  @Test
+  public void testBulkLoadFallback() {
+    db.setBulkLoad(true);
+    db.setBulkChunkSize(2);
+    for (int i = 1; i <= 5; i++) {
+      db.store(new Entity("TEST", db, "ID", i, "NAME", "N" + i));
+    }
+    db.flush();
+    assertEquals(5, db.countEntities("TEST"));
+    db.close();
+  }
+
   /**
    * Test table exists.
    */
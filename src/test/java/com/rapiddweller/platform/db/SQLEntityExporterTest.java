@@ -37,6 +37,9 @@
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -94,4 +97,87 @@ public void testNormal() throws Exception {
     }
   }
 
+  @Test
+  public void testMultiRowInsert() throws Exception {
+    try {
+      SQLEntityExporter exporter = new SQLEntityExporter(FILENAME);
+      exporter.setDialect("hsql");
+      exporter.setFormat("multiRowInsert");
+      exporter.setRowsPerStatement(2);
+      exporter.startProductConsumption(createEntity("Person", "name", "Alice", "score", 23));
+      exporter.startProductConsumption(createEntity("Person", "name", "Bob", "score", 34));
+      exporter.startProductConsumption(createEntity("Person", "name", "Charly", "score", 45));
+      exporter.startProductConsumption(createEntity("Address", "city", "Munich"));
+      exporter.close();
+      assertEquals(Arrays.asList(
+          "insert into \"Person\" (name, score) values ('Alice', 23),",
+          "('Bob', 34);",
+          "insert into \"Person\" (name, score) values ('Charly', 45);",
+          "insert into \"Address\" (city) values ('Munich');"
+      ), Files.readAllLines(Paths.get(FILENAME)));
+    } finally {
+      FileUtil.deleteIfExists(new File(FILENAME));
+    }
+  }
+
+  @Test
+  public void testDefaultRowsPerStatement() {
+    assertEquals(1, SQLEntityExporter.defaultRowsPerStatement("oracle"));
+    assertEquals(1000, SQLEntityExporter.defaultRowsPerStatement("sql_server"));
+    assertEquals(SQLEntityExporter.DEFAULT_ROWS_PER_STATEMENT, SQLEntityExporter.defaultRowsPerStatement("postgres"));
+  }
+
+  @Test
+  public void testCopy() throws Exception {
+    try {
+      SQLEntityExporter exporter = new SQLEntityExporter(FILENAME);
+      exporter.setFormat("copy");
+      exporter.startProductConsumption(createEntity("Person", "name", "Alice\tA.", "score", 23));
+      exporter.startProductConsumption(createEntity("Person", "name", "Bob\\B.", "score", null));
+      exporter.startProductConsumption(createEntity("Address", "city", "Munich"));
+      exporter.close();
+      assertEquals(Arrays.asList(
+          "COPY Person (name, score) FROM stdin;",
+          "Alice\\tA.\t23",
+          "Bob\\\\B.\t\\N",
+          "\\.",
+          "COPY Address (city) FROM stdin;",
+          "Munich",
+          "\\."
+      ), Files.readAllLines(Paths.get(FILENAME)));
+    } finally {
+      FileUtil.deleteIfExists(new File(FILENAME));
+    }
+  }
+
+  @Test
+  public void testLoadData() throws Exception {
+    try {
+      SQLEntityExporter exporter = new SQLEntityExporter(FILENAME);
+      exporter.setFormat("loadData");
+      exporter.startProductConsumption(createEntity("Person", "name", "Alice", "active", true));
+      exporter.startProductConsumption(createEntity("Person", "name", "Bob\nBuilder", "active", false));
+      exporter.close();
+      assertEquals(Arrays.asList("Alice\t1", "Bob\\nBuilder\t0"), Files.readAllLines(Paths.get(FILENAME)));
+    } finally {
+      FileUtil.deleteIfExists(new File(FILENAME));
+    }
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testLoadDataWithTwoTables() {
+    try (SQLEntityExporter exporter = new SQLEntityExporter(FILENAME)) {
+      exporter.setFormat("loadData");
+      exporter.startProductConsumption(createEntity("Person", "name", "Alice"));
+      exporter.startProductConsumption(createEntity("Address", "city", "Munich"));
+    } finally {
+      FileUtil.deleteIfExists(new File(FILENAME));
+    }
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testIllegalFormat() {
+    new SQLEntityExporter(FILENAME).setFormat("csv");
+  }
+
 }
@@ -26,6 +26,7 @@
 
 package com.rapiddweller.platform.dbunit;
 
+import com.rapiddweller.benerator.consumer.FileShards;
 import com.rapiddweller.benerator.test.ModelTest;
 import com.rapiddweller.common.FileUtil;
 import com.rapiddweller.common.IOUtil;
@@ -38,8 +39,13 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests the {@link DbUnitEntityExporter}.<br/><br/>
@@ -100,6 +106,57 @@ public void testUnusedClose() throws IOException {
     FileUtil.deleteIfExists(FILE);
   }
 
+  @Test
+  public void testSharded() throws Exception {
+    DbUnitEntityExporter exporter = new DbUnitEntityExporter(FILENAME);
+    exporter.setSharded(true);
+    ExecutorService service = Executors.newFixedThreadPool(4);
+    for (int i = 0; i < 4; i++) {
+      service.execute(() -> {
+        for (int j = 0; j < 50; j++) {
+          exporter.startProductConsumption(ALICE);
+          exporter.finishProductConsumption(ALICE);
+        }
+      });
+    }
+    service.shutdown();
+    assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+    exporter.close();
+    Element[] children = XMLUtil.getChildElements(XMLUtil.parse(FILENAME).getDocumentElement());
+    assertEquals(200, children.length);
+    for (Element child : children) {
+      assertPerson(child, "Alice", 23);
+    }
+    assertFalse(new File(FileShards.shardUri(FILENAME, 0)).exists());
+    FileUtil.deleteIfExists(FILE);
+  }
+
+  @Test
+  public void testShardsWithManifest() throws Exception {
+    DbUnitEntityExporter exporter = new DbUnitEntityExporter(FILENAME);
+    exporter.setSharded(true);
+    exporter.setJoinShards(false);
+    Thread thread = new Thread(() -> exporter.startProductConsumption(BOB));
+    thread.start();
+    thread.join();
+    exporter.startProductConsumption(ALICE);
+    exporter.close();
+    File part0 = new File(FileShards.shardUri(FILENAME, 0));
+    File part1 = new File(FileShards.shardUri(FILENAME, 1));
+    try {
+      assertFalse(FILE.exists());
+      assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+          "<dataset>\n" +
+          "<Person name=\"Bob\" age=\"34\"/>\n", IOUtil.getContentOfURI(part0.getPath()));
+      assertEquals("<Person name=\"Alice\" age=\"23\"/>\n" +
+          "</dataset>\n", IOUtil.getContentOfURI(part1.getPath()));
+    } finally {
+      FileUtil.deleteIfExists(part0);
+      FileUtil.deleteIfExists(part1);
+      FileUtil.deleteIfExists(new File(FILENAME + ".manifest"));
+    }
+  }
+
   // helper method ---------------------------------------------------------------------------------------------------
 
   private static void assertPerson(Element element, String name, int age) {
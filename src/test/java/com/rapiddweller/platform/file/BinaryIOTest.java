@@ -0,0 +1,58 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.file;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link BinaryIO}.<br/><br/>
+ * Created: 19.10.2026 09:20:37
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BinaryIOTest {
+
+  @Test
+  public void testSignedVarLong() throws IOException {
+    long[] values = { 0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE };
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(buffer);
+    for (long value : values) {
+      BinaryIO.writeSignedVarLong(value, out);
+    }
+    assertEquals(1, varLongLength(-64));
+    assertEquals(10, varLongLength(Long.MIN_VALUE));
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+    for (long value : values) {
+      assertEquals(value, BinaryIO.readSignedVarLong(in));
+    }
+  }
+
+  @Test
+  public void testString() throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    BinaryIO.writeString("", new DataOutputStream(buffer));
+    BinaryIO.writeString("Gr\u00fc\u00dfe", new DataOutputStream(buffer));
+    assertEquals(1 + 1 + 7, buffer.size());
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+    assertEquals("", BinaryIO.readString(in));
+    assertEquals("Gr\u00fc\u00dfe", BinaryIO.readString(in));
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static int varLongLength(long value) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    BinaryIO.writeSignedVarLong(value, new DataOutputStream(buffer));
+    return buffer.size();
+  }
+
+}
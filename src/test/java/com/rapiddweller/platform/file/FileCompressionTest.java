@@ -0,0 +1,41 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.file;
+
+import com.rapiddweller.common.ConfigurationError;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link FileCompression}.<br/><br/>
+ * Created: 19.10.2026 10:52:09
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class FileCompressionTest {
+
+  @Test
+  public void testResolveBySuffix() {
+    assertEquals(FileCompression.NONE, FileCompression.resolve("export.csv", null));
+    assertEquals(FileCompression.GZIP, FileCompression.resolve("export.csv.gz", null));
+    assertEquals(FileCompression.GZIP, FileCompression.resolve("EXPORT.XML.GZ", null));
+  }
+
+  @Test
+  public void testResolveExplicitly() {
+    assertEquals(FileCompression.GZIP, FileCompression.resolve("export.csv", "gzip"));
+    assertEquals(FileCompression.NONE, FileCompression.resolve("export.csv.gz", "none"));
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testUnavailableCodec() {
+    FileCompression.resolve("export.csv.zst", null);
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testUnknown() {
+    FileCompression.resolve("export.csv", "bzip2");
+  }
+
+}
@@ -0,0 +1,125 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.file;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ParallelGzipOutputStream}.<br/><br/>
+ * Created: 19.10.2026 10:31:47
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class ParallelGzipOutputStreamTest {
+
+  @Test
+  public void testMultipleBlocks() throws IOException {
+    byte[] data = testData(1000000);
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(buffer, 10000, Deflater.BEST_SPEED)) {
+      for (int offset = 0; offset < data.length; offset += 777) {
+        out.write(data, offset, Math.min(777, data.length - offset));
+      }
+      out.write('!');
+    }
+    byte[] expected = new byte[data.length + 1];
+    System.arraycopy(data, 0, expected, 0, data.length);
+    expected[data.length] = '!';
+    byte[] compressed = buffer.toByteArray();
+    assertTrue(compressed.length < data.length);
+    assertTrue(memberCount(compressed) >= 100);
+    assertArrayEquals(expected, gunzip(compressed));
+  }
+
+  @Test
+  public void testFlush() throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    ParallelGzipOutputStream out = new ParallelGzipOutputStream(buffer);
+    out.write("Alice".getBytes());
+    out.flush();
+    assertEquals(0, buffer.size()); // the partial block is kept open
+    out.write("Bob".getBytes());
+    out.close();
+    out.close();
+    assertEquals("AliceBob", new String(gunzip(buffer.toByteArray())));
+    assertEquals(1, memberCount(buffer.toByteArray()));
+  }
+
+  @Test
+  public void testFlushAfterEachWrite() throws IOException {
+    byte[] data = testData(200000);
+    ByteArrayOutputStream unflushed = new ByteArrayOutputStream();
+    try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(unflushed, 50000, Deflater.DEFAULT_COMPRESSION)) {
+      out.write(data);
+    }
+    ByteArrayOutputStream flushed = new ByteArrayOutputStream();
+    try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(flushed, 50000, Deflater.DEFAULT_COMPRESSION)) {
+      for (int offset = 0; offset < data.length; offset += 20) {
+        out.write(data, offset, 20);
+        out.flush();
+      }
+    }
+    assertArrayEquals(data, gunzip(flushed.toByteArray()));
+    assertEquals(4, memberCount(flushed.toByteArray()));
+    assertEquals(unflushed.size(), flushed.size());
+  }
+
+  @Test
+  public void testEmpty() throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    new ParallelGzipOutputStream(buffer).close();
+    assertEquals(0, buffer.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalLevel() {
+    new ParallelGzipOutputStream(new ByteArrayOutputStream(), 1000, 10);
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static byte[] testData(int length) {
+    Random random = new Random(42);
+    byte[] data = new byte[length];
+    for (int i = 0; i < length; i++) {
+      data[i] = (byte) ('a' + random.nextInt(4));
+    }
+    return data;
+  }
+
+  private static byte[] gunzip(byte[] compressed) throws IOException {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int length;
+      while ((length = in.read(buffer)) > 0) {
+        result.write(buffer, 0, length);
+      }
+      return result.toByteArray();
+    }
+  }
+
+  /** Counts the gzip member headers, assuming they do not occur in the compressed data. */
+  private static int memberCount(byte[] compressed) {
+    int count = 0;
+    for (int i = 0; i + 2 < compressed.length; i++) {
+      if ((compressed[i] & 0xff) == 0x1f && (compressed[i + 1] & 0xff) == 0x8b && compressed[i + 2] == 8) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+}
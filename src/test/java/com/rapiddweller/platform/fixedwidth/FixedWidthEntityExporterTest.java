@@ -75,6 +75,31 @@ public void testFormat() throws Exception {
     FileUtil.deleteIfExists(file);
   }
 
+  @Test
+  public void testTextPadding() throws Exception {
+    File file = tempFile();
+    String uri = file.getAbsolutePath();
+    FixedWidthEntityExporter exporter = new FixedWidthEntityExporter(uri, ENCODING, "left[5],right[5r_],center[5c]");
+    try (exporter) {
+      exporter.setNullString("");
+      consumeTextEntity(exporter, "ab", "cd", "ef");
+      consumeTextEntity(exporter, "\u00e4\u00f6", "x", null); // non-ASCII and null
+    }
+    String[] actualLines = IOUtil.readTextLines(file.getAbsolutePath(), true);
+    String[] expectedLines = new String[] {
+        "ab   ___cd ef  ",
+        "\u00e4\u00f6   ____x     "
+    };
+    assertArrayEquals(expectedLines, actualLines);
+    FileUtil.deleteIfExists(file);
+  }
+
+  private void consumeTextEntity(FixedWidthEntityExporter exporter, String left, String right, String center) {
+    Entity entity = createEntity("row", "left", left, "right", right, "center", center);
+    exporter.startProductConsumption(entity);
+    exporter.finishProductConsumption(entity);
+  }
+
   private void consumeEntity(FixedWidthEntityExporter exporter, Number left, Number right) {
     Entity entity = createEntity("row", "left", left, "right", right);
     exporter.startProductConsumption(entity);
@@ -0,0 +1,121 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.fixedwidth;
+
+import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
+import com.rapiddweller.common.ConfigurationError;
+import com.rapiddweller.common.Encodings;
+import com.rapiddweller.common.format.Alignment;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.fixedwidth.FixedWidthColumnDescriptor;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import com.rapiddweller.platform.AbstractEntityIteratorTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link MappedFixedWidthEntityIterator} and the {@link MappedFixedWidthFile}.<br/><br/>
+ * Created: 19.10.2026 15:42:07
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class MappedFixedWidthEntityIteratorTest extends AbstractEntityIteratorTest {
+
+  private static final FixedWidthColumnDescriptor[] COLUMNS = new FixedWidthColumnDescriptor[] {
+      new FixedWidthColumnDescriptor("name", 6, Alignment.LEFT, ' '),
+      new FixedWidthColumnDescriptor("age", 3, Alignment.RIGHT, '0')
+  };
+
+  private ComplexTypeDescriptor descriptor;
+  private Entity alice;
+  private Entity bob;
+  private Entity charly;
+
+  @Before
+  public void setUpPersons() {
+    descriptor = createComplexType("person");
+    alice = new Entity(descriptor, "name", "Alice", "age", "23");
+    bob = new Entity(descriptor, "name", "Bob", "age", "34");
+    charly = new Entity(descriptor, "name", "Charly", "age", "45");
+  }
+
+  @Test
+  public void testLF() throws IOException {
+    checkFile("Alice 023\nBob   034\nCharly045\n");
+  }
+
+  @Test
+  public void testCRLFWithoutTrailingSeparator() throws IOException {
+    checkFile("Alice 023\r\nBob   034\r\nCharly045");
+  }
+
+  @Test
+  public void testWithoutSeparator() throws IOException {
+    checkFile("Alice 023Bob   034Charly045");
+  }
+
+  @Test(expected = ConfigurationError.class)
+  public void testIrregularRecordLength() throws IOException {
+    File file = createFile("Alice 023\nBob    034\n");
+    try {
+      new MappedFixedWidthFile(file.getPath(), Encodings.UTF_8, COLUMNS).close();
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testPartitions() throws IOException {
+    File file = createFile("Alice 023\nBob   034\nCharly045\n");
+    try {
+      FixedWidthEntitySource source = new FixedWidthEntitySource(
+          file.getAbsolutePath(), descriptor, Encodings.UTF_8, null, COLUMNS);
+      source.setContext(new DefaultBeneratorContext());
+      source.setMapped(true);
+      try (DataIterator<Entity> iterator = source.partitionIterator(0, 2)) {
+        assertEquals(alice, nextOf(iterator));
+        assertUnavailable(iterator);
+      }
+      try (DataIterator<Entity> iterator = source.partitionIterator(1, 2)) {
+        assertEquals(bob, nextOf(iterator));
+        assertEquals(charly, nextOf(iterator));
+        assertUnavailable(iterator);
+      }
+    } finally {
+      file.delete();
+    }
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private void checkFile(String content) throws IOException {
+    File file = createFile(content);
+    try (MappedFixedWidthFile mappedFile = new MappedFixedWidthFile(file.getPath(), Encodings.UTF_8, COLUMNS)) {
+      assertEquals(3, mappedFile.getRecordCount());
+      try (DataIterator<Entity> iterator = new MappedFixedWidthEntityIterator(
+          mappedFile, false, descriptor, null, 0, Long.MAX_VALUE)) {
+        assertEquals(alice, nextOf(iterator));
+        assertEquals(bob, nextOf(iterator));
+        assertEquals(charly, nextOf(iterator));
+        assertUnavailable(iterator);
+      }
+    } finally {
+      file.delete();
+    }
+  }
+
+  private static File createFile(String content) throws IOException {
+    File file = File.createTempFile("MappedFixedWidthEntityIteratorTest", ".fcw");
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+}
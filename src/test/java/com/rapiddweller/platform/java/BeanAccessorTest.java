@@ -0,0 +1,75 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.java;
+
+import com.rapiddweller.platform.PersonBean;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link BeanAccessor}.<br/><br/>
+ * Created: 19.10.2026 17:41:12
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class BeanAccessorTest {
+
+  @Test
+  public void testCaching() {
+    assertSame(BeanAccessor.of(PersonBean.class), BeanAccessor.of(PersonBean.class));
+  }
+
+  @Test
+  public void testNewInstance() {
+    assertEquals(new PersonBean(), BeanAccessor.of(PersonBean.class).newInstance());
+  }
+
+  @Test
+  public void testGetAndSet() {
+    BeanAccessor accessor = BeanAccessor.of(PersonBean.class);
+    PersonBean bean = new PersonBean("Alice", 23);
+    assertEquals("Alice", accessor.getProperty("name").get(bean));
+    assertEquals(23, accessor.getProperty("age").get(bean));
+    accessor.getWritableProperty("name").set(bean, "Bob");
+    accessor.getWritableProperty("age").set(bean, 34);
+    assertEquals(new PersonBean("Bob", 34), bean);
+    assertEquals(2, accessor.getReadableProperties().size());
+    assertNull(accessor.getProperty("class"));
+    assertNull(accessor.getProperty("nonExisting"));
+  }
+
+  @Test
+  public void testConversion() {
+    BeanAccessor.Property age = BeanAccessor.of(PersonBean.class).getWritableProperty("age");
+    assertEquals(int.class, age.getType());
+    PersonBean bean = new PersonBean();
+    age.set(bean, "42");
+    assertEquals(42, bean.getAge());
+    age.set(bean, 43L);
+    assertEquals(43, bean.getAge());
+  }
+
+  @Test
+  public void testPublicField() {
+    BeanAccessor accessor = BeanAccessor.of(ChildBean.class);
+    assertNull(accessor.getWritableProperty("childNo"));
+    BeanAccessor.Property childNo = accessor.getWritableFeature("childNo");
+    assertTrue(childNo.isReadable());
+    ChildBean bean = new ChildBean("Alice", 23, 1);
+    childNo.set(bean, 2);
+    assertEquals(2, childNo.get(bean));
+    assertEquals(2, accessor.getReadableProperties().size()); // fields are no bean properties
+  }
+
+  @Test
+  public void testPrivateField() {
+    BeanAccessor accessor = BeanAccessor.of(PersonBean.class);
+    assertSame(accessor.getWritableProperty("name"), accessor.getWritableFeature("name"));
+    assertNull(accessor.getWritableFeature("nonExisting"));
+  }
+
+}
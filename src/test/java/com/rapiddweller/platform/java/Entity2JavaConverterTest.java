@@ -73,6 +73,14 @@ public void testEntityWithChildClass() {
     assertEquals(bean, new Entity2JavaConverter().convert(entity));
   }
 
+  @Test
+  public void testPrivateFieldWithoutSetter() {
+    Entity entity = new Entity((ComplexTypeDescriptor) null, "secret", "xyz", "count", "3");
+    SecretBean bean = (SecretBean) Entity2JavaConverter.convertAny(entity, SecretBean.class);
+    assertEquals("xyz", bean.revealSecret());
+    assertEquals(3, bean.revealCount());
+  }
+
   /**
    * Test entity array.
    */
@@ -105,4 +113,20 @@ private static Entity createBob(ComplexTypeDescriptor descriptor) {
     return new Entity(descriptor, "name", "Bob", "age", 34);
   }
 
+  /** Bean which has private fields without setters. */
+  public static class SecretBean {
+
+    private String secret;
+    private int count;
+
+    public String revealSecret() {
+      return secret;
+    }
+
+    public int revealCount() {
+      return count;
+    }
+
+  }
+
 }
@@ -0,0 +1,110 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xml;
+
+import com.rapiddweller.benerator.engine.BeneratorContext;
+import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.common.xml.XMLUtil;
+import com.rapiddweller.common.xml.XPathUtil;
+import com.rapiddweller.format.DataContainer;
+import com.rapiddweller.format.DataIterator;
+import com.rapiddweller.format.DataSource;
+import com.rapiddweller.model.data.ComplexTypeDescriptor;
+import com.rapiddweller.model.data.Entity;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link StreamingXMLStorage}.<br/><br/>
+ * Created: 19.10.2026 17:35:12
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class StreamingXMLStorageTest {
+
+  private static final String INPUT_URI = "com/rapiddweller/platform/xml/teamplayers.xml";
+
+  @Test
+  public void testQueryAndUpdateEntities() throws Exception {
+    BeneratorContext context = new DefaultBeneratorContext();
+    StreamingXMLStorage storage = new StreamingXMLStorage(INPUT_URI, context);
+    String outputUri = "target/test-classes/teamplayers-streamed.xml";
+    storage.setOutputUri(outputUri);
+    ComplexTypeDescriptor type = (ComplexTypeDescriptor) storage.getTypeDescriptor("person");
+
+    // set all cities to Berlin
+    DataSource<Entity> source = storage.queryEntities("person", "//person", context);
+    DataIterator<Entity> iterator = source.iterator();
+    assertEquals(new Entity(type, "pnum", "1a", "name", "Alice", "city", "Atlanta", "age", "23"), updateNext(iterator, storage));
+    assertEquals(new Entity(type, "pnum", "1b", "name", "Bob", "city", "Boston", "age", "34"), updateNext(iterator, storage));
+    assertEquals(new Entity(type, "pnum", "2a", "name", "Charly", "city", "Cleveland", "age", "45"), updateNext(iterator, storage));
+    assertEquals(new Entity(type, "pnum", "2b", "name", "Otto", "city", "Oslo", "age", "89"), updateNext(iterator, storage));
+    assertNull(iterator.next(new DataContainer<>()));
+    iterator.close();
+
+    // a second pass operates on the result of the first one
+    iterator = storage.queryEntities("person", "/teams/team[@tnum='2']/person[name='Otto']", context).iterator();
+    Entity otto = iterator.next(new DataContainer<>()).getData();
+    assertEquals(new Entity(type, "pnum", "2b", "name", "Otto", "city", "Berlin", "age", "89"), otto);
+    assertNull(iterator.next(new DataContainer<>()));
+    iterator.close();
+
+    // attribute query
+    DataIterator<?> values = storage.query("//person/@pnum", true, context).iterator();
+    for (String expected : new String[] { "1a", "1b", "2a", "2b" }) {
+      assertEquals(expected, values.next(new DataContainer<>()).getData());
+    }
+    assertNull(values.next(new DataContainer<>()));
+    values.close();
+
+    // unsimplified query results are rows with a single column
+    values = storage.query("//person/name/text()", false, context).iterator();
+    assertArrayEquals(new Object[] { "Alice" }, (Object[]) values.next(new DataContainer<>()).getData());
+    values.close();
+
+    // close the storage, saving the modified XML
+    IOUtil.close(storage);
+
+    // verify the output
+    Document doc = XMLUtil.parse(outputUri);
+    NodeList cityNodes = XPathUtil.queryNodes(doc, "//city/text()");
+    assertEquals(4, cityNodes.getLength());
+    for (int i = 0; i < 4; i++) {
+      assertEquals("Berlin", cityNodes.item(i).getTextContent());
+    }
+    assertEquals(2, XPathUtil.queryNodes(doc, "//team").getLength());
+  }
+
+  @Test
+  public void testPartialIteration() throws Exception {
+    BeneratorContext context = new DefaultBeneratorContext();
+    StreamingXMLStorage storage = new StreamingXMLStorage(INPUT_URI, context);
+    String outputUri = "target/test-classes/teamplayers-streamed2.xml";
+    storage.setOutputUri(outputUri);
+    DataIterator<Entity> iterator = storage.queryEntities("person", "//person", context).iterator();
+    updateNext(iterator, storage);
+    iterator.close();
+    IOUtil.close(storage);
+    Document doc = XMLUtil.parse(outputUri);
+    assertEquals(4, XPathUtil.queryNodes(doc, "//person").getLength());
+    assertEquals("Berlin", XPathUtil.queryNodes(doc, "//person[@pnum='1a']/city").item(0).getTextContent());
+    assertEquals("Boston", XPathUtil.queryNodes(doc, "//person[@pnum='1b']/city").item(0).getTextContent());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static Entity updateNext(DataIterator<Entity> iterator, StreamingXMLStorage storage) {
+    Entity entity = iterator.next(new DataContainer<>()).getData();
+    Entity original = new Entity(entity);
+    entity.set("city", "Berlin");
+    storage.update(entity);
+    return original;
+  }
+
+}
@@ -0,0 +1,71 @@
+/* (c) Copyright 2026 by Volker Bergmann. All rights reserved. */
+
+package com.rapiddweller.platform.xml;
+
+import com.rapiddweller.common.CollectionUtil;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link StreamingXPath}.<br/><br/>
+ * Created: 19.10.2026 17:21:44
+ * @author Volker Bergmann
+ * @since 2.1.0
+ */
+public class StreamingXPathTest {
+
+  @Test
+  public void testStreamable() {
+    assertTrue(StreamingXPath.isStreamable("//person"));
+    assertTrue(StreamingXPath.isStreamable("/teams/team[@tnum='1']/person[name=\"Bob\"]"));
+    assertTrue(StreamingXPath.isStreamable("/teams//*[@id]"));
+    assertTrue(StreamingXPath.isStreamable("//person/@pnum"));
+    assertTrue(StreamingXPath.isStreamable("//person/city/text()"));
+    assertFalse(StreamingXPath.isStreamable("person"));
+    assertFalse(StreamingXPath.isStreamable("//person[1]"));
+    assertFalse(StreamingXPath.isStreamable("//team[person]/person"));
+    assertFalse(StreamingXPath.isStreamable("//person[count(city) > 1]"));
+    assertFalse(StreamingXPath.isStreamable("//person/../team"));
+  }
+
+  @Test
+  public void testMatchesPath() {
+    StreamingXPath path = StreamingXPath.parse("/teams/team[@tnum='2']//person");
+    assertTrue(path.matchesPath(path("teams", "team", "person")));
+    assertTrue(path.matchesPath(path("teams", "team", "sub", "person")));
+    assertFalse(path.matchesPath(path("teams", "team")));
+    assertFalse(path.matchesPath(path("x", "teams", "team", "person")));
+    assertFalse(path.matchesPath(CollectionUtil.toList(
+        element("teams"), new StreamingXPath.PathElement("team", Collections.singletonMap("tnum", "1")), element("person"))));
+  }
+
+  @Test
+  public void testResultType() {
+    assertEquals(StreamingXPath.ResultType.ELEMENT, StreamingXPath.parse("//person").getResultType());
+    assertEquals(StreamingXPath.ResultType.TEXT, StreamingXPath.parse("//city/text()").getResultType());
+    StreamingXPath attributePath = StreamingXPath.parse("//person/@pnum");
+    assertEquals(StreamingXPath.ResultType.ATTRIBUTE, attributePath.getResultType());
+    assertEquals("pnum", attributePath.getResultAttribute());
+  }
+
+  // private helpers -------------------------------------------------------------------------------------------------
+
+  private static List<StreamingXPath.PathElement> path(String... names) {
+    StreamingXPath.PathElement[] elements = new StreamingXPath.PathElement[names.length];
+    for (int i = 0; i < names.length; i++) {
+      elements[i] = (i == 1 ? new StreamingXPath.PathElement(names[i], Collections.singletonMap("tnum", "2")) : element(names[i]));
+    }
+    return CollectionUtil.toList(elements);
+  }
+
+  private static StreamingXPath.PathElement element(String name) {
+    return new StreamingXPath.PathElement(name, Collections.emptyMap());
+  }
+
+}
@@ -1,8 +1,16 @@
 package com.rapiddweller.platform.xml;
 
+import com.rapiddweller.benerator.consumer.FileShards;
+import com.rapiddweller.benerator.engine.DefaultBeneratorContext;
+import com.rapiddweller.common.FileUtil;
+import com.rapiddweller.common.IOUtil;
+import com.rapiddweller.model.data.Entity;
 import org.junit.Test;
 
+import java.io.File;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 /**
  * The type Xml entity exporter test.
@@ -43,5 +51,37 @@ public void testSetUri() {
   public void testToString() {
     assertEquals("XMLEntityExporter[export.xml]", (new XMLEntityExporter()).toString());
   }
-}
 
+  /**
+   * Test sharded export.
+   */
+  @Test
+  public void testSharded() throws Exception {
+    String fileName = "target/XMLEntityExporterTest.xml";
+    XMLEntityExporter exporter = new XMLEntityExporter(fileName, "UTF-8");
+    exporter.setSharded(true);
+    Thread thread = new Thread(() -> export(person("Bob"), exporter));
+    thread.start();
+    thread.join();
+    export(person("Alice"), exporter);
+    exporter.close();
+    try {
+      assertFalse(new File(FileShards.shardUri(fileName, 0)).exists());
+      assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+          "<Person name=\"Bob\"/>\n" +
+          "<Person name=\"Alice\"/>\n", IOUtil.getContentOfURI(fileName));
+    } finally {
+      FileUtil.deleteIfExists(new File(fileName));
+    }
+  }
+
+  private static Entity person(String name) {
+    return new Entity("Person", new DefaultBeneratorContext().getLocalDescriptorProvider(), "name", name);
+  }
+
+  private static void export(Entity entity, XMLEntityExporter exporter) {
+    exporter.startProductConsumption(entity);
+    exporter.finishProductConsumption(entity);
+  }
+
+}
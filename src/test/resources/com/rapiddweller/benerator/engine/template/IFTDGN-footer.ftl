@@ -0,0 +1,3 @@
+UNZ+${recordCount}+OPH'
+<#-- total segment count of all messages, aggregated by the root record -->
+SEGMENTS+${root.recursiveSegmentCount}'
@@ -0,0 +1 @@
+UNB+UNOA:2+CAPSTAN+HSDG+130821:1259+OPH'
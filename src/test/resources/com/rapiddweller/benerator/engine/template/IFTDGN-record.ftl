@@ -0,0 +1,8 @@
+<#escape x as ediEscape(x)>
+UNH+${record.message_ref_no_E_0062_1_01}+IFTDGN:D:03A:UN:PROT20'
+BGM+89N+${record.message_function_code_E_1225_2_03!}+${record.response_type_code_E_4343_2_04}'
+<#list record.equipmentDetails_L_EQD_22 as eqd>
+EQD+CN+${eqd.equBbkRorItem_ot_C_C237_22_02}+${eqd.equipment_size_and_type_C_C224_22_03}'
+</#list>
+UNT+${record.recursiveSegmentCount}+${record.message_ref_no_E_0062_1_01}'
+</#escape>
@@ -0,0 +1 @@
+${recordCount} countries
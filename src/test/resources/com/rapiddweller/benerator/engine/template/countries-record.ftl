@@ -0,0 +1,6 @@
+    ${recordIndex + 1}. ${record.name} has ${record.population?string(",##0")} inhabitants.
+    It has the following states:
+    <#list record.states as state>
+        - ${state.name}
+    </#list>
+